@@ -11,6 +11,7 @@ if [ -z "$JAR" ]; then
 fi
 
 java \
+  --add-modules=jdk.incubator.vector \
   -XX:+UseG1GC \
   -Xlog:gc*:file=gc.log:time,uptime,level,tags \
   -Dcom.sun.management.jmxremote \
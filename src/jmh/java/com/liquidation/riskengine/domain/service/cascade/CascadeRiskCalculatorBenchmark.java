@@ -0,0 +1,138 @@
+package com.liquidation.riskengine.domain.service.cascade;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+import com.liquidation.riskengine.domain.model.OpenInterestSnapshot;
+import com.liquidation.riskengine.domain.model.OrderBookSnapshot;
+import com.liquidation.riskengine.domain.model.OrderBookSnapshot.PriceLevel;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationCorrector;
+import com.liquidation.riskengine.domain.service.liquidation.LiquidationClusterMap;
+import com.liquidation.riskengine.domain.service.liquidation.LiquidationPriceCalculator;
+import com.liquidation.riskengine.domain.service.montecarlo.MonteCarloSimulationService;
+import com.liquidation.riskengine.domain.service.state.LiquidationWindow;
+import com.liquidation.riskengine.domain.service.state.LiquidationWindowProperties;
+import com.liquidation.riskengine.domain.service.state.RiskStateManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class CascadeRiskCalculatorBenchmark {
+
+    private static final String SYMBOL = "BTCUSDT";
+    private static final double MARK = 65_000.0;
+
+    @Param({"20", "500"})
+    private int bookDepth;
+
+    @Param({"1", "100"})
+    private int positionCount;
+
+    private CascadeRiskCalculator calculator;
+    private RiskStateManager state;
+    private BigDecimal currentPrice;
+    private BigDecimal[] liquidationPrices;
+    private String[] sides;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom rng = new SplittableRandom(42);
+
+        LiquidationClusterMap clusterMap = new LiquidationClusterMap();
+        for (int i = 0; i < 2_000; i++) {
+            clusterMap.recordOiIncrease(SYMBOL, BigDecimal.valueOf(MARK * rng.nextDouble(0.97, 1.03)),
+                    BigDecimal.valueOf(rng.nextDouble(0.1, 50.0)));
+        }
+
+        state = new RiskStateManager(new LiquidationWindow(new LiquidationWindowProperties()));
+        state.updateOrderBook(orderBook(rng));
+        state.updateOpenInterest(OpenInterestSnapshot.builder()
+                .symbol(SYMBOL)
+                .openInterest(BigDecimal.valueOf(80_000))
+                .previousOpenInterest(BigDecimal.valueOf(79_500))
+                .change(BigDecimal.valueOf(500))
+                .changePercent(BigDecimal.valueOf(0.63))
+                .timestamp(System.currentTimeMillis())
+                .build());
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 1_000; i++) {
+            double price = MARK * rng.nextDouble(0.98, 1.02);
+            double quantity = rng.nextDouble(0.01, 5.0);
+            state.addLiquidation(LiquidationEvent.builder()
+                    .symbol(SYMBOL)
+                    .side(rng.nextBoolean() ? "BUY" : "SELL")
+                    .price(BigDecimal.valueOf(price))
+                    .quantity(BigDecimal.valueOf(quantity))
+                    .notionalValue(BigDecimal.valueOf(price * quantity))
+                    .timestamp(now - rng.nextInt(0, 1_800_000))
+                    .build());
+        }
+
+        MonteCarloSimulationService mcService = new MonteCarloSimulationService(
+                null, null, null, null, null, null, null, null, null);
+        calculator = new CascadeRiskCalculator(new LiquidationPriceCalculator(), clusterMap,
+                new CascadeRiskProperties(), mcService, new CalibrationCorrector(null));
+
+        currentPrice = BigDecimal.valueOf(MARK);
+        liquidationPrices = new BigDecimal[positionCount];
+        sides = new String[positionCount];
+        for (int i = 0; i < positionCount; i++) {
+            boolean isLong = rng.nextBoolean();
+            double distance = rng.nextDouble(0.005, 0.08);
+            liquidationPrices[i] = BigDecimal.valueOf(MARK * (isLong ? 1 - distance : 1 + distance));
+            sides[i] = isLong ? "LONG" : "SHORT";
+        }
+    }
+
+    @Benchmark
+    public void fullAnalysis(Blackhole bh) {
+        for (int i = 0; i < positionCount; i++) {
+            bh.consume(calculator.fullAnalysis(currentPrice, liquidationPrices[i], sides[i], SYMBOL, state));
+        }
+    }
+
+    private OrderBookSnapshot orderBook(SplittableRandom rng) {
+        List<PriceLevel> bids = new ArrayList<>(bookDepth);
+        List<PriceLevel> asks = new ArrayList<>(bookDepth);
+        for (int i = 0; i < bookDepth; i++) {
+            double offset = (i + 1) * MARK * 0.0002;
+            bids.add(level(MARK - offset, rng.nextDouble(0.01, 20.0)));
+            asks.add(level(MARK + offset, rng.nextDouble(0.01, 20.0)));
+        }
+        return OrderBookSnapshot.builder()
+                .symbol(SYMBOL)
+                .bids(bids)
+                .asks(asks)
+                .bestBid(bids.get(0).getPrice())
+                .bestAsk(asks.get(0).getPrice())
+                .spread(asks.get(0).getPrice().subtract(bids.get(0).getPrice()))
+                .bidTotalQuantity(bids.stream().map(PriceLevel::getQuantity).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .askTotalQuantity(asks.stream().map(PriceLevel::getQuantity).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    private static PriceLevel level(double price, double quantity) {
+        return PriceLevel.builder()
+                .price(BigDecimal.valueOf(price).setScale(2, RoundingMode.HALF_UP))
+                .quantity(BigDecimal.valueOf(quantity).setScale(3, RoundingMode.HALF_UP))
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import com.liquidation.riskengine.domain.model.MonteCarloReport;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationCorrector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class LiquidationDetectorBenchmark {
+
+    private static final double START_PRICE = 65_000.0;
+    private static final double SIGMA = 0.6;
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    @Param({"1000", "10000"})
+    private int pathCount;
+
+    @Param({"60", "1440"})
+    private int steps;
+
+    @Param({"LONG", "SHORT"})
+    private String side;
+
+    private LiquidationDetector detector;
+    private double[][] paths;
+    private float[][] logPaths;
+    private int[] horizons;
+    private double liquidationPrice;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MonteCarloProperties properties = new MonteCarloProperties();
+        properties.setKernel(kernel);
+        PathKernelProvider kernelProvider = new PathKernelProvider(properties);
+        kernelProvider.init();
+        detector = new LiquidationDetector(new CalibrationCorrector(null), kernelProvider);
+
+        SimulationRequest request = SimulationRequest.builder()
+                .startPrice(START_PRICE)
+                .sigma(SIGMA)
+                .pathCount(pathCount)
+                .timeStepMinutes(1)
+                .horizonMinutes(steps)
+                .useFatTail(true)
+                .seed(42L)
+                .build();
+        PricePathGenerator generator = new PricePathGenerator(kernelProvider);
+        paths = generator.generate(request);
+        logPaths = generator.generateLogReturns(request);
+
+        horizons = Arrays.stream(LiquidationDetector.DEFAULT_HORIZON_MINUTES).filter(m -> m <= steps).toArray();
+        liquidationPrice = "LONG".equals(side) ? START_PRICE * 0.97 : START_PRICE * 1.03;
+    }
+
+    @Benchmark
+    public MonteCarloReport detect() {
+        return detector.detect("BTCUSDT", paths, liquidationPrice, side, SIGMA, 1, horizons);
+    }
+
+    @Benchmark
+    public MonteCarloReport detectLog() {
+        return detector.detectLog("BTCUSDT", logPaths, START_PRICE, liquidationPrice, side, SIGMA, 1, horizons);
+    }
+}
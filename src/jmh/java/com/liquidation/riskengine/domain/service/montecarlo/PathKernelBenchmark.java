@@ -0,0 +1,72 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class PathKernelBenchmark {
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    @Param({"60", "1440"})
+    private int steps;
+
+    private PathKernel pathKernel;
+    private double[] drift;
+    private double[] diff;
+    private double[] shocks;
+    private double[] path;
+    private double[] mirror;
+    private double barrier;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pathKernel = PathKernelProvider.resolve(kernel);
+        drift = new double[steps];
+        diff = new double[steps];
+        shocks = new double[steps];
+        path = new double[steps + 1];
+        mirror = new double[steps + 1];
+
+        double dt = 1.0 / PricePathGenerator.MINUTES_PER_YEAR;
+        double sigma = 0.8;
+        SplittableRandom rng = new SplittableRandom(42);
+        for (int t = 0; t < steps; t++) {
+            drift[t] = -0.5 * sigma * sigma * dt;
+            diff[t] = sigma * Math.sqrt(dt);
+            shocks[t] = rng.nextGaussian();
+        }
+        barrier = 95_000.0;
+    }
+
+    @Benchmark
+    public void stepAntitheticPair(Blackhole bh) {
+        pathKernel.stepAntitheticPair(100_000.0, drift, diff, shocks, path, mirror, steps);
+        bh.consume(path);
+        bh.consume(mirror);
+    }
+
+    @Benchmark
+    public int stepAndFirstPassage() {
+        pathKernel.stepAntitheticPair(100_000.0, drift, diff, shocks, path, mirror, steps);
+        return Math.min(
+                pathKernel.firstPassage(path, steps, barrier, true),
+                pathKernel.firstPassage(mirror, steps, barrier, true));
+    }
+}
@@ -0,0 +1,74 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class PricePathGeneratorBenchmark {
+
+    private static final int[] HORIZON_MINUTES = {10, 60, 240, 1440};
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    @Param({"1000", "10000"})
+    private int pathCount;
+
+    @Param({"60", "1440"})
+    private int steps;
+
+    private PricePathGenerator generator;
+    private SimulationRequest request;
+    private int[] horizonSteps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MonteCarloProperties properties = new MonteCarloProperties();
+        properties.setKernel(kernel);
+        PathKernelProvider kernelProvider = new PathKernelProvider(properties);
+        kernelProvider.init();
+        generator = new PricePathGenerator(kernelProvider);
+
+        request = SimulationRequest.builder()
+                .startPrice(65_000.0)
+                .sigma(0.6)
+                .mu(0.05)
+                .pathCount(pathCount)
+                .timeStepMinutes(1)
+                .horizonMinutes(steps)
+                .useFatTail(true)
+                .degreesOfFreedom(5.0)
+                .seed(42L)
+                .build();
+        horizonSteps = Arrays.stream(HORIZON_MINUTES).map(m -> Math.min(m, steps)).toArray();
+    }
+
+    @Benchmark
+    public double[][] generate() {
+        return generator.generate(request);
+    }
+
+    @Benchmark
+    public float[][] generateLogReturns() {
+        return generator.generateLogReturns(request);
+    }
+
+    @Benchmark
+    public PricePathGenerator.PathExtremes generateExtremes() {
+        return generator.generateExtremes(request, horizonSteps);
+    }
+}
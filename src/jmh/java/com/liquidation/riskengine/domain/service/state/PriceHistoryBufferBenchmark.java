@@ -0,0 +1,90 @@
+package com.liquidation.riskengine.domain.service.state;
+
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.MinMax;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.PriceWindow;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.RealizedVariance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class PriceHistoryBufferBenchmark {
+
+    private static final String QUERY_SYMBOL = "BTCUSDT";
+    private static final String RECORD_SYMBOL = "ETHUSDT";
+
+    @Param({"3600", "86400"})
+    private int tickHistory;
+
+    @Param({"1h", "24h"})
+    private String window;
+
+    private PriceHistoryBuffer buffer;
+    private Duration duration;
+    private double[] returns;
+    private long lastTimestamp;
+    private double lastPrice;
+    private long rangeFrom;
+    private long rangeTo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        buffer = new PriceHistoryBuffer();
+        duration = "24h".equals(window) ? Duration.ofHours(24) : Duration.ofHours(1);
+        returns = new double[PriceHistoryBuffer.DEFAULT_CAPACITY];
+
+        SplittableRandom rng = new SplittableRandom(42);
+        long now = System.currentTimeMillis();
+        long start = now - tickHistory * 1_000L;
+        double price = 65_000.0;
+        for (int i = 0; i < tickHistory; i++) {
+            price *= Math.exp(0.0004 * rng.nextGaussian());
+            buffer.record(QUERY_SYMBOL, price, start + i * 1_000L);
+            buffer.record(RECORD_SYMBOL, price, start + i * 1_000L);
+        }
+        lastTimestamp = start + (tickHistory - 1) * 1_000L;
+        lastPrice = price;
+        rangeTo = lastTimestamp;
+        rangeFrom = rangeTo - Math.min(duration.toMillis(), tickHistory * 1_000L) / 2;
+    }
+
+    @Benchmark
+    public void record() {
+        lastPrice = lastPrice > 70_000.0 ? 60_000.0 : lastPrice + 0.5;
+        buffer.record(RECORD_SYMBOL, lastPrice, ++lastTimestamp);
+    }
+
+    @Benchmark
+    public PriceWindow getWindow() {
+        return buffer.getWindow(QUERY_SYMBOL, duration);
+    }
+
+    @Benchmark
+    public int windowLogReturns() {
+        return buffer.getWindow(QUERY_SYMBOL, duration).logReturns(returns);
+    }
+
+    @Benchmark
+    public RealizedVariance realizedVariance() {
+        return buffer.realizedVariance(QUERY_SYMBOL, duration);
+    }
+
+    @Benchmark
+    public MinMax minMaxInRange() {
+        return buffer.getMinMaxInRange(QUERY_SYMBOL, rangeFrom, rangeTo);
+    }
+}
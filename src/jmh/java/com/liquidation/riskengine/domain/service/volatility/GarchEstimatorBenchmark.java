@@ -0,0 +1,69 @@
+package com.liquidation.riskengine.domain.service.volatility;
+
+import com.liquidation.riskengine.domain.service.volatility.GarchEstimator.GarchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class GarchEstimatorBenchmark {
+
+    private static final double PERIODS_PER_YEAR = 365.25 * 24 * 60;
+
+    @Param({"false", "true"})
+    private boolean autoFit;
+
+    @Param({"60", "1440", "86400"})
+    private int returnCount;
+
+    private GarchEstimator estimator;
+    private double[] logReturns;
+    private GarchResult fitted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        VolatilityProperties properties = new VolatilityProperties();
+        properties.setGarchAutoFit(autoFit);
+        estimator = new GarchEstimator(properties);
+
+        SplittableRandom rng = new SplittableRandom(42);
+        logReturns = new double[returnCount];
+        double variance = 1e-7;
+        for (int i = 0; i < returnCount; i++) {
+            double r = Math.sqrt(variance) * rng.nextGaussian();
+            logReturns[i] = r;
+            variance = 2e-9 + 0.08 * r * r + 0.9 * variance;
+        }
+        fitted = estimator.estimate(logReturns, PERIODS_PER_YEAR);
+    }
+
+    @Benchmark
+    public GarchResult estimate() {
+        return estimator.estimate(logReturns, PERIODS_PER_YEAR);
+    }
+
+    @Benchmark
+    public double[] forecastSigmaSchedule(Forecast forecast) {
+        return fitted.forecastSigmaScheduleAnnualized(forecast.steps);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Forecast {
+
+        @Param({"60", "1440"})
+        private int steps;
+    }
+}
@@ -0,0 +1,102 @@
+package com.liquidation.riskengine.infra.disruptor.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liquidation.riskengine.infra.disruptor.event.EventType;
+import com.liquidation.riskengine.infra.disruptor.event.MarketDataEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ParseEventHandlerBenchmark {
+
+    private ParseEventHandler handler;
+    private MarketDataEvent event;
+    private String markPriceJson;
+    private String forceOrderJson;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        handler = new ParseEventHandler(new ObjectMapper());
+        event = new MarketDataEvent();
+        long now = System.currentTimeMillis();
+
+        markPriceJson = String.format(Locale.ROOT,
+                "{\"e\":\"markPriceUpdate\",\"E\":%d,\"s\":\"BTCUSDT\",\"p\":\"65012.34000000\",\"i\":\"65010.11000000\","
+                        + "\"P\":\"65020.00000000\",\"r\":\"0.00010000\",\"T\":%d}", now, now + 3_600_000);
+        forceOrderJson = String.format(Locale.ROOT,
+                "{\"e\":\"forceOrder\",\"E\":%d,\"o\":{\"s\":\"BTCUSDT\",\"S\":\"SELL\",\"o\":\"LIMIT\",\"f\":\"IOC\","
+                        + "\"q\":\"0.514\",\"p\":\"64890.10\",\"ap\":\"64921.55\",\"X\":\"FILLED\",\"l\":\"0.514\","
+                        + "\"z\":\"0.514\",\"T\":%d}}", now, now);
+    }
+
+    @Benchmark
+    public MarketDataEvent markPrice() {
+        return parse(EventType.MARK_PRICE, markPriceJson);
+    }
+
+    @Benchmark
+    public MarketDataEvent forceOrder() {
+        return parse(EventType.FORCE_ORDER, forceOrderJson);
+    }
+
+    @Benchmark
+    public MarketDataEvent orderBook(DepthPayload payload) {
+        return parse(EventType.ORDER_BOOK, payload.json);
+    }
+
+    private MarketDataEvent parse(EventType type, String rawJson) {
+        event.clear();
+        event.setType(type);
+        event.setSymbol("BTCUSDT");
+        event.setRawJson(rawJson);
+        handler.onEvent(event, sequence++, true);
+        return event;
+    }
+
+    @State(Scope.Benchmark)
+    public static class DepthPayload {
+
+        @Param({"5", "20", "500"})
+        private int bookDepth;
+
+        private String json;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            long now = System.currentTimeMillis();
+            SplittableRandom rng = new SplittableRandom(42);
+            StringBuilder builder = new StringBuilder(64 + bookDepth * 48);
+            builder.append(String.format(Locale.ROOT,
+                    "{\"e\":\"depthUpdate\",\"E\":%d,\"T\":%d,\"s\":\"BTCUSDT\",\"U\":1,\"u\":2,\"pu\":0,", now, now));
+            appendLevels(builder.append("\"b\":"), rng, -1);
+            appendLevels(builder.append(",\"a\":"), rng, 1);
+            json = builder.append('}').toString();
+        }
+
+        private void appendLevels(StringBuilder builder, SplittableRandom rng, int direction) {
+            builder.append('[');
+            for (int i = 0; i < bookDepth; i++) {
+                if (i > 0) builder.append(',');
+                builder.append(String.format(Locale.ROOT, "[\"%.2f\",\"%.3f\"]",
+                        65_000.0 + direction * (i + 1) * 0.1, rng.nextDouble(0.001, 20.0)));
+            }
+            builder.append(']');
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.liquidation.riskengine.api;
 
 import com.liquidation.riskengine.domain.repository.CascadePredictionRepository;
 import com.liquidation.riskengine.domain.repository.McPredictionRepository;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationAggregateStore;
 import com.liquidation.riskengine.domain.service.calibration.CalibrationCorrector;
+import com.liquidation.riskengine.domain.service.calibration.PredictionKind;
 import com.liquidation.riskengine.domain.service.cascade.CascadeCalibrationMetrics;
 import com.liquidation.riskengine.domain.service.montecarlo.McCalibrationMetrics;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ public class CalibrationController {
     private final CascadeCalibrationMetrics cascadeMetrics;
     private final CascadePredictionRepository cascadeRepository;
     private final CalibrationCorrector calibrationCorrector;
+    private final CalibrationAggregateStore aggregateStore;
 
     @GetMapping("/mc/report")
     public ResponseEntity<McCalibrationMetrics.CalibrationReport> getMcReport(
@@ -33,12 +36,7 @@ public class CalibrationController {
 
     @GetMapping("/mc/stats")
     public ResponseEntity<Map<String, Object>> getMcStats() {
-        long total = mcRepository.count();
-        long verified = mcRepository.countByVerifiedTrue();
-        return ResponseEntity.ok(Map.of(
-                "totalPredictions", total,
-                "verifiedPredictions", verified,
-                "pendingVerification", total - verified));
+        return ResponseEntity.ok(predictionStats(PredictionKind.MC, mcRepository.countByVerifiedFalse()));
     }
 
     @GetMapping("/cascade/report")
@@ -50,12 +48,7 @@ public class CalibrationController {
 
     @GetMapping("/cascade/stats")
     public ResponseEntity<Map<String, Object>> getCascadeStats() {
-        long total = cascadeRepository.count();
-        long verified = cascadeRepository.countByVerifiedTrue();
-        return ResponseEntity.ok(Map.of(
-                "totalPredictions", total,
-                "verifiedPredictions", verified,
-                "pendingVerification", total - verified));
+        return ResponseEntity.ok(predictionStats(PredictionKind.CASCADE, cascadeRepository.countByVerifiedFalse()));
     }
 
     @GetMapping("/report")
@@ -79,18 +72,16 @@ public class CalibrationController {
 
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getStats() {
-        long mcTotal = mcRepository.count();
-        long mcVerified = mcRepository.countByVerifiedTrue();
-        long cascadeTotal = cascadeRepository.count();
-        long cascadeVerified = cascadeRepository.countByVerifiedTrue();
         return ResponseEntity.ok(Map.of(
-                "mc", Map.of(
-                        "totalPredictions", mcTotal,
-                        "verifiedPredictions", mcVerified,
-                        "pendingVerification", mcTotal - mcVerified),
-                "cascade", Map.of(
-                        "totalPredictions", cascadeTotal,
-                        "verifiedPredictions", cascadeVerified,
-                        "pendingVerification", cascadeTotal - cascadeVerified)));
+                "mc", predictionStats(PredictionKind.MC, mcRepository.countByVerifiedFalse()),
+                "cascade", predictionStats(PredictionKind.CASCADE, cascadeRepository.countByVerifiedFalse())));
+    }
+
+    private Map<String, Object> predictionStats(PredictionKind kind, long pending) {
+        long verified = aggregateStore.verifiedCount(kind);
+        return Map.of(
+                "totalPredictions", verified + pending,
+                "verifiedPredictions", verified,
+                "pendingVerification", pending);
     }
 }
@@ -1,10 +1,10 @@
 package com.liquidation.riskengine.api;
 
 import com.liquidation.riskengine.domain.model.CascadeRiskReport;
-import com.liquidation.riskengine.domain.model.LiquidationEvent;
 import com.liquidation.riskengine.domain.model.OpenInterestSnapshot;
 import com.liquidation.riskengine.domain.model.OrderBookSnapshot;
 import com.liquidation.riskengine.domain.service.cascade.CascadeRiskCalculator;
+import com.liquidation.riskengine.domain.service.state.LiquidationWindow.LiquidationStats;
 import com.liquidation.riskengine.domain.service.state.RiskStateManager;
 import com.liquidation.riskengine.infra.redis.service.RedisTimeSeriesService;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +18,6 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.math.BigDecimal;
 import java.time.Duration;
-import java.util.List;
 
 @Slf4j
 @RestController
@@ -27,6 +26,8 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class CascadeRiskController {
 
+    private static final Duration RECENT_LIQ_WINDOW = Duration.ofMinutes(30);
+
     private final CascadeRiskCalculator cascadeRiskCalculator;
     private final RiskStateManager riskStateManager;
     private final RedisTimeSeriesService redisTimeSeriesService;
@@ -50,8 +51,12 @@ public class CascadeRiskController {
         BigDecimal totalOi = latestOi != null ? latestOi.getOpenInterest() : null;
         cascadeRiskCalculator.mapLiquidationClusters(report, totalOi);
 
-        List<LiquidationEvent> recentLiqs = redisTimeSeriesService.getRecentLiquidationEvents(
-                symbol, Duration.ofMinutes(30));
+        LiquidationStats recentLiqs = riskStateManager.getRecentLiquidationStats(symbol, RECENT_LIQ_WINDOW);
+        if (!recentLiqs.complete()) {
+            log.debug("[Cascade] 인메모리 청산 윈도우 범위 밖, Redis 조회: symbol={}", symbol);
+            recentLiqs = LiquidationStats.of(
+                    redisTimeSeriesService.getRecentLiquidationEvents(symbol, RECENT_LIQ_WINDOW));
+        }
         cascadeRiskCalculator.analyzeMarketPressure(report, latestOi, recentLiqs, orderBook, positionSide);
 
         cascadeRiskCalculator.synthesize(report);
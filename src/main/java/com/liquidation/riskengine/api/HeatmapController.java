@@ -0,0 +1,46 @@
+package com.liquidation.riskengine.api;
+
+import com.liquidation.riskengine.domain.model.HeatmapFrame;
+import com.liquidation.riskengine.domain.service.liquidation.LiquidationClusterMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/heatmap")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class HeatmapController {
+
+    private final LiquidationClusterMap liquidationClusterMap;
+
+    @GetMapping("/{symbol}")
+    public ResponseEntity<HeatmapFrame> snapshot(
+            @PathVariable String symbol,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        HeatmapFrame frame = liquidationClusterMap.heatmapSnapshot(symbol);
+        if (frame == null) {
+            frame = HeatmapFrame.empty(symbol);
+        }
+
+        String etag = "\"" + frame.etag() + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(frame);
+    }
+}
@@ -76,4 +76,16 @@ public class MonteCarloController {
                         "symbol", key,
                         "message", "아직 MC 결과가 없습니다. /api/mc/simulate로 먼저 실행하거나 파이프라인 실행을 대기하세요.")));
     }
+
+    @GetMapping("/surface")
+    public ResponseEntity<Object> surface(@RequestParam String symbol) {
+        String key = symbol.toUpperCase();
+
+        return mcService.getSurface(key)
+                .<ResponseEntity<Object>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.ok(Map.of(
+                        "success", false,
+                        "symbol", key,
+                        "message", "확률 surface 생성 불가: 현재가 없음 또는 MC 비활성 상태")));
+    }
 }
@@ -4,15 +4,18 @@ import com.liquidation.riskengine.domain.model.UserPosition;
 import com.liquidation.riskengine.domain.service.state.RiskStateManager;
 import com.liquidation.riskengine.domain.service.montecarlo.MonteCarloCalibrationLogger;
 import com.liquidation.riskengine.domain.service.montecarlo.MonteCarloSimulationService;
+import com.liquidation.riskengine.infra.cluster.PositionRouter;
+import com.liquidation.riskengine.infra.websocket.RiskReportSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -31,10 +34,13 @@ public class PositionController {
     private final RiskStateManager riskStateManager;
     private final MonteCarloSimulationService mcService;
     private final MonteCarloCalibrationLogger calibrationLogger;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RiskReportSender reportSender;
+    private final PositionRouter positionRouter;
 
     @PostMapping("/register")
-    public ResponseEntity<Map<String, Object>> register(@RequestBody UserPosition position) {
+    public ResponseEntity<Map<String, Object>> register(
+            @RequestBody UserPosition position,
+            @RequestHeader(value = PositionRouter.FORWARDED_HEADER, required = false) String forwardedBy) {
         if (position.getUserId() == null || position.getUserId().isBlank()) {
             return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
@@ -51,7 +57,14 @@ public class PositionController {
                     "message", "liquidationPrice는 필수입니다"));
         }
 
+        if (!positionRouter.isLocal(position.getSymbol())) {
+            return forwardedBy == null
+                    ? positionRouter.forwardRegister(position)
+                    : ownershipMoved(position.getSymbol());
+        }
+
         riskStateManager.registerPosition(position);
+        positionRouter.persist(position);
 
         String userId = position.getUserId().trim().toLowerCase();
         String symbol = position.getSymbol().toUpperCase();
@@ -64,7 +77,7 @@ public class PositionController {
                 mcService.simulate(userId, symbol, position.getLiquidationPrice(), position.getPositionSide())
                         .ifPresent(mcReport -> {
                             String dest = "/topic/mc/" + userId + "/" + symbol;
-                            messagingTemplate.convertAndSend(dest, mcReport);
+                            reportSender.send(dest, mcReport);
                             calibrationLogger.logPrediction(mcReport);
                             log.info("[Position API] 즉시 MC 완료: userId={}, symbol={}, risk={}",
                                     userId, symbol, mcReport.getRiskLevel());
@@ -85,7 +98,8 @@ public class PositionController {
     @DeleteMapping("/unregister")
     public ResponseEntity<Map<String, Object>> unregister(
             @RequestParam String userId,
-            @RequestParam String symbol) {
+            @RequestParam String symbol,
+            @RequestHeader(value = PositionRouter.FORWARDED_HEADER, required = false) String forwardedBy) {
         if (userId == null || userId.isBlank()) {
             return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
@@ -97,6 +111,12 @@ public class PositionController {
                     "message", "symbol은 필수입니다"));
         }
 
+        if (!positionRouter.isLocal(symbol)) {
+            return forwardedBy == null
+                    ? positionRouter.forwardUnregister(userId, symbol)
+                    : ownershipMoved(symbol);
+        }
+
         String normalizedUserId = userId.trim().toLowerCase();
         String normalized = symbol.toUpperCase();
         UserPosition existing = riskStateManager.getPosition(normalizedUserId, normalized);
@@ -109,6 +129,7 @@ public class PositionController {
         }
 
         riskStateManager.removePosition(normalizedUserId, normalized);
+        positionRouter.forget(normalizedUserId, normalized);
         log.info("[Position API] 포지션 해제 요청: userId={}, symbol={}", normalizedUserId, normalized);
 
         return ResponseEntity.ok(Map.of(
@@ -123,6 +144,13 @@ public class PositionController {
         if (userId == null || userId.isBlank()) {
             return ResponseEntity.badRequest().body(java.util.List.of());
         }
-        return ResponseEntity.ok(riskStateManager.getPositionsByUser(userId));
+        return ResponseEntity.ok(positionRouter.positionsByUser(userId));
+    }
+
+    private ResponseEntity<Map<String, Object>> ownershipMoved(String symbol) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                "success", false,
+                "symbol", symbol.toUpperCase(),
+                "message", "심볼 소유 노드가 변경되는 중입니다. 잠시 후 다시 시도하세요."));
     }
 }
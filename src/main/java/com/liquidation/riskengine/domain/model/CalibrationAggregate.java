@@ -0,0 +1,43 @@
+package com.liquidation.riskengine.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "calibration_aggregate")
+@IdClass(CalibrationAggregate.CalibrationAggregateKey.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalibrationAggregate {
+
+    @Id
+    private String kind;
+
+    @Id
+    private String symbol;
+
+    @Id
+    private int horizonMinutes;
+
+    @Id
+    private int bucket;
+
+    private double sumPredicted;
+    private long hits;
+    private long sampleCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CalibrationAggregateKey implements Serializable {
+        private String kind;
+        private String symbol;
+        private int horizonMinutes;
+        private int bucket;
+    }
+}
@@ -40,6 +40,7 @@ public class CascadePredictionRecord {
     private Double priceMinDuringHorizon;
     private Double priceMaxDuringHorizon;
     private Long verifiedEpochMs;
+    private Long firstPassageEpochMs;
 
     @Data
     @NoArgsConstructor
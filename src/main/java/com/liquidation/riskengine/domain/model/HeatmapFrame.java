@@ -0,0 +1,49 @@
+package com.liquidation.riskengine.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HeatmapFrame {
+
+    private String symbol;
+    private FrameType type;
+    private long generation;
+    private long version;
+    private long revision;
+    private double centerPrice;
+    private double bucketWidth;
+    private int bucketCount;
+    private double scale;
+    private int[] indices;
+    private double[] longs;
+    private double[] shorts;
+    private long timestamp;
+
+    public enum FrameType {
+        SNAPSHOT, DELTA
+    }
+
+    public static HeatmapFrame empty(String symbol) {
+        return HeatmapFrame.builder()
+                .symbol(symbol.toUpperCase())
+                .type(FrameType.SNAPSHOT)
+                .scale(1.0)
+                .indices(new int[0])
+                .longs(new double[0])
+                .shorts(new double[0])
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    public String etag() {
+        return generation + "-" + version + "-" + revision;
+    }
+}
@@ -39,6 +39,7 @@ public class McPredictionRecord {
     private Double priceMinDuringHorizon;
     private Double priceMaxDuringHorizon;
     private Long verifiedEpochMs;
+    private Long firstPassageEpochMs;
 
     @Data
     @NoArgsConstructor
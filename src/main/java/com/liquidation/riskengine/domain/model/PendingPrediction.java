@@ -0,0 +1,13 @@
+package com.liquidation.riskengine.domain.model;
+
+public record PendingPrediction(
+        long id,
+        long predictionEpochMs,
+        String symbol,
+        String positionSide,
+        double liquidationPrice,
+        long deadlineEpochMs,
+        double predictedProbability,
+        int horizonMinutes
+) {
+}
@@ -0,0 +1,18 @@
+package com.liquidation.riskengine.domain.model;
+
+public record PredictionExtremes(
+        long id,
+        long predictionEpochMs,
+        Double priceMin,
+        Double priceMax,
+        double priceAtDeadline
+) {
+
+    public double lowProbe() {
+        return priceMin != null ? priceMin : priceAtDeadline;
+    }
+
+    public double highProbe() {
+        return priceMax != null ? priceMax : priceAtDeadline;
+    }
+}
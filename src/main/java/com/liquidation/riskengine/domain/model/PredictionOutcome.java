@@ -0,0 +1,13 @@
+package com.liquidation.riskengine.domain.model;
+
+public record PredictionOutcome(
+        long id,
+        long predictionEpochMs,
+        boolean hit,
+        Double priceAtDeadline,
+        Double priceMinDuringHorizon,
+        Double priceMaxDuringHorizon,
+        long verifiedEpochMs,
+        Long firstPassageEpochMs
+) {
+}
@@ -0,0 +1,90 @@
+package com.liquidation.riskengine.domain.repository;
+
+import com.liquidation.riskengine.domain.model.CalibrationAggregate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CalibrationAggregateJdbcRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO calibration_aggregate
+                (kind, symbol, horizon_minutes, bucket, sum_predicted, hits, sample_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (kind, symbol, horizon_minutes, bucket) DO UPDATE
+               SET sum_predicted = calibration_aggregate.sum_predicted + EXCLUDED.sum_predicted,
+                   hits = calibration_aggregate.hits + EXCLUDED.hits,
+                   sample_count = calibration_aggregate.sample_count + EXCLUDED.sample_count
+            """;
+
+    private static final String INCREMENT = """
+            UPDATE calibration_aggregate
+               SET sum_predicted = sum_predicted + ?,
+                   hits = hits + ?,
+                   sample_count = sample_count + ?
+             WHERE kind = ? AND symbol = ? AND horizon_minutes = ? AND bucket = ?
+            """;
+
+    private static final String INSERT = """
+            INSERT INTO calibration_aggregate
+                (kind, symbol, horizon_minutes, bucket, sum_predicted, hits, sample_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+    private final TransactionTemplate transactionTemplate;
+
+    public void applyDeltas(List<CalibrationAggregate> deltas) {
+        if (deltas.isEmpty()) return;
+        transactionTemplate.executeWithoutResult(status -> apply(deltas));
+    }
+
+    private void apply(List<CalibrationAggregate> deltas) {
+        if (dialect.isPostgres()) {
+            jdbcTemplate.batchUpdate(UPSERT, deltas, deltas.size(), this::bindInsert);
+            return;
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INCREMENT, deltas, deltas.size(), (ps, d) -> {
+            ps.setDouble(1, d.getSumPredicted());
+            ps.setLong(2, d.getHits());
+            ps.setLong(3, d.getSampleCount());
+            ps.setString(4, d.getKind());
+            ps.setString(5, d.getSymbol());
+            ps.setInt(6, d.getHorizonMinutes());
+            ps.setInt(7, d.getBucket());
+        });
+
+        List<CalibrationAggregate> missing = new ArrayList<>();
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int c : batch) {
+                if (c == 0 || (c < 0 && c != Statement.SUCCESS_NO_INFO)) missing.add(deltas.get(i));
+                i++;
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, missing, missing.size(), this::bindInsert);
+        }
+    }
+
+    private void bindInsert(PreparedStatement ps, CalibrationAggregate d) throws SQLException {
+        ps.setString(1, d.getKind());
+        ps.setString(2, d.getSymbol());
+        ps.setInt(3, d.getHorizonMinutes());
+        ps.setInt(4, d.getBucket());
+        ps.setDouble(5, d.getSumPredicted());
+        ps.setLong(6, d.getHits());
+        ps.setLong(7, d.getSampleCount());
+    }
+}
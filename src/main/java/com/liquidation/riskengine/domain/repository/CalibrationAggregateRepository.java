@@ -0,0 +1,8 @@
+package com.liquidation.riskengine.domain.repository;
+
+import com.liquidation.riskengine.domain.model.CalibrationAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CalibrationAggregateRepository
+        extends JpaRepository<CalibrationAggregate, CalibrationAggregate.CalibrationAggregateKey> {
+}
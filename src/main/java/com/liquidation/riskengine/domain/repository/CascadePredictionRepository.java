@@ -11,6 +11,11 @@ public interface CascadePredictionRepository extends JpaRepository<CascadePredic
 
     List<CascadePredictionRecord> findByVerifiedFalseAndDeadlineEpochMsLessThanEqual(long now);
 
+    List<CascadePredictionRecord> findByVerifiedFalseAndPredictionEpochMsGreaterThanEqualAndDeadlineEpochMsLessThanEqual(
+            long fromPredictionEpochMs, long now);
+
+    List<CascadePredictionRecord> findByVerifiedFalseAndDeadlineEpochMsGreaterThan(long now);
+
     @Query(value = """
             SELECT
                 AVG(reach_probability)                                        AS mean_predicted,
@@ -25,4 +30,6 @@ public interface CascadePredictionRepository extends JpaRepository<CascadePredic
     List<CalibrationBucketRow> findBucketedForCalibration(@Param("symbol") String symbol);
 
     long countByVerifiedTrue();
+
+    long countByVerifiedFalse();
 }
@@ -11,6 +11,11 @@ public interface McPredictionRepository extends JpaRepository<McPredictionRecord
 
     List<McPredictionRecord> findByVerifiedFalseAndDeadlineEpochMsLessThanEqual(long now);
 
+    List<McPredictionRecord> findByVerifiedFalseAndPredictionEpochMsGreaterThanEqualAndDeadlineEpochMsLessThanEqual(
+            long fromPredictionEpochMs, long now);
+
+    List<McPredictionRecord> findByVerifiedFalseAndDeadlineEpochMsGreaterThan(long now);
+
     List<McPredictionRecord> findBySymbolAndVerifiedTrueOrderByVerifiedEpochMsDesc(String symbol);
 
     @Query(value = """
@@ -29,4 +34,6 @@ public interface McPredictionRepository extends JpaRepository<McPredictionRecord
                                                           @Param("horizon") Integer horizon);
 
     long countByVerifiedTrue();
+
+    long countByVerifiedFalse();
 }
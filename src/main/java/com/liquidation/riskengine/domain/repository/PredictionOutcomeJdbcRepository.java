@@ -0,0 +1,271 @@
+package com.liquidation.riskengine.domain.repository;
+
+import com.liquidation.riskengine.domain.model.PendingPrediction;
+import com.liquidation.riskengine.domain.model.PredictionExtremes;
+import com.liquidation.riskengine.domain.model.PredictionOutcome;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class PredictionOutcomeJdbcRepository {
+
+    private static final String UPDATE_MC = """
+            UPDATE mc_prediction_record
+               SET verified = TRUE,
+                   actual_hit = ?,
+                   price_at_deadline = ?,
+                   price_min_during_horizon = ?,
+                   price_max_during_horizon = ?,
+                   verified_epoch_ms = ?,
+                   first_passage_epoch_ms = ?
+             WHERE id = ? AND prediction_epoch_ms = ? AND verified = FALSE
+            """;
+
+    private static final String UPDATE_CASCADE = """
+            UPDATE cascade_prediction_record
+               SET verified = TRUE,
+                   actual_hit = ?,
+                   price_at_deadline = ?,
+                   price_min_during_horizon = ?,
+                   price_max_during_horizon = ?,
+                   verified_epoch_ms = ?,
+                   first_passage_epoch_ms = ?
+             WHERE id = ? AND prediction_epoch_ms = ? AND verified = FALSE
+            """;
+
+    private static final String MC_TABLE = "mc_prediction_record";
+    private static final String CASCADE_TABLE = "cascade_prediction_record";
+
+    private static final String SELECT_PENDING = """
+            SELECT id, prediction_epoch_ms, symbol, position_side, liquidation_price, deadline_epoch_ms,
+                   %s AS predicted_probability, %s AS horizon_minutes
+              FROM %s
+             WHERE verified = FALSE
+               AND prediction_epoch_ms >= ? AND prediction_epoch_ms <= ?
+               AND deadline_epoch_ms <= ?
+               AND (deadline_epoch_ms > ? OR (deadline_epoch_ms = ? AND id > ?))
+             ORDER BY deadline_epoch_ms, id
+             LIMIT ?
+            """;
+
+    private static final String BULK_VERIFY_UNNEST = """
+            UPDATE %s t
+               SET verified = TRUE,
+                   actual_hit = CASE WHEN UPPER(t.position_side) = 'LONG'
+                                     THEN u.low_probe <= t.liquidation_price
+                                     ELSE u.high_probe >= t.liquidation_price END,
+                   price_at_deadline = u.price_at_deadline,
+                   price_min_during_horizon = u.price_min,
+                   price_max_during_horizon = u.price_max,
+                   verified_epoch_ms = ?
+              FROM unnest(?::bigint[], ?::bigint[], ?::float8[], ?::float8[], ?::float8[], ?::float8[], ?::float8[])
+                   AS u(id, prediction_epoch_ms, price_min, price_max, price_at_deadline, low_probe, high_probe)
+             WHERE t.id = u.id
+               AND t.prediction_epoch_ms = u.prediction_epoch_ms
+               AND t.prediction_epoch_ms >= ? AND t.prediction_epoch_ms < ?
+               AND t.verified = FALSE
+            RETURNING t.id, t.prediction_epoch_ms
+            """;
+
+    private static final String BULK_VERIFY_ROW = """
+            UPDATE %s
+               SET verified = TRUE,
+                   actual_hit = CASE WHEN UPPER(position_side) = 'LONG'
+                                     THEN ? <= liquidation_price
+                                     ELSE ? >= liquidation_price END,
+                   price_at_deadline = ?,
+                   price_min_during_horizon = ?,
+                   price_max_during_horizon = ?,
+                   verified_epoch_ms = ?
+             WHERE id = ? AND prediction_epoch_ms = ? AND verified = FALSE
+            """;
+
+    private static final RowMapper<PendingPrediction> PENDING_MAPPER = (rs, rowNum) -> new PendingPrediction(
+            rs.getLong("id"),
+            rs.getLong("prediction_epoch_ms"),
+            rs.getString("symbol"),
+            rs.getString("position_side"),
+            rs.getDouble("liquidation_price"),
+            rs.getLong("deadline_epoch_ms"),
+            rs.getDouble("predicted_probability"),
+            rs.getInt("horizon_minutes"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+
+    public boolean[] updateMcOutcomes(List<PredictionOutcome> outcomes) {
+        return batchUpdate(UPDATE_MC, outcomes);
+    }
+
+    public boolean[] updateCascadeOutcomes(List<PredictionOutcome> outcomes) {
+        return batchUpdate(UPDATE_CASCADE, outcomes);
+    }
+
+    public List<PendingPrediction> findPendingMc(long fromPredictionEpochMs, long cutoffEpochMs,
+                                                 long afterDeadlineMs, long afterId, int limit) {
+        return findPending(MC_TABLE, "predicted_probability", "horizon_minutes",
+                fromPredictionEpochMs, cutoffEpochMs, afterDeadlineMs, afterId, limit);
+    }
+
+    public List<PendingPrediction> findPendingCascade(long fromPredictionEpochMs, long cutoffEpochMs,
+                                                      long afterDeadlineMs, long afterId, int limit) {
+        return findPending(CASCADE_TABLE, "reach_probability", "0",
+                fromPredictionEpochMs, cutoffEpochMs, afterDeadlineMs, afterId, limit);
+    }
+
+    public boolean[] verifyMcBulk(List<PredictionExtremes> extremes, long verifiedEpochMs) {
+        return verifyBulk(MC_TABLE, extremes, verifiedEpochMs);
+    }
+
+    public boolean[] verifyCascadeBulk(List<PredictionExtremes> extremes, long verifiedEpochMs) {
+        return verifyBulk(CASCADE_TABLE, extremes, verifiedEpochMs);
+    }
+
+    private List<PendingPrediction> findPending(String table, String probabilityColumn, String horizonColumn,
+                                                long fromPredictionEpochMs, long cutoffEpochMs,
+                                                long afterDeadlineMs, long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_PENDING.formatted(probabilityColumn, horizonColumn, table), PENDING_MAPPER,
+                fromPredictionEpochMs, cutoffEpochMs, cutoffEpochMs, afterDeadlineMs, afterDeadlineMs, afterId, limit);
+    }
+
+    private boolean[] verifyBulk(String table, List<PredictionExtremes> extremes, long verifiedEpochMs) {
+        if (extremes.isEmpty()) return new boolean[0];
+        if (!dialect.isPostgres()) {
+            return batchVerify(table, extremes, verifiedEpochMs);
+        }
+
+        Map<YearMonth, List<PredictionExtremes>> byPartition = new TreeMap<>();
+        for (PredictionExtremes e : extremes) {
+            YearMonth month = YearMonth.from(Instant.ofEpochMilli(e.predictionEpochMs()).atZone(ZoneOffset.UTC));
+            byPartition.computeIfAbsent(month, k -> new ArrayList<>()).add(e);
+        }
+
+        String sql = BULK_VERIFY_UNNEST.formatted(table);
+        Set<RowKey> updated = new HashSet<>();
+        for (Map.Entry<YearMonth, List<PredictionExtremes>> entry : byPartition.entrySet()) {
+            YearMonth month = entry.getKey();
+            long from = month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            long to = month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            List<PredictionExtremes> rows = entry.getValue();
+            updated.addAll(jdbcTemplate.query(con -> unnestStatement(con, sql, rows, verifiedEpochMs, from, to),
+                    (rs, rowNum) -> new RowKey(rs.getLong(1), rs.getLong(2))));
+        }
+
+        boolean[] applied = new boolean[extremes.size()];
+        for (int i = 0; i < applied.length; i++) {
+            PredictionExtremes e = extremes.get(i);
+            applied[i] = updated.contains(new RowKey(e.id(), e.predictionEpochMs()));
+        }
+        return applied;
+    }
+
+    private record RowKey(long id, long predictionEpochMs) {}
+
+    private PreparedStatement unnestStatement(Connection con, String sql, List<PredictionExtremes> rows,
+                                              long verifiedEpochMs, long fromMs, long toMs) throws SQLException {
+        int n = rows.size();
+        Long[] ids = new Long[n];
+        Long[] epochs = new Long[n];
+        Double[] mins = new Double[n];
+        Double[] maxs = new Double[n];
+        Double[] atDeadline = new Double[n];
+        Double[] lows = new Double[n];
+        Double[] highs = new Double[n];
+        for (int i = 0; i < n; i++) {
+            PredictionExtremes e = rows.get(i);
+            ids[i] = e.id();
+            epochs[i] = e.predictionEpochMs();
+            mins[i] = e.priceMin();
+            maxs[i] = e.priceMax();
+            atDeadline[i] = e.priceAtDeadline();
+            lows[i] = e.lowProbe();
+            highs[i] = e.highProbe();
+        }
+
+        PreparedStatement ps = con.prepareStatement(sql);
+        ps.setLong(1, verifiedEpochMs);
+        ps.setArray(2, con.createArrayOf("int8", ids));
+        ps.setArray(3, con.createArrayOf("int8", epochs));
+        ps.setArray(4, con.createArrayOf("float8", mins));
+        ps.setArray(5, con.createArrayOf("float8", maxs));
+        ps.setArray(6, con.createArrayOf("float8", atDeadline));
+        ps.setArray(7, con.createArrayOf("float8", lows));
+        ps.setArray(8, con.createArrayOf("float8", highs));
+        ps.setLong(9, fromMs);
+        ps.setLong(10, toMs);
+        return ps;
+    }
+
+    private boolean[] batchVerify(String table, List<PredictionExtremes> extremes, long verifiedEpochMs) {
+        int[][] counts = jdbcTemplate.batchUpdate(BULK_VERIFY_ROW.formatted(table), extremes, extremes.size(),
+                (ps, e) -> {
+                    ps.setDouble(1, e.lowProbe());
+                    ps.setDouble(2, e.highProbe());
+                    ps.setDouble(3, e.priceAtDeadline());
+                    setNullableDouble(ps, 4, e.priceMin());
+                    setNullableDouble(ps, 5, e.priceMax());
+                    ps.setLong(6, verifiedEpochMs);
+                    ps.setLong(7, e.id());
+                    ps.setLong(8, e.predictionEpochMs());
+                });
+        return applied(counts, extremes.size());
+    }
+
+    private boolean[] batchUpdate(String sql, List<PredictionOutcome> outcomes) {
+        if (outcomes.isEmpty()) return new boolean[0];
+        int[][] counts = jdbcTemplate.batchUpdate(sql, outcomes, outcomes.size(), this::bind);
+        return applied(counts, outcomes.size());
+    }
+
+    private static boolean[] applied(int[][] counts, int size) {
+        boolean[] applied = new boolean[size];
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int c : batch) {
+                if (i < size) applied[i++] = c > 0 || c == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return applied;
+    }
+
+    private void bind(PreparedStatement ps, PredictionOutcome o) throws SQLException {
+        ps.setBoolean(1, o.hit());
+        setNullableDouble(ps, 2, o.priceAtDeadline());
+        setNullableDouble(ps, 3, o.priceMinDuringHorizon());
+        setNullableDouble(ps, 4, o.priceMaxDuringHorizon());
+        ps.setLong(5, o.verifiedEpochMs());
+        if (o.firstPassageEpochMs() != null) {
+            ps.setLong(6, o.firstPassageEpochMs());
+        } else {
+            ps.setNull(6, Types.BIGINT);
+        }
+        ps.setLong(7, o.id());
+        ps.setLong(8, o.predictionEpochMs());
+    }
+
+    private void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) {
+            ps.setDouble(index, value);
+        } else {
+            ps.setNull(index, Types.DOUBLE);
+        }
+    }
+}
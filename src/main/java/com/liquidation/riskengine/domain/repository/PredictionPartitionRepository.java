@@ -0,0 +1,112 @@
+package com.liquidation.riskengine.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class PredictionPartitionRepository {
+
+    public static final Set<String> PARTITIONED_TABLES = Set.of("mc_prediction_record", "cascade_prediction_record");
+
+    private static final String LIST_PARTITIONS = """
+            SELECT c.relname
+              FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+              JOIN pg_class p ON p.oid = i.inhparent
+             WHERE p.relname = ?
+             ORDER BY c.relname
+            """;
+
+    private static final String LIST_DETACHED = """
+            SELECT c.relname
+              FROM pg_class c
+             WHERE c.relkind = 'r'
+               AND c.relnamespace = current_schema()::regnamespace
+               AND starts_with(c.relname, ?)
+               AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)
+             ORDER BY c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public boolean isPartitioned(String table) {
+        checkTable(table);
+        Boolean partitioned = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1 FROM pg_partitioned_table pt
+                      JOIN pg_class c ON c.oid = pt.partrelid
+                     WHERE c.relname = ?)
+                """, Boolean.class, table);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    public List<String> listPartitions(String table) {
+        checkTable(table);
+        return jdbcTemplate.queryForList(LIST_PARTITIONS, String.class, table);
+    }
+
+    public boolean createPartition(String table, String partition, long fromMs, long toMs) {
+        checkTable(table);
+        String defaultPartition = table + "_default";
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Boolean defaultHasRows = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM " + defaultPartition
+                            + " WHERE prediction_epoch_ms >= ? AND prediction_epoch_ms < ?)",
+                    Boolean.class, fromMs, toMs);
+
+            if (!Boolean.TRUE.equals(defaultHasRows)) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table
+                        + " FOR VALUES FROM (" + fromMs + ") TO (" + toMs + ")");
+                return false;
+            }
+
+            jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + table
+                    + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            jdbcTemplate.update("WITH moved AS (DELETE FROM " + defaultPartition
+                    + " WHERE prediction_epoch_ms >= ? AND prediction_epoch_ms < ? RETURNING *) "
+                    + "INSERT INTO " + partition + " SELECT * FROM moved", fromMs, toMs);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + partition
+                    + " FOR VALUES FROM (" + fromMs + ") TO (" + toMs + ")");
+            return true;
+        }));
+    }
+
+    public List<String> listDetachedTables(String table) {
+        checkTable(table);
+        return jdbcTemplate.queryForList(LIST_DETACHED, String.class, table + "_");
+    }
+
+    public void retirePartition(String table, String partition, String archiveSchema) {
+        checkTable(table);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            dropOrArchive(partition, archiveSchema);
+        });
+    }
+
+    public void retireDetachedTable(String partition, String archiveSchema) {
+        transactionTemplate.executeWithoutResult(status -> dropOrArchive(partition, archiveSchema));
+    }
+
+    private void dropOrArchive(String partition, String archiveSchema) {
+        if (archiveSchema == null) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+            return;
+        }
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+    }
+
+    private static void checkTable(String table) {
+        if (!PARTITIONED_TABLES.contains(table)) {
+            throw new IllegalArgumentException("Not a managed partitioned table: " + table);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.model.PendingPrediction;
+import com.liquidation.riskengine.domain.model.PredictionExtremes;
+import com.liquidation.riskengine.domain.repository.PredictionOutcomeJdbcRepository;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.MinMax;
+import com.liquidation.riskengine.domain.service.state.RiskStateManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkPredictionVerifier {
+
+    private final CalibrationVerifyProperties properties;
+    private final PredictionOutcomeJdbcRepository repository;
+    private final RiskStateManager riskStateManager;
+    private final PriceHistoryBuffer priceHistoryBuffer;
+    private final CalibrationAggregateStore aggregateStore;
+
+    public record Result(int scanned, int verified) {}
+
+    public Result verifyMc(long cutoffEpochMs, long nowMs) {
+        return verify(true, cutoffEpochMs, nowMs);
+    }
+
+    public Result verifyCascade(long cutoffEpochMs, long nowMs) {
+        return verify(false, cutoffEpochMs, nowMs);
+    }
+
+    private Result verify(boolean mc, long cutoffEpochMs, long nowMs) {
+        int pageSize = properties.getPageSize();
+        long afterDeadline = Long.MIN_VALUE;
+        long afterId = Long.MIN_VALUE;
+        long fromPrediction = cutoffEpochMs - properties.getLookbackMs();
+        int scanned = 0;
+        int verified = 0;
+
+        while (true) {
+            List<PendingPrediction> page = mc
+                    ? repository.findPendingMc(fromPrediction, cutoffEpochMs, afterDeadline, afterId, pageSize)
+                    : repository.findPendingCascade(fromPrediction, cutoffEpochMs, afterDeadline, afterId, pageSize);
+            if (page.isEmpty()) break;
+
+            List<PendingPrediction> evaluated = new ArrayList<>(page.size());
+            List<PredictionExtremes> extremes = new ArrayList<>(page.size());
+            for (PendingPrediction p : page) {
+                BigDecimal currentPrice = riskStateManager.getLatestMarkPrice(p.symbol());
+                if (currentPrice == null) continue;
+                MinMax minMax = priceHistoryBuffer.getMinMaxInRange(
+                        p.symbol(), p.predictionEpochMs(), p.deadlineEpochMs());
+                extremes.add(new PredictionExtremes(
+                        p.id(),
+                        p.predictionEpochMs(),
+                        minMax != null ? minMax.min() : null,
+                        minMax != null ? minMax.max() : null,
+                        currentPrice.doubleValue()));
+                evaluated.add(p);
+            }
+
+            scanned += page.size();
+            boolean[] applied = mc
+                    ? repository.verifyMcBulk(extremes, nowMs)
+                    : repository.verifyCascadeBulk(extremes, nowMs);
+            for (int i = 0; i < applied.length; i++) {
+                if (!applied[i]) continue;
+                PendingPrediction p = evaluated.get(i);
+                PredictionExtremes e = extremes.get(i);
+                boolean hit = "LONG".equalsIgnoreCase(p.positionSide())
+                        ? e.lowProbe() <= p.liquidationPrice()
+                        : e.highProbe() >= p.liquidationPrice();
+                aggregateStore.record(mc ? PredictionKind.MC : PredictionKind.CASCADE,
+                        p.symbol(), p.horizonMinutes(), p.predictedProbability(), hit);
+                verified++;
+            }
+
+            PendingPrediction last = page.get(page.size() - 1);
+            afterDeadline = last.deadlineEpochMs();
+            afterId = last.id();
+            if (page.size() < pageSize) break;
+        }
+        return new Result(scanned, verified);
+    }
+}
@@ -0,0 +1,16 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "calibration.aggregate")
+public class CalibrationAggregateProperties {
+
+    private long flushIntervalMs = 5_000;
+    private int reportBuckets = 10;
+}
@@ -0,0 +1,164 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.model.CalibrationAggregate;
+import com.liquidation.riskengine.domain.repository.CalibrationAggregateJdbcRepository;
+import com.liquidation.riskengine.domain.repository.CalibrationAggregateRepository;
+import com.liquidation.riskengine.domain.repository.CalibrationBucketRow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalibrationAggregateStore {
+
+    static final int FINE_BUCKETS = 100;
+
+    private final CalibrationAggregateRepository repository;
+    private final CalibrationAggregateJdbcRepository jdbcRepository;
+    private final CalibrationAggregateProperties properties;
+
+    private final Map<AggregateKey, Cell> totals = new HashMap<>();
+    private Map<AggregateKey, Cell> unflushed = new HashMap<>();
+
+    @PostConstruct
+    void load() {
+        try {
+            List<CalibrationAggregate> rows = repository.findAll();
+            synchronized (this) {
+                for (CalibrationAggregate row : rows) {
+                    AggregateKey key = new AggregateKey(PredictionKind.valueOf(row.getKind()), row.getSymbol(),
+                            row.getHorizonMinutes(), row.getBucket());
+                    totals.computeIfAbsent(key, k -> new Cell())
+                            .add(row.getSumPredicted(), row.getHits(), row.getSampleCount());
+                }
+            }
+            log.info("[CalAggregate] 보정 집계 적재: rows={}", rows.size());
+        } catch (Exception e) {
+            log.warn("[CalAggregate] 보정 집계 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public synchronized void record(PredictionKind kind, String symbol, int horizonMinutes,
+                                    double predictedProbability, boolean hit) {
+        AggregateKey key = new AggregateKey(kind, symbol != null ? symbol.toUpperCase() : "",
+                horizonMinutes, fineBucket(predictedProbability));
+        long hits = hit ? 1 : 0;
+        totals.computeIfAbsent(key, k -> new Cell()).add(predictedProbability, hits, 1);
+        unflushed.computeIfAbsent(key, k -> new Cell()).add(predictedProbability, hits, 1);
+    }
+
+    @Scheduled(fixedDelayString = "${calibration.aggregate.flush-interval-ms:5000}")
+    public void flush() {
+        Map<AggregateKey, Cell> batch;
+        synchronized (this) {
+            if (unflushed.isEmpty()) return;
+            batch = unflushed;
+            unflushed = new HashMap<>();
+        }
+
+        List<CalibrationAggregate> deltas = new ArrayList<>(batch.size());
+        batch.forEach((key, cell) -> deltas.add(CalibrationAggregate.builder()
+                .kind(key.kind().name())
+                .symbol(key.symbol())
+                .horizonMinutes(key.horizonMinutes())
+                .bucket(key.bucket())
+                .sumPredicted(cell.sumPredicted)
+                .hits(cell.hits)
+                .sampleCount(cell.count)
+                .build()));
+
+        try {
+            jdbcRepository.applyDeltas(deltas);
+            log.debug("[CalAggregate] 집계 반영: cells={}", deltas.size());
+        } catch (Exception e) {
+            synchronized (this) {
+                batch.forEach((key, cell) -> unflushed.computeIfAbsent(key, k -> new Cell())
+                        .add(cell.sumPredicted, cell.hits, cell.count));
+            }
+            log.warn("[CalAggregate] 집계 반영 실패, 다음 주기에 재시도: cells={}, error={}",
+                    deltas.size(), e.getMessage());
+        }
+    }
+
+    public synchronized List<CalibrationBucketRow> buckets(PredictionKind kind, String symbol, Integer horizon,
+                                                           int resolution) {
+        int res = Math.max(1, Math.min(resolution, FINE_BUCKETS));
+        TreeMap<Integer, Cell> merged = new TreeMap<>();
+        for (Map.Entry<AggregateKey, Cell> entry : totals.entrySet()) {
+            AggregateKey key = entry.getKey();
+            if (key.kind() != kind) continue;
+            if (symbol != null && !symbol.equalsIgnoreCase(key.symbol())) continue;
+            if (horizon != null && horizon != key.horizonMinutes()) continue;
+            Cell cell = entry.getValue();
+            merged.computeIfAbsent(key.bucket() * res / FINE_BUCKETS, k -> new Cell())
+                    .add(cell.sumPredicted, cell.hits, cell.count);
+        }
+
+        List<CalibrationBucketRow> rows = new ArrayList<>(merged.size());
+        for (Cell cell : merged.values()) {
+            if (cell.count == 0) continue;
+            rows.add(new AggregatedBucket(cell.sumPredicted / cell.count, (double) cell.hits / cell.count, cell.count));
+        }
+        return rows;
+    }
+
+    public synchronized long verifiedCount(PredictionKind kind) {
+        long n = 0;
+        for (Map.Entry<AggregateKey, Cell> entry : totals.entrySet()) {
+            if (entry.getKey().kind() == kind) n += entry.getValue().count;
+        }
+        return n;
+    }
+
+    public int reportBuckets() {
+        return properties.getReportBuckets();
+    }
+
+    static int fineBucket(double predictedProbability) {
+        int bucket = (int) Math.floor(predictedProbability * FINE_BUCKETS);
+        return Math.max(0, Math.min(bucket, FINE_BUCKETS - 1));
+    }
+
+    private record AggregateKey(PredictionKind kind, String symbol, int horizonMinutes, int bucket) {}
+
+    private record AggregatedBucket(double meanPredicted, double actualHitRate, long sampleCount)
+            implements CalibrationBucketRow {
+
+        @Override
+        public double getMeanPredicted() {
+            return meanPredicted;
+        }
+
+        @Override
+        public double getActualHitRate() {
+            return actualHitRate;
+        }
+
+        @Override
+        public long getSampleCount() {
+            return sampleCount;
+        }
+    }
+
+    private static final class Cell {
+        double sumPredicted;
+        long hits;
+        long count;
+
+        void add(double sumPredicted, long hits, long count) {
+            this.sumPredicted += sumPredicted;
+            this.hits += hits;
+            this.count += count;
+        }
+    }
+}
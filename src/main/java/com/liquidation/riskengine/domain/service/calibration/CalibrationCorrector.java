@@ -1,8 +1,6 @@
 package com.liquidation.riskengine.domain.service.calibration;
 
 import com.liquidation.riskengine.domain.repository.CalibrationBucketRow;
-import com.liquidation.riskengine.domain.repository.CascadePredictionRepository;
-import com.liquidation.riskengine.domain.repository.McPredictionRepository;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -22,8 +20,7 @@ public class CalibrationCorrector {
     static final int MIN_TOTAL_SAMPLES = 300;
     static final int MIN_BUCKET_SAMPLES = 30;
 
-    private final McPredictionRepository mcRepository;
-    private final CascadePredictionRepository cascadeRepository;
+    private final CalibrationAggregateStore aggregateStore;
 
     private volatile IsotonicModel mcModel;
     private volatile IsotonicModel cascadeModel;
@@ -40,7 +37,8 @@ public class CalibrationCorrector {
     }
 
     public void fitMcModel() {
-        List<CalibrationBucketRow> buckets = mcRepository.findBucketedForCalibration(null, null);
+        List<CalibrationBucketRow> buckets = aggregateStore.buckets(
+                PredictionKind.MC, null, null, aggregateStore.reportBuckets());
         long totalSamples = buckets.stream().mapToLong(CalibrationBucketRow::getSampleCount).sum();
         if (totalSamples < MIN_TOTAL_SAMPLES) {
             mcModel = null;
@@ -51,7 +49,8 @@ public class CalibrationCorrector {
     }
 
     public void fitCascadeModel() {
-        List<CalibrationBucketRow> buckets = cascadeRepository.findBucketedForCalibration(null);
+        List<CalibrationBucketRow> buckets = aggregateStore.buckets(
+                PredictionKind.CASCADE, null, null, aggregateStore.reportBuckets());
         long totalSamples = buckets.stream().mapToLong(CalibrationBucketRow::getSampleCount).sum();
         if (totalSamples < MIN_TOTAL_SAMPLES) {
             cascadeModel = null;
@@ -86,8 +85,8 @@ public class CalibrationCorrector {
     }
 
     public CalibrationStatus getStatus() {
-        long mcTotal = mcRepository.countByVerifiedTrue();
-        long cascadeTotal = cascadeRepository.countByVerifiedTrue();
+        long mcTotal = aggregateStore.verifiedCount(PredictionKind.MC);
+        long cascadeTotal = aggregateStore.verifiedCount(PredictionKind.CASCADE);
 
         List<BucketCoefficient> mcCoeffs = mcModel != null ? mcModel.toBucketCoefficients() : List.of();
         List<BucketCoefficient> cascadeCoeffs = cascadeModel != null ? cascadeModel.toBucketCoefficients() : List.of();
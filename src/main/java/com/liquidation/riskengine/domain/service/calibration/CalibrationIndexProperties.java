@@ -0,0 +1,18 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "calibration.index")
+public class CalibrationIndexProperties {
+
+    private boolean enabled = true;
+    private long tickMs = 1_000;
+    private int wheelSlots = 4_096;
+    private long reconcileGraceMs = 300_000;
+}
@@ -0,0 +1,21 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "calibration.verify")
+public class CalibrationVerifyProperties {
+
+    private String mode = "bulk";
+    private int pageSize = 2_000;
+    private long lookbackMs = 7L * 24 * 60 * 60 * 1000;
+
+    public boolean isBulk() {
+        return "bulk".equalsIgnoreCase(mode);
+    }
+}
@@ -0,0 +1,23 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "calibration.partition")
+public class PartitionProperties {
+
+    private boolean enabled = true;
+    private int monthsAhead = 3;
+    private int retentionMonths = 12;
+    private String retentionAction = "drop";
+    private String archiveSchema = "archive";
+
+    public boolean isArchive() {
+        return "archive".equalsIgnoreCase(retentionAction);
+    }
+}
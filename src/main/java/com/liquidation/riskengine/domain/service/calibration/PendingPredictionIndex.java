@@ -0,0 +1,314 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.model.CascadePredictionRecord;
+import com.liquidation.riskengine.domain.model.McPredictionRecord;
+import com.liquidation.riskengine.domain.model.PredictionOutcome;
+import com.liquidation.riskengine.domain.repository.CascadePredictionRepository;
+import com.liquidation.riskengine.domain.repository.McPredictionRepository;
+import com.liquidation.riskengine.domain.repository.PredictionOutcomeJdbcRepository;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.MinMax;
+import com.liquidation.riskengine.domain.service.state.RiskStateManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingPredictionIndex {
+
+    private final CalibrationIndexProperties properties;
+    private final PriceHistoryBuffer priceHistoryBuffer;
+    private final RiskStateManager riskStateManager;
+    private final PredictionOutcomeJdbcRepository outcomeRepository;
+    private final McPredictionRepository mcRepository;
+    private final CascadePredictionRepository cascadeRepository;
+    private final CalibrationAggregateStore aggregateStore;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, SymbolBook> books = new ConcurrentHashMap<>();
+    private final Queue<ResolvedPrediction> resolved = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private TimerWheel<Pending> deadlines;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter flushFailureCounter;
+
+    @PostConstruct
+    void init() {
+        deadlines = new TimerWheel<>(properties.getTickMs(), properties.getWheelSlots(), System.currentTimeMillis());
+        hitCounter = Counter.builder("calibration.index.resolved")
+                .tag("outcome", "hit")
+                .description("Pending predictions resolved by a first-passage cross")
+                .register(meterRegistry);
+        missCounter = Counter.builder("calibration.index.resolved")
+                .tag("outcome", "miss")
+                .description("Pending predictions that reached their deadline without a cross")
+                .register(meterRegistry);
+        flushFailureCounter = Counter.builder("calibration.index.flush_failures")
+                .register(meterRegistry);
+        Gauge.builder("calibration.index.pending", pendingCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!properties.isEnabled()) return;
+        long now = System.currentTimeMillis();
+        try {
+            List<McPredictionRecord> mc = mcRepository.findByVerifiedFalseAndDeadlineEpochMsGreaterThan(now);
+            List<CascadePredictionRecord> cascade = cascadeRepository.findByVerifiedFalseAndDeadlineEpochMsGreaterThan(now);
+            mc.forEach(this::registerMc);
+            cascade.forEach(this::registerCascade);
+            log.info("[CalIndex] 미검증 예측 적재: mc={}, cascade={}", mc.size(), cascade.size());
+        } catch (Exception e) {
+            log.warn("[CalIndex] 미검증 예측 적재 실패, 폴링 검증으로 대체: {}", e.getMessage());
+        }
+    }
+
+    public void registerMc(McPredictionRecord record) {
+        if (record.getId() == null) return;
+        register(PredictionKind.MC, record.getId(), record.getPredictionEpochMs(), record.getSymbol(),
+                record.getPositionSide(), record.getLiquidationPrice(), record.getDeadlineEpochMs(),
+                record.getPredictedProbability(), record.getHorizonMinutes());
+    }
+
+    public void registerCascade(CascadePredictionRecord record) {
+        if (record.getId() == null) return;
+        register(PredictionKind.CASCADE, record.getId(), record.getPredictionEpochMs(), record.getSymbol(),
+                record.getPositionSide(), record.getLiquidationPrice(), record.getDeadlineEpochMs(),
+                record.getReachProbability(), 0);
+    }
+
+    public void register(PredictionKind kind, long id, long predictionEpochMs, String symbol, String positionSide,
+                         double liquidationPrice, long deadlineEpochMs,
+                         double predictedProbability, int horizonMinutes) {
+        if (!properties.isEnabled() || symbol == null) return;
+
+        String key = symbol.toUpperCase();
+        Pending p = new Pending(kind, id, predictionEpochMs, key,
+                "LONG".equalsIgnoreCase(positionSide), liquidationPrice, deadlineEpochMs,
+                predictedProbability, horizonMinutes);
+
+        long now = System.currentTimeMillis();
+        MinMax sinceOpen = priceHistoryBuffer.getMinMaxInRange(key, predictionEpochMs, Math.min(now, deadlineEpochMs));
+        if (sinceOpen != null && crosses(p, sinceOpen)) {
+            p.resolved = true;
+            emit(p, true, sinceOpen, null, null);
+            return;
+        }
+        if (deadlineEpochMs <= now) {
+            p.resolved = true;
+            emit(p, false, sinceOpen, latestPrice(key), null);
+            return;
+        }
+
+        SymbolBook book = books.computeIfAbsent(key, k -> new SymbolBook());
+        synchronized (book) {
+            (p.isLong ? book.longs : book.shorts).add(p);
+        }
+        deadlines.schedule(p, deadlineEpochMs);
+        pendingCount.incrementAndGet();
+    }
+
+    public void onPrice(String symbol, double price, long timestampMs) {
+        if (!properties.isEnabled() || symbol == null) return;
+        SymbolBook book = books.get(symbol.toUpperCase());
+        if (book == null) return;
+
+        List<Pending> hits = null;
+        synchronized (book) {
+            Pending top;
+            while ((top = book.longs.peek()) != null && (top.resolved || top.liquidationPrice >= price)) {
+                book.longs.poll();
+                if (top.resolved) {
+                    book.stale--;
+                    continue;
+                }
+                top.resolved = true;
+                if (hits == null) hits = new ArrayList<>();
+                hits.add(top);
+            }
+            while ((top = book.shorts.peek()) != null && (top.resolved || top.liquidationPrice <= price)) {
+                book.shorts.poll();
+                if (top.resolved) {
+                    book.stale--;
+                    continue;
+                }
+                top.resolved = true;
+                if (hits == null) hits = new ArrayList<>();
+                hits.add(top);
+            }
+        }
+        if (hits == null) return;
+
+        for (Pending p : hits) {
+            MinMax range = priceHistoryBuffer.getMinMaxInRange(p.symbol, p.predictionEpochMs, timestampMs);
+            emit(p, true, range, null, timestampMs);
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${calibration.index.tick-ms:1000}")
+    public void tick() {
+        if (!properties.isEnabled()) return;
+        expireDeadlines(System.currentTimeMillis());
+        flush();
+    }
+
+    void expireDeadlines(long now) {
+        for (Pending p : deadlines.advance(now)) {
+            SymbolBook book = books.get(p.symbol);
+            if (book == null) continue;
+            synchronized (book) {
+                if (p.resolved) continue;
+                p.resolved = true;
+                book.stale++;
+                if (book.stale > 1_024 && book.stale > (book.longs.size() + book.shorts.size()) / 2) {
+                    book.compact();
+                }
+            }
+            pendingCount.decrementAndGet();
+
+            MinMax range = priceHistoryBuffer.getMinMaxInRange(p.symbol, p.predictionEpochMs, p.deadlineEpochMs);
+            boolean hit = range != null && crosses(p, range);
+            emit(p, hit, range, latestPrice(p.symbol), null);
+        }
+    }
+
+    void flush() {
+        if (resolved.isEmpty()) return;
+
+        List<ResolvedPrediction> mc = new ArrayList<>();
+        List<ResolvedPrediction> cascade = new ArrayList<>();
+        ResolvedPrediction r;
+        while ((r = resolved.poll()) != null) {
+            (r.pending().kind == PredictionKind.MC ? mc : cascade).add(r);
+        }
+
+        try {
+            int mcUpdated = recordApplied(mc, outcomeRepository.updateMcOutcomes(outcomes(mc)));
+            int cascadeUpdated = recordApplied(cascade, outcomeRepository.updateCascadeOutcomes(outcomes(cascade)));
+            log.debug("[CalIndex] 검증 결과 일괄 반영: mc={}/{}, cascade={}/{}",
+                    mcUpdated, mc.size(), cascadeUpdated, cascade.size());
+        } catch (Exception e) {
+            flushFailureCounter.increment();
+            log.warn("[CalIndex] 검증 결과 반영 실패 (폴링 검증에서 재처리): mc={}, cascade={}, error={}",
+                    mc.size(), cascade.size(), e.getMessage());
+        }
+    }
+
+    private int recordApplied(List<ResolvedPrediction> batch, boolean[] applied) {
+        int count = 0;
+        for (int i = 0; i < applied.length; i++) {
+            if (!applied[i]) continue;
+            Pending p = batch.get(i).pending();
+            aggregateStore.record(p.kind, p.symbol, p.horizonMinutes, p.predictedProbability,
+                    batch.get(i).outcome().hit());
+            count++;
+        }
+        return count;
+    }
+
+    private static List<PredictionOutcome> outcomes(List<ResolvedPrediction> batch) {
+        List<PredictionOutcome> list = new ArrayList<>(batch.size());
+        for (ResolvedPrediction r : batch) {
+            list.add(r.outcome());
+        }
+        return list;
+    }
+
+    public int pendingSize() {
+        return pendingCount.get();
+    }
+
+    private void emit(Pending p, boolean hit, MinMax range, Double priceAtDeadline, Long firstPassageEpochMs) {
+        (hit ? hitCounter : missCounter).increment();
+        resolved.add(new ResolvedPrediction(p, new PredictionOutcome(
+                p.id,
+                p.predictionEpochMs,
+                hit,
+                priceAtDeadline,
+                range != null ? range.min() : null,
+                range != null ? range.max() : null,
+                System.currentTimeMillis(),
+                firstPassageEpochMs)));
+    }
+
+    private boolean crosses(Pending p, MinMax range) {
+        return p.isLong
+                ? range.min() <= p.liquidationPrice
+                : range.max() >= p.liquidationPrice;
+    }
+
+    private Double latestPrice(String symbol) {
+        BigDecimal price = riskStateManager.getLatestMarkPrice(symbol);
+        return price != null ? price.doubleValue() : null;
+    }
+
+    private record ResolvedPrediction(Pending pending, PredictionOutcome outcome) {}
+
+    static final class Pending {
+        final PredictionKind kind;
+        final long id;
+        final long predictionEpochMs;
+        final String symbol;
+        final boolean isLong;
+        final double liquidationPrice;
+        final long deadlineEpochMs;
+        final double predictedProbability;
+        final int horizonMinutes;
+        boolean resolved;
+
+        Pending(PredictionKind kind, long id, long predictionEpochMs, String symbol, boolean isLong,
+                double liquidationPrice, long deadlineEpochMs, double predictedProbability, int horizonMinutes) {
+            this.kind = kind;
+            this.id = id;
+            this.predictionEpochMs = predictionEpochMs;
+            this.symbol = symbol;
+            this.isLong = isLong;
+            this.liquidationPrice = liquidationPrice;
+            this.deadlineEpochMs = deadlineEpochMs;
+            this.predictedProbability = predictedProbability;
+            this.horizonMinutes = horizonMinutes;
+        }
+    }
+
+    static final class SymbolBook {
+        PriorityQueue<Pending> longs = new PriorityQueue<>(
+                Comparator.comparingDouble((Pending p) -> p.liquidationPrice).reversed());
+        PriorityQueue<Pending> shorts = new PriorityQueue<>(
+                Comparator.comparingDouble((Pending p) -> p.liquidationPrice));
+        int stale;
+
+        void compact() {
+            longs.removeIf(p -> p.resolved);
+            shorts.removeIf(p -> p.resolved);
+            stale = 0;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+public enum PredictionKind {
+    MC,
+    CASCADE
+}
@@ -0,0 +1,123 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.repository.DatabaseDialect;
+import com.liquidation.riskengine.domain.repository.PredictionPartitionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PredictionPartitionManager {
+
+    private static final Pattern MONTH_SUFFIX = Pattern.compile("_(\\d{4})_(\\d{2})$");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final PartitionProperties properties;
+    private final PredictionPartitionRepository repository;
+    private final DatabaseDialect dialect;
+
+    @PostConstruct
+    void validateArchiveSchema() {
+        if (!properties.isEnabled() || !properties.isArchive()) return;
+        String schema = properties.getArchiveSchema();
+        if (schema == null || !IDENTIFIER.matcher(schema).matches()) {
+            throw new IllegalStateException("Invalid calibration.partition.archive-schema: " + schema);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${calibration.partition.cron:0 30 3 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) return;
+        try {
+            if (!dialect.isPostgres()) return;
+            YearMonth current = YearMonth.now(Clock.systemUTC());
+            for (String table : PredictionPartitionRepository.PARTITIONED_TABLES) {
+                if (!repository.isPartitioned(table)) {
+                    log.warn("[Partition] 파티션 테이블 아님, 건너뜀: table={}", table);
+                    continue;
+                }
+                maintainTable(table, current);
+            }
+        } catch (Exception e) {
+            log.error("[Partition] 파티션 관리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    void maintainTable(String table, YearMonth current) {
+        List<String> existing = repository.listPartitions(table);
+        Set<YearMonth> months = new HashSet<>();
+        for (String name : existing) {
+            YearMonth month = monthOf(table, name);
+            if (month != null) months.add(month);
+        }
+
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            if (months.contains(month)) continue;
+            String name = partitionName(table, month);
+            boolean moved = repository.createPartition(table, name, startMs(month), startMs(month.plusMonths(1)));
+            log.info("[Partition] 파티션 생성: {}{}", name, moved ? " (default 파티션 행 이동)" : "");
+        }
+
+        YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+        String archiveSchema = properties.isArchive() ? properties.getArchiveSchema() : null;
+        for (String name : repository.listDetachedTables(table)) {
+            if (!isExpired(table, name, oldestKept)) continue;
+            repository.retireDetachedTable(name, archiveSchema);
+            logRetired(name, archiveSchema, " (이전 실행에서 분리된 테이블)");
+        }
+        for (String name : existing) {
+            if (!isExpired(table, name, oldestKept)) continue;
+            repository.retirePartition(table, name, archiveSchema);
+            logRetired(name, archiveSchema, "");
+        }
+    }
+
+    private static boolean isExpired(String table, String name, YearMonth oldestKept) {
+        YearMonth month = monthOf(table, name);
+        return month != null && month.isBefore(oldestKept);
+    }
+
+    private static void logRetired(String name, String archiveSchema, String note) {
+        if (archiveSchema != null) {
+            log.info("[Partition] 보관 기간 만료 파티션 아카이브: {} -> {}{}", name, archiveSchema, note);
+        } else {
+            log.info("[Partition] 보관 기간 만료 파티션 삭제: {}{}", name, note);
+        }
+    }
+
+    static YearMonth monthOf(String table, String partition) {
+        if (!partition.startsWith(table + "_")) return null;
+        Matcher m = MONTH_SUFFIX.matcher(partition);
+        if (!m.find() || m.start() != table.length()) return null;
+        return YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)));
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return "%s_%04d_%02d".formatted(table, month.getYear(), month.getMonthValue());
+    }
+
+    static long startMs(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
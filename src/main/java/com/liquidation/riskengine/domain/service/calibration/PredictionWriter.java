@@ -0,0 +1,177 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.model.CascadePredictionRecord;
+import com.liquidation.riskengine.domain.model.McPredictionRecord;
+import com.liquidation.riskengine.domain.repository.CascadePredictionRepository;
+import com.liquidation.riskengine.domain.repository.McPredictionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PredictionWriter {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final PredictionWriterProperties properties;
+    private final McPredictionRepository mcRepository;
+    private final CascadePredictionRepository cascadeRepository;
+    private final PendingPredictionIndex pendingIndex;
+    private final MeterRegistry meterRegistry;
+
+    private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    private Counter enqueuedCounter;
+    private Counter overflowCounter;
+    private Counter droppedCounter;
+    private Counter writtenCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void start() {
+        enqueuedCounter = Counter.builder("calibration.writer.enqueued")
+                .description("Prediction records accepted by the async writer")
+                .register(meterRegistry);
+        overflowCounter = Counter.builder("calibration.writer.overflow")
+                .description("Prediction records rejected because the writer queue was full")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("calibration.writer.dropped")
+                .description("Prediction records lost to a failed flush")
+                .register(meterRegistry);
+        writtenCounter = Counter.builder("calibration.writer.written")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("calibration.writer.flush")
+                .description("Latency of one batched prediction flush")
+                .register(meterRegistry);
+        Gauge.builder("calibration.writer.queue_depth", queued, AtomicInteger::get)
+                .register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::runLoop, "prediction-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("[PredWriter] 시작: capacity={}, batchSize={}, flushInterval={}ms",
+                properties.getQueueCapacity(), properties.getBatchSize(), properties.getFlushIntervalMs());
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (writerThread == null) return;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("[PredWriter] 종료: 미기록 잔여={}", queued.get());
+    }
+
+    public boolean submitMc(List<McPredictionRecord> records) {
+        if (records.isEmpty()) return true;
+        if (!reserve(records.size())) return false;
+        queue.add(records);
+        return true;
+    }
+
+    public boolean submitCascade(CascadePredictionRecord record) {
+        if (!reserve(1)) return false;
+        queue.add(record);
+        return true;
+    }
+
+    public int queueDepth() {
+        return queued.get();
+    }
+
+    private boolean reserve(int count) {
+        int capacity = properties.getQueueCapacity();
+        while (true) {
+            int current = queued.get();
+            if (current + count > capacity) {
+                overflowCounter.increment(count);
+                return false;
+            }
+            if (queued.compareAndSet(current, current + count)) {
+                enqueuedCounter.increment(count);
+                return true;
+            }
+        }
+    }
+
+    private void runLoop() {
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        long lastFlush = System.nanoTime();
+
+        while (running || !queue.isEmpty()) {
+            boolean due = System.nanoTime() - lastFlush >= flushIntervalNanos;
+            if (queued.get() >= properties.getBatchSize() || (due && !queue.isEmpty()) || !running) {
+                drainAndFlush();
+                lastFlush = System.nanoTime();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainAndFlush() {
+        int limit = properties.getBatchSize();
+        List<McPredictionRecord> mc = new ArrayList<>();
+        List<CascadePredictionRecord> cascade = new ArrayList<>();
+
+        Object item;
+        while (mc.size() + cascade.size() < limit && (item = queue.poll()) != null) {
+            if (item instanceof CascadePredictionRecord record) {
+                cascade.add(record);
+            } else {
+                mc.addAll((List<McPredictionRecord>) item);
+            }
+        }
+        int drained = mc.size() + cascade.size();
+        if (drained == 0) return;
+        queued.addAndGet(-drained);
+
+        long start = System.nanoTime();
+        if (!mc.isEmpty()) {
+            try {
+                mcRepository.saveAll(mc).forEach(pendingIndex::registerMc);
+                writtenCounter.increment(mc.size());
+            } catch (Exception e) {
+                droppedCounter.increment(mc.size());
+                log.warn("[PredWriter] MC 예측 기록 실패: {}건 유실, error={}", mc.size(), e.getMessage());
+            }
+        }
+        if (!cascade.isEmpty()) {
+            try {
+                cascadeRepository.saveAll(cascade).forEach(pendingIndex::registerCascade);
+                writtenCounter.increment(cascade.size());
+            } catch (Exception e) {
+                droppedCounter.increment(cascade.size());
+                log.warn("[PredWriter] Cascade 예측 기록 실패: {}건 유실, error={}", cascade.size(), e.getMessage());
+            }
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.debug("[PredWriter] flush: mc={}, cascade={}, 잔여={}", mc.size(), cascade.size(), queued.get());
+    }
+}
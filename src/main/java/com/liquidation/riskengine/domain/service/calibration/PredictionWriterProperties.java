@@ -0,0 +1,17 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "calibration.writer")
+public class PredictionWriterProperties {
+
+    private int queueCapacity = 65_536;
+    private int batchSize = 500;
+    private long flushIntervalMs = 250;
+}
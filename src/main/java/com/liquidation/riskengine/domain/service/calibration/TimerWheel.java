@@ -0,0 +1,59 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+final class TimerWheel<T> {
+
+    private record Timed<T>(T item, long deadlineMs) {}
+
+    private final long tickMs;
+    private final List<Timed<T>>[] slots;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(long tickMs, int slotCount, long nowMs) {
+        int capacity = Integer.highestOneBit(Math.max(slotCount - 1, 1)) << 1;
+        this.tickMs = tickMs;
+        this.slots = new List[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        this.mask = capacity - 1;
+        this.currentTick = nowMs / tickMs;
+    }
+
+    synchronized void schedule(T item, long deadlineMs) {
+        long tick = Math.max(deadlineMs / tickMs, currentTick);
+        slots[(int) (tick & mask)].add(new Timed<>(item, deadlineMs));
+        size++;
+    }
+
+    synchronized List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        long target = nowMs / tickMs;
+        long steps = Math.min(target - currentTick, slots.length - 1);
+        long from = target - Math.max(steps, 0);
+
+        for (long tick = from; tick <= target; tick++) {
+            Iterator<Timed<T>> it = slots[(int) (tick & mask)].iterator();
+            while (it.hasNext()) {
+                Timed<T> timed = it.next();
+                if (timed.deadlineMs() <= nowMs) {
+                    expired.add(timed.item());
+                    it.remove();
+                    size--;
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, target);
+        return expired;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
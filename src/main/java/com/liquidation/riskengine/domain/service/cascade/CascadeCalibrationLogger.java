@@ -2,7 +2,7 @@ package com.liquidation.riskengine.domain.service.cascade;
 
 import com.liquidation.riskengine.domain.model.CascadePredictionRecord;
 import com.liquidation.riskengine.domain.model.CascadeRiskReport;
-import com.liquidation.riskengine.domain.repository.CascadePredictionRepository;
+import com.liquidation.riskengine.domain.service.calibration.PredictionWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +16,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class CascadeCalibrationLogger {
 
-    private final CascadePredictionRepository repository;
+    private final PredictionWriter predictionWriter;
 
     @Value("${cascade.calibration.horizon-minutes:60}")
     private int verificationHorizonMinutes;
@@ -51,7 +51,10 @@ public class CascadeCalibrationLogger {
                 .verified(false)
                 .build();
 
-        repository.save(record);
+        if (!predictionWriter.submitCascade(record)) {
+            log.debug("[Cascade-Cal] 기록 큐 포화로 예측 누락: symbol={}", symbol);
+            return;
+        }
         lastLogTimeBySymbol.put(symbol, now);
         log.debug("[Cascade-Cal] 예측 기록: symbol={}, reachProb={:.1f}%, horizon={}min",
                 symbol, report.getCascadeReachProbability(), verificationHorizonMinutes);
@@ -1,7 +1,8 @@
 package com.liquidation.riskengine.domain.service.cascade;
 
 import com.liquidation.riskengine.domain.repository.CalibrationBucketRow;
-import com.liquidation.riskengine.domain.repository.CascadePredictionRepository;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationAggregateStore;
+import com.liquidation.riskengine.domain.service.calibration.PredictionKind;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -15,10 +16,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CascadeCalibrationMetrics {
 
-    private final CascadePredictionRepository repository;
+    private final CalibrationAggregateStore aggregateStore;
 
     public CalibrationReport calculate(String symbol) {
-        List<CalibrationBucketRow> buckets = repository.findBucketedForCalibration(symbol);
+        int resolution = aggregateStore.reportBuckets();
+        List<CalibrationBucketRow> buckets = aggregateStore.buckets(PredictionKind.CASCADE, symbol, null, resolution);
 
         if (buckets.isEmpty()) {
             return CalibrationReport.builder()
@@ -31,10 +33,10 @@ public class CascadeCalibrationMetrics {
 
         List<CalibrationBucket> curve = buckets.stream()
                 .map(b -> {
-                    double start = Math.floor(b.getMeanPredicted() * 10) / 10.0;
+                    double start = Math.floor(b.getMeanPredicted() * resolution) / resolution;
                     return CalibrationBucket.builder()
                             .bucketRangeStart(start)
-                            .bucketRangeEnd(start + 0.1)
+                            .bucketRangeEnd(start + 1.0 / resolution)
                             .meanPredictedProb(b.getMeanPredicted())
                             .actualHitRate(b.getActualHitRate())
                             .sampleCount((int) b.getSampleCount())
@@ -4,14 +4,15 @@ import com.liquidation.riskengine.domain.model.CascadeRiskReport;
 import com.liquidation.riskengine.domain.model.CascadeRiskReport.DensityLevel;
 import com.liquidation.riskengine.domain.model.CascadeRiskReport.LiqCluster;
 import com.liquidation.riskengine.domain.model.CascadeRiskReport.RiskLevel;
-import com.liquidation.riskengine.domain.model.LiquidationEvent;
 import com.liquidation.riskengine.domain.model.MonteCarloReport;
 import com.liquidation.riskengine.domain.model.OpenInterestSnapshot;
 import com.liquidation.riskengine.domain.model.OrderBookSnapshot;
 import com.liquidation.riskengine.domain.model.OrderBookSnapshot.PriceLevel;
 import com.liquidation.riskengine.domain.service.liquidation.LiquidationPriceCalculator.EstimatedLiquidation;
 import com.liquidation.riskengine.domain.service.liquidation.LiquidationClusterMap;
+import com.liquidation.riskengine.domain.service.liquidation.LiquidationClusterMap.ClusterRange;
 import com.liquidation.riskengine.domain.service.liquidation.LiquidationPriceCalculator;
+import com.liquidation.riskengine.domain.service.state.LiquidationWindow.LiquidationStats;
 import com.liquidation.riskengine.domain.service.state.RiskStateManager;
 import com.liquidation.riskengine.domain.service.calibration.CalibrationCorrector;
 import com.liquidation.riskengine.domain.service.montecarlo.MonteCarloSimulationService;
@@ -26,8 +27,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -66,7 +65,7 @@ public class CascadeRiskCalculator {
         OrderBookSnapshot orderBook = state.getLatestOrderBook(symbol);
         OpenInterestSnapshot latestOi = state.getLatestOpenInterest(symbol);
         BigDecimal totalOi = latestOi != null ? latestOi.getOpenInterest() : null;
-        List<LiquidationEvent> recentLiqs = state.getRecentLiquidations(symbol, RECENT_LIQ_WINDOW);
+        LiquidationStats recentLiqs = state.getRecentLiquidationStats(symbol, RECENT_LIQ_WINDOW);
 
         CompletableFuture<Void> densityFuture = CompletableFuture.runAsync(() -> {
             if (orderBook != null) {
@@ -187,39 +186,20 @@ public class CascadeRiskCalculator {
 
         List<LiqCluster> clustersInPath = new ArrayList<>();
         BigDecimal estimatedLiqVolume = BigDecimal.ZERO;
+        int overlappingCount;
         boolean usedFallback = false;
 
         if (liquidationClusterMap.hasData(symbol)) {
-            Map<BigDecimal, BigDecimal> clusterMap = isLong
-                    ? liquidationClusterMap.getLongClusters(symbol)
-                    : liquidationClusterMap.getShortClusters(symbol);
-
-            for (Entry<BigDecimal, BigDecimal> entry : clusterMap.entrySet()) {
-                BigDecimal liqPrice = entry.getKey();
-                BigDecimal volume = entry.getValue();
-
-                if (volume.compareTo(BigDecimal.ZERO) <= 0) continue;
-                if (liqPrice.compareTo(low) < 0 || liqPrice.compareTo(high) > 0) continue;
-
-                double distFromCurrent = currentPrice.subtract(liqPrice).abs()
-                        .divide(currentPrice, MC)
-                        .multiply(BigDecimal.valueOf(100), MC)
-                        .setScale(2, RoundingMode.HALF_UP)
-                        .doubleValue();
-
-                BigDecimal notional = volume.multiply(liqPrice, MC).setScale(2, RoundingMode.HALF_UP);
-
-                clustersInPath.add(LiqCluster.builder()
-                        .leverage(0)
-                        .price(liqPrice)
-                        .weight(0.0)
-                        .estimatedVolume(volume.setScale(8, RoundingMode.HALF_UP))
-                        .estimatedNotional(notional)
-                        .distanceFromCurrentPercent(distFromCurrent)
-                        .build());
-
-                estimatedLiqVolume = estimatedLiqVolume.add(volume, MC);
-            }
+            double lowPrice = low.doubleValue();
+            double highPrice = high.doubleValue();
+            ClusterRange range = liquidationClusterMap.summarize(symbol, isLong, lowPrice, highPrice);
+
+            liquidationClusterMap.topClusters(symbol, isLong, lowPrice, highPrice,
+                    cascadeProps.getMaxReportedClusters(),
+                    (price, volume) -> clustersInPath.add(toMapCluster(currentPrice, price, volume)));
+
+            overlappingCount = range.buckets();
+            estimatedLiqVolume = BigDecimal.valueOf(range.volume());
         } else {
             usedFallback = true;
             List<EstimatedLiquidation> distribution =
@@ -249,24 +229,45 @@ public class CascadeRiskCalculator {
                             est.estimatedVolume() != null ? est.estimatedVolume() : BigDecimal.ZERO, MC);
                 }
             }
+            overlappingCount = clustersInPath.size();
         }
 
         report.setClustersInPath(clustersInPath);
-        report.setOverlappingTierCount(clustersInPath.size());
+        report.setOverlappingTierCount(overlappingCount);
         report.setEstimatedLiqVolume(estimatedLiqVolume.setScale(4, RoundingMode.HALF_UP));
 
         log.info("{} | [{}] 구간 내 청산 클러스터 {}개 | 추정 물량={} BTC",
                 symbol, usedFallback ? "fallback" : "liqMap",
-                clustersInPath.size(),
+                overlappingCount,
                 estimatedLiqVolume.setScale(4, RoundingMode.HALF_UP).toPlainString());
 
         return report;
     }
 
+    private LiqCluster toMapCluster(BigDecimal currentPrice, double price, double volume) {
+        BigDecimal liqPrice = BigDecimal.valueOf(price).setScale(1, RoundingMode.HALF_UP);
+        BigDecimal vol = BigDecimal.valueOf(volume);
+
+        double distFromCurrent = currentPrice.subtract(liqPrice).abs()
+                .divide(currentPrice, MC)
+                .multiply(BigDecimal.valueOf(100), MC)
+                .setScale(2, RoundingMode.HALF_UP)
+                .doubleValue();
+
+        return LiqCluster.builder()
+                .leverage(0)
+                .price(liqPrice)
+                .weight(0.0)
+                .estimatedVolume(vol.setScale(8, RoundingMode.HALF_UP))
+                .estimatedNotional(vol.multiply(liqPrice, MC).setScale(2, RoundingMode.HALF_UP))
+                .distanceFromCurrentPercent(distFromCurrent)
+                .build();
+    }
+
     public CascadeRiskReport analyzeMarketPressure(
             CascadeRiskReport report,
             OpenInterestSnapshot latestOi,
-            List<LiquidationEvent> recentLiqs,
+            LiquidationStats recentLiqs,
             OrderBookSnapshot orderBook,
             String positionSide) {
 
@@ -309,14 +310,10 @@ public class CascadeRiskCalculator {
         return baseScore;
     }
 
-    private int calcLiqIntensityScore(List<LiquidationEvent> recentLiqs) {
-        if (recentLiqs == null || recentLiqs.isEmpty()) return 0;
+    private int calcLiqIntensityScore(LiquidationStats recentLiqs) {
+        if (recentLiqs == null || recentLiqs.count() == 0) return 0;
 
-        int count = recentLiqs.size();
-        BigDecimal totalNotional = recentLiqs.stream()
-                .map(LiquidationEvent::getNotionalValue)
-                .filter(n -> n != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long count = recentLiqs.count();
 
         int countScore;
         if (count >= 50) countScore = 10;
@@ -325,7 +322,7 @@ public class CascadeRiskCalculator {
         else if (count >= 5) countScore = 3;
         else countScore = 1;
 
-        double notionalM = totalNotional.doubleValue() / 1_000_000.0;
+        double notionalM = recentLiqs.notional() / 1_000_000.0;
         int notionalScore;
         if (notionalM >= 50) notionalScore = 10;
         else if (notionalM >= 20) notionalScore = 8;
@@ -17,6 +17,7 @@ public class CascadeRiskProperties {
     private Synthesis synthesis = new Synthesis();
     private Floor floor = new Floor();
     private double proximityThresholdPct = 10.0;
+    private int maxReportedClusters = 20;
 
     @Getter
     @Setter
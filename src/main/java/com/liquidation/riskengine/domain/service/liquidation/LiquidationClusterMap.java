@@ -1,18 +1,19 @@
 package com.liquidation.riskengine.domain.service.liquidation;
 
+import com.liquidation.riskengine.domain.model.HeatmapFrame;
+import com.liquidation.riskengine.domain.model.HeatmapFrame.FrameType;
 import com.liquidation.riskengine.domain.model.LiquidationEvent;
 import com.liquidation.riskengine.domain.model.MaintenanceMarginTier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
-import java.math.RoundingMode;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
 
 @Slf4j
 @Component
@@ -32,124 +33,602 @@ public class LiquidationClusterMap {
             Map.entry(2,   0.01)
     );
 
-    private static final double BUCKET_WIDTH_PCT = 0.2;
-    private static final double DECAY_FACTOR = 0.995;
-    private static final long DECAY_INTERVAL_MS = 60_000;
-    private static final BigDecimal MIN_CLUSTER_VOLUME = new BigDecimal("0.00001");
-    private static final MathContext MC = new MathContext(12, RoundingMode.HALF_UP);
+    static final double BUCKET_WIDTH_PCT = 0.2;
+    static final int BUCKET_COUNT = 1_024;
+    static final double RECENTER_DRIFT_PCT = 10.0;
+    static final double DECAY_FACTOR = 0.995;
+    static final long DECAY_INTERVAL_MS = 60_000;
+    static final long RENORMALIZE_INTERVAL_MS = 600_000;
+    static final double MIN_CLUSTER_VOLUME = 0.00001;
 
-    private final Map<String, ConcurrentHashMap<BigDecimal, BigDecimal>> longClusters = new ConcurrentHashMap<>();
-    private final Map<String, ConcurrentHashMap<BigDecimal, BigDecimal>> shortClusters = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> lastDecayTime = new ConcurrentHashMap<>();
+    private static final double DECAY_RATE_PER_MS = Math.log(DECAY_FACTOR) / DECAY_INTERVAL_MS;
+
+    @FunctionalInterface
+    public interface ClusterVisitor {
+        void accept(double price, double volume);
+    }
+
+    private final Map<String, BucketGrid> grids = new ConcurrentHashMap<>();
 
     public void recordOiIncrease(String symbol, BigDecimal markPrice, BigDecimal oiDelta) {
         if (symbol == null || markPrice == null || oiDelta == null) return;
         if (oiDelta.compareTo(BigDecimal.ZERO) <= 0) return;
 
-        String key = symbol.toUpperCase();
-        List<MaintenanceMarginTier> tiers = MaintenanceMarginTier.getTiersForSymbol(key);
-
-        ConcurrentHashMap<BigDecimal, BigDecimal> longs =
-                longClusters.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
-        ConcurrentHashMap<BigDecimal, BigDecimal> shorts =
-                shortClusters.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
-
-        for (MaintenanceMarginTier tier : tiers) {
-            int leverage = tier.maxLeverage();
-            if (leverage <= 1) continue;
+        recordOiIncrease(symbol, markPrice.doubleValue(), oiDelta.doubleValue(), System.currentTimeMillis());
 
-            Double weight = PRIOR_WEIGHTS.get(leverage);
-            if (weight == null || weight <= 0) continue;
-
-            BigDecimal imr = BigDecimal.ONE.divide(BigDecimal.valueOf(leverage), MC);
-            BigDecimal mmr = tier.maintenanceMarginRate();
-            BigDecimal volume = oiDelta.multiply(BigDecimal.valueOf(weight), MC);
-
-            BigDecimal longLiqPrice = roundToBucket(
-                    markPrice.multiply(BigDecimal.ONE.subtract(imr, MC).add(mmr, MC), MC));
-            BigDecimal shortLiqPrice = roundToBucket(
-                    markPrice.multiply(BigDecimal.ONE.add(imr, MC).subtract(mmr, MC), MC));
-
-            longs.merge(longLiqPrice, volume, BigDecimal::add);
-            shorts.merge(shortLiqPrice, volume, BigDecimal::add);
-        }
+        log.debug("[LiqCluster] {} | OI+ markPrice={} oiDelta={}", symbol,
+                markPrice.toPlainString(), oiDelta.toPlainString());
+    }
 
-        applyDecayIfNeeded(key);
+    void recordOiIncrease(String symbol, double markPrice, double oiDelta, long nowMs) {
+        if (markPrice <= 0 || oiDelta <= 0) return;
 
-        log.debug("[LiqCluster] {} | OI+ markPrice={} oiDelta={}", key,
-                markPrice.toPlainString(), oiDelta.toPlainString());
+        String key = symbol.toUpperCase();
+        BucketGrid grid = grids.computeIfAbsent(key, k -> new BucketGrid(markPrice, nowMs,
+                MaintenanceMarginTier.getTiersForSymbol(k)));
+        grid.addOi(markPrice, oiDelta, nowMs);
     }
 
     public void recordLiquidation(LiquidationEvent event) {
-        if (event == null) return;
+        if (event == null || event.getSymbol() == null) return;
 
-        String key = event.getSymbol().toUpperCase();
         BigDecimal liqPrice = event.getAveragePrice() != null
                 ? event.getAveragePrice() : event.getPrice();
         BigDecimal notional = event.getNotionalValue();
         if (liqPrice == null || notional == null
                 || liqPrice.compareTo(BigDecimal.ZERO) <= 0) return;
 
-        BigDecimal bucket = roundToBucket(liqPrice);
-        BigDecimal volume = notional.divide(liqPrice, MC);
+        recordLiquidation(event.getSymbol(), event.isSell(), liqPrice.doubleValue(), notional.doubleValue(),
+                System.currentTimeMillis());
+
+        log.debug("[LiqCluster] {} | 청산({}) price={} notional={}", event.getSymbol(),
+                event.getSide(), liqPrice.toPlainString(), notional.toPlainString());
+    }
+
+    void recordLiquidation(String symbol, boolean longLiquidated, double liqPrice, double notional, long nowMs) {
+        BucketGrid grid = grids.get(symbol.toUpperCase());
+        if (grid == null) return;
+        grid.subtract(longLiquidated, liqPrice, notional / liqPrice, nowMs);
+    }
 
-        Map<BigDecimal, BigDecimal> targetMap = event.isSell()
-                ? longClusters.get(key)
-                : shortClusters.get(key);
+    public void visitLongClusters(String symbol, double low, double high, ClusterVisitor visitor) {
+        visit(symbol, true, low, high, System.currentTimeMillis(), visitor);
+    }
 
-        if (targetMap == null) return;
+    public void visitShortClusters(String symbol, double low, double high, ClusterVisitor visitor) {
+        visit(symbol, false, low, high, System.currentTimeMillis(), visitor);
+    }
 
-        targetMap.merge(bucket, volume, (existing, delta) ->
-                existing.subtract(delta).max(BigDecimal.ZERO));
+    void visit(String symbol, boolean longSide, double low, double high, long nowMs, ClusterVisitor visitor) {
+        if (symbol == null) return;
+        BucketGrid grid = grids.get(symbol.toUpperCase());
+        if (grid == null) return;
+        grid.visit(longSide, low, high, nowMs, visitor);
+    }
 
-        log.debug("[LiqCluster] {} | 청산({}) bucket={} vol={}", key,
-                event.getSide(), bucket.toPlainString(), volume.toPlainString());
+    public ClusterRange summarize(String symbol, boolean longSide, double low, double high) {
+        return summarize(symbol, longSide, low, high, System.currentTimeMillis());
     }
 
-    public Map<BigDecimal, BigDecimal> getLongClusters(String symbol) {
-        if (symbol == null) return Map.of();
-        Map<BigDecimal, BigDecimal> map = longClusters.get(symbol.toUpperCase());
-        return map != null ? Collections.unmodifiableMap(map) : Map.of();
+    ClusterRange summarize(String symbol, boolean longSide, double low, double high, long nowMs) {
+        if (symbol == null) return ClusterRange.EMPTY;
+        BucketGrid grid = grids.get(symbol.toUpperCase());
+        if (grid == null) return ClusterRange.EMPTY;
+        return grid.summarize(longSide, low, high, nowMs);
     }
 
-    public Map<BigDecimal, BigDecimal> getShortClusters(String symbol) {
-        if (symbol == null) return Map.of();
-        Map<BigDecimal, BigDecimal> map = shortClusters.get(symbol.toUpperCase());
-        return map != null ? Collections.unmodifiableMap(map) : Map.of();
+    public void topClusters(String symbol, boolean longSide, double low, double high, int limit,
+                            ClusterVisitor visitor) {
+        topClusters(symbol, longSide, low, high, limit, System.currentTimeMillis(), visitor);
+    }
+
+    void topClusters(String symbol, boolean longSide, double low, double high, int limit, long nowMs,
+                     ClusterVisitor visitor) {
+        if (symbol == null || limit <= 0) return;
+        BucketGrid grid = grids.get(symbol.toUpperCase());
+        if (grid == null) return;
+        grid.top(longSide, low, high, limit, nowMs, visitor);
     }
 
     public boolean hasData(String symbol) {
         if (symbol == null) return false;
-        Map<BigDecimal, BigDecimal> map = longClusters.get(symbol.toUpperCase());
-        return map != null && !map.isEmpty();
+        BucketGrid grid = grids.get(symbol.toUpperCase());
+        return grid != null && grid.hasData();
+    }
+
+    public Set<String> symbols() {
+        return grids.keySet();
+    }
+
+    public HeatmapFrame heatmapSnapshot(String symbol) {
+        if (symbol == null) return null;
+        String key = symbol.toUpperCase();
+        BucketGrid grid = grids.get(key);
+        if (grid == null) return null;
+        return grid.snapshot(key, System.currentTimeMillis());
+    }
+
+    public HeatmapFrame drainHeatmapChanges(String symbol) {
+        return drainHeatmapChanges(symbol, System.currentTimeMillis());
+    }
+
+    HeatmapFrame drainHeatmapChanges(String symbol, long nowMs) {
+        if (symbol == null) return null;
+        String key = symbol.toUpperCase();
+        BucketGrid grid = grids.get(key);
+        if (grid == null) return null;
+        return grid.drain(key, nowMs);
     }
 
-    private BigDecimal roundToBucket(BigDecimal price) {
-        double p = price.doubleValue();
-        double bucketSize = Math.max(1.0, p * BUCKET_WIDTH_PCT / 100.0);
-        double rounded = Math.round(p / bucketSize) * bucketSize;
-        return BigDecimal.valueOf(rounded).setScale(1, RoundingMode.HALF_UP);
+    public record ClusterRange(double volume, double notional, int buckets) {
+
+        public static final ClusterRange EMPTY = new ClusterRange(0.0, 0.0, 0);
     }
 
-    private void applyDecayIfNeeded(String symbol) {
-        AtomicLong lastTime = lastDecayTime.computeIfAbsent(
-                symbol, k -> new AtomicLong(System.currentTimeMillis()));
-        long now = System.currentTimeMillis();
-        long elapsed = now - lastTime.get();
-        if (elapsed < DECAY_INTERVAL_MS) return;
+    static final class BucketGrid {
+
+        private static final int HALF = BUCKET_COUNT / 2;
+
+        private final StampedLock lock = new StampedLock();
+
+        private final double[] longFactors;
+        private final double[] shortFactors;
+        private final double[] weights;
+
+        private final SideIndex longs = new SideIndex();
+        private final SideIndex shorts = new SideIndex();
+        private final double[] spare = new double[BUCKET_COUNT];
+        private final long[] dirty = new long[BUCKET_COUNT >> 6];
+
+        private double center;
+        private double width;
+        private long epochMs;
+
+        private long generation;
+        private long drainedGeneration = -1;
+        private long version;
+        private long revision;
+
+        BucketGrid(double markPrice, long nowMs, List<MaintenanceMarginTier> tiers) {
+            int n = 0;
+            double[] lf = new double[tiers.size()];
+            double[] sf = new double[tiers.size()];
+            double[] w = new double[tiers.size()];
+            for (MaintenanceMarginTier tier : tiers) {
+                int leverage = tier.maxLeverage();
+                if (leverage <= 1) continue;
+
+                Double weight = PRIOR_WEIGHTS.get(leverage);
+                if (weight == null || weight <= 0) continue;
+
+                double imr = 1.0 / leverage;
+                double mmr = tier.maintenanceMarginRate().doubleValue();
+                lf[n] = 1.0 - imr + mmr;
+                sf[n] = 1.0 + imr - mmr;
+                w[n] = weight;
+                n++;
+            }
+            this.longFactors = Arrays.copyOf(lf, n);
+            this.shortFactors = Arrays.copyOf(sf, n);
+            this.weights = Arrays.copyOf(w, n);
+            this.center = markPrice;
+            this.width = markPrice * BUCKET_WIDTH_PCT / 100.0;
+            this.epochMs = nowMs;
+        }
+
+        void addOi(double markPrice, double oiDelta, long nowMs) {
+            long stamp = lock.writeLock();
+            try {
+                renormalizeIfDue(nowMs);
+                if (Math.abs(markPrice - center) / center * 100.0 >= RECENTER_DRIFT_PCT) {
+                    recenter(markPrice);
+                }
+                double scaled = oiDelta * growthAt(nowMs);
+                for (int i = 0; i < weights.length; i++) {
+                    double volume = scaled * weights[i];
+                    longs.add(indexOf(markPrice * longFactors[i]), volume);
+                    shorts.add(indexOf(markPrice * shortFactors[i]), volume);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void subtract(boolean longSide, double price, double volume, long nowMs) {
+            long stamp = lock.writeLock();
+            try {
+                renormalizeIfDue(nowMs);
+                int idx = indexOf(price);
+                if (idx < 0) return;
+                (longSide ? longs : shorts).subtract(idx, volume * growthAt(nowMs));
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void visit(boolean longSide, double low, double high, long nowMs, ClusterVisitor visitor) {
+            long stamp = lock.readLock();
+            try {
+                double[] stored = (longSide ? longs : shorts).stored;
+                double decay = 1.0 / growthAt(nowMs);
+                int to = upperIndex(high);
+                for (int i = lowerIndex(low); i <= to; i++) {
+                    if (stored[i] <= 0) continue;
+                    double volume = stored[i] * decay;
+                    if (volume < MIN_CLUSTER_VOLUME) continue;
+                    visitor.accept(priceOf(i), volume);
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        ClusterRange summarize(boolean longSide, double low, double high, long nowMs) {
+            long stamp = lock.readLock();
+            try {
+                int from = lowerIndex(low);
+                int to = upperIndex(high);
+                if (from > to) return ClusterRange.EMPTY;
+
+                SideIndex side = longSide ? longs : shorts;
+                double decay = 1.0 / growthAt(nowMs);
+                return new ClusterRange(
+                        Math.max(0.0, side.volumeSum(from, to) * decay),
+                        Math.max(0.0, side.notionalSum(from, to) * decay),
+                        side.countSum(from, to));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void top(boolean longSide, double low, double high, int limit, long nowMs, ClusterVisitor visitor) {
+            long stamp = lock.readLock();
+            try {
+                int from = lowerIndex(low);
+                int to = upperIndex(high);
+                if (from > to) return;
+                (longSide ? longs : shorts).top(from, to, limit, 1.0 / growthAt(nowMs), visitor);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        HeatmapFrame snapshot(String symbol, long nowMs) {
+            long stamp = lock.readLock();
+            try {
+                return fullFrame(symbol, nowMs);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
 
-        int periods = (int) (elapsed / DECAY_INTERVAL_MS);
-        double multiplier = Math.pow(DECAY_FACTOR, periods);
+        HeatmapFrame drain(String symbol, long nowMs) {
+            long stamp = lock.writeLock();
+            try {
+                if (generation != drainedGeneration) {
+                    Arrays.fill(dirty, 0L);
+                    drainedGeneration = generation;
+                    version++;
+                    return fullFrame(symbol, nowMs);
+                }
+
+                int n = 0;
+                for (long word : dirty) {
+                    n += Long.bitCount(word);
+                }
+                if (n == 0) return null;
+
+                int[] indices = new int[n];
+                int k = 0;
+                for (int w = 0; w < dirty.length; w++) {
+                    long word = dirty[w];
+                    while (word != 0) {
+                        indices[k++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                    }
+                    dirty[w] = 0L;
+                }
+                version++;
+                return frame(symbol, FrameType.DELTA, indices, nowMs);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private HeatmapFrame fullFrame(String symbol, long nowMs) {
+            int n = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                if (longs.stored[i] > 0 || shorts.stored[i] > 0) n++;
+            }
+            int[] indices = new int[n];
+            int k = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                if (longs.stored[i] > 0 || shorts.stored[i] > 0) indices[k++] = i;
+            }
+            return frame(symbol, FrameType.SNAPSHOT, indices, nowMs);
+        }
+
+        private HeatmapFrame frame(String symbol, FrameType type, int[] indices, long nowMs) {
+            double[] longValues = new double[indices.length];
+            double[] shortValues = new double[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                longValues[i] = longs.stored[indices[i]];
+                shortValues[i] = shorts.stored[indices[i]];
+            }
+            return HeatmapFrame.builder()
+                    .symbol(symbol)
+                    .type(type)
+                    .generation(generation)
+                    .version(version)
+                    .revision(revision)
+                    .centerPrice(center)
+                    .bucketWidth(width)
+                    .bucketCount(BUCKET_COUNT)
+                    .scale(1.0 / growthAt(nowMs))
+                    .indices(indices)
+                    .longs(longValues)
+                    .shorts(shortValues)
+                    .timestamp(nowMs)
+                    .build();
+        }
 
-        applyDecayToMap(longClusters.get(symbol), multiplier);
-        applyDecayToMap(shortClusters.get(symbol), multiplier);
+        boolean hasData() {
+            long stamp = lock.tryOptimisticRead();
+            boolean result = longs.occupied + shorts.occupied > 0;
+            if (lock.validate(stamp)) return result;
+
+            stamp = lock.readLock();
+            try {
+                return longs.occupied + shorts.occupied > 0;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private double growthAt(long nowMs) {
+            return Math.exp(-DECAY_RATE_PER_MS * (nowMs - epochMs));
+        }
+
+        private void renormalizeIfDue(long nowMs) {
+            if (nowMs - epochMs < RENORMALIZE_INTERVAL_MS) return;
+
+            double decay = 1.0 / growthAt(nowMs);
+            longs.rescale(decay);
+            shorts.rescale(decay);
+            epochMs = nowMs;
+            generation++;
+        }
+
+        private void recenter(double markPrice) {
+            double oldCenter = center;
+            double oldWidth = width;
+            center = markPrice;
+            width = markPrice * BUCKET_WIDTH_PCT / 100.0;
+
+            longs.remap(oldCenter, oldWidth);
+            shorts.remap(oldCenter, oldWidth);
+            generation++;
+
+            log.debug("[LiqCluster] 그리드 재중심: {} -> {}", oldCenter, markPrice);
+        }
 
-        lastTime.set(now);
+        private int indexOf(double price) {
+            long idx = Math.round((price - center) / width) + HALF;
+            return idx < 0 || idx >= BUCKET_COUNT ? -1 : (int) idx;
+        }
+
+        private double priceOf(int idx) {
+            return center + (idx - HALF) * width;
+        }
+
+        private int lowerIndex(double low) {
+            int i = (int) Math.max(0, Math.min(BUCKET_COUNT, Math.ceil((low - center) / width) + HALF));
+            while (i > 0 && priceOf(i - 1) >= low) i--;
+            while (i < BUCKET_COUNT && priceOf(i) < low) i++;
+            return i;
+        }
+
+        private int upperIndex(double high) {
+            int i = (int) Math.max(-1, Math.min(BUCKET_COUNT - 1, Math.floor((high - center) / width) + HALF));
+            while (i < BUCKET_COUNT - 1 && priceOf(i + 1) <= high) i++;
+            while (i >= 0 && priceOf(i) > high) i--;
+            return i;
+        }
+
+        private final class SideIndex {
+
+            private final double[] stored = new double[BUCKET_COUNT];
+            private final double[] volumeTree = new double[BUCKET_COUNT + 1];
+            private final double[] notionalTree = new double[BUCKET_COUNT + 1];
+            private final int[] countTree = new int[BUCKET_COUNT + 1];
+            private final double[] maxTree = new double[2 * BUCKET_COUNT];
+            private int occupied;
+
+            void add(int idx, double volume) {
+                if (idx < 0) return;
+                set(idx, stored[idx] + volume);
+            }
+
+            void subtract(int idx, double volume) {
+                if (stored[idx] <= 0) return;
+                double remaining = stored[idx] - volume;
+                set(idx, remaining <= 0 ? 0 : remaining);
+            }
+
+            double volumeSum(int from, int to) {
+                return prefix(volumeTree, to + 1) - prefix(volumeTree, from);
+            }
+
+            double notionalSum(int from, int to) {
+                return prefix(notionalTree, to + 1) - prefix(notionalTree, from);
+            }
+
+            int countSum(int from, int to) {
+                return prefixCount(to + 1) - prefixCount(from);
+            }
+
+            void top(int from, int to, int limit, double decay, ClusterVisitor visitor) {
+                NodeHeap heap = new NodeHeap(maxTree, 2 * Integer.numberOfTrailingZeros(BUCKET_COUNT) + 2 * limit);
+                for (int l = from + BUCKET_COUNT, r = to + BUCKET_COUNT + 1; l < r; l >>= 1, r >>= 1) {
+                    if ((l & 1) == 1) heap.push(l++);
+                    if ((r & 1) == 1) heap.push(--r);
+                }
+
+                int emitted = 0;
+                while (emitted < limit && !heap.isEmpty()) {
+                    int node = heap.pop();
+                    double volume = maxTree[node] * decay;
+                    if (volume < MIN_CLUSTER_VOLUME) return;
+                    if (node >= BUCKET_COUNT) {
+                        visitor.accept(priceOf(node - BUCKET_COUNT), volume);
+                        emitted++;
+                    } else {
+                        heap.push(node << 1);
+                        heap.push((node << 1) | 1);
+                    }
+                }
+            }
+
+            void rescale(double decay) {
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    if (stored[i] <= 0) {
+                        stored[i] = 0;
+                        continue;
+                    }
+                    double volume = stored[i] * decay;
+                    stored[i] = volume < MIN_CLUSTER_VOLUME ? 0 : volume;
+                }
+                rebuild();
+            }
+
+            void remap(double oldCenter, double oldWidth) {
+                Arrays.fill(spare, 0);
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    if (stored[i] <= 0) continue;
+                    int idx = indexOf(oldCenter + (i - HALF) * oldWidth);
+                    if (idx >= 0) spare[idx] += stored[i];
+                }
+                System.arraycopy(spare, 0, stored, 0, BUCKET_COUNT);
+                rebuild();
+            }
+
+            private void set(int idx, double value) {
+                double delta = value - stored[idx];
+                boolean wasOccupied = stored[idx] > 0;
+                boolean isOccupied = value > 0;
+                stored[idx] = value;
+                dirty[idx >> 6] |= 1L << idx;
+                revision++;
+
+                double price = priceOf(idx);
+                int countDelta = (isOccupied ? 1 : 0) - (wasOccupied ? 1 : 0);
+                occupied += countDelta;
+                for (int i = idx + 1; i <= BUCKET_COUNT; i += i & -i) {
+                    volumeTree[i] += delta;
+                    notionalTree[i] += delta * price;
+                    countTree[i] += countDelta;
+                }
+
+                int node = idx + BUCKET_COUNT;
+                maxTree[node] = value;
+                for (node >>= 1; node >= 1; node >>= 1) {
+                    maxTree[node] = Math.max(maxTree[node << 1], maxTree[(node << 1) | 1]);
+                }
+            }
+
+            private void rebuild() {
+                occupied = 0;
+                Arrays.fill(volumeTree, 0);
+                Arrays.fill(notionalTree, 0);
+                Arrays.fill(countTree, 0);
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    double value = stored[i];
+                    int slot = i + 1;
+                    volumeTree[slot] += value;
+                    notionalTree[slot] += value * priceOf(i);
+                    if (value > 0) {
+                        countTree[slot]++;
+                        occupied++;
+                    }
+                    int parent = slot + (slot & -slot);
+                    if (parent <= BUCKET_COUNT) {
+                        volumeTree[parent] += volumeTree[slot];
+                        notionalTree[parent] += notionalTree[slot];
+                        countTree[parent] += countTree[slot];
+                    }
+                    maxTree[i + BUCKET_COUNT] = value;
+                }
+                for (int node = BUCKET_COUNT - 1; node >= 1; node--) {
+                    maxTree[node] = Math.max(maxTree[node << 1], maxTree[(node << 1) | 1]);
+                }
+            }
+
+            private static double prefix(double[] tree, int end) {
+                double sum = 0.0;
+                for (int i = end; i > 0; i -= i & -i) {
+                    sum += tree[i];
+                }
+                return sum;
+            }
+
+            private int prefixCount(int end) {
+                int sum = 0;
+                for (int i = end; i > 0; i -= i & -i) {
+                    sum += countTree[i];
+                }
+                return sum;
+            }
+        }
     }
 
-    private void applyDecayToMap(Map<BigDecimal, BigDecimal> map, double multiplier) {
-        if (map == null) return;
-        map.replaceAll((price, vol) -> vol.multiply(BigDecimal.valueOf(multiplier)));
-        map.values().removeIf(vol -> vol.compareTo(MIN_CLUSTER_VOLUME) < 0);
+    private static final class NodeHeap {
+
+        private final double[] keys;
+        private int[] nodes;
+        private int size;
+
+        NodeHeap(double[] keys, int capacity) {
+            this.keys = keys;
+            this.nodes = new int[Math.max(capacity, 4)];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int node) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            nodes[i] = node;
+            while (i > 0) {
+                int parent = (i - 1) >> 1;
+                if (keys[nodes[parent]] >= keys[nodes[i]]) break;
+                swap(parent, i);
+                i = parent;
+            }
+        }
+
+        int pop() {
+            int top = nodes[0];
+            nodes[0] = nodes[--size];
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) break;
+                int child = left + 1 < size && keys[nodes[left + 1]] > keys[nodes[left]] ? left + 1 : left;
+                if (keys[nodes[i]] >= keys[nodes[child]]) break;
+                swap(i, child);
+                i = child;
+            }
+            return top;
+        }
+
+        private void swap(int a, int b) {
+            int tmp = nodes[a];
+            nodes[a] = nodes[b];
+            nodes[b] = tmp;
+        }
     }
 }
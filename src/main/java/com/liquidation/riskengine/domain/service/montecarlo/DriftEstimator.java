@@ -1,14 +1,13 @@
 package com.liquidation.riskengine.domain.service.montecarlo;
 
-import com.liquidation.riskengine.domain.model.PriceTick;
 import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.PriceWindow;
 import com.liquidation.riskengine.infra.binance.scheduler.FundingRateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.List;
 
 @Slf4j
 @Component
@@ -47,15 +46,12 @@ public class DriftEstimator {
 
     private double estimateMomentumDrift(String symbol) {
         Duration window = parseMomentumWindow(properties.getMomentumWindow());
-        List<PriceTick> ticks = priceHistoryBuffer.getRecentPrices(symbol, window);
+        PriceWindow ticks = priceHistoryBuffer.getWindow(symbol, window);
 
         if (ticks.size() < 2) return 0.0;
 
-        PriceTick first = ticks.getFirst();
-        PriceTick last = ticks.getLast();
-
-        double logReturn = Math.log(last.price().doubleValue() / first.price().doubleValue());
-        double periodMinutes = (last.timestamp() - first.timestamp()) / 60_000.0;
+        double logReturn = Math.log(ticks.lastPrice() / ticks.firstPrice());
+        double periodMinutes = ticks.spanMs() / 60_000.0;
         if (periodMinutes <= 0) return 0.0;
 
         return logReturn * (MINUTES_PER_YEAR / periodMinutes);
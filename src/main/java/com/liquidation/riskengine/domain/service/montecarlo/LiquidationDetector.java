@@ -18,10 +18,14 @@ import java.util.List;
 public class LiquidationDetector {
 
     private final CalibrationCorrector calibrationCorrector;
+    private final PathKernelProvider pathKernelProvider;
 
     static final int[] DEFAULT_HORIZON_MINUTES = {10, 60, 240, 1440};
     private static final int RISK_LEVEL_HORIZON = 1440;
 
+    private final ThreadLocal<double[]> priceScratchHolder = new ThreadLocal<>();
+    private final ThreadLocal<float[]> logScratchHolder = new ThreadLocal<>();
+
     public MonteCarloReport detect(String symbol, double[][] paths,
                                    double liquidationPrice, String positionSide,
                                    double sigma, int timeStepMinutes) {
@@ -68,21 +72,95 @@ public class LiquidationDetector {
                 .build();
     }
 
+    public MonteCarloReport detectLog(String symbol, float[][] logPaths, double startPrice,
+                                      double liquidationPrice, String positionSide,
+                                      double sigma, int timeStepMinutes,
+                                      int[] horizonMinutes) {
+        int pathCount = logPaths.length;
+        int totalSteps = logPaths[0].length - 1;
+        boolean isLong = "LONG".equalsIgnoreCase(positionSide);
+
+        long startNano = System.nanoTime();
+
+        float logBarrier = (float) Math.log(liquidationPrice / startPrice);
+        int[] firstPassageStep = new int[pathCount];
+        PathKernel kernel = pathKernelProvider.get();
+        for (int i = 0; i < pathCount; i++) {
+            firstPassageStep[i] = kernel.firstPassageLog(logPaths[i], totalSteps, logBarrier, isLong);
+        }
+
+        List<HorizonResult> horizonResults = new ArrayList<>(horizonMinutes.length);
+        for (int horizonMin : horizonMinutes) {
+            int step = Math.min(horizonMin / timeStepMinutes, totalSteps);
+            horizonResults.add(aggregateHorizonLog(logPaths, startPrice, firstPassageStep, step, horizonMin, pathCount));
+        }
+
+        long calcDurationMicros = (System.nanoTime() - startNano) / 1_000;
+
+        McRiskLevel riskLevel = deriveRiskLevel(horizonResults);
+
+        log.debug("[LiqDetector] 감지 완료(float-log): symbol={}, side={}, liqPrice={}, riskLevel={}, elapsed={}μs",
+                symbol, positionSide, liquidationPrice, riskLevel, calcDurationMicros);
+
+        return MonteCarloReport.builder()
+                .symbol(symbol)
+                .currentPrice(startPrice)
+                .liquidationPrice(liquidationPrice)
+                .positionSide(positionSide)
+                .sigma(sigma)
+                .pathCount(pathCount)
+                .horizons(horizonResults)
+                .riskLevel(riskLevel)
+                .timestamp(System.currentTimeMillis())
+                .calcDurationMicros(calcDurationMicros)
+                .build();
+    }
+
+    public MonteCarloReport detectFromSurface(ProbabilitySurface surface, double currentPrice,
+                                              double liquidationPrice, String positionSide,
+                                              int[] horizonMinutes) {
+        boolean isLong = "LONG".equalsIgnoreCase(positionSide);
+        long startNano = System.nanoTime();
+
+        List<HorizonResult> horizonResults = new ArrayList<>(horizonMinutes.length);
+        for (int horizonMin : horizonMinutes) {
+            double rawProb = surface.probability(isLong, currentPrice, liquidationPrice, horizonMin);
+            double[] ratios = surface.priceRatios(horizonMin);
+            horizonResults.add(HorizonResult.builder()
+                    .minutes(horizonMin)
+                    .liquidationProbability(rawProb)
+                    .calibratedProbability(calibrationCorrector.correctMc(rawProb))
+                    .pricePercentile5(currentPrice * ratios[0])
+                    .pricePercentile25(currentPrice * ratios[1])
+                    .priceMedian(currentPrice * ratios[2])
+                    .pricePercentile75(currentPrice * ratios[3])
+                    .pricePercentile95(currentPrice * ratios[4])
+                    .build());
+        }
+
+        long calcDurationMicros = (System.nanoTime() - startNano) / 1_000;
+
+        return MonteCarloReport.builder()
+                .symbol(surface.getSymbol())
+                .currentPrice(currentPrice)
+                .liquidationPrice(liquidationPrice)
+                .positionSide(positionSide)
+                .sigma(surface.getSigma())
+                .pathCount(surface.getPathCount())
+                .horizons(horizonResults)
+                .riskLevel(deriveRiskLevel(horizonResults))
+                .timestamp(System.currentTimeMillis())
+                .calcDurationMicros(calcDurationMicros)
+                .build();
+    }
+
     private int[] findFirstPassage(double[][] paths, double liqPrice,
                                    boolean isLong, int pathCount, int totalSteps) {
         int[] firstPassage = new int[pathCount];
-        Arrays.fill(firstPassage, Integer.MAX_VALUE);
+        PathKernel kernel = pathKernelProvider.get();
 
         for (int i = 0; i < pathCount; i++) {
-            for (int t = 1; t <= totalSteps; t++) {
-                boolean liquidated = isLong
-                        ? paths[i][t] <= liqPrice
-                        : paths[i][t] >= liqPrice;
-                if (liquidated) {
-                    firstPassage[i] = t;
-                    break;
-                }
-            }
+            firstPassage[i] = kernel.firstPassage(paths[i], totalSteps, liqPrice, isLong);
         }
         return firstPassage;
     }
@@ -90,7 +168,7 @@ public class LiquidationDetector {
     private HorizonResult aggregateHorizon(double[][] paths, int[] firstPassageStep,
                                            int step, int horizonMinutes, int pathCount) {
         int liquidatedCount = 0;
-        double[] pricesAtStep = new double[pathCount];
+        double[] pricesAtStep = acquirePriceScratch(pathCount);
 
         for (int i = 0; i < pathCount; i++) {
             if (firstPassageStep[i] <= step) {
@@ -99,7 +177,36 @@ public class LiquidationDetector {
             pricesAtStep[i] = paths[i][step];
         }
 
-        Arrays.sort(pricesAtStep);
+        Arrays.sort(pricesAtStep, 0, pathCount);
+
+        double rawProb = (double) liquidatedCount / pathCount;
+        double calibratedProb = calibrationCorrector.correctMc(rawProb);
+
+        return HorizonResult.builder()
+                .minutes(horizonMinutes)
+                .liquidationProbability(rawProb)
+                .calibratedProbability(calibratedProb)
+                .pricePercentile5(percentile(pricesAtStep, pathCount, 5))
+                .pricePercentile25(percentile(pricesAtStep, pathCount, 25))
+                .priceMedian(percentile(pricesAtStep, pathCount, 50))
+                .pricePercentile75(percentile(pricesAtStep, pathCount, 75))
+                .pricePercentile95(percentile(pricesAtStep, pathCount, 95))
+                .build();
+    }
+
+    private HorizonResult aggregateHorizonLog(float[][] logPaths, double startPrice, int[] firstPassageStep,
+                                              int step, int horizonMinutes, int pathCount) {
+        int liquidatedCount = 0;
+        float[] logsAtStep = acquireLogScratch(pathCount);
+
+        for (int i = 0; i < pathCount; i++) {
+            if (firstPassageStep[i] <= step) {
+                liquidatedCount++;
+            }
+            logsAtStep[i] = logPaths[i][step];
+        }
+
+        Arrays.sort(logsAtStep, 0, pathCount);
 
         double rawProb = (double) liquidatedCount / pathCount;
         double calibratedProb = calibrationCorrector.correctMc(rawProb);
@@ -108,15 +215,33 @@ public class LiquidationDetector {
                 .minutes(horizonMinutes)
                 .liquidationProbability(rawProb)
                 .calibratedProbability(calibratedProb)
-                .pricePercentile5(percentile(pricesAtStep, 5))
-                .pricePercentile25(percentile(pricesAtStep, 25))
-                .priceMedian(percentile(pricesAtStep, 50))
-                .pricePercentile75(percentile(pricesAtStep, 75))
-                .pricePercentile95(percentile(pricesAtStep, 95))
+                .pricePercentile5(percentileFromLog(logsAtStep, pathCount, startPrice, 5))
+                .pricePercentile25(percentileFromLog(logsAtStep, pathCount, startPrice, 25))
+                .priceMedian(percentileFromLog(logsAtStep, pathCount, startPrice, 50))
+                .pricePercentile75(percentileFromLog(logsAtStep, pathCount, startPrice, 75))
+                .pricePercentile95(percentileFromLog(logsAtStep, pathCount, startPrice, 95))
                 .build();
     }
 
-    private McRiskLevel deriveRiskLevel(List<HorizonResult> horizons) {
+    private double[] acquirePriceScratch(int size) {
+        double[] scratch = priceScratchHolder.get();
+        if (scratch == null || scratch.length < size) {
+            scratch = new double[size];
+            priceScratchHolder.set(scratch);
+        }
+        return scratch;
+    }
+
+    private float[] acquireLogScratch(int size) {
+        float[] scratch = logScratchHolder.get();
+        if (scratch == null || scratch.length < size) {
+            scratch = new float[size];
+            logScratchHolder.set(scratch);
+        }
+        return scratch;
+    }
+
+    static McRiskLevel deriveRiskLevel(List<HorizonResult> horizons) {
         return horizons.stream()
                 .filter(h -> h.getMinutes() == RISK_LEVEL_HORIZON)
                 .findFirst()
@@ -125,11 +250,21 @@ public class LiquidationDetector {
                         horizons.getLast().getCalibratedProbability()));
     }
 
-    private double percentile(double[] sorted, int p) {
-        double index = (p / 100.0) * (sorted.length - 1);
+    private double percentile(double[] sorted, int count, int p) {
+        double index = (p / 100.0) * (count - 1);
         int lower = (int) Math.floor(index);
-        int upper = Math.min(lower + 1, sorted.length - 1);
+        int upper = Math.min(lower + 1, count - 1);
         double fraction = index - lower;
         return sorted[lower] + fraction * (sorted[upper] - sorted[lower]);
     }
+
+    private double percentileFromLog(float[] sortedLogs, int count, double startPrice, int p) {
+        double index = (p / 100.0) * (count - 1);
+        int lower = (int) Math.floor(index);
+        int upper = Math.min(lower + 1, count - 1);
+        double fraction = index - lower;
+        double lowerPrice = startPrice * Math.exp(sortedLogs[lower]);
+        double upperPrice = startPrice * Math.exp(sortedLogs[upper]);
+        return lowerPrice + fraction * (upperPrice - lowerPrice);
+    }
 }
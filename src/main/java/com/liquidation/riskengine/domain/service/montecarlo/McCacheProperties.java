@@ -0,0 +1,21 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "montecarlo.cache")
+public class McCacheProperties {
+
+    private boolean enabled = true;
+    private int maxEntries = 20_000;
+    private long ttlSeconds = 60;
+    private double distanceBucketBps = 5.0;
+    private double sigmaBucketRatio = 0.02;
+    private double muBucket = 0.05;
+    private double nuBucket = 0.5;
+}
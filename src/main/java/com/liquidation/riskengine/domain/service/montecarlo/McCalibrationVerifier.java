@@ -2,6 +2,11 @@ package com.liquidation.riskengine.domain.service.montecarlo;
 
 import com.liquidation.riskengine.domain.model.McPredictionRecord;
 import com.liquidation.riskengine.domain.repository.McPredictionRepository;
+import com.liquidation.riskengine.domain.service.calibration.BulkPredictionVerifier;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationAggregateStore;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationIndexProperties;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationVerifyProperties;
+import com.liquidation.riskengine.domain.service.calibration.PredictionKind;
 import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
 import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.MinMax;
 import com.liquidation.riskengine.domain.service.state.RiskStateManager;
@@ -21,12 +26,27 @@ public class McCalibrationVerifier {
     private final McPredictionRepository repository;
     private final RiskStateManager riskStateManager;
     private final PriceHistoryBuffer priceHistoryBuffer;
+    private final CalibrationIndexProperties indexProperties;
+    private final CalibrationVerifyProperties verifyProperties;
+    private final BulkPredictionVerifier bulkVerifier;
+    private final CalibrationAggregateStore aggregateStore;
 
     @Scheduled(fixedDelayString = "${montecarlo.calibration.verify-interval-ms:60000}")
     public void verifyExpiredPredictions() {
         long now = System.currentTimeMillis();
+        long cutoff = indexProperties.isEnabled() ? now - indexProperties.getReconcileGraceMs() : now;
+
+        if (verifyProperties.isBulk()) {
+            BulkPredictionVerifier.Result result = bulkVerifier.verifyMc(cutoff, now);
+            if (result.scanned() > 0) {
+                log.info("[Calibration] 일괄 검증 완료: {}건 / 조회 {}건 (first-passage)", result.verified(), result.scanned());
+            }
+            return;
+        }
+
         List<McPredictionRecord> pending = repository
-                .findByVerifiedFalseAndDeadlineEpochMsLessThanEqual(now);
+                .findByVerifiedFalseAndPredictionEpochMsGreaterThanEqualAndDeadlineEpochMsLessThanEqual(
+                        cutoff - verifyProperties.getLookbackMs(), cutoff);
 
         if (pending.isEmpty()) return;
 
@@ -64,8 +84,12 @@ public class McCalibrationVerifier {
         }
 
         repository.saveAll(pending);
+        for (McPredictionRecord record : pending) {
+            if (!record.isVerified()) continue;
+            aggregateStore.record(PredictionKind.MC, record.getSymbol(), record.getHorizonMinutes(),
+                    record.getPredictedProbability(), Boolean.TRUE.equals(record.getActualHit()));
+        }
         log.info("[Calibration] 검증 완료: {}건 (first-passage), 미검증 잔여={}",
-                verified, repository.findByVerifiedFalseAndDeadlineEpochMsLessThanEqual(
-                        System.currentTimeMillis()).size());
+                verified, repository.findByVerifiedFalseAndDeadlineEpochMsLessThanEqual(cutoff).size());
     }
 }
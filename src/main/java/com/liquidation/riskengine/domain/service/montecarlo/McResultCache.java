@@ -0,0 +1,247 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import com.liquidation.riskengine.domain.model.MonteCarloReport;
+import com.liquidation.riskengine.domain.model.MonteCarloReport.HorizonResult;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationCorrector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class McResultCache {
+
+    private final McCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final CalibrationCorrector calibrationCorrector;
+
+    private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(1024, 0.75f, true);
+
+    private Counter exactHitCounter;
+    private Counter interpolatedHitCounter;
+    private Counter missCounter;
+    private Counter ttlEvictionCounter;
+    private Counter capacityEvictionCounter;
+    private DistributionSummary hitAgeSummary;
+
+    @PostConstruct
+    void initMetrics() {
+        exactHitCounter = Counter.builder("mc.cache.requests")
+                .tag("result", "hit")
+                .description("MC result cache lookups served from a single bucket")
+                .register(meterRegistry);
+        interpolatedHitCounter = Counter.builder("mc.cache.requests")
+                .tag("result", "interpolated")
+                .description("MC result cache lookups served by interpolating neighbouring buckets")
+                .register(meterRegistry);
+        missCounter = Counter.builder("mc.cache.requests")
+                .tag("result", "miss")
+                .description("MC result cache lookups that required a full simulation")
+                .register(meterRegistry);
+        ttlEvictionCounter = Counter.builder("mc.cache.evictions")
+                .tag("reason", "ttl")
+                .register(meterRegistry);
+        capacityEvictionCounter = Counter.builder("mc.cache.evictions")
+                .tag("reason", "capacity")
+                .register(meterRegistry);
+        hitAgeSummary = DistributionSummary.builder("mc.cache.hit_age")
+                .baseUnit("milliseconds")
+                .description("Age of cached MC results at the time they were served")
+                .register(meterRegistry);
+        Gauge.builder("mc.cache.size", this, McResultCache::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public Optional<MonteCarloReport> lookup(ModelInputs inputs, double startPrice, double liquidationPrice) {
+        double distance = Math.log(liquidationPrice / startPrice);
+        int bucket = distanceBucket(distance);
+        long now = System.currentTimeMillis();
+        long ttlMs = properties.getTtlSeconds() * 1000;
+
+        Entry below = null;
+        Entry above = null;
+        synchronized (entries) {
+            for (int b = bucket - 1; b <= bucket + 1; b++) {
+                Entry e = entries.get(inputs.key(b));
+                if (e == null || now - e.createdAtMs > ttlMs) continue;
+                if (e.distance <= distance && (below == null || e.distance > below.distance)) below = e;
+                if (e.distance >= distance && (above == null || e.distance < above.distance)) above = e;
+            }
+        }
+
+        double width = properties.getDistanceBucketBps() / 10_000.0;
+        Entry served;
+        List<HorizonResult> horizons;
+        if (below != null && above != null && above.distance - below.distance <= 2 * width) {
+            double span = above.distance - below.distance;
+            double w = span > 0 ? (distance - below.distance) / span : 0.0;
+            horizons = interpolate(below, above, w, startPrice);
+            served = below.createdAtMs < above.createdAtMs ? below : above;
+            if (span > 0) interpolatedHitCounter.increment(); else exactHitCounter.increment();
+        } else {
+            Entry nearest = nearest(below, above, distance);
+            if (nearest == null || Math.abs(nearest.distance - distance) > width / 2) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            horizons = interpolate(nearest, nearest, 0.0, startPrice);
+            served = nearest;
+            exactHitCounter.increment();
+        }
+        hitAgeSummary.record(now - served.createdAtMs);
+
+        return Optional.of(MonteCarloReport.builder()
+                .symbol(inputs.symbol())
+                .currentPrice(startPrice)
+                .liquidationPrice(liquidationPrice)
+                .positionSide(inputs.positionSide())
+                .sigma(inputs.sigma())
+                .pathCount(served.pathCount)
+                .horizons(horizons)
+                .riskLevel(LiquidationDetector.deriveRiskLevel(horizons))
+                .timestamp(now)
+                .calcDurationMicros(0)
+                .build());
+    }
+
+    public void put(ModelInputs inputs, MonteCarloReport report) {
+        double s0 = report.getCurrentPrice();
+        double distance = Math.log(report.getLiquidationPrice() / s0);
+        List<HorizonResult> horizons = report.getHorizons();
+        int n = horizons.size();
+
+        Entry e = new Entry(distance, System.currentTimeMillis(), report.getPathCount(), new int[n],
+                new double[n], new double[n * 5]);
+        for (int i = 0; i < n; i++) {
+            HorizonResult h = horizons.get(i);
+            e.minutes[i] = h.getMinutes();
+            e.probability[i] = h.getLiquidationProbability();
+            e.priceRatios[i * 5] = h.getPricePercentile5() / s0;
+            e.priceRatios[i * 5 + 1] = h.getPricePercentile25() / s0;
+            e.priceRatios[i * 5 + 2] = h.getPriceMedian() / s0;
+            e.priceRatios[i * 5 + 3] = h.getPricePercentile75() / s0;
+            e.priceRatios[i * 5 + 4] = h.getPricePercentile95() / s0;
+        }
+
+        synchronized (entries) {
+            entries.put(inputs.key(distanceBucket(distance)), e);
+            while (entries.size() > properties.getMaxEntries()) {
+                Iterator<CacheKey> it = entries.keySet().iterator();
+                it.next();
+                it.remove();
+                capacityEvictionCounter.increment();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${montecarlo.cache.purge-interval-ms:30000}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - properties.getTtlSeconds() * 1000;
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<Map.Entry<CacheKey, Entry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().getValue().createdAtMs < cutoff) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            ttlEvictionCounter.increment(removed);
+            log.debug("[McCache] 만료 항목 제거: removed={}, remaining={}", removed, size());
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public ModelInputs quantize(String symbol, String positionSide, double sigma, double mu, double nu,
+                                double[] sigmaSchedule, int timeStepMinutes, int horizonMinutes, int pathCount,
+                                String pathStorage) {
+        double sigmaStep = Math.log1p(properties.getSigmaBucketRatio());
+        int sigmaBucket = (int) Math.round(Math.log(Math.max(sigma, 1e-9)) / sigmaStep);
+        int scheduleBucket = Integer.MIN_VALUE;
+        if (sigmaSchedule != null && sigmaSchedule.length > 0) {
+            scheduleBucket = (int) Math.round(Math.log(Math.max(sigmaSchedule[sigmaSchedule.length - 1], 1e-9)) / sigmaStep);
+        }
+        int muBucket = (int) Math.round(mu / properties.getMuBucket());
+        int nuBucket = (int) Math.round(nu / properties.getNuBucket());
+        return new ModelInputs(symbol.toUpperCase(), positionSide.toUpperCase(), sigma, sigmaBucket, scheduleBucket,
+                muBucket, nuBucket, timeStepMinutes, horizonMinutes, pathCount, pathStorage);
+    }
+
+    private int distanceBucket(double distance) {
+        double width = properties.getDistanceBucketBps() / 10_000.0;
+        return (int) Math.floor(distance / width);
+    }
+
+    private static Entry nearest(Entry below, Entry above, double distance) {
+        if (below == null) return above;
+        if (above == null) return below;
+        return distance - below.distance <= above.distance - distance ? below : above;
+    }
+
+    private List<HorizonResult> interpolate(Entry lo, Entry hi, double w, double startPrice) {
+        int n = lo.minutes.length;
+        List<HorizonResult> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double rawProb = lerp(lo.probability[i], hi.probability[i], w);
+            out.add(HorizonResult.builder()
+                    .minutes(lo.minutes[i])
+                    .liquidationProbability(rawProb)
+                    .calibratedProbability(calibrationCorrector.correctMc(rawProb))
+                    .pricePercentile5(startPrice * lerp(lo.priceRatios[i * 5], hi.priceRatios[i * 5], w))
+                    .pricePercentile25(startPrice * lerp(lo.priceRatios[i * 5 + 1], hi.priceRatios[i * 5 + 1], w))
+                    .priceMedian(startPrice * lerp(lo.priceRatios[i * 5 + 2], hi.priceRatios[i * 5 + 2], w))
+                    .pricePercentile75(startPrice * lerp(lo.priceRatios[i * 5 + 3], hi.priceRatios[i * 5 + 3], w))
+                    .pricePercentile95(startPrice * lerp(lo.priceRatios[i * 5 + 4], hi.priceRatios[i * 5 + 4], w))
+                    .build());
+        }
+        return out;
+    }
+
+    private static double lerp(double a, double b, double w) {
+        return a + w * (b - a);
+    }
+
+    public record ModelInputs(String symbol, String positionSide, double sigma,
+                              int sigmaBucket, int scheduleBucket, int muBucket, int nuBucket,
+                              int timeStepMinutes, int horizonMinutes, int pathCount, String pathStorage) {
+
+        CacheKey key(int distanceBucket) {
+            return new CacheKey(symbol, positionSide, distanceBucket, sigmaBucket, scheduleBucket,
+                    muBucket, nuBucket, timeStepMinutes, horizonMinutes, pathCount, pathStorage);
+        }
+    }
+
+    record CacheKey(String symbol, String positionSide, int distanceBucket,
+                    int sigmaBucket, int scheduleBucket, int muBucket, int nuBucket,
+                    int timeStepMinutes, int horizonMinutes, int pathCount, String pathStorage) {
+    }
+
+    private record Entry(double distance, long createdAtMs, int pathCount, int[] minutes,
+                         double[] probability, double[] priceRatios) {
+    }
+}
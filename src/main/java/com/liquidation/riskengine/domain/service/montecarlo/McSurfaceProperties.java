@@ -0,0 +1,30 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "montecarlo.surface")
+public class McSurfaceProperties {
+
+    private int pathCount = 20_000;
+    private double distanceStepBps = 10.0;
+    private double maxDistanceBps = 5_000.0;
+    private List<Integer> horizons = List.of(5, 10, 15, 30, 60, 120, 240, 480, 720, 1440);
+    private long maxAgeSeconds = 120;
+    private int refreshThreads = 1;
+
+    public int distancePoints() {
+        return (int) Math.ceil(maxDistanceBps / distanceStepBps) + 1;
+    }
+
+    public double distanceStep() {
+        return distanceStepBps / 10_000.0;
+    }
+}
@@ -2,7 +2,7 @@ package com.liquidation.riskengine.domain.service.montecarlo;
 
 import com.liquidation.riskengine.domain.model.McPredictionRecord;
 import com.liquidation.riskengine.domain.model.MonteCarloReport;
-import com.liquidation.riskengine.domain.repository.McPredictionRepository;
+import com.liquidation.riskengine.domain.service.calibration.PredictionWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,7 +15,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MonteCarloCalibrationLogger {
 
-    private final McPredictionRepository repository;
+    private final PredictionWriter predictionWriter;
 
     public void logPrediction(MonteCarloReport report) {
         if (report == null || report.getHorizons() == null) return;
@@ -38,7 +38,10 @@ public class MonteCarloCalibrationLogger {
                     .build());
         }
 
-        repository.saveAll(records);
-        log.debug("[Calibration] 예측 기록: symbol={}, horizons={}", report.getSymbol(), records.size());
+        if (!predictionWriter.submitMc(records)) {
+            log.debug("[Calibration] 기록 큐 포화로 예측 누락: symbol={}", report.getSymbol());
+            return;
+        }
+        log.debug("[Calibration] 예측 기록 요청: symbol={}, horizons={}", report.getSymbol(), records.size());
     }
 }
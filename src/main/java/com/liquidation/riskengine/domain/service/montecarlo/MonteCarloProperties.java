@@ -21,6 +21,17 @@ public class MonteCarloProperties {
     private long throttleIntervalSeconds = 60;
     private boolean useFatTail = true;
     private double degreesOfFreedom = 5.0;
+    private String kernel = "scalar";
+    private String pathStorage = "double";
+    private String mode = "per-position";
+
+    public boolean useFloatLogStorage() {
+        return "float-log".equalsIgnoreCase(pathStorage);
+    }
+
+    public boolean isSurfaceMode() {
+        return "surface".equalsIgnoreCase(mode);
+    }
 
     public int maxHorizonMinutes() {
         return horizons.stream().mapToInt(Integer::intValue).max().orElse(1440);
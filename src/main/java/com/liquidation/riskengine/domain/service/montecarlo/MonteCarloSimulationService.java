@@ -3,18 +3,28 @@ package com.liquidation.riskengine.domain.service.montecarlo;
 import com.liquidation.riskengine.domain.model.CascadeRiskReport;
 import com.liquidation.riskengine.domain.model.MonteCarloReport;
 import com.liquidation.riskengine.domain.model.VolatilitySnapshot;
+import com.liquidation.riskengine.domain.service.montecarlo.PricePathGenerator.PathExtremes;
 import com.liquidation.riskengine.domain.service.volatility.GarchEstimator.GarchResult;
 import com.liquidation.riskengine.domain.service.state.RiskStateManager;
 import com.liquidation.riskengine.domain.service.volatility.VolatilityEstimator;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -28,9 +38,15 @@ public class MonteCarloSimulationService {
     private final MonteCarloProperties properties;
     private final DriftEstimator driftEstimator;
     private final TailEstimator tailEstimator;
+    private final McResultCache resultCache;
+    private final McSurfaceProperties surfaceProperties;
 
     private final Map<String, MonteCarloReport> latestReportsBySymbol = new ConcurrentHashMap<>();
     private final Map<String, MonteCarloReport> latestReportsByUserAndSymbol = new ConcurrentHashMap<>();
+    private final Map<String, ProbabilitySurface> surfacesBySymbol = new ConcurrentHashMap<>();
+    private final Set<String> refreshingSymbols = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger refreshThreadCounter = new AtomicInteger(0);
+    private ExecutorService surfaceExecutor;
 
     public Optional<MonteCarloReport> simulate(String symbol,
                                                BigDecimal liquidationPrice,
@@ -70,6 +86,216 @@ public class MonteCarloSimulationService {
 
         long startNano = System.nanoTime();
 
+        if (properties.isSurfaceMode()) {
+            ProbabilitySurface surface = surfaceFor(symbol);
+            if (surface != null) {
+                MonteCarloReport report = liquidationDetector.detectFromSurface(
+                        surface,
+                        currentPrice.doubleValue(),
+                        liquidationPrice.doubleValue(),
+                        positionSide,
+                        properties.horizonsArray());
+                log.debug("[MC] 확률 surface 조회: userId={}, symbol={}, side={}, risk={}, elapsed={}μs",
+                        normalizeUserId(userId), symbol, positionSide, report.getRiskLevel(),
+                        (System.nanoTime() - startNano) / 1_000);
+                storeLatest(userId, symbol, report);
+                return Optional.of(report);
+            }
+        }
+
+        ModelParameters model = resolveModel(symbol, cascadeReport);
+        double sigma = model.sigma();
+        double mu = model.mu();
+        double nu = model.nu();
+        double[] sigmaSchedule = model.sigmaSchedule();
+
+        McResultCache.ModelInputs cacheInputs = null;
+        if (resultCache.isEnabled()) {
+            cacheInputs = resultCache.quantize(symbol, positionSide, sigma, mu, nu, sigmaSchedule,
+                    properties.getTimeStepMinutes(), properties.maxHorizonMinutes(),
+                    properties.getPathCount(), properties.getPathStorage());
+            Optional<MonteCarloReport> cached = resultCache.lookup(
+                    cacheInputs, currentPrice.doubleValue(), liquidationPrice.doubleValue());
+            if (cached.isPresent()) {
+                log.debug("[MC] 캐시 적중: userId={}, symbol={}, side={}, liqPrice={}",
+                        normalizeUserId(userId), symbol, positionSide, liquidationPrice);
+                storeLatest(userId, symbol, cached.get());
+                return cached;
+            }
+        }
+
+        SimulationRequest request = SimulationRequest.builder()
+                .startPrice(currentPrice.doubleValue())
+                .sigma(sigma)
+                .mu(mu)
+                .pathCount(properties.getPathCount())
+                .timeStepMinutes(properties.getTimeStepMinutes())
+                .horizonMinutes(properties.maxHorizonMinutes())
+                .useFatTail(properties.isUseFatTail())
+                .degreesOfFreedom(nu)
+                .sigmaSchedule(sigmaSchedule)
+                .build();
+
+        MonteCarloReport report;
+        if (properties.useFloatLogStorage()) {
+            float[][] logPaths = pricePathGenerator.generateLogReturns(request);
+            report = liquidationDetector.detectLog(
+                    symbol,
+                    logPaths,
+                    request.getStartPrice(),
+                    liquidationPrice.doubleValue(),
+                    positionSide,
+                    sigma,
+                    properties.getTimeStepMinutes(),
+                    properties.horizonsArray());
+        } else {
+            double[][] paths = pricePathGenerator.generate(request);
+            report = liquidationDetector.detect(
+                    symbol,
+                    paths,
+                    liquidationPrice.doubleValue(),
+                    positionSide,
+                    sigma,
+                    properties.getTimeStepMinutes(),
+                    properties.horizonsArray());
+        }
+
+        long totalMicros = (System.nanoTime() - startNano) / 1_000;
+        log.info("[MC] 시뮬레이션 완료: userId={}, symbol={}, side={}, σ={:.4f}, μ={:.4f}, ν={:.1f}, cascade={}, risk={}, paths={}, total={}μs",
+                normalizeUserId(userId), symbol, positionSide, sigma, mu, nu, cascadeReport != null,
+                report.getRiskLevel(), properties.getPathCount(), totalMicros);
+
+        if (cacheInputs != null) {
+            resultCache.put(cacheInputs, report);
+        }
+        storeLatest(userId, symbol, report);
+
+        return Optional.of(report);
+    }
+
+    private void storeLatest(String userId, String symbol, MonteCarloReport report) {
+        String normalizedSymbol = symbol.toUpperCase();
+        latestReportsBySymbol.put(normalizedSymbol, report);
+        if (userId != null && !userId.isBlank()) {
+            latestReportsByUserAndSymbol.put(userSymbolKey(userId, normalizedSymbol), report);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${montecarlo.surface.refresh-interval-ms:60000}")
+    public void refreshSurfaces() {
+        if (!properties.isEnabled() || !properties.isSurfaceMode()) return;
+
+        Set<String> symbols = riskStateManager.getAllPositions().stream()
+                .map(p -> p.getSymbol().toUpperCase())
+                .collect(Collectors.toSet());
+        ExecutorService executor = surfaceExecutor();
+        for (String symbol : symbols) {
+            if (!refreshingSymbols.add(symbol)) {
+                log.debug("[MC] 이전 확률 surface 갱신 진행 중, 스킵: symbol={}", symbol);
+                continue;
+            }
+            try {
+                executor.execute(() -> refreshSurfaceSafely(symbol));
+            } catch (RejectedExecutionException e) {
+                refreshingSymbols.remove(symbol);
+                log.debug("[MC] surface 갱신 실행기 종료됨, 스킵: symbol={}", symbol);
+            }
+        }
+    }
+
+    private void refreshSurfaceSafely(String symbol) {
+        try {
+            refreshSurface(symbol);
+        } catch (Exception e) {
+            log.warn("[MC] 확률 surface 갱신 실패: symbol={}, error={}", symbol, e.getMessage());
+        } finally {
+            refreshingSymbols.remove(symbol);
+        }
+    }
+
+    private synchronized ExecutorService surfaceExecutor() {
+        if (surfaceExecutor == null) {
+            surfaceExecutor = Executors.newFixedThreadPool(Math.max(1, surfaceProperties.getRefreshThreads()), r -> {
+                Thread t = new Thread(r, "mc-surface-refresh-" + refreshThreadCounter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return surfaceExecutor;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (surfaceExecutor != null) {
+            surfaceExecutor.shutdownNow();
+        }
+    }
+
+    public Optional<ProbabilitySurface> getSurface(String symbol) {
+        if (symbol == null || !properties.isEnabled() || !properties.isSurfaceMode()) return Optional.empty();
+        return Optional.ofNullable(surfacesBySymbol.get(symbol.toUpperCase()));
+    }
+
+    private ProbabilitySurface surfaceFor(String symbol) {
+        ProbabilitySurface surface = surfacesBySymbol.get(symbol.toUpperCase());
+        if (surface == null || isFresh(surface)) return surface;
+
+        log.debug("[MC] 확률 surface 만료 → 포지션별 시뮬레이션으로 대체: symbol={}, age={}ms",
+                symbol, System.currentTimeMillis() - surface.getTimestamp());
+        return null;
+    }
+
+    private boolean isFresh(ProbabilitySurface surface) {
+        return surface != null
+                && System.currentTimeMillis() - surface.getTimestamp() <= surfaceProperties.getMaxAgeSeconds() * 1000;
+    }
+
+    ProbabilitySurface refreshSurface(String symbol) {
+        String key = symbol.toUpperCase();
+        BigDecimal currentPrice = riskStateManager.getLatestMarkPrice(key);
+        if (currentPrice == null) return null;
+
+        long startNano = System.nanoTime();
+        ModelParameters model = resolveModel(key, null);
+
+        int stepMinutes = properties.getTimeStepMinutes();
+        int maxHorizon = properties.maxHorizonMinutes();
+        int[] horizons = IntStream.concat(
+                        surfaceProperties.getHorizons().stream().mapToInt(Integer::intValue),
+                        IntStream.of(properties.horizonsArray()))
+                .filter(h -> h >= stepMinutes && h <= maxHorizon)
+                .distinct()
+                .sorted()
+                .toArray();
+        int[] horizonSteps = IntStream.of(horizons).map(h -> h / stepMinutes).toArray();
+
+        SimulationRequest request = SimulationRequest.builder()
+                .startPrice(currentPrice.doubleValue())
+                .sigma(model.sigma())
+                .mu(model.mu())
+                .pathCount(surfaceProperties.getPathCount())
+                .timeStepMinutes(stepMinutes)
+                .horizonMinutes(maxHorizon)
+                .useFatTail(properties.isUseFatTail())
+                .degreesOfFreedom(model.nu())
+                .sigmaSchedule(model.sigmaSchedule())
+                .build();
+
+        PathExtremes extremes = pricePathGenerator.generateExtremes(request, horizonSteps);
+        ProbabilitySurface surface = ProbabilitySurface.build(key, currentPrice.doubleValue(),
+                model.sigma(), model.mu(), extremes, horizons,
+                surfaceProperties.distanceStep(), surfaceProperties.distancePoints());
+        surfacesBySymbol.put(key, surface);
+
+        log.info("[MC] 확률 surface 갱신: symbol={}, σ={:.4f}, μ={:.4f}, paths={}, grid={}x{}, total={}ms",
+                key, model.sigma(), model.mu(), extremes.pathCount(), horizons.length,
+                surfaceProperties.distancePoints(), (System.nanoTime() - startNano) / 1_000_000);
+        return surface;
+    }
+
+    private record ModelParameters(double sigma, double mu, double nu, double[] sigmaSchedule) {}
+
+    private ModelParameters resolveModel(String symbol, CascadeRiskReport cascadeReport) {
         VolatilitySnapshot volSnap = volatilityEstimator.estimate(symbol);
         double sigma = volSnap.getSigmaForLabel(properties.getVolatilityWindow());
 
@@ -107,41 +333,7 @@ public class MonteCarloSimulationService {
             nu = tailEstimator.estimateDegreesOfFreedom(symbol, volWindow);
         }
 
-        SimulationRequest request = SimulationRequest.builder()
-                .startPrice(currentPrice.doubleValue())
-                .sigma(sigma)
-                .mu(mu)
-                .pathCount(properties.getPathCount())
-                .timeStepMinutes(properties.getTimeStepMinutes())
-                .horizonMinutes(properties.maxHorizonMinutes())
-                .useFatTail(properties.isUseFatTail())
-                .degreesOfFreedom(nu)
-                .sigmaSchedule(sigmaSchedule)
-                .build();
-
-        double[][] paths = pricePathGenerator.generate(request);
-
-        MonteCarloReport report = liquidationDetector.detect(
-                symbol,
-                paths,
-                liquidationPrice.doubleValue(),
-                positionSide,
-                sigma,
-                properties.getTimeStepMinutes(),
-                properties.horizonsArray());
-
-        long totalMicros = (System.nanoTime() - startNano) / 1_000;
-        log.info("[MC] 시뮬레이션 완료: userId={}, symbol={}, side={}, σ={:.4f}, μ={:.4f}, ν={:.1f}, cascade={}, risk={}, paths={}, total={}μs",
-                normalizeUserId(userId), symbol, positionSide, sigma, mu, nu, cascadeReport != null,
-                report.getRiskLevel(), properties.getPathCount(), totalMicros);
-
-        String normalizedSymbol = symbol.toUpperCase();
-        latestReportsBySymbol.put(normalizedSymbol, report);
-        if (userId != null && !userId.isBlank()) {
-            latestReportsByUserAndSymbol.put(userSymbolKey(userId, normalizedSymbol), report);
-        }
-
-        return Optional.of(report);
+        return new ModelParameters(sigma, mu, nu, sigmaSchedule);
     }
 
     private double calcCascadeDrift(CascadeRiskReport cascade) {
@@ -0,0 +1,16 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+public interface PathKernel {
+
+    void stepAntitheticPair(double s0, double[] driftPerStep, double[] diffPerStep, double[] shocks,
+                            double[] path, double[] mirrorPath, int totalSteps);
+
+    int firstPassage(double[] path, int totalSteps, double barrier, boolean isLong);
+
+    void stepAntitheticPairLog(double[] driftPerStep, double[] diffPerStep, double[] shocks,
+                               float[] logPath, float[] mirrorLogPath, int totalSteps);
+
+    int firstPassageLog(float[] logPath, int totalSteps, float logBarrier, boolean isLong);
+
+    String name();
+}
@@ -0,0 +1,52 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PathKernelProvider {
+
+    private static final String VECTOR_KERNEL_CLASS =
+            "com.liquidation.riskengine.domain.service.montecarlo.VectorPathKernel";
+
+    private final MonteCarloProperties properties;
+
+    private volatile PathKernel kernel = new ScalarPathKernel();
+
+    @PostConstruct
+    void init() {
+        kernel = resolve(properties.getKernel());
+        log.info("[MC] 경로 커널 선택: requested={}, active={}", properties.getKernel(), kernel.name());
+    }
+
+    public PathKernel get() {
+        return kernel;
+    }
+
+    static PathKernel resolve(String requested) {
+        if ("vector".equalsIgnoreCase(requested)) {
+            if (isVectorModuleLoaded()) {
+                return createVectorKernel();
+            }
+            log.warn("[MC] jdk.incubator.vector 모듈 미로딩 → scalar 커널로 대체 (--add-modules=jdk.incubator.vector 필요)");
+        }
+        return new ScalarPathKernel();
+    }
+
+    static boolean isVectorModuleLoaded() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    private static PathKernel createVectorKernel() {
+        try {
+            return (PathKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("[MC] vector 커널 로딩 실패 → scalar 커널로 대체: {}", e.toString());
+            return new ScalarPathKernel();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.liquidation.riskengine.domain.service.montecarlo;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -7,37 +8,139 @@ import java.util.SplittableRandom;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class PricePathGenerator {
 
     static final double MINUTES_PER_YEAR = 365.25 * 24 * 60;
 
+    private final PathKernelProvider pathKernelProvider;
+
     private final ThreadLocal<double[][]> pathBufferHolder = new ThreadLocal<>();
+    private final ThreadLocal<float[][]> logPathBufferHolder = new ThreadLocal<>();
+    private final ThreadLocal<double[]> shockBufferHolder = new ThreadLocal<>();
 
     public double[][] generate(SimulationRequest request) {
         validateRequest(request);
 
+        StepSchedule schedule = buildSchedule(request);
+        int totalSteps = schedule.totalSteps();
+        int evenPathCount = evenPathCount(request.getPathCount());
         double s0 = request.getStartPrice();
+
+        double[][] paths = acquireBuffer(evenPathCount, totalSteps + 1);
+        double[] shocks = acquireShockBuffer(totalSteps);
+        PathKernel kernel = pathKernelProvider.get();
+        SplittableRandom rng = newRandom(request);
+        long startNano = System.nanoTime();
+
+        for (int i = 0; i < evenPathCount; i += 2) {
+            fillShocks(request, shocks, totalSteps, rng);
+            kernel.stepAntitheticPair(s0, schedule.driftPerStep(), schedule.diffPerStep(), shocks,
+                    paths[i], paths[i + 1], totalSteps);
+        }
+
+        long elapsedMs = (System.nanoTime() - startNano) / 1_000_000;
+        log.debug("[PricePath] 생성 완료: paths={}, steps={}, sigma={:.4f}, fatTail={}, antithetic=true, mode={}, kernel={}, elapsed={}ms",
+                evenPathCount, totalSteps, request.getSigma(), request.isUseFatTail(),
+                schedule.garch() ? "GARCH" : "CONST", kernel.name(), elapsedMs);
+
+        return paths;
+    }
+
+    public float[][] generateLogReturns(SimulationRequest request) {
+        validateRequest(request);
+
+        StepSchedule schedule = buildSchedule(request);
+        int totalSteps = schedule.totalSteps();
+        int evenPathCount = evenPathCount(request.getPathCount());
+
+        float[][] logPaths = acquireLogBuffer(evenPathCount, totalSteps + 1);
+        double[] shocks = acquireShockBuffer(totalSteps);
+        PathKernel kernel = pathKernelProvider.get();
+        SplittableRandom rng = newRandom(request);
+        long startNano = System.nanoTime();
+
+        for (int i = 0; i < evenPathCount; i += 2) {
+            fillShocks(request, shocks, totalSteps, rng);
+            kernel.stepAntitheticPairLog(schedule.driftPerStep(), schedule.diffPerStep(), shocks,
+                    logPaths[i], logPaths[i + 1], totalSteps);
+        }
+
+        long elapsedMs = (System.nanoTime() - startNano) / 1_000_000;
+        log.debug("[PricePath] 로그수익률(float) 생성 완료: paths={}, steps={}, sigma={:.4f}, fatTail={}, mode={}, kernel={}, elapsed={}ms",
+                evenPathCount, totalSteps, request.getSigma(), request.isUseFatTail(),
+                schedule.garch() ? "GARCH" : "CONST", kernel.name(), elapsedMs);
+
+        return logPaths;
+    }
+
+    public PathExtremes generateExtremes(SimulationRequest request, int[] horizonSteps) {
+        validateRequest(request);
+
+        StepSchedule schedule = buildSchedule(request);
+        int totalSteps = schedule.totalSteps();
+        int evenPathCount = evenPathCount(request.getPathCount());
+        int horizonCount = horizonSteps.length;
+
+        float[][] minLog = new float[horizonCount][evenPathCount];
+        float[][] maxLog = new float[horizonCount][evenPathCount];
+        float[][] terminalLog = new float[horizonCount][evenPathCount];
+
+        float[][] pair = acquireLogBuffer(2, totalSteps + 1);
+        double[] shocks = acquireShockBuffer(totalSteps);
+        PathKernel kernel = pathKernelProvider.get();
+        SplittableRandom rng = newRandom(request);
+        long startNano = System.nanoTime();
+
+        for (int i = 0; i < evenPathCount; i += 2) {
+            fillShocks(request, shocks, totalSteps, rng);
+            kernel.stepAntitheticPairLog(schedule.driftPerStep(), schedule.diffPerStep(), shocks,
+                    pair[0], pair[1], totalSteps);
+            for (int k = 0; k < 2; k++) {
+                float[] logPath = pair[k];
+                float runMin = 0f;
+                float runMax = 0f;
+                int t = 1;
+                for (int h = 0; h < horizonCount; h++) {
+                    int step = Math.min(horizonSteps[h], totalSteps);
+                    for (; t <= step; t++) {
+                        float v = logPath[t];
+                        if (v < runMin) runMin = v;
+                        if (v > runMax) runMax = v;
+                    }
+                    minLog[h][i + k] = runMin;
+                    maxLog[h][i + k] = runMax;
+                    terminalLog[h][i + k] = logPath[step];
+                }
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - startNano) / 1_000_000;
+        log.debug("[PricePath] 극값 경로 생성 완료: paths={}, steps={}, horizons={}, kernel={}, elapsed={}ms",
+                evenPathCount, totalSteps, horizonCount, kernel.name(), elapsedMs);
+
+        return new PathExtremes(minLog, maxLog, terminalLog, evenPathCount);
+    }
+
+    public record PathExtremes(float[][] minLog, float[][] maxLog, float[][] terminalLog, int pathCount) {}
+
+    private record StepSchedule(double[] driftPerStep, double[] diffPerStep, int totalSteps, boolean garch) {}
+
+    private StepSchedule buildSchedule(SimulationRequest request) {
         double sigma = request.getSigma();
         double mu = request.getMu();
-        int pathCount = request.getPathCount();
         int stepMinutes = request.getTimeStepMinutes();
         int totalSteps = request.getHorizonMinutes() / stepMinutes;
-        boolean fatTail = request.isUseFatTail();
-        double nu = request.getDegreesOfFreedom();
         double[] sigmaSchedule = request.getSigmaSchedule();
 
-        int evenPathCount = pathCount + (pathCount % 2);
-
         double dt = stepMinutes / MINUTES_PER_YEAR;
         double sqrtDt = Math.sqrt(dt);
 
         boolean useSchedule = sigmaSchedule != null && sigmaSchedule.length >= totalSteps;
 
-        double[] driftPerStep;
-        double[] diffPerStep;
+        double[] driftPerStep = new double[totalSteps];
+        double[] diffPerStep = new double[totalSteps];
         if (useSchedule) {
-            driftPerStep = new double[totalSteps];
-            diffPerStep = new double[totalSteps];
             for (int t = 0; t < totalSteps; t++) {
                 double st = sigmaSchedule[t];
                 driftPerStep[t] = (mu - 0.5 * st * st) * dt;
@@ -46,36 +149,32 @@ public class PricePathGenerator {
         } else {
             double constDrift = (mu - 0.5 * sigma * sigma) * dt;
             double constDiff = sigma * sqrtDt;
-            driftPerStep = new double[totalSteps];
-            diffPerStep = new double[totalSteps];
             for (int t = 0; t < totalSteps; t++) {
                 driftPerStep[t] = constDrift;
                 diffPerStep[t] = constDiff;
             }
         }
+        return new StepSchedule(driftPerStep, diffPerStep, totalSteps, useSchedule);
+    }
 
-        double[][] paths = acquireBuffer(evenPathCount, totalSteps + 1);
-        SplittableRandom rng = new SplittableRandom();
-        long startNano = System.nanoTime();
-
-        for (int i = 0; i < evenPathCount; i += 2) {
-            paths[i][0] = s0;
-            paths[i + 1][0] = s0;
-            for (int t = 1; t <= totalSteps; t++) {
-                double z = rng.nextGaussian();
-                if (fatTail) z = applyStudentT(z, nu, rng);
-                double dr = driftPerStep[t - 1];
-                double df = diffPerStep[t - 1];
-                paths[i][t]     = paths[i][t - 1]     * Math.exp(dr + df * z);
-                paths[i + 1][t] = paths[i + 1][t - 1] * Math.exp(dr + df * (-z));
-            }
+    private void fillShocks(SimulationRequest request, double[] shocks, int totalSteps, SplittableRandom rng) {
+        boolean fatTail = request.isUseFatTail();
+        double nu = request.getDegreesOfFreedom();
+        for (int t = 0; t < totalSteps; t++) {
+            double z = rng.nextGaussian();
+            if (fatTail) z = applyStudentT(z, nu, rng);
+            shocks[t] = z;
         }
+    }
 
-        long elapsedMs = (System.nanoTime() - startNano) / 1_000_000;
-        log.debug("[PricePath] 생성 완료: paths={}, steps={}, sigma={:.4f}, fatTail={}, antithetic=true, mode={}, elapsed={}ms",
-                evenPathCount, totalSteps, sigma, fatTail, useSchedule ? "GARCH" : "CONST", elapsedMs);
+    private SplittableRandom newRandom(SimulationRequest request) {
+        return request.getSeed() != null
+                ? new SplittableRandom(request.getSeed())
+                : new SplittableRandom();
+    }
 
-        return paths;
+    private int evenPathCount(int pathCount) {
+        return pathCount + (pathCount % 2);
     }
 
     private double[][] acquireBuffer(int rows, int cols) {
@@ -89,6 +188,26 @@ public class PricePathGenerator {
         return buffer;
     }
 
+    private float[][] acquireLogBuffer(int rows, int cols) {
+        float[][] buffer = logPathBufferHolder.get();
+        if (buffer == null || buffer.length < rows || buffer[0].length < cols) {
+            buffer = new float[rows][cols];
+            logPathBufferHolder.set(buffer);
+            log.debug("[PricePath] 로그 경로 버퍼 할당: {}×{} ({} MB)",
+                    rows, cols, rows * cols * 4 / (1024 * 1024));
+        }
+        return buffer;
+    }
+
+    private double[] acquireShockBuffer(int steps) {
+        double[] buffer = shockBufferHolder.get();
+        if (buffer == null || buffer.length < steps) {
+            buffer = new double[steps];
+            shockBufferHolder.set(buffer);
+        }
+        return buffer;
+    }
+
     private double applyStudentT(double z, double nu, SplittableRandom rng) {
         int intNu = (int) nu;
         double chiSq = 0.0;
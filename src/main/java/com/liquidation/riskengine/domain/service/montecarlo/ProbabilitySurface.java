@@ -0,0 +1,141 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import com.liquidation.riskengine.domain.service.montecarlo.PricePathGenerator.PathExtremes;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+public class ProbabilitySurface {
+
+    private static final int[] PERCENTILES = {5, 25, 50, 75, 95};
+
+    private final String symbol;
+    private final double startPrice;
+    private final double sigma;
+    private final double mu;
+    private final int pathCount;
+    private final long timestamp;
+    private final double distanceStep;
+    private final double[] distances;
+    private final int[] horizons;
+    private final double[][] longProbability;
+    private final double[][] shortProbability;
+    private final double[][] priceRatioPercentiles;
+
+    private ProbabilitySurface(String symbol, double startPrice, double sigma, double mu, int pathCount,
+                               double distanceStep, double[] distances, int[] horizons,
+                               double[][] longProbability, double[][] shortProbability,
+                               double[][] priceRatioPercentiles) {
+        this.symbol = symbol;
+        this.startPrice = startPrice;
+        this.sigma = sigma;
+        this.mu = mu;
+        this.pathCount = pathCount;
+        this.timestamp = System.currentTimeMillis();
+        this.distanceStep = distanceStep;
+        this.distances = distances;
+        this.horizons = horizons;
+        this.longProbability = longProbability;
+        this.shortProbability = shortProbability;
+        this.priceRatioPercentiles = priceRatioPercentiles;
+    }
+
+    public static ProbabilitySurface build(String symbol, double startPrice, double sigma, double mu,
+                                           PathExtremes extremes, int[] horizons,
+                                           double distanceStep, int distancePoints) {
+        int n = extremes.pathCount();
+        double[] distances = new double[distancePoints];
+        for (int k = 0; k < distancePoints; k++) {
+            distances[k] = k * distanceStep;
+        }
+
+        double[][] longProb = new double[horizons.length][distancePoints];
+        double[][] shortProb = new double[horizons.length][distancePoints];
+        double[][] ratios = new double[horizons.length][PERCENTILES.length];
+
+        for (int h = 0; h < horizons.length; h++) {
+            float[] mins = extremes.minLog()[h];
+            float[] maxs = extremes.maxLog()[h];
+            float[] terminal = extremes.terminalLog()[h];
+            Arrays.sort(mins, 0, n);
+            Arrays.sort(maxs, 0, n);
+            Arrays.sort(terminal, 0, n);
+
+            for (int k = 0; k < distancePoints; k++) {
+                float d = (float) distances[k];
+                longProb[h][k] = (double) countAtMost(mins, n, -d) / n;
+                shortProb[h][k] = (double) (n - countBelow(maxs, n, d)) / n;
+            }
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                double index = (PERCENTILES[p] / 100.0) * (n - 1);
+                int lower = (int) Math.floor(index);
+                int upper = Math.min(lower + 1, n - 1);
+                double fraction = index - lower;
+                double lo = Math.exp(terminal[lower]);
+                double hi = Math.exp(terminal[upper]);
+                ratios[h][p] = lo + fraction * (hi - lo);
+            }
+        }
+
+        return new ProbabilitySurface(symbol, startPrice, sigma, mu, n, distanceStep, distances,
+                horizons.clone(), longProb, shortProb, ratios);
+    }
+
+    public double probability(boolean isLong, double currentPrice, double liquidationPrice, int minutes) {
+        double distance = isLong
+                ? Math.log(currentPrice / liquidationPrice)
+                : Math.log(liquidationPrice / currentPrice);
+        if (distance <= 0) return 1.0;
+
+        double[][] grid = isLong ? longProbability : shortProbability;
+        int last = distances.length - 1;
+        double pos = distance / distanceStep;
+        int k0 = Math.min((int) pos, last);
+        int k1 = Math.min(k0 + 1, last);
+        double wd = k0 == last ? 0.0 : pos - k0;
+
+        int h1 = 0;
+        while (h1 < horizons.length - 1 && horizons[h1] < minutes) h1++;
+        int h0 = h1;
+        double wh = 0.0;
+        if (h1 > 0 && minutes < horizons[h1]) {
+            h0 = h1 - 1;
+            wh = (double) (minutes - horizons[h0]) / (horizons[h1] - horizons[h0]);
+        }
+
+        double p0 = grid[h0][k0] + wd * (grid[h0][k1] - grid[h0][k0]);
+        double p1 = grid[h1][k0] + wd * (grid[h1][k1] - grid[h1][k0]);
+        return p0 + wh * (p1 - p0);
+    }
+
+    public double[] priceRatios(int minutes) {
+        int best = 0;
+        for (int h = 1; h < horizons.length; h++) {
+            if (Math.abs(horizons[h] - minutes) < Math.abs(horizons[best] - minutes)) best = h;
+        }
+        return priceRatioPercentiles[best];
+    }
+
+    private static int countAtMost(float[] sorted, int n, float value) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int countBelow(float[] sorted, int n, float value) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,65 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+final class ScalarPathKernel implements PathKernel {
+
+    @Override
+    public void stepAntitheticPair(double s0, double[] driftPerStep, double[] diffPerStep, double[] shocks,
+                                   double[] path, double[] mirrorPath, int totalSteps) {
+        path[0] = s0;
+        mirrorPath[0] = s0;
+        for (int t = 1; t <= totalSteps; t++) {
+            double dr = driftPerStep[t - 1];
+            double df = diffPerStep[t - 1];
+            double z = shocks[t - 1];
+            path[t]       = path[t - 1]       * Math.exp(dr + df * z);
+            mirrorPath[t] = mirrorPath[t - 1] * Math.exp(dr + df * (-z));
+        }
+    }
+
+    @Override
+    public int firstPassage(double[] path, int totalSteps, double barrier, boolean isLong) {
+        for (int t = 1; t <= totalSteps; t++) {
+            boolean liquidated = isLong
+                    ? path[t] <= barrier
+                    : path[t] >= barrier;
+            if (liquidated) {
+                return t;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void stepAntitheticPairLog(double[] driftPerStep, double[] diffPerStep, double[] shocks,
+                                      float[] logPath, float[] mirrorLogPath, int totalSteps) {
+        double logUp = 0.0;
+        double logDown = 0.0;
+        logPath[0] = 0f;
+        mirrorLogPath[0] = 0f;
+        for (int t = 1; t <= totalSteps; t++) {
+            double dz = diffPerStep[t - 1] * shocks[t - 1];
+            logUp += driftPerStep[t - 1] + dz;
+            logDown += driftPerStep[t - 1] - dz;
+            logPath[t] = (float) logUp;
+            mirrorLogPath[t] = (float) logDown;
+        }
+    }
+
+    @Override
+    public int firstPassageLog(float[] logPath, int totalSteps, float logBarrier, boolean isLong) {
+        for (int t = 1; t <= totalSteps; t++) {
+            boolean liquidated = isLong
+                    ? logPath[t] <= logBarrier
+                    : logPath[t] >= logBarrier;
+            if (liquidated) {
+                return t;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -29,4 +29,6 @@ public class SimulationRequest {
     private final double degreesOfFreedom = 5.0;
 
     private final double[] sigmaSchedule;
+
+    private final Long seed;
 }
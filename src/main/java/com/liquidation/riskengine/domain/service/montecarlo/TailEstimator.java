@@ -1,13 +1,13 @@
 package com.liquidation.riskengine.domain.service.montecarlo;
 
-import com.liquidation.riskengine.domain.model.PriceTick;
 import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.PriceWindow;
+import com.liquidation.riskengine.domain.service.volatility.StreamingVolatilityTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.List;
 
 @Slf4j
 @Component
@@ -19,9 +19,18 @@ public class TailEstimator {
     static final int MIN_TICKS = 30;
 
     private final PriceHistoryBuffer priceHistoryBuffer;
+    private final StreamingVolatilityTracker streamingTracker;
 
     public double estimateDegreesOfFreedom(String symbol, Duration window) {
-        List<PriceTick> ticks = priceHistoryBuffer.getRecentPrices(symbol, window);
+        StreamingVolatilityTracker.WindowStats stats = streamingTracker.window(symbol, window);
+        if (stats != null) {
+            if (stats.tickCount() < MIN_TICKS) {
+                return NU_CEILING;
+            }
+            return toDegreesOfFreedom(symbol, stats.excessKurtosis(), stats.tickCount());
+        }
+
+        PriceWindow ticks = priceHistoryBuffer.getWindow(symbol, window);
 
         if (ticks.size() < MIN_TICKS) {
             log.debug("[TailEstimator] 데이터 부족: symbol={}, ticks={}, fallback nu={}",
@@ -29,13 +38,15 @@ public class TailEstimator {
             return NU_CEILING;
         }
 
-        double[] logReturns = computeLogReturns(ticks);
+        double[] logReturns = ticks.logReturns();
         if (logReturns.length < MIN_TICKS - 1) {
             return NU_CEILING;
         }
 
-        double kurtosis = excessKurtosis(logReturns);
+        return toDegreesOfFreedom(symbol, excessKurtosis(logReturns), ticks.size());
+    }
 
+    private double toDegreesOfFreedom(String symbol, double kurtosis, int tickCount) {
         double nu;
         if (kurtosis <= 0) {
             nu = NU_CEILING;
@@ -46,23 +57,11 @@ public class TailEstimator {
         nu = Math.max(NU_FLOOR, Math.min(NU_CEILING, nu));
 
         log.debug("[TailEstimator] symbol={}, kurtosis={:.4f}, nu={:.2f}, ticks={}",
-                symbol, kurtosis, nu, ticks.size());
+                symbol, kurtosis, nu, tickCount);
 
         return nu;
     }
 
-    private double[] computeLogReturns(List<PriceTick> ticks) {
-        double[] returns = new double[ticks.size() - 1];
-        for (int i = 1; i < ticks.size(); i++) {
-            double prev = ticks.get(i - 1).price().doubleValue();
-            double curr = ticks.get(i).price().doubleValue();
-            if (prev > 0) {
-                returns[i - 1] = Math.log(curr / prev);
-            }
-        }
-        return returns;
-    }
-
     private double excessKurtosis(double[] data) {
         int n = data.length;
         double mean = 0;
@@ -0,0 +1,297 @@
+package com.liquidation.riskengine.domain.service.state;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiquidationWindow {
+
+    private final LiquidationWindowProperties properties;
+
+    private final Map<String, SymbolWindow> windows = new ConcurrentHashMap<>();
+    private final long startedAtMs = System.currentTimeMillis();
+
+    public boolean record(LiquidationEvent event) {
+        if (event == null || event.getSymbol() == null || event.getTimestamp() <= 0) return false;
+
+        SymbolWindow window = windows.computeIfAbsent(event.getSymbol().toUpperCase(),
+                k -> new SymbolWindow(properties.getHorizonSeconds(), properties.getMaxEventsPerSymbol()));
+        boolean accepted = window.add(event);
+        if (!accepted) {
+            log.debug("[LiqWindow] 보관 구간 밖 청산 이벤트 무시: symbol={}, ts={}",
+                    event.getSymbol(), event.getTimestamp());
+        }
+        return accepted;
+    }
+
+    public LiquidationStats stats(String symbol, Duration duration) {
+        if (symbol == null || duration == null) return LiquidationStats.EMPTY;
+
+        long nowMs = System.currentTimeMillis();
+        long fromMs = nowMs - duration.toMillis();
+        boolean started = fromMs >= startedAtMs;
+
+        SymbolWindow window = windows.get(symbol.toUpperCase());
+        if (window == null) {
+            boolean complete = started && duration.toMillis() <= horizonMs();
+            return complete ? LiquidationStats.EMPTY : LiquidationStats.EMPTY_PARTIAL;
+        }
+        return window.stats(Math.floorDiv(fromMs, 1000L), started);
+    }
+
+    public List<LiquidationEvent> events(String symbol, Duration duration) {
+        if (symbol == null || duration == null) return Collections.emptyList();
+
+        SymbolWindow window = windows.get(symbol.toUpperCase());
+        if (window == null) return Collections.emptyList();
+        return window.events(System.currentTimeMillis() - duration.toMillis());
+    }
+
+    public boolean coversEvents(String symbol, Duration duration) {
+        if (symbol == null || duration == null) return false;
+
+        long fromMs = System.currentTimeMillis() - duration.toMillis();
+        if (fromMs < startedAtMs) return false;
+
+        SymbolWindow window = windows.get(symbol.toUpperCase());
+        return window == null || window.retainsEventsSince(fromMs);
+    }
+
+    public long horizonMs() {
+        return properties.getHorizonSeconds() * 1000L;
+    }
+
+    public record LiquidationStats(long buyCount, long sellCount, double buyNotional, double sellNotional,
+                                   boolean complete) {
+
+        public static final LiquidationStats EMPTY = new LiquidationStats(0, 0, 0.0, 0.0, true);
+        static final LiquidationStats EMPTY_PARTIAL = new LiquidationStats(0, 0, 0.0, 0.0, false);
+
+        public long count() {
+            return buyCount + sellCount;
+        }
+
+        public double notional() {
+            return buyNotional + sellNotional;
+        }
+
+        public static LiquidationStats of(List<LiquidationEvent> events) {
+            if (events == null || events.isEmpty()) return EMPTY;
+
+            long buys = 0;
+            long sells = 0;
+            double buyNotional = 0.0;
+            double sellNotional = 0.0;
+            for (LiquidationEvent e : events) {
+                double notional = notionalOf(e);
+                if (e.isBuy()) {
+                    buys++;
+                    buyNotional += notional;
+                } else {
+                    sells++;
+                    sellNotional += notional;
+                }
+            }
+            return new LiquidationStats(buys, sells, buyNotional, sellNotional, true);
+        }
+    }
+
+    static double notionalOf(LiquidationEvent event) {
+        BigDecimal notional = event.getNotionalValue();
+        return notional != null ? notional.doubleValue() : 0.0;
+    }
+
+    static final class SymbolWindow {
+
+        private static final long NONE = Long.MIN_VALUE;
+
+        private final StampedLock lock = new StampedLock();
+
+        private final int secondMask;
+        private final long[] cumBuyCount;
+        private final long[] cumSellCount;
+        private final double[] cumBuyNotional;
+        private final double[] cumSellNotional;
+
+        private final LiquidationEvent[] events;
+        private final int eventMask;
+
+        private long headSecond = NONE;
+        private long firstSecond = NONE;
+        private long buyCount;
+        private long sellCount;
+        private double buyNotional;
+        private double sellNotional;
+
+        private long eventTail;
+        private long evictedThroughMs = Long.MIN_VALUE;
+
+        SymbolWindow(int horizonSeconds, int maxEvents) {
+            int seconds = nextPowerOfTwo(Math.max(horizonSeconds, 1) + 1);
+            this.secondMask = seconds - 1;
+            this.cumBuyCount = new long[seconds];
+            this.cumSellCount = new long[seconds];
+            this.cumBuyNotional = new double[seconds];
+            this.cumSellNotional = new double[seconds];
+
+            int eventCapacity = nextPowerOfTwo(Math.max(maxEvents, 1));
+            this.events = new LiquidationEvent[eventCapacity];
+            this.eventMask = eventCapacity - 1;
+        }
+
+        boolean add(LiquidationEvent event) {
+            long second = Math.floorDiv(event.getTimestamp(), 1000L);
+            boolean buy = event.isBuy();
+            double notional = notionalOf(event);
+
+            long stamp = lock.writeLock();
+            try {
+                if (headSecond == NONE) {
+                    headSecond = second;
+                    firstSecond = second;
+                    writeTotals(second);
+                } else if (second > headSecond) {
+                    advanceTo(second);
+                } else if (headSecond - second > secondMask) {
+                    return false;
+                } else if (second < firstSecond) {
+                    for (long s = second; s < firstSecond; s++) {
+                        int slot = (int) (s & secondMask);
+                        cumBuyCount[slot] = 0;
+                        cumSellCount[slot] = 0;
+                        cumBuyNotional[slot] = 0.0;
+                        cumSellNotional[slot] = 0.0;
+                    }
+                    firstSecond = second;
+                }
+
+                for (long s = second; s <= headSecond; s++) {
+                    int slot = (int) (s & secondMask);
+                    if (buy) {
+                        cumBuyCount[slot]++;
+                        cumBuyNotional[slot] += notional;
+                    } else {
+                        cumSellCount[slot]++;
+                        cumSellNotional[slot] += notional;
+                    }
+                }
+                if (buy) {
+                    buyCount++;
+                    buyNotional += notional;
+                } else {
+                    sellCount++;
+                    sellNotional += notional;
+                }
+
+                int eventSlot = (int) (eventTail & eventMask);
+                LiquidationEvent evicted = events[eventSlot];
+                if (evicted != null && evicted.getTimestamp() > evictedThroughMs) {
+                    evictedThroughMs = evicted.getTimestamp();
+                }
+                events[eventSlot] = event;
+                eventTail++;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        LiquidationStats stats(long fromSecond, boolean started) {
+            long stamp = lock.tryOptimisticRead();
+            LiquidationStats result = computeStats(fromSecond, started);
+            if (lock.validate(stamp)) return result;
+
+            stamp = lock.readLock();
+            try {
+                return computeStats(fromSecond, started);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        List<LiquidationEvent> events(long fromMs) {
+            long stamp = lock.readLock();
+            try {
+                long oldest = Math.max(0, eventTail - events.length);
+                int n = 0;
+                for (long i = eventTail - 1; i >= oldest; i--) {
+                    if (events[(int) (i & eventMask)].getTimestamp() < fromMs) break;
+                    n++;
+                }
+                if (n == 0) return Collections.emptyList();
+
+                List<LiquidationEvent> result = new ArrayList<>(n);
+                for (long i = eventTail - n; i < eventTail; i++) {
+                    result.add(events[(int) (i & eventMask)]);
+                }
+                return result;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        boolean retainsEventsSince(long fromMs) {
+            long stamp = lock.readLock();
+            try {
+                return evictedThroughMs < fromMs;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private LiquidationStats computeStats(long fromSecond, boolean started) {
+            long boundary = fromSecond - 1;
+            if (boundary >= headSecond) {
+                return started ? LiquidationStats.EMPTY : LiquidationStats.EMPTY_PARTIAL;
+            }
+
+            long oldestSecond = headSecond - secondMask;
+            if (boundary < firstSecond && firstSecond >= oldestSecond) {
+                return new LiquidationStats(buyCount, sellCount, buyNotional, sellNotional, started);
+            }
+
+            boolean complete = started && boundary >= oldestSecond;
+            int slot = (int) (Math.max(boundary, oldestSecond) & secondMask);
+            return new LiquidationStats(
+                    buyCount - cumBuyCount[slot],
+                    sellCount - cumSellCount[slot],
+                    buyNotional - cumBuyNotional[slot],
+                    sellNotional - cumSellNotional[slot],
+                    complete);
+        }
+
+        private void advanceTo(long second) {
+            long from = Math.max(headSecond + 1, second - secondMask);
+            for (long s = from; s <= second; s++) {
+                writeTotals(s);
+            }
+            headSecond = second;
+        }
+
+        private void writeTotals(long second) {
+            int slot = (int) (second & secondMask);
+            cumBuyCount[slot] = buyCount;
+            cumSellCount[slot] = sellCount;
+            cumBuyNotional[slot] = buyNotional;
+            cumSellNotional[slot] = sellNotional;
+        }
+
+        private static int nextPowerOfTwo(int value) {
+            int highest = Integer.highestOneBit(value);
+            return highest == value ? value : highest << 1;
+        }
+    }
+}
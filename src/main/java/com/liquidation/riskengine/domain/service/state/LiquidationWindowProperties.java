@@ -0,0 +1,16 @@
+package com.liquidation.riskengine.domain.service.state;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "liquidation.window")
+public class LiquidationWindowProperties {
+
+    private int horizonSeconds = 3_600;
+    private int maxEventsPerSymbol = 4_096;
+}
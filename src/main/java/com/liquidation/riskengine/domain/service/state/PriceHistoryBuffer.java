@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -16,25 +17,111 @@ import java.util.concurrent.ConcurrentHashMap;
 public class PriceHistoryBuffer {
 
     static final int DEFAULT_CAPACITY = 86_400;
+    static final int MIN_ROLLUP_BUCKETS = 60;
+    static final long[] ROLLUP_WIDTHS_MS = {10_000L, 60_000L, 300_000L};
+    static final int[] ROLLUP_CAPACITIES = {16_384, 2_048, 512};
 
     private final Map<String, CircularBuffer> buffers = new ConcurrentHashMap<>();
 
     public void record(String symbol, BigDecimal price, long timestampMs) {
         if (symbol == null || price == null) return;
+        record(symbol, price.doubleValue(), timestampMs);
+    }
+
+    public void record(String symbol, double price, long timestampMs) {
+        if (symbol == null) return;
+        if (timestampMs <= 0) {
+            log.debug("[PriceHistory] 유효하지 않은 타임스탬프 틱 무시: symbol={}, timestamp={}", symbol, timestampMs);
+            return;
+        }
 
         String key = symbol.toUpperCase();
         CircularBuffer buffer = buffers.computeIfAbsent(key, k -> new CircularBuffer(DEFAULT_CAPACITY));
-        buffer.add(new PriceTick(timestampMs, price));
+        buffer.add(timestampMs, price);
     }
 
-    public List<PriceTick> getRecentPrices(String symbol, Duration duration) {
-        if (symbol == null || duration == null) return List.of();
+    public PriceWindow getWindow(String symbol, Duration duration) {
+        if (symbol == null || duration == null) return PriceWindow.EMPTY;
 
         CircularBuffer buffer = buffers.get(symbol.toUpperCase());
-        if (buffer == null) return List.of();
+        if (buffer == null) return PriceWindow.EMPTY;
 
         long cutoffMs = System.currentTimeMillis() - duration.toMillis();
-        return buffer.query(cutoffMs);
+        return buffer.window(cutoffMs);
+    }
+
+    public List<PriceTick> getRecentPrices(String symbol, Duration duration) {
+        PriceWindow window = getWindow(symbol, duration);
+        int size = window.size();
+        if (size == 0) return List.of();
+
+        List<PriceTick> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new PriceTick(window.timestamp(i), BigDecimal.valueOf(window.price(i))));
+        }
+        return result;
+    }
+
+    public record RealizedVariance(double sumSquaredLogReturns, int returnCount, long spanMs, long resolutionMs) {
+
+        public static final RealizedVariance EMPTY = new RealizedVariance(0.0, 0, 0, 0);
+
+        public double annualizedSigma(double secondsPerYear) {
+            if (spanMs <= 0) return 0.0;
+            return Math.sqrt(sumSquaredLogReturns * secondsPerYear * 1000.0 / spanMs);
+        }
+    }
+
+    public RealizedVariance realizedVariance(String symbol, Duration duration) {
+        if (symbol == null || duration == null) return RealizedVariance.EMPTY;
+
+        CircularBuffer buffer = buffers.get(symbol.toUpperCase());
+        if (buffer == null) return RealizedVariance.EMPTY;
+
+        long windowMs = duration.toMillis();
+        long cutoffMs = System.currentTimeMillis() - windowMs;
+        RollupTier tier = buffer.rollupTier(windowMs);
+        if (tier != null) {
+            return tier.realizedVariance(cutoffMs);
+        }
+
+        PriceWindow window = buffer.window(cutoffMs);
+        double sumSq = 0.0;
+        int count = 0;
+        double prev = window.size() > 0 ? window.price(0) : 0.0;
+        for (int i = 1; i < window.size(); i++) {
+            double curr = window.price(i);
+            if (prev > 0 && curr > 0) {
+                double r = Math.log(curr / prev);
+                sumSq += r * r;
+                count++;
+            }
+            prev = curr;
+        }
+        return new RealizedVariance(sumSq, count, window.spanMs(), 0);
+    }
+
+    public record BarReturns(double[] logReturns, long resolutionMs) {
+
+        public static final BarReturns EMPTY = new BarReturns(new double[0], 0);
+
+        public double periodsPerYear(double secondsPerYear) {
+            if (resolutionMs <= 0) return 0.0;
+            return secondsPerYear * 1000.0 / resolutionMs;
+        }
+    }
+
+    public BarReturns barReturns(String symbol, Duration duration) {
+        if (symbol == null || duration == null) return BarReturns.EMPTY;
+
+        CircularBuffer buffer = buffers.get(symbol.toUpperCase());
+        if (buffer == null) return BarReturns.EMPTY;
+
+        long windowMs = duration.toMillis();
+        RollupTier tier = buffer.rollupTier(windowMs);
+        if (tier == null) return BarReturns.EMPTY;
+
+        return new BarReturns(tier.closeLogReturns(System.currentTimeMillis() - windowMs), tier.widthMs);
     }
 
     public record MinMax(double min, double max) {}
@@ -49,24 +136,11 @@ public class PriceHistoryBuffer {
         long t = buffer.tail;
         if (t - h == 0) return null;
 
-        int startIdx = buffer.binarySearchStart(h, t, fromMs);
-
-        double min = Double.MAX_VALUE;
-        double max = -Double.MAX_VALUE;
-        boolean found = false;
-
-        for (long i = startIdx; i < t; i++) {
-            PriceTick tick = buffer.elements[(int) (i & buffer.mask)];
-            if (tick == null) continue;
-            if (tick.timestamp() > toMs) break;
+        long startIdx = buffer.binarySearchStart(h, t, fromMs);
+        long endIdx = buffer.binarySearchStart(startIdx, t, toMs + 1);
+        if (endIdx <= startIdx) return null;
 
-            double p = tick.price().doubleValue();
-            if (p < min) min = p;
-            if (p > max) max = p;
-            found = true;
-        }
-
-        return found ? new MinMax(min, max) : null;
+        return buffer.rangeMinMax(startIdx, endIdx);
     }
 
     public int size(String symbol) {
@@ -75,47 +149,326 @@ public class PriceHistoryBuffer {
         return buffer == null ? 0 : buffer.size();
     }
 
+    public static final class PriceWindow {
+
+        static final PriceWindow EMPTY = new PriceWindow(new long[1], new double[1], 0, 0, 0);
+
+        private final long[] timestamps;
+        private final double[] prices;
+        private final int mask;
+        private final long start;
+        private final int size;
+
+        PriceWindow(long[] timestamps, double[] prices, int mask, long start, int size) {
+            this.timestamps = timestamps;
+            this.prices = prices;
+            this.mask = mask;
+            this.start = start;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public long timestamp(int i) {
+            return timestamps[(int) ((start + i) & mask)];
+        }
+
+        public double price(int i) {
+            return prices[(int) ((start + i) & mask)];
+        }
+
+        public double firstPrice() {
+            return price(0);
+        }
+
+        public double lastPrice() {
+            return price(size - 1);
+        }
+
+        public long spanMs() {
+            return size < 2 ? 0 : timestamp(size - 1) - timestamp(0);
+        }
+
+        public double avgIntervalSec() {
+            if (size < 2) return 0.001;
+            return Math.max((double) spanMs() / (size - 1) / 1000.0, 0.001);
+        }
+
+        public int logReturns(double[] out) {
+            int valid = 0;
+            double prev = price(0);
+            for (int i = 1; i < size; i++) {
+                double curr = price(i);
+                if (prev > 0 && curr > 0) {
+                    out[valid++] = Math.log(curr / prev);
+                }
+                prev = curr;
+            }
+            return valid;
+        }
+
+        public double[] logReturns() {
+            if (size < 2) return new double[0];
+            double[] out = new double[size - 1];
+            int valid = logReturns(out);
+            if (valid < out.length) {
+                double[] trimmed = new double[valid];
+                System.arraycopy(out, 0, trimmed, 0, valid);
+                return trimmed;
+            }
+            return out;
+        }
+    }
+
+    static final class RollupTier {
+
+        private final long widthMs;
+        private final long[] bucketStart;
+        private final double[] open;
+        private final double[] high;
+        private final double[] low;
+        private final double[] close;
+        private final double[] sumSqLogReturns;
+        private final int[] returnCount;
+        private final long[] returnSpanMs;
+        private final int mask;
+        private volatile long tail;
+
+        RollupTier(long widthMs, int capacity) {
+            this.widthMs = widthMs;
+            this.bucketStart = new long[capacity];
+            this.open = new double[capacity];
+            this.high = new double[capacity];
+            this.low = new double[capacity];
+            this.close = new double[capacity];
+            this.sumSqLogReturns = new double[capacity];
+            this.returnCount = new int[capacity];
+            this.returnSpanMs = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        int capacity() {
+            return bucketStart.length;
+        }
+
+        void add(long timestampMs, double price, double r2, long dtMs, boolean hasReturn) {
+            long start = timestampMs - Math.floorMod(timestampMs, widthMs);
+            long t = tail;
+            int slot;
+            if (t == 0 || start > bucketStart[(int) ((t - 1) & mask)]) {
+                slot = (int) (t & mask);
+                bucketStart[slot] = start;
+                open[slot] = price;
+                high[slot] = price;
+                low[slot] = price;
+                close[slot] = price;
+                sumSqLogReturns[slot] = 0.0;
+                returnCount[slot] = 0;
+                returnSpanMs[slot] = 0;
+                tail = t + 1;
+            } else {
+                slot = (int) ((t - 1) & mask);
+                if (price > high[slot]) high[slot] = price;
+                if (price < low[slot]) low[slot] = price;
+                close[slot] = price;
+            }
+            if (hasReturn) {
+                sumSqLogReturns[slot] += r2;
+                returnCount[slot]++;
+                returnSpanMs[slot] += dtMs;
+            }
+        }
+
+        RealizedVariance realizedVariance(long cutoffMs) {
+            long t = tail;
+            long oldest = Math.max(0, t - bucketStart.length);
+            double sumSq = 0.0;
+            int count = 0;
+            long span = 0;
+            for (long i = t - 1; i >= oldest; i--) {
+                int slot = (int) (i & mask);
+                if (bucketStart[slot] < cutoffMs) break;
+                sumSq += sumSqLogReturns[slot];
+                count += returnCount[slot];
+                span += returnSpanMs[slot];
+            }
+            return new RealizedVariance(sumSq, count, span, widthMs);
+        }
+
+        double[] closeLogReturns(long cutoffMs) {
+            long t = tail;
+            long oldest = Math.max(0, t - bucketStart.length);
+            long first = t;
+            while (first > oldest && bucketStart[(int) ((first - 1) & mask)] >= cutoffMs) {
+                first--;
+            }
+            int n = (int) (t - first) - 1;
+            if (n <= 0) return new double[0];
+
+            double[] out = new double[n];
+            int valid = 0;
+            double prev = close[(int) (first & mask)];
+            for (long i = first + 1; i < t; i++) {
+                double curr = close[(int) (i & mask)];
+                if (prev > 0 && curr > 0) {
+                    out[valid++] = Math.log(curr / prev);
+                }
+                prev = curr;
+            }
+            return valid == n ? out : Arrays.copyOf(out, valid);
+        }
+    }
+
     static final class CircularBuffer {
 
-        private final PriceTick[] elements;
+        static final int BLOCK_SHIFT = 6;
+        static final int SUPER_SHIFT = 12;
+        static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+        static final int SUPER_SIZE = 1 << SUPER_SHIFT;
+
+        private final long[] timestamps;
+        private final double[] prices;
         private final int mask;
+        private final double[] blockMin;
+        private final double[] blockMax;
+        private final double[] superMin;
+        private final double[] superMax;
+        private final int blockMask;
+        private final int superMask;
+        private final RollupTier[] tiers;
         private volatile long head;
         private volatile long tail;
 
         CircularBuffer(int requestedCapacity) {
             int capacity = nextPowerOfTwo(requestedCapacity);
-            this.elements = new PriceTick[capacity];
+            this.timestamps = new long[capacity];
+            this.prices = new double[capacity];
             this.mask = capacity - 1;
+            int blocks = Math.max(capacity >> BLOCK_SHIFT, 1);
+            int supers = Math.max(capacity >> SUPER_SHIFT, 1);
+            this.blockMin = new double[blocks];
+            this.blockMax = new double[blocks];
+            this.superMin = new double[supers];
+            this.superMax = new double[supers];
+            this.blockMask = blocks - 1;
+            this.superMask = supers - 1;
+            this.tiers = new RollupTier[ROLLUP_WIDTHS_MS.length];
+            for (int i = 0; i < tiers.length; i++) {
+                tiers[i] = new RollupTier(ROLLUP_WIDTHS_MS[i], ROLLUP_CAPACITIES[i]);
+            }
         }
 
-        void add(PriceTick tick) {
+        void add(long timestampMs, double price) {
             long t = tail;
             long h = head;
-            if (t - h == elements.length) {
+
+            boolean hasReturn = false;
+            double r2 = 0.0;
+            long dtMs = 0;
+            if (t > h) {
+                int prevSlot = (int) ((t - 1) & mask);
+                double prev = prices[prevSlot];
+                if (prev > 0 && price > 0) {
+                    double r = Math.log(price / prev);
+                    r2 = r * r;
+                    dtMs = timestampMs - timestamps[prevSlot];
+                    hasReturn = true;
+                }
+            }
+            for (RollupTier tier : tiers) {
+                tier.add(timestampMs, price, r2, dtMs, hasReturn);
+            }
+
+            if (t - h == timestamps.length) {
                 head = h + 1;
             }
-            elements[(int) (t & mask)] = tick;
+            int slot = (int) (t & mask);
+            timestamps[slot] = timestampMs;
+            prices[slot] = price;
+
+            int block = (int) ((t >>> BLOCK_SHIFT) & blockMask);
+            if ((t & (BLOCK_SIZE - 1)) == 0) {
+                blockMin[block] = price;
+                blockMax[block] = price;
+            } else {
+                if (price < blockMin[block]) blockMin[block] = price;
+                if (price > blockMax[block]) blockMax[block] = price;
+            }
+            int sup = (int) ((t >>> SUPER_SHIFT) & superMask);
+            if ((t & (SUPER_SIZE - 1)) == 0) {
+                superMin[sup] = price;
+                superMax[sup] = price;
+            } else {
+                if (price < superMin[sup]) superMin[sup] = price;
+                if (price > superMax[sup]) superMax[sup] = price;
+            }
             tail = t + 1;
         }
 
-        List<PriceTick> query(long fromTimestampMs) {
+        MinMax rangeMinMax(long from, long to) {
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            long i = from;
+
+            while (i < to && (i & (BLOCK_SIZE - 1)) != 0) {
+                double p = prices[(int) (i & mask)];
+                if (p < min) min = p;
+                if (p > max) max = p;
+                i++;
+            }
+            while (i + BLOCK_SIZE <= to && (i & (SUPER_SIZE - 1)) != 0) {
+                int block = (int) ((i >>> BLOCK_SHIFT) & blockMask);
+                if (blockMin[block] < min) min = blockMin[block];
+                if (blockMax[block] > max) max = blockMax[block];
+                i += BLOCK_SIZE;
+            }
+            while (i + SUPER_SIZE <= to) {
+                int sup = (int) ((i >>> SUPER_SHIFT) & superMask);
+                if (superMin[sup] < min) min = superMin[sup];
+                if (superMax[sup] > max) max = superMax[sup];
+                i += SUPER_SIZE;
+            }
+            while (i + BLOCK_SIZE <= to) {
+                int block = (int) ((i >>> BLOCK_SHIFT) & blockMask);
+                if (blockMin[block] < min) min = blockMin[block];
+                if (blockMax[block] > max) max = blockMax[block];
+                i += BLOCK_SIZE;
+            }
+            while (i < to) {
+                double p = prices[(int) (i & mask)];
+                if (p < min) min = p;
+                if (p > max) max = p;
+                i++;
+            }
+            return new MinMax(min, max);
+        }
+
+        PriceWindow window(long fromTimestampMs) {
             long h = head;
             long t = tail;
-            int count = (int) (t - h);
-            if (count == 0) return List.of();
+            if (t - h == 0) return PriceWindow.EMPTY;
 
-            int startIdx = binarySearchStart(h, t, fromTimestampMs);
+            long startIdx = binarySearchStart(h, t, fromTimestampMs);
             int resultSize = (int) (t - startIdx);
-            if (resultSize <= 0) return List.of();
+            if (resultSize <= 0) return PriceWindow.EMPTY;
+
+            return new PriceWindow(timestamps, prices, mask, startIdx, resultSize);
+        }
 
-            List<PriceTick> result = new ArrayList<>(resultSize);
-            for (long i = startIdx; i < t; i++) {
-                PriceTick tick = elements[(int) (i & mask)];
-                if (tick != null) {
-                    result.add(tick);
+        RollupTier rollupTier(long windowMs) {
+            for (int i = tiers.length - 1; i >= 0; i--) {
+                RollupTier tier = tiers[i];
+                if (windowMs / tier.widthMs >= MIN_ROLLUP_BUCKETS && windowMs / tier.widthMs <= tier.capacity()) {
+                    return tier;
                 }
             }
-            return result;
+            return null;
         }
 
         int size() {
@@ -124,19 +477,18 @@ public class PriceHistoryBuffer {
             return (int) (t - h);
         }
 
-        private int binarySearchStart(long head, long tail, long fromTimestampMs) {
+        private long binarySearchStart(long head, long tail, long fromTimestampMs) {
             long lo = head;
             long hi = tail;
             while (lo < hi) {
                 long mid = lo + ((hi - lo) >>> 1);
-                PriceTick tick = elements[(int) (mid & mask)];
-                if (tick == null || tick.timestamp() < fromTimestampMs) {
+                if (timestamps[(int) (mid & mask)] < fromTimestampMs) {
                     lo = mid + 1;
                 } else {
                     hi = mid;
                 }
             }
-            return (int) lo;
+            return lo;
         }
 
         private static int nextPowerOfTwo(int value) {
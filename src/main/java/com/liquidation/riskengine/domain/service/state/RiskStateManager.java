@@ -4,31 +4,30 @@ import com.liquidation.riskengine.domain.model.LiquidationEvent;
 import com.liquidation.riskengine.domain.model.OpenInterestSnapshot;
 import com.liquidation.riskengine.domain.model.OrderBookSnapshot;
 import com.liquidation.riskengine.domain.model.UserPosition;
+import com.liquidation.riskengine.domain.service.state.LiquidationWindow.LiquidationStats;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RiskStateManager {
 
-    private static final int MAX_LIQUIDATIONS_PER_SYMBOL = 500;
+    private final LiquidationWindow liquidationWindow;
 
     private final Map<String, BigDecimal> latestMarkPrices = new ConcurrentHashMap<>();
     private final Map<String, OrderBookSnapshot> latestOrderBooks = new ConcurrentHashMap<>();
     private final Map<String, OpenInterestSnapshot> latestOiSnapshots = new ConcurrentHashMap<>();
-    private final Map<String, Deque<LiquidationEvent>> recentLiquidations = new ConcurrentHashMap<>();
     private final Map<String, Map<String, UserPosition>> positionsByUser = new ConcurrentHashMap<>();
     private final Map<String, Map<String, UserPosition>> positionsBySymbol = new ConcurrentHashMap<>();
 
@@ -126,16 +125,7 @@ public class RiskStateManager {
 
     public void addLiquidation(LiquidationEvent event) {
         if (event == null || event.getSymbol() == null) return;
-        String symbol = event.getSymbol().toUpperCase();
-
-        Deque<LiquidationEvent> deque = recentLiquidations
-                .computeIfAbsent(symbol, k -> new ArrayDeque<>());
-
-        deque.addLast(event);
-
-        while (deque.size() > MAX_LIQUIDATIONS_PER_SYMBOL) {
-            deque.pollFirst();
-        }
+        liquidationWindow.record(event);
     }
 
     public OrderBookSnapshot getLatestOrderBook(String symbol) {
@@ -154,21 +144,15 @@ public class RiskStateManager {
     }
 
     public List<LiquidationEvent> getRecentLiquidations(String symbol, Duration window) {
-        if (symbol == null) return Collections.emptyList();
-        Deque<LiquidationEvent> deque = recentLiquidations.get(symbol.toUpperCase());
-        if (deque == null || deque.isEmpty()) return Collections.emptyList();
+        return liquidationWindow.events(symbol, window);
+    }
 
-        long cutoff = Instant.now().toEpochMilli() - window.toMillis();
-        return deque.stream()
-                .filter(e -> e.getTimestamp() >= cutoff)
-                .toList();
+    public LiquidationStats getRecentLiquidationStats(String symbol, Duration window) {
+        return liquidationWindow.stats(symbol, window);
     }
 
     public List<LiquidationEvent> getAllRecentLiquidations(String symbol) {
-        if (symbol == null) return Collections.emptyList();
-        Deque<LiquidationEvent> deque = recentLiquidations.get(symbol.toUpperCase());
-        if (deque == null) return Collections.emptyList();
-        return List.copyOf(deque);
+        return liquidationWindow.events(symbol, Duration.ofMillis(liquidationWindow.horizonMs()));
     }
 
     private String normalizeSymbol(String symbol) {
@@ -91,6 +91,19 @@ public class GarchEstimator {
         return new GarchResult(currentVariance, omega, alpha, beta, periodsPerYear);
     }
 
+    public GarchResult estimateFromState(double sampleVariance, double omegaWeight, double shockTerm,
+                                         double periodsPerYear) {
+        double alpha = properties.getGarchAlpha();
+        double beta = properties.getGarchBeta();
+        double persistence = alpha + beta;
+        double omega = persistence < 1.0
+                ? sampleVariance * (1.0 - persistence)
+                : sampleVariance * 0.05;
+
+        double currentVariance = Math.max(omega * omegaWeight + shockTerm, 1e-20);
+        return new GarchResult(currentVariance, omega, alpha, beta, periodsPerYear);
+    }
+
     private double computeGarchVarianceSeries(double[] logReturns, double omega,
                                                double alpha, double beta) {
         double variance = logReturns[0] * logReturns[0];
@@ -0,0 +1,259 @@
+package com.liquidation.riskengine.domain.service.volatility;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingVolatilityTracker {
+
+    static final long[] WINDOW_MILLIS = {
+            Duration.ofMinutes(1).toMillis(),
+            Duration.ofMinutes(5).toMillis(),
+            Duration.ofHours(1).toMillis(),
+            Duration.ofHours(24).toMillis()
+    };
+    static final int INITIAL_CAPACITY = 1 << 10;
+    static final int MAX_CAPACITY = 1 << 17;
+    static final int RESYNC_INTERVAL = 8_192;
+
+    private final VolatilityProperties properties;
+
+    private final Map<String, SymbolState> states = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return properties.isStreaming();
+    }
+
+    public void record(String symbol, double price, long timestampMs) {
+        if (!properties.isStreaming() || symbol == null || !(price > 0) || timestampMs <= 0) return;
+        states.computeIfAbsent(symbol.toUpperCase(), k -> new SymbolState(properties.getGarchBeta()))
+                .add(price, timestampMs, properties.getGarchAlpha());
+    }
+
+    public WindowStats window(String symbol, Duration window) {
+        if (!properties.isStreaming() || symbol == null || window == null) return null;
+        int idx = windowIndex(window.toMillis());
+        if (idx < 0) return null;
+        SymbolState state = states.get(symbol.toUpperCase());
+        if (state == null) return null;
+        return state.snapshot(idx, System.currentTimeMillis());
+    }
+
+    private static int windowIndex(long millis) {
+        for (int i = 0; i < WINDOW_MILLIS.length; i++) {
+            if (WINDOW_MILLIS[i] == millis) return i;
+        }
+        return -1;
+    }
+
+    public record WindowStats(int returnCount, double sum, double sumSq, double sumCube, double sumQuad,
+                              double avgIntervalSec, double ewmaVariance,
+                              double garchOmegaWeight, double garchShockTerm) {
+
+        public int tickCount() {
+            return returnCount == 0 ? 0 : returnCount + 1;
+        }
+
+        public double sampleVariance() {
+            if (returnCount < 2) return 0.0;
+            return Math.max((sumSq - sum * sum / returnCount) / (returnCount - 1), 0.0);
+        }
+
+        public double excessKurtosis() {
+            int n = returnCount;
+            if (n == 0) return 0.0;
+            double mean = sum / n;
+            double mean2 = mean * mean;
+            double m2 = sumSq / n - mean2;
+            double m4 = sumQuad / n - 4 * mean * sumCube / n + 6 * mean2 * sumSq / n - 3 * mean2 * mean2;
+            if (m2 <= 0) return 0.0;
+            return m4 / (m2 * m2) - 3.0;
+        }
+    }
+
+    static final class SymbolState {
+
+        private static final int LONGEST = WINDOW_MILLIS.length - 1;
+
+        private final double garchBeta;
+
+        private long[] startTs = new long[INITIAL_CAPACITY];
+        private long[] intervalMs = new long[INITIAL_CAPACITY];
+        private double[] returns = new double[INITIAL_CAPACITY];
+        private int mask = INITIAL_CAPACITY - 1;
+        private long tail;
+
+        private final long[] heads = new long[WINDOW_MILLIS.length];
+        private final double[] s1 = new double[WINDOW_MILLIS.length];
+        private final double[] s2 = new double[WINDOW_MILLIS.length];
+        private final double[] s3 = new double[WINDOW_MILLIS.length];
+        private final double[] s4 = new double[WINDOW_MILLIS.length];
+        private final long[] spanMs = new long[WINDOW_MILLIS.length];
+
+        private double lastPrice;
+        private long lastTs;
+        private double lastReturn;
+        private boolean seeded;
+        private double ewmaVariance;
+        private double garchOmegaWeight;
+        private double garchShockTerm;
+        private int sinceResync;
+
+        SymbolState(double garchBeta) {
+            this.garchBeta = garchBeta;
+        }
+
+        synchronized void add(double price, long timestampMs, double garchAlpha) {
+            if (lastPrice <= 0) {
+                lastPrice = price;
+                lastTs = timestampMs;
+                return;
+            }
+
+            double r = Math.log(price / lastPrice);
+            long dt = timestampMs - lastTs;
+            long start = lastTs;
+            lastPrice = price;
+            lastTs = timestampMs;
+
+            if (!seeded) {
+                ewmaVariance = r * r;
+                garchOmegaWeight = 0.0;
+                garchShockTerm = r * r;
+                seeded = true;
+            } else {
+                ewmaVariance = VolatilityEstimator.EWMA_LAMBDA * ewmaVariance
+                        + (1.0 - VolatilityEstimator.EWMA_LAMBDA) * r * r;
+                garchOmegaWeight = 1.0 + garchBeta * garchOmegaWeight;
+                garchShockTerm = garchAlpha * lastReturn * lastReturn + garchBeta * garchShockTerm;
+            }
+            lastReturn = r;
+
+            if (tail - heads[LONGEST] == returns.length) {
+                if (returns.length < MAX_CAPACITY) {
+                    resize(returns.length << 1);
+                } else {
+                    evictOldest();
+                }
+            }
+            int slot = (int) (tail & mask);
+            startTs[slot] = start;
+            intervalMs[slot] = dt;
+            returns[slot] = r;
+            tail++;
+
+            double r2 = r * r;
+            for (int w = 0; w < WINDOW_MILLIS.length; w++) {
+                s1[w] += r;
+                s2[w] += r2;
+                s3[w] += r2 * r;
+                s4[w] += r2 * r2;
+                spanMs[w] += dt;
+                evict(w, timestampMs - WINDOW_MILLIS[w]);
+            }
+
+            if (++sinceResync >= RESYNC_INTERVAL) {
+                resync();
+            }
+        }
+
+        synchronized WindowStats snapshot(int w, long nowMs) {
+            evict(w, nowMs - WINDOW_MILLIS[w]);
+            int n = (int) (tail - heads[w]);
+            double avgIntervalSec = n == 0 ? 0.0 : Math.max(spanMs[w] / 1000.0 / n, 0.001);
+            return new WindowStats(n, s1[w], s2[w], s3[w], s4[w], avgIntervalSec,
+                    ewmaVariance, garchOmegaWeight, garchShockTerm);
+        }
+
+        private void evict(int w, long cutoffMs) {
+            long h = heads[w];
+            while (h < tail) {
+                int slot = (int) (h & mask);
+                if (startTs[slot] >= cutoffMs) break;
+                double r = returns[slot];
+                double r2 = r * r;
+                s1[w] -= r;
+                s2[w] -= r2;
+                s3[w] -= r2 * r;
+                s4[w] -= r2 * r2;
+                spanMs[w] -= intervalMs[slot];
+                h++;
+            }
+            heads[w] = h;
+        }
+
+        synchronized int capacity() {
+            return returns.length;
+        }
+
+        private void evictOldest() {
+            long oldest = heads[LONGEST];
+            int slot = (int) (oldest & mask);
+            double r = returns[slot];
+            double r2 = r * r;
+            for (int w = 0; w < WINDOW_MILLIS.length; w++) {
+                if (heads[w] != oldest) continue;
+                s1[w] -= r;
+                s2[w] -= r2;
+                s3[w] -= r2 * r;
+                s4[w] -= r2 * r2;
+                spanMs[w] -= intervalMs[slot];
+                heads[w] = oldest + 1;
+            }
+        }
+
+        private void resync() {
+            sinceResync = 0;
+            for (int w = 0; w < WINDOW_MILLIS.length; w++) {
+                double a = 0, b = 0, c = 0, d = 0;
+                long span = 0;
+                for (long i = heads[w]; i < tail; i++) {
+                    int slot = (int) (i & mask);
+                    double r = returns[slot];
+                    double r2 = r * r;
+                    a += r;
+                    b += r2;
+                    c += r2 * r;
+                    d += r2 * r2;
+                    span += intervalMs[slot];
+                }
+                s1[w] = a;
+                s2[w] = b;
+                s3[w] = c;
+                s4[w] = d;
+                spanMs[w] = span;
+            }
+
+            int live = (int) (tail - heads[LONGEST]);
+            if (returns.length > INITIAL_CAPACITY && live < returns.length >> 2) {
+                resize(Math.max(Integer.highestOneBit(Math.max(live, 1)) << 1, INITIAL_CAPACITY));
+            }
+        }
+
+        private void resize(int capacity) {
+            long[] newStart = new long[capacity];
+            long[] newInterval = new long[capacity];
+            double[] newReturns = new double[capacity];
+            int newMask = capacity - 1;
+            for (long i = heads[LONGEST]; i < tail; i++) {
+                int from = (int) (i & mask);
+                int to = (int) (i & newMask);
+                newStart[to] = startTs[from];
+                newInterval[to] = intervalMs[from];
+                newReturns[to] = returns[from];
+            }
+            startTs = newStart;
+            intervalMs = newInterval;
+            returns = newReturns;
+            mask = newMask;
+            log.debug("[Volatility] 스트리밍 수익률 링 크기 조정: capacity={}", capacity);
+        }
+    }
+}
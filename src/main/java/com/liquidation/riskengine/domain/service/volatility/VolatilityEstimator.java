@@ -1,9 +1,11 @@
 package com.liquidation.riskengine.domain.service.volatility;
 
-import com.liquidation.riskengine.domain.model.PriceTick;
 import com.liquidation.riskengine.domain.model.VolatilitySnapshot;
 import com.liquidation.riskengine.domain.model.VolatilitySnapshot.EstimationMethod;
 import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.BarReturns;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.PriceWindow;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.RealizedVariance;
 import com.liquidation.riskengine.domain.service.volatility.GarchEstimator.GarchResult;
 
 import lombok.RequiredArgsConstructor;
@@ -11,7 +13,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.List;
 
 @Slf4j
 @Component
@@ -22,15 +23,18 @@ public class VolatilityEstimator {
     static final double DEFAULT_ANNUAL_VOL = 0.80;
     static final double SECONDS_PER_YEAR = 365.25 * 24 * 3600;
     static final double EWMA_LAMBDA = 0.94;
+    static final int EWMA_TAIL_RETURNS = 512;
 
     private static final Duration WINDOW_1M = Duration.ofMinutes(1);
     private static final Duration WINDOW_5M = Duration.ofMinutes(5);
     private static final Duration WINDOW_1H = Duration.ofHours(1);
     private static final Duration WINDOW_24H = Duration.ofHours(24);
+    private static final Duration ROLLUP_THRESHOLD = Duration.ofHours(1);
 
     private final PriceHistoryBuffer priceHistoryBuffer;
     private final VolatilityProperties volatilityProperties;
     private final GarchEstimator garchEstimator;
+    private final StreamingVolatilityTracker streamingTracker;
 
     public VolatilitySnapshot estimate(String symbol) {
         if (symbol == null) {
@@ -75,13 +79,21 @@ public class VolatilityEstimator {
         if (!"garch".equalsIgnoreCase(volatilityProperties.getModel())) return null;
 
         String key = symbol.toUpperCase();
-        List<PriceTick> ticks = priceHistoryBuffer.getRecentPrices(key, window);
+        if (!volatilityProperties.isGarchAutoFit()) {
+            StreamingVolatilityTracker.WindowStats stats = streamingTracker.window(key, window);
+            if (stats != null) {
+                if (stats.tickCount() < MIN_TICKS || stats.returnCount() < 2) return null;
+                return garchFromStats(stats);
+            }
+        }
+
+        PriceWindow ticks = priceHistoryBuffer.getWindow(key, window);
         if (ticks.size() < MIN_TICKS) return null;
 
-        double[] logReturns = computeLogReturns(ticks);
+        double[] logReturns = ticks.logReturns();
         if (logReturns.length < 2) return null;
 
-        double avgIntervalSec = computeAvgIntervalSec(ticks);
+        double avgIntervalSec = ticks.avgIntervalSec();
         double periodsPerYear = SECONDS_PER_YEAR / avgIntervalSec;
 
         return garchEstimator.estimate(logReturns, periodsPerYear);
@@ -95,15 +107,33 @@ public class VolatilityEstimator {
     }
 
     private double computeGarchAnnualized(String symbol, Duration window) {
-        List<PriceTick> ticks = priceHistoryBuffer.getRecentPrices(symbol, window);
+        if (!volatilityProperties.isGarchAutoFit()) {
+            StreamingVolatilityTracker.WindowStats stats = streamingTracker.window(symbol, window);
+            if (stats != null) {
+                if (stats.tickCount() < MIN_TICKS || stats.returnCount() < 2) return DEFAULT_ANNUAL_VOL;
+                return garchFromStats(stats).getAnnualizedSigma();
+            }
+        }
+
+        if (window.compareTo(ROLLUP_THRESHOLD) > 0) {
+            if (!volatilityProperties.isGarchAutoFit()) {
+                return computeRealizedAnnualized(symbol, window);
+            }
+            BarReturns bars = priceHistoryBuffer.barReturns(symbol, window);
+            if (bars.resolutionMs() > 0) {
+                return computeGarchFromBars(symbol, window, bars);
+            }
+        }
+
+        PriceWindow ticks = priceHistoryBuffer.getWindow(symbol, window);
         if (ticks.size() < MIN_TICKS) {
             return DEFAULT_ANNUAL_VOL;
         }
 
-        double[] logReturns = computeLogReturns(ticks);
+        double[] logReturns = ticks.logReturns();
         if (logReturns.length < 2) return DEFAULT_ANNUAL_VOL;
 
-        double avgIntervalSec = computeAvgIntervalSec(ticks);
+        double avgIntervalSec = ticks.avgIntervalSec();
         double periodsPerYear = SECONDS_PER_YEAR / avgIntervalSec;
 
         GarchResult result = garchEstimator.estimate(logReturns, periodsPerYear);
@@ -112,21 +142,44 @@ public class VolatilityEstimator {
         return result.getAnnualizedSigma();
     }
 
+    private double computeGarchFromBars(String symbol, Duration window, BarReturns bars) {
+        double[] logReturns = bars.logReturns();
+        if (logReturns.length + 1 < MIN_TICKS) return DEFAULT_ANNUAL_VOL;
+
+        GarchResult result = garchEstimator.estimate(logReturns, bars.periodsPerYear(SECONDS_PER_YEAR));
+        if (result == null) return DEFAULT_ANNUAL_VOL;
+
+        log.debug("[Volatility] GARCH(rollup): symbol={}, window={}, bars={}, resolution={}ms, σ_annual={:.4f}",
+                symbol, window, logReturns.length, bars.resolutionMs(), result.getAnnualizedSigma());
+        return result.getAnnualizedSigma();
+    }
+
+    private GarchResult garchFromStats(StreamingVolatilityTracker.WindowStats stats) {
+        double periodsPerYear = SECONDS_PER_YEAR / stats.avgIntervalSec();
+        return garchEstimator.estimateFromState(stats.sampleVariance(), stats.garchOmegaWeight(),
+                stats.garchShockTerm(), periodsPerYear);
+    }
+
     private double computeEwmaAnnualized(String symbol, Duration window) {
-        List<PriceTick> ticks = priceHistoryBuffer.getRecentPrices(symbol, window);
+        StreamingVolatilityTracker.WindowStats stats = streamingTracker.window(symbol, window);
+        if (stats != null) {
+            if (stats.tickCount() < MIN_TICKS) return DEFAULT_ANNUAL_VOL;
+            return Math.sqrt(stats.ewmaVariance() * SECONDS_PER_YEAR / stats.avgIntervalSec());
+        }
+
+        PriceWindow ticks = priceHistoryBuffer.getWindow(symbol, window);
         if (ticks.size() < MIN_TICKS) {
             log.debug("[Volatility] 데이터 부족: symbol={}, window={}, ticks={}, 기본값 사용",
                     symbol, window, ticks.size());
             return DEFAULT_ANNUAL_VOL;
         }
 
-        double[] logReturns = computeLogReturns(ticks);
-        if (logReturns.length == 0) return DEFAULT_ANNUAL_VOL;
+        double ewmaVariance = computeEwmaVariance(ticks);
+        if (ewmaVariance < 0) return DEFAULT_ANNUAL_VOL;
 
-        double avgIntervalSec = computeAvgIntervalSec(ticks);
+        double avgIntervalSec = ticks.avgIntervalSec();
         double periodsPerYear = SECONDS_PER_YEAR / avgIntervalSec;
 
-        double ewmaVariance = computeEwmaVariance(logReturns);
         double annualized = Math.sqrt(ewmaVariance * periodsPerYear);
 
         log.debug("[Volatility] EWMA: symbol={}, window={}, ticks={}, σ_annual={:.4f}",
@@ -134,37 +187,32 @@ public class VolatilityEstimator {
         return annualized;
     }
 
-   private double computeEwmaVariance(double[] logReturns) {
-        double variance = logReturns[0] * logReturns[0];
-        for (int i = 1; i < logReturns.length; i++) {
-            double r = logReturns[i];
-            variance = EWMA_LAMBDA * variance + (1.0 - EWMA_LAMBDA) * r * r;
+    private double computeRealizedAnnualized(String symbol, Duration window) {
+        RealizedVariance rv = priceHistoryBuffer.realizedVariance(symbol, window);
+        if (rv.returnCount() + 1 < MIN_TICKS || rv.spanMs() <= 0) {
+            return DEFAULT_ANNUAL_VOL;
         }
-        return variance;
+        double annualized = rv.annualizedSigma(SECONDS_PER_YEAR);
+        log.debug("[Volatility] Realized(rollup): symbol={}, window={}, returns={}, resolution={}ms, σ_annual={:.4f}",
+                symbol, window, rv.returnCount(), rv.resolutionMs(), annualized);
+        return annualized;
     }
 
-    private double[] computeLogReturns(List<PriceTick> ticks) {
-        double[] returns = new double[ticks.size() - 1];
-        int valid = 0;
-        for (int i = 1; i < ticks.size(); i++) {
-            double prev = ticks.get(i - 1).price().doubleValue();
-            double curr = ticks.get(i).price().doubleValue();
+    private double computeEwmaVariance(PriceWindow ticks) {
+        int from = Math.max(1, ticks.size() - EWMA_TAIL_RETURNS);
+        double variance = -1.0;
+        double prev = ticks.price(from - 1);
+        for (int i = from; i < ticks.size(); i++) {
+            double curr = ticks.price(i);
             if (prev > 0 && curr > 0) {
-                returns[valid++] = Math.log(curr / prev);
+                double r = Math.log(curr / prev);
+                variance = variance < 0
+                        ? r * r
+                        : EWMA_LAMBDA * variance + (1.0 - EWMA_LAMBDA) * r * r;
             }
+            prev = curr;
         }
-        if (valid < returns.length) {
-            double[] trimmed = new double[valid];
-            System.arraycopy(returns, 0, trimmed, 0, valid);
-            return trimmed;
-        }
-        return returns;
-    }
-
-    private double computeAvgIntervalSec(List<PriceTick> ticks) {
-        long spanMs = ticks.getLast().timestamp() - ticks.getFirst().timestamp();
-        double avgMs = (double) spanMs / (ticks.size() - 1);
-        return Math.max(avgMs / 1000.0, 0.001);
+        return variance;
     }
 
     private VolatilitySnapshot buildDefaultSnapshot(String symbol) {
@@ -15,4 +15,5 @@ public class VolatilityProperties {
     private double garchAlpha = 0.05;
     private double garchBeta = 0.90;
     private boolean garchAutoFit = false;
+    private boolean streaming = true;
 }
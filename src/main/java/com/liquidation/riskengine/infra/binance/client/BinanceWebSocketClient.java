@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lmax.disruptor.RingBuffer;
 import com.liquidation.riskengine.infra.binance.config.BinanceProperties;
+import com.liquidation.riskengine.infra.cluster.SymbolOwnership;
 import com.liquidation.riskengine.infra.disruptor.event.EventType;
 import com.liquidation.riskengine.infra.disruptor.event.MarketDataEvent;
 import io.micrometer.core.instrument.Counter;
@@ -21,16 +22,22 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class BinanceWebSocketClient {
+public class BinanceWebSocketClient implements SymbolOwnership.Listener {
 
     private static final double BACKPRESSURE_THRESHOLD = 0.9;
 
@@ -39,11 +46,13 @@ public class BinanceWebSocketClient {
     private final ObjectMapper objectMapper;
     private final RingBuffer<MarketDataEvent> marketDataRingBuffer;
     private final MeterRegistry meterRegistry;
+    private final SymbolOwnership symbolOwnership;
 
-    private WebSocket webSocket;
+    private volatile WebSocket webSocket;
     private final AtomicBoolean connected = new AtomicBoolean(false);
     private final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
     private final AtomicInteger reconnectCount = new AtomicInteger(0);
+    private final AtomicLong requestId = new AtomicLong(0);
     private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
 
     private Counter backpressureDropCounter;
@@ -55,6 +64,7 @@ public class BinanceWebSocketClient {
                 .tag("source", "websocket")
                 .description("Events dropped at WebSocket producer due to RingBuffer backpressure")
                 .register(meterRegistry);
+        symbolOwnership.addListener(this);
         connect();
     }
 
@@ -69,7 +79,9 @@ public class BinanceWebSocketClient {
     }
 
     public void connect() {
-        String url = properties.buildCombinedStreamUrl();
+        String url = symbolOwnership.isEnabled()
+                ? properties.buildBaseStreamUrl()
+                : properties.buildCombinedStreamUrl();
         log.info("[Binance WS] 연결 시도: {}", url);
 
         Request request = new Request.Builder()
@@ -79,6 +91,36 @@ public class BinanceWebSocketClient {
         webSocket = okHttpClient.newWebSocket(request, new BinanceWebSocketListener());
     }
 
+    @Override
+    public void onAcquired(String symbol) {
+        sendSubscription("SUBSCRIBE", List.of(symbol));
+    }
+
+    @Override
+    public void onReleased(String symbol) {
+        sendSubscription("UNSUBSCRIBE", List.of(symbol));
+    }
+
+    private void sendSubscription(String method, Collection<String> symbols) {
+        WebSocket ws = webSocket;
+        if (ws == null || !connected.get() || symbols.isEmpty()) return;
+
+        List<String> params = new ArrayList<>();
+        for (String symbol : symbols) {
+            params.addAll(properties.streamNames(symbol));
+        }
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", method);
+        request.put("params", params);
+        request.put("id", requestId.incrementAndGet());
+        try {
+            ws.send(objectMapper.writeValueAsString(request));
+            log.info("[Binance WS] 스트림 {} 요청: {}", method, params);
+        } catch (Exception e) {
+            log.warn("[Binance WS] 스트림 {} 요청 실패: symbols={}, error={}", method, symbols, e.getMessage());
+        }
+    }
+
     private void scheduleReconnect() {
         if (shutdownRequested.get()) {
             return;
@@ -171,6 +213,9 @@ public class BinanceWebSocketClient {
             connected.set(true);
             reconnectCount.set(0);
             log.info("[Binance WS] 연결 성공 (code={})", response.code());
+            if (symbolOwnership.isEnabled()) {
+                sendSubscription("SUBSCRIBE", symbolOwnership.ownedSymbols());
+            }
         }
 
         @Override
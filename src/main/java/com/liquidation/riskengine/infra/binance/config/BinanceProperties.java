@@ -35,6 +35,16 @@ public class BinanceProperties {
         return sb.toString();
     }
 
+    public String buildBaseStreamUrl() {
+        return wsBaseUrl + "/stream";
+    }
+
+    public List<String> streamNames(String symbol) {
+        return streams.stream()
+                .map(stream -> buildStreamName(symbol, stream))
+                .toList();
+    }
+
     private String buildStreamName(String symbol, String stream) {
         if ("markPrice".equals(stream)) {
             String speed = markPriceSpeed == 1000 ? "@1s" : "";
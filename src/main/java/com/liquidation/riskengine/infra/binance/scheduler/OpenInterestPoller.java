@@ -4,6 +4,7 @@ import com.lmax.disruptor.RingBuffer;
 import com.liquidation.riskengine.domain.model.OpenInterestSnapshot;
 import com.liquidation.riskengine.infra.binance.client.BinanceRestClient;
 import com.liquidation.riskengine.infra.binance.config.BinanceProperties;
+import com.liquidation.riskengine.infra.cluster.SymbolOwnership;
 import com.liquidation.riskengine.infra.disruptor.event.EventType;
 import com.liquidation.riskengine.infra.disruptor.event.MarketDataEvent;
 import io.micrometer.core.instrument.Counter;
@@ -32,6 +33,7 @@ public class OpenInterestPoller {
     private final BinanceProperties properties;
     private final RingBuffer<MarketDataEvent> marketDataRingBuffer;
     private final MeterRegistry meterRegistry;
+    private final SymbolOwnership symbolOwnership;
 
     private final Map<String, BigDecimal> previousOiMap = new ConcurrentHashMap<>();
 
@@ -56,6 +58,7 @@ public class OpenInterestPoller {
         }
 
         for (String symbol : properties.getSymbols()) {
+            if (!symbolOwnership.isOwner(symbol.toUpperCase())) continue;
             restClient.getOpenInterest(symbol).ifPresent(response -> {
                 String upperSymbol = symbol.toUpperCase();
                 BigDecimal currentOi = response.getOpenInterest();
@@ -0,0 +1,25 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j
+@Configuration
+public class ClusterConfig {
+
+    @Bean
+    public CoordinationStore coordinationStore(ClusterProperties properties,
+                                               StringRedisTemplate stringRedisTemplate,
+                                               RedisTemplate<String, Object> redisTemplate) {
+        CoordinationStore store = properties.isMemoryStore()
+                ? new InMemoryCoordinationStore()
+                : new RedisCoordinationStore(stringRedisTemplate, redisTemplate);
+        if (properties.isEnabled()) {
+            log.info("[Cluster] 코디네이션 저장소: {}", store.name());
+        }
+        return store;
+    }
+}
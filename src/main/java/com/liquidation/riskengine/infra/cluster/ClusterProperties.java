@@ -0,0 +1,25 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cluster")
+public class ClusterProperties {
+
+    private boolean enabled = false;
+    private String nodeId = "";
+    private String advertisedUrl = "http://localhost:8080";
+    private String store = "redis";
+    private long leaseTtlMs = 15_000;
+    private long renewIntervalMs = 5_000;
+    private int forwardTimeoutMs = 3_000;
+
+    public boolean isMemoryStore() {
+        return "memory".equalsIgnoreCase(store);
+    }
+}
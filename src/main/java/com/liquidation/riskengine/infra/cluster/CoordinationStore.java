@@ -0,0 +1,31 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import com.liquidation.riskengine.domain.model.UserPosition;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface CoordinationStore {
+
+    boolean tryAcquire(String symbol, String nodeId, long ttlMs);
+
+    boolean renew(String symbol, String nodeId, long ttlMs);
+
+    void release(String symbol, String nodeId);
+
+    String owner(String symbol);
+
+    void heartbeat(String nodeId, String address, long ttlMs);
+
+    void leave(String nodeId);
+
+    Map<String, String> liveNodes();
+
+    void savePosition(UserPosition position);
+
+    void removePosition(String userId, String symbol);
+
+    Collection<UserPosition> positions(String symbol);
+
+    String name();
+}
@@ -0,0 +1,107 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import com.liquidation.riskengine.domain.model.UserPosition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+public class InMemoryCoordinationStore implements CoordinationStore {
+
+    private final LongSupplier clock;
+
+    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> nodes = new HashMap<>();
+    private final Map<String, Map<String, UserPosition>> positions = new HashMap<>();
+
+    public InMemoryCoordinationStore() {
+        this(System::currentTimeMillis);
+    }
+
+    public InMemoryCoordinationStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(String symbol, String nodeId, long ttlMs) {
+        long now = clock.getAsLong();
+        Lease lease = leases.get(symbol);
+        if (lease != null && lease.expiresAtMs > now && !lease.holder.equals(nodeId)) return false;
+        leases.put(symbol, new Lease(nodeId, now + ttlMs));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean renew(String symbol, String nodeId, long ttlMs) {
+        long now = clock.getAsLong();
+        Lease lease = leases.get(symbol);
+        if (lease == null || lease.expiresAtMs <= now || !lease.holder.equals(nodeId)) return false;
+        leases.put(symbol, new Lease(nodeId, now + ttlMs));
+        return true;
+    }
+
+    @Override
+    public synchronized void release(String symbol, String nodeId) {
+        Lease lease = leases.get(symbol);
+        if (lease != null && lease.holder.equals(nodeId)) {
+            leases.remove(symbol);
+        }
+    }
+
+    @Override
+    public synchronized String owner(String symbol) {
+        Lease lease = leases.get(symbol);
+        return lease != null && lease.expiresAtMs > clock.getAsLong() ? lease.holder : null;
+    }
+
+    @Override
+    public synchronized void heartbeat(String nodeId, String address, long ttlMs) {
+        nodes.put(nodeId, new Lease(address, clock.getAsLong() + ttlMs));
+    }
+
+    @Override
+    public synchronized void leave(String nodeId) {
+        nodes.remove(nodeId);
+    }
+
+    @Override
+    public synchronized Map<String, String> liveNodes() {
+        long now = clock.getAsLong();
+        nodes.values().removeIf(node -> node.expiresAtMs <= now);
+        Map<String, String> result = new TreeMap<>();
+        nodes.forEach((nodeId, node) -> result.put(nodeId, node.holder));
+        return result;
+    }
+
+    @Override
+    public synchronized void savePosition(UserPosition position) {
+        positions.computeIfAbsent(position.getSymbol().toUpperCase(), k -> new HashMap<>())
+                .put(position.getUserId().trim().toLowerCase(), position);
+    }
+
+    @Override
+    public synchronized void removePosition(String userId, String symbol) {
+        Map<String, UserPosition> bySymbol = positions.get(symbol.toUpperCase());
+        if (bySymbol != null) {
+            bySymbol.remove(userId.trim().toLowerCase());
+        }
+    }
+
+    @Override
+    public synchronized Collection<UserPosition> positions(String symbol) {
+        Map<String, UserPosition> bySymbol = positions.get(symbol.toUpperCase());
+        return bySymbol != null ? new ArrayList<>(bySymbol.values()) : List.of();
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    private record Lease(String holder, long expiresAtMs) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import com.liquidation.riskengine.domain.model.UserPosition;
+import com.liquidation.riskengine.domain.service.state.RiskStateManager;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PositionRouter implements SymbolOwnership.Listener {
+
+    public static final String FORWARDED_HEADER = "X-Forwarded-By-Node";
+
+    private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final SymbolOwnership ownership;
+    private final CoordinationStore store;
+    private final RiskStateManager riskStateManager;
+    private final ClusterProperties properties;
+    private final RestClient.Builder restClientBuilder;
+
+    private RestClient restClient;
+
+    @PostConstruct
+    void init() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(properties.getForwardTimeoutMs());
+        requestFactory.setReadTimeout(properties.getForwardTimeoutMs());
+        restClient = restClientBuilder.requestFactory(requestFactory).build();
+        ownership.addListener(this);
+    }
+
+    public boolean isLocal(String symbol) {
+        return ownership.isOwner(symbol.toUpperCase());
+    }
+
+    public void persist(UserPosition position) {
+        if (ownership.isEnabled()) {
+            store.savePosition(position);
+        }
+    }
+
+    public void forget(String userId, String symbol) {
+        if (ownership.isEnabled()) {
+            store.removePosition(userId, symbol);
+        }
+    }
+
+    public Collection<UserPosition> positionsByUser(String userId) {
+        if (!ownership.isEnabled()) {
+            return riskStateManager.getPositionsByUser(userId);
+        }
+
+        String normalized = userId.trim().toLowerCase();
+        List<UserPosition> result = new ArrayList<>();
+        for (String symbol : ownership.symbols()) {
+            for (UserPosition position : store.positions(symbol)) {
+                if (normalized.equals(position.getUserId().trim().toLowerCase())) {
+                    result.add(position);
+                }
+            }
+        }
+        return result;
+    }
+
+    public ResponseEntity<Map<String, Object>> forwardRegister(UserPosition position) {
+        return forward(position.getSymbol(), address -> restClient.post()
+                .uri(address + "/api/position/register")
+                .header(FORWARDED_HEADER, ownership.nodeId())
+                .body(position)
+                .retrieve()
+                .toEntity(RESPONSE_TYPE));
+    }
+
+    public ResponseEntity<Map<String, Object>> forwardUnregister(String userId, String symbol) {
+        return forward(symbol, address -> restClient.delete()
+                .uri(address + "/api/position/unregister?userId={userId}&symbol={symbol}", userId, symbol)
+                .header(FORWARDED_HEADER, ownership.nodeId())
+                .retrieve()
+                .toEntity(RESPONSE_TYPE));
+    }
+
+    @Override
+    public void onAcquired(String symbol) {
+        Collection<UserPosition> positions = store.positions(symbol);
+        for (UserPosition position : positions) {
+            riskStateManager.registerPosition(position);
+        }
+        log.info("[Cluster] 소유 심볼 포지션 적재: symbol={}, positions={}", symbol, positions.size());
+    }
+
+    @Override
+    public void onReleased(String symbol) {
+        for (UserPosition position : List.copyOf(riskStateManager.getPositionsBySymbol(symbol))) {
+            riskStateManager.removePosition(position.getUserId(), symbol);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> forward(String symbol,
+                                                        Function<String, ResponseEntity<Map<String, Object>>> call) {
+        String normalized = symbol.toUpperCase();
+        String address = ownership.ownerAddress(normalized);
+        if (address == null || address.isBlank()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                    "success", false,
+                    "symbol", normalized,
+                    "message", "심볼 소유 노드를 찾을 수 없습니다. 잠시 후 다시 시도하세요."));
+        }
+
+        try {
+            log.debug("[Cluster] 포지션 요청 전달: symbol={}, owner={}", normalized, address);
+            ResponseEntity<Map<String, Object>> response = call.apply(address);
+            return ResponseEntity.status(response.getStatusCode()).body(response.getBody());
+        } catch (RestClientResponseException e) {
+            return ResponseEntity.status(e.getStatusCode()).body(Map.of(
+                    "success", false,
+                    "symbol", normalized,
+                    "message", e.getResponseBodyAsString()));
+        } catch (Exception e) {
+            log.warn("[Cluster] 포지션 요청 전달 실패: symbol={}, owner={}, error={}", normalized, address, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(Map.of(
+                    "success", false,
+                    "symbol", normalized,
+                    "message", "소유 노드로 요청 전달에 실패했습니다."));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import com.liquidation.riskengine.domain.model.UserPosition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class RedisCoordinationStore implements CoordinationStore {
+
+    private static final String LEASE_KEY = "cluster:lease:";
+    private static final String NODES_KEY = "cluster:nodes";
+    private static final String NODE_ADDRESS_KEY = "cluster:node-address";
+    private static final String POSITIONS_KEY = "cluster:positions:";
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String symbol, String nodeId, long ttlMs) {
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LEASE_KEY + symbol, nodeId, Duration.ofMillis(ttlMs));
+        return Boolean.TRUE.equals(acquired) || renew(symbol, nodeId, ttlMs);
+    }
+
+    @Override
+    public boolean renew(String symbol, String nodeId, long ttlMs) {
+        Long renewed = stringRedisTemplate.execute(RENEW, List.of(LEASE_KEY + symbol), nodeId,
+                String.valueOf(ttlMs));
+        return renewed != null && renewed == 1L;
+    }
+
+    @Override
+    public void release(String symbol, String nodeId) {
+        stringRedisTemplate.execute(RELEASE, List.of(LEASE_KEY + symbol), nodeId);
+    }
+
+    @Override
+    public String owner(String symbol) {
+        return stringRedisTemplate.opsForValue().get(LEASE_KEY + symbol);
+    }
+
+    @Override
+    public void heartbeat(String nodeId, String address, long ttlMs) {
+        stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, System.currentTimeMillis() + ttlMs);
+        stringRedisTemplate.opsForHash().put(NODE_ADDRESS_KEY, nodeId, address);
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        stringRedisTemplate.opsForHash().delete(NODE_ADDRESS_KEY, nodeId);
+    }
+
+    @Override
+    public Map<String, String> liveNodes() {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now);
+        Set<String> ids = stringRedisTemplate.opsForZSet().rangeByScore(NODES_KEY, now, Double.POSITIVE_INFINITY);
+        Map<String, String> result = new TreeMap<>();
+        if (ids == null || ids.isEmpty()) return result;
+
+        List<Object> keys = new ArrayList<>(ids);
+        List<Object> addresses = stringRedisTemplate.opsForHash().multiGet(NODE_ADDRESS_KEY, keys);
+        int i = 0;
+        for (String id : ids) {
+            Object address = addresses.get(i++);
+            result.put(id, address != null ? address.toString() : "");
+        }
+        return result;
+    }
+
+    @Override
+    public void savePosition(UserPosition position) {
+        redisTemplate.opsForHash().put(POSITIONS_KEY + position.getSymbol().toUpperCase(),
+                position.getUserId().trim().toLowerCase(), position);
+    }
+
+    @Override
+    public void removePosition(String userId, String symbol) {
+        redisTemplate.opsForHash().delete(POSITIONS_KEY + symbol.toUpperCase(), userId.trim().toLowerCase());
+    }
+
+    @Override
+    public Collection<UserPosition> positions(String symbol) {
+        List<Object> values = redisTemplate.opsForHash().values(POSITIONS_KEY + symbol.toUpperCase());
+        List<UserPosition> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            if (value instanceof UserPosition position) {
+                result.add(position);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String name() {
+        return "redis";
+    }
+}
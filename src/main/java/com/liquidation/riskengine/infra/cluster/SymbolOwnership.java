@@ -0,0 +1,262 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import com.liquidation.riskengine.infra.binance.config.BinanceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SymbolOwnership {
+
+    public interface Listener {
+        void onAcquired(String symbol);
+
+        void onReleased(String symbol);
+    }
+
+    private final ClusterProperties properties;
+    private final CoordinationStore store;
+    private final BinanceProperties binanceProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> owned = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> renewedAtMs = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private String nodeId;
+    private volatile Map<String, String> liveNodes = Map.of();
+    private ScheduledExecutorService renewExecutor;
+
+    @PostConstruct
+    void init() {
+        nodeId = properties.getNodeId() != null && !properties.getNodeId().isBlank()
+                ? properties.getNodeId()
+                : defaultNodeId();
+
+        Gauge.builder("cluster.symbols.owned", owned, Set::size).register(meterRegistry);
+        Gauge.builder("cluster.nodes.live", this, o -> o.liveNodes.size()).register(meterRegistry);
+
+        if (properties.isEnabled()) {
+            log.info("[Cluster] 클러스터 모드 활성: nodeId={}, store={}, leaseTtl={}ms",
+                    nodeId, store.name(), properties.getLeaseTtlMs());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.isEnabled() || renewExecutor != null) return;
+
+        renewExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-lease-renew");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewExecutor.scheduleWithFixedDelay(this::rebalanceSafely, 0, properties.getRenewIntervalMs(),
+                TimeUnit.MILLISECONDS);
+        log.info("[Cluster] 리스 갱신 스레드 시작: nodeId={}, interval={}ms", nodeId, properties.getRenewIntervalMs());
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public boolean isOwner(String symbol) {
+        return !properties.isEnabled() || isOwner(symbol, System.currentTimeMillis());
+    }
+
+    boolean isOwner(String symbol, long nowMs) {
+        Long renewed = renewedAtMs.get(symbol);
+        return renewed != null && nowMs - renewed < localLeaseMs();
+    }
+
+    public Set<String> symbols() {
+        Set<String> all = new LinkedHashSet<>();
+        for (String symbol : binanceProperties.getSymbols()) {
+            all.add(symbol.toUpperCase());
+        }
+        return all;
+    }
+
+    public Set<String> ownedSymbols() {
+        return properties.isEnabled() ? Collections.unmodifiableSet(owned) : symbols();
+    }
+
+    public String ownerAddress(String symbol) {
+        String owner = store.owner(symbol.toUpperCase());
+        return owner != null ? liveNodes.get(owner) : null;
+    }
+
+    public Map<String, String> liveNodes() {
+        return liveNodes;
+    }
+
+    public void rebalance() {
+        rebalance(System.currentTimeMillis());
+    }
+
+    void rebalance(long nowMs) {
+        if (!properties.isEnabled()) return;
+
+        try {
+            store.heartbeat(nodeId, properties.getAdvertisedUrl(), properties.getLeaseTtlMs());
+            Map<String, String> nodes = store.liveNodes();
+            liveNodes = nodes;
+
+            for (String symbol : symbols()) {
+                boolean mine = nodeId.equals(ownerOf(symbol, nodes.keySet()));
+
+                if (owned.contains(symbol)) {
+                    if (!mine) {
+                        store.release(symbol, nodeId);
+                        drop(symbol, "rebalance");
+                    } else if (store.renew(symbol, nodeId, properties.getLeaseTtlMs())) {
+                        renewedAtMs.put(symbol, nowMs);
+                    } else {
+                        drop(symbol, "lease-lost");
+                    }
+                } else if (mine && store.tryAcquire(symbol, nodeId, properties.getLeaseTtlMs())) {
+                    renewedAtMs.put(symbol, nowMs);
+                    owned.add(symbol);
+                    meterRegistry.counter("cluster.lease.changes", "type", "acquired").increment();
+                    log.info("[Cluster] 심볼 소유권 획득: symbol={}, nodeId={}, nodes={}", symbol, nodeId, nodes.size());
+                    for (Listener listener : listeners) {
+                        notify(listener, symbol, true);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[Cluster] 코디네이션 저장소 접근 실패: nodeId={}, error={}", nodeId, e.getMessage());
+            for (String symbol : Set.copyOf(owned)) {
+                if (!isOwner(symbol, nowMs)) {
+                    drop(symbol, "store-unreachable");
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!properties.isEnabled()) return;
+
+        stopRenewing();
+        try {
+            for (String symbol : owned) {
+                store.release(symbol, nodeId);
+            }
+            store.leave(nodeId);
+            log.info("[Cluster] 노드 탈퇴 및 리스 반납: nodeId={}, symbols={}", nodeId, owned.size());
+        } catch (Exception e) {
+            log.warn("[Cluster] 리스 반납 실패: nodeId={}, error={}", nodeId, e.getMessage());
+        }
+        owned.clear();
+        renewedAtMs.clear();
+    }
+
+    private void rebalanceSafely() {
+        try {
+            rebalance();
+        } catch (RuntimeException e) {
+            log.error("[Cluster] 리스 갱신 루프 오류: nodeId={}, error={}", nodeId, e.getMessage(), e);
+        }
+    }
+
+    private synchronized void stopRenewing() {
+        if (renewExecutor == null) return;
+        renewExecutor.shutdownNow();
+        try {
+            renewExecutor.awaitTermination(properties.getRenewIntervalMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        renewExecutor = null;
+    }
+
+    static String ownerOf(String symbol, Collection<String> nodes) {
+        long symbolHash = mix(symbol.hashCode());
+        String best = null;
+        long bestWeight = 0;
+        for (String node : nodes) {
+            long weight = mix(symbolHash + mix(node.hashCode()));
+            if (best == null || weight > bestWeight || (weight == bestWeight && node.compareTo(best) < 0)) {
+                best = node;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    private long localLeaseMs() {
+        long ttl = properties.getLeaseTtlMs();
+        return Math.max(ttl - properties.getRenewIntervalMs(), ttl / 2);
+    }
+
+    private void drop(String symbol, String reason) {
+        renewedAtMs.remove(symbol);
+        if (!owned.remove(symbol)) return;
+
+        meterRegistry.counter("cluster.lease.changes", "type", reason).increment();
+        log.info("[Cluster] 심볼 소유권 해제: symbol={}, nodeId={}, reason={}", symbol, nodeId, reason);
+        for (Listener listener : listeners) {
+            notify(listener, symbol, false);
+        }
+    }
+
+    private void notify(Listener listener, String symbol, boolean acquired) {
+        try {
+            if (acquired) {
+                listener.onAcquired(symbol);
+            } else {
+                listener.onReleased(symbol);
+            }
+        } catch (Exception e) {
+            log.warn("[Cluster] 소유권 리스너 실패: symbol={}, listener={}, error={}",
+                    symbol, listener.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -3,9 +3,11 @@ package com.liquidation.riskengine.infra.disruptor.handler;
 import com.lmax.disruptor.EventHandler;
 import com.liquidation.riskengine.domain.model.LiquidationEvent;
 import com.liquidation.riskengine.domain.model.OpenInterestSnapshot;
+import com.liquidation.riskengine.domain.service.calibration.PendingPredictionIndex;
 import com.liquidation.riskengine.domain.service.liquidation.LiquidationClusterMap;
 import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
 import com.liquidation.riskengine.domain.service.state.RiskStateManager;
+import com.liquidation.riskengine.domain.service.volatility.StreamingVolatilityTracker;
 import com.liquidation.riskengine.infra.binance.dto.MarkPriceEvent;
 import com.liquidation.riskengine.infra.disruptor.event.MarketDataEvent;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,8 @@ public class CacheUpdateHandler implements EventHandler<MarketDataEvent> {
     private final PriceHistoryBuffer priceHistoryBuffer;
     private final LiquidationClusterMap liquidationClusterMap;
     private final RiskStateManager riskStateManager;
+    private final StreamingVolatilityTracker streamingVolatilityTracker;
+    private final PendingPredictionIndex pendingPredictionIndex;
 
     @Override
     public void onEvent(MarketDataEvent event, long sequence, boolean endOfBatch) {
@@ -38,10 +42,12 @@ public class CacheUpdateHandler implements EventHandler<MarketDataEvent> {
 
     private void handleMarkPrice(MarketDataEvent event) {
         MarkPriceEvent mp = event.getMarkPrice();
-        if (mp == null) return;
+        if (mp == null || mp.getMarkPrice() == null) return;
 
         riskStateManager.updateMarkPrice(mp.getSymbol(), mp.getMarkPrice());
         priceHistoryBuffer.record(mp.getSymbol(), mp.getMarkPrice(), mp.getEventTime());
+        streamingVolatilityTracker.record(mp.getSymbol(), mp.getMarkPrice().doubleValue(), mp.getEventTime());
+        pendingPredictionIndex.onPrice(mp.getSymbol(), mp.getMarkPrice().doubleValue(), mp.getEventTime());
         log.debug("[Cache] MARK_PRICE 갱신: symbol={}, price={}", mp.getSymbol(), mp.getMarkPrice());
     }
 
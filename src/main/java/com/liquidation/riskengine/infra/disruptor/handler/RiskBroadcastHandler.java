@@ -4,50 +4,70 @@ import com.lmax.disruptor.EventHandler;
 import com.liquidation.riskengine.domain.model.CascadeRiskReport;
 import com.liquidation.riskengine.domain.model.MonteCarloReport;
 import com.liquidation.riskengine.infra.disruptor.event.RiskResultEvent;
+import com.liquidation.riskengine.infra.redis.relay.RelayProperties;
+import com.liquidation.riskengine.infra.redis.relay.RiskReportRelay;
+import com.liquidation.riskengine.infra.websocket.RiskReportSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
-@Slf4j
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class RiskBroadcastHandler implements EventHandler<RiskResultEvent> {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RiskReportSender reportSender;
+    private final RiskReportRelay reportRelay;
+    private final RelayProperties relayProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Object> pending = new LinkedHashMap<>();
+
+    private Counter coalescedCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        coalescedCounter = Counter.builder("broadcast.coalesced")
+                .description("Risk reports superseded by a newer report for the same destination within a batch")
+                .register(meterRegistry);
+    }
 
     @Override
     public void onEvent(RiskResultEvent event, long sequence, boolean endOfBatch) {
         String userId = event.getUserId();
-        CascadeRiskReport report = event.getReport();
-        if (report != null && report.getSymbol() != null && userId != null && !userId.isBlank()) {
-            broadcastCascadeRisk(userId, report, event.getCalcNanoTime());
+        if (userId != null && !userId.isBlank()) {
+            CascadeRiskReport report = event.getReport();
+            if (report != null && report.getSymbol() != null) {
+                stage("/topic/risk/" + userId + "/" + report.getSymbol().toUpperCase(), report);
+            }
+
+            MonteCarloReport mcReport = event.getMcReport();
+            if (mcReport != null && mcReport.getSymbol() != null) {
+                stage("/topic/mc/" + userId + "/" + mcReport.getSymbol().toUpperCase(), mcReport);
+            }
         }
 
-        MonteCarloReport mcReport = event.getMcReport();
-        if (mcReport != null && mcReport.getSymbol() != null && userId != null && !userId.isBlank()) {
-            broadcastMonteCarlo(userId, mcReport);
+        if (endOfBatch) {
+            flush();
         }
     }
 
-    private void broadcastCascadeRisk(String userId, CascadeRiskReport report, long calcNanoTime) {
-        String destination = "/topic/risk/" + userId + "/" + report.getSymbol().toUpperCase();
-        messagingTemplate.convertAndSend(destination, report);
-
-        log.debug("[Broadcast] Cascade → {}, userId={}, risk={}, reachProb={}%, calc={}μs",
-                destination, userId,
-                report.getRiskLevel(),
-                String.format("%.1f", report.getCascadeReachProbability()),
-                calcNanoTime / 1_000);
+    private void stage(String destination, Object payload) {
+        if (pending.put(destination, payload) != null) {
+            coalescedCounter.increment();
+        }
     }
 
-    private void broadcastMonteCarlo(String userId, MonteCarloReport mcReport) {
-        String destination = "/topic/mc/" + userId + "/" + mcReport.getSymbol().toUpperCase();
-        messagingTemplate.convertAndSend(destination, mcReport);
+    private void flush() {
+        if (pending.isEmpty()) return;
 
-        log.debug("[Broadcast] MC → {}, userId={}, risk={}, σ={:.4f}, calc={}μs",
-                destination, userId,
-                mcReport.getRiskLevel(),
-                mcReport.getSigma(), mcReport.getCalcDurationMicros());
+        if (!relayProperties.isPublish() || !reportRelay.publish(pending)) {
+            pending.forEach(reportSender::send);
+        }
+        pending.clear();
     }
 }
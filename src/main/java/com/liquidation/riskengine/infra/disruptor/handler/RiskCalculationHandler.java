@@ -11,6 +11,7 @@ import com.liquidation.riskengine.domain.service.cascade.CascadeCalibrationLogge
 import com.liquidation.riskengine.domain.service.montecarlo.MonteCarloCalibrationLogger;
 import com.liquidation.riskengine.domain.service.montecarlo.MonteCarloProperties;
 import com.liquidation.riskengine.domain.service.montecarlo.MonteCarloSimulationService;
+import com.liquidation.riskengine.infra.cluster.SymbolOwnership;
 import com.liquidation.riskengine.infra.disruptor.event.EventType;
 import com.liquidation.riskengine.infra.disruptor.event.MarketDataEvent;
 import com.liquidation.riskengine.infra.disruptor.event.RiskResultEvent;
@@ -42,6 +43,7 @@ public class RiskCalculationHandler implements EventHandler<MarketDataEvent> {
     private final MonteCarloProperties mcProperties;
     private final MonteCarloCalibrationLogger calibrationLogger;
     private final CascadeCalibrationLogger cascadeCalibrationLogger;
+    private final SymbolOwnership symbolOwnership;
 
     @Value("${risk.cascade.throttle-ms:200}")
     private long cascadeThrottleMs;
@@ -86,7 +88,7 @@ public class RiskCalculationHandler implements EventHandler<MarketDataEvent> {
         }
 
         String symbol = event.getSymbol();
-        if (symbol == null) return;
+        if (symbol == null || !symbolOwnership.isOwner(symbol)) return;
 
         Collection<UserPosition> positions = riskStateManager.getPositionsBySymbol(symbol);
         if (positions.isEmpty()) return;
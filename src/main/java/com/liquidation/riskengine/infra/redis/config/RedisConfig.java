@@ -1,5 +1,10 @@
 package com.liquidation.riskengine.infra.redis.config;
 
+import com.liquidation.riskengine.infra.redis.journal.JournalProperties;
+import com.liquidation.riskengine.infra.redis.journal.LiquidationJournal;
+import com.liquidation.riskengine.infra.redis.journal.StreamLiquidationJournal;
+import com.liquidation.riskengine.infra.redis.journal.ZSetLiquidationJournal;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -7,6 +12,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+@Slf4j
 @Configuration
 public class RedisConfig {
 
@@ -21,4 +27,14 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    @Bean
+    public LiquidationJournal liquidationJournal(RedisTemplate<String, Object> redisTemplate,
+                                                 JournalProperties properties) {
+        LiquidationJournal journal = properties.isStream()
+                ? new StreamLiquidationJournal(redisTemplate, properties)
+                : new ZSetLiquidationJournal(redisTemplate);
+        log.info("[Journal] 청산 저널 백엔드: {}", journal.name());
+        return journal;
+    }
 }
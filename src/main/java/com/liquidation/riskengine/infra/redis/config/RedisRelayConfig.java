@@ -0,0 +1,42 @@
+package com.liquidation.riskengine.infra.redis.config;
+
+import com.liquidation.riskengine.infra.redis.relay.RelayProperties;
+import com.liquidation.riskengine.infra.redis.relay.RiskRelaySubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "relay", name = "subscribe", havingValue = "true")
+public class RedisRelayConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService riskRelayExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "relay-subscriber");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public RedisMessageListenerContainer riskRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    RiskRelaySubscriber subscriber,
+                                                                    RelayProperties properties,
+                                                                    ExecutorService riskRelayExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(riskRelayExecutor);
+        container.addMessageListener(subscriber, new PatternTopic(properties.getChannelPrefix() + "*"));
+        log.info("[Relay] 리포트 릴레이 구독 시작: pattern={}*", properties.getChannelPrefix());
+        return container;
+    }
+}
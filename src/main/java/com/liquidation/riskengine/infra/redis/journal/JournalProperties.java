@@ -0,0 +1,31 @@
+package com.liquidation.riskengine.infra.redis.journal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "journal")
+public class JournalProperties {
+
+    private String backend = "zset";
+    private long retentionHours = 24;
+    private String trimStrategy = "minid";
+    private long maxLen = 200_000;
+    private long rangeSkewMs = 5_000;
+
+    public boolean isStream() {
+        return "stream".equalsIgnoreCase(backend);
+    }
+
+    public boolean isMaxLenTrim() {
+        return "maxlen".equalsIgnoreCase(trimStrategy);
+    }
+
+    public long retentionMs() {
+        return retentionHours * 3_600_000L;
+    }
+}
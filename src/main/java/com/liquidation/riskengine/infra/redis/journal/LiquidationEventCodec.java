@@ -0,0 +1,147 @@
+package com.liquidation.riskengine.infra.redis.journal;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class LiquidationEventCodec {
+
+    static final byte VERSION = 1;
+
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+    private static final byte TEXT_SCALE = Byte.MAX_VALUE;
+
+    private static final String[] SIDES = {null, "BUY", "SELL"};
+    private static final String[] STATUSES = {null, "FILLED", "NEW", "PARTIALLY_FILLED", "EXPIRED", "CANCELED"};
+    private static final byte CUSTOM = -1;
+
+    private LiquidationEventCodec() {
+    }
+
+    public static byte[] encode(LiquidationEvent event) {
+        ByteBuffer buf = ByteBuffer.allocate(estimateSize(event));
+        buf.put(VERSION);
+        putText(buf, event.getSymbol());
+        putCode(buf, SIDES, event.getSide());
+        buf.putLong(event.getTimestamp());
+        putDecimal(buf, event.getPrice());
+        putDecimal(buf, event.getAveragePrice());
+        putDecimal(buf, event.getQuantity());
+        putDecimal(buf, event.getNotionalValue());
+        putCode(buf, STATUSES, event.getOrderStatus());
+
+        byte[] out = new byte[buf.position()];
+        buf.flip();
+        buf.get(out);
+        return out;
+    }
+
+    public static LiquidationEvent decode(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        byte version = buf.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported liquidation journal encoding version: " + version);
+        }
+        String symbol = getText(buf);
+        String side = getCode(buf, SIDES);
+        long timestamp = buf.getLong();
+        BigDecimal price = getDecimal(buf);
+        BigDecimal averagePrice = getDecimal(buf);
+        BigDecimal quantity = getDecimal(buf);
+        BigDecimal notional = getDecimal(buf);
+        String status = getCode(buf, STATUSES);
+
+        return LiquidationEvent.builder()
+                .symbol(symbol)
+                .side(side)
+                .timestamp(timestamp)
+                .price(price)
+                .averagePrice(averagePrice)
+                .quantity(quantity)
+                .notionalValue(notional)
+                .orderStatus(status)
+                .build();
+    }
+
+    private static int estimateSize(LiquidationEvent event) {
+        int size = 1 + 8 + 2 * 2 + 4 * 9;
+        size += textSize(event.getSymbol());
+        size += textSize(event.getSide());
+        size += textSize(event.getOrderStatus());
+        size += decimalOverflow(event.getPrice()) + decimalOverflow(event.getAveragePrice())
+                + decimalOverflow(event.getQuantity()) + decimalOverflow(event.getNotionalValue());
+        return size;
+    }
+
+    private static int textSize(String s) {
+        return s == null ? 2 : 2 + s.length() * 3;
+    }
+
+    private static int decimalOverflow(BigDecimal d) {
+        if (d == null || fitsCompact(d)) return 0;
+        return 2 + d.toString().length();
+    }
+
+    private static boolean fitsCompact(BigDecimal d) {
+        return d.unscaledValue().bitLength() < 64 && d.scale() > NULL_SCALE && d.scale() < TEXT_SCALE;
+    }
+
+    private static void putDecimal(ByteBuffer buf, BigDecimal value) {
+        if (value == null) {
+            buf.put(NULL_SCALE);
+            return;
+        }
+        if (fitsCompact(value)) {
+            buf.put((byte) value.scale());
+            buf.putLong(value.unscaledValue().longValueExact());
+            return;
+        }
+        buf.put(TEXT_SCALE);
+        putText(buf, value.toString());
+    }
+
+    private static BigDecimal getDecimal(ByteBuffer buf) {
+        byte scale = buf.get();
+        if (scale == NULL_SCALE) return null;
+        if (scale == TEXT_SCALE) return new BigDecimal(getText(buf));
+        return new BigDecimal(BigInteger.valueOf(buf.getLong()), scale);
+    }
+
+    private static void putCode(ByteBuffer buf, String[] table, String value) {
+        for (int i = 0; i < table.length; i++) {
+            if (value == null ? table[i] == null : value.equals(table[i])) {
+                buf.put((byte) i);
+                return;
+            }
+        }
+        buf.put(CUSTOM);
+        putText(buf, value);
+    }
+
+    private static String getCode(ByteBuffer buf, String[] table) {
+        byte code = buf.get();
+        if (code == CUSTOM) return getText(buf);
+        return table[code];
+    }
+
+    private static void putText(ByteBuffer buf, String s) {
+        if (s == null) {
+            buf.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        buf.putShort((short) bytes.length);
+        buf.put(bytes);
+    }
+
+    private static String getText(ByteBuffer buf) {
+        short len = buf.getShort();
+        if (len < 0) return null;
+        byte[] bytes = new byte[len];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
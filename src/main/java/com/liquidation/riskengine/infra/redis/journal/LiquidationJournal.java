@@ -0,0 +1,20 @@
+package com.liquidation.riskengine.infra.redis.journal;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+
+import java.util.List;
+
+public interface LiquidationJournal {
+
+    String LIQ_SYMBOLS_SET_KEY = "symbols:liq";
+
+    void append(List<LiquidationEvent> events);
+
+    List<LiquidationEvent> range(String symbol, long fromTimestamp, long toTimestamp);
+
+    long count(String symbol);
+
+    void evictExpired(long cutoffTimestamp);
+
+    String name();
+}
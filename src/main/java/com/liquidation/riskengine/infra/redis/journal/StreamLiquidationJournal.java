@@ -0,0 +1,111 @@
+package com.liquidation.riskengine.infra.redis.journal;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+public class StreamLiquidationJournal implements LiquidationJournal {
+
+    private static final String LIQ_STREAM_KEY = "liq:stream:";
+    private static final byte[] FIELD = bytes("e");
+    private static final byte[] AUTO_ID = bytes("*");
+    private static final byte[] APPROX = bytes("~");
+    private static final byte[] MAXLEN = bytes("MAXLEN");
+    private static final byte[] MINID = bytes("MINID");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final JournalProperties properties;
+
+    @Override
+    public void append(List<LiquidationEvent> events) {
+        long retentionMs = properties.retentionMs();
+        byte[] threshold = properties.isMaxLenTrim()
+                ? bytes(String.valueOf(properties.getMaxLen()))
+                : bytes(String.valueOf(System.currentTimeMillis() - retentionMs));
+        byte[] strategy = properties.isMaxLenTrim() ? MAXLEN : MINID;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Set<String> touched = new HashSet<>();
+            for (LiquidationEvent liq : events) {
+                String symbol = liq.getSymbol().toUpperCase(Locale.ROOT);
+                byte[] key = streamKey(symbol);
+                connection.execute("XADD", key, strategy, APPROX, threshold, AUTO_ID,
+                        FIELD, LiquidationEventCodec.encode(liq));
+                if (touched.add(symbol)) {
+                    connection.keyCommands().pExpire(key, retentionMs);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<LiquidationEvent> range(String symbol, long fromTimestamp, long toTimestamp) {
+        byte[] key = streamKey(symbol.toUpperCase(Locale.ROOT));
+        long skew = properties.getRangeSkewMs();
+        Range<String> ids = Range.closed(
+                String.valueOf(Math.max(0, fromTimestamp - skew)),
+                String.valueOf(toTimestamp + skew));
+
+        List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(key, ids, Limit.unlimited()));
+        if (records == null || records.isEmpty()) return Collections.emptyList();
+
+        List<LiquidationEvent> events = new ArrayList<>(records.size());
+        for (ByteRecord record : records) {
+            for (byte[] payload : record.getValue().values()) {
+                try {
+                    LiquidationEvent event = LiquidationEventCodec.decode(payload);
+                    if (event.getTimestamp() >= fromTimestamp && event.getTimestamp() <= toTimestamp) {
+                        events.add(event);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("[Journal] 스트림 레코드 디코딩 실패: id={}, error={}", record.getId(), e.getMessage());
+                }
+            }
+        }
+        events.sort(Comparator.comparingLong(LiquidationEvent::getTimestamp));
+        return events;
+    }
+
+    @Override
+    public long count(String symbol) {
+        byte[] key = streamKey(symbol.toUpperCase(Locale.ROOT));
+        Long size = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.streamCommands().xLen(key));
+        return size != null ? size : 0L;
+    }
+
+    @Override
+    public void evictExpired(long cutoffTimestamp) {
+    }
+
+    @Override
+    public String name() {
+        return "stream";
+    }
+
+    private static byte[] streamKey(String symbol) {
+        return bytes(LIQ_STREAM_KEY + symbol);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
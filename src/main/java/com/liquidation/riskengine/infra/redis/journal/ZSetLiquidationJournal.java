@@ -0,0 +1,88 @@
+package com.liquidation.riskengine.infra.redis.journal;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ZSetLiquidationJournal implements LiquidationJournal {
+
+    private static final String LIQ_EVENTS_KEY = "liq:events:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void append(List<LiquidationEvent> events) {
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                var ops = (RedisOperations<String, Object>) operations;
+
+                for (LiquidationEvent liq : events) {
+                    String symbol = liq.getSymbol().toUpperCase(Locale.ROOT);
+                    ops.opsForZSet().add(LIQ_EVENTS_KEY + symbol, liq, liq.getTimestamp());
+                    ops.opsForSet().add(LIQ_SYMBOLS_SET_KEY, symbol);
+                }
+
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public List<LiquidationEvent> range(String symbol, long fromTimestamp, long toTimestamp) {
+        String key = LIQ_EVENTS_KEY + symbol.toUpperCase(Locale.ROOT);
+        Set<ZSetOperations.TypedTuple<Object>> results =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(key, fromTimestamp, toTimestamp);
+        if (results == null || results.isEmpty()) return Collections.emptyList();
+        return results.stream()
+                .map(ZSetOperations.TypedTuple::getValue)
+                .filter(LiquidationEvent.class::isInstance)
+                .map(LiquidationEvent.class::cast)
+                .toList();
+    }
+
+    @Override
+    public long count(String symbol) {
+        Long size = redisTemplate.opsForZSet().zCard(LIQ_EVENTS_KEY + symbol.toUpperCase(Locale.ROOT));
+        return size != null ? size : 0L;
+    }
+
+    @Override
+    public void evictExpired(long cutoffTimestamp) {
+        Set<Object> symbols = redisTemplate.opsForSet().members(LIQ_SYMBOLS_SET_KEY);
+        if (symbols == null || symbols.isEmpty()) return;
+
+        for (Object symbolObj : symbols) {
+            if (symbolObj == null) continue;
+            String symbol = String.valueOf(symbolObj).toUpperCase(Locale.ROOT);
+            String key = LIQ_EVENTS_KEY + symbol;
+            Long removed = redisTemplate.opsForZSet().removeRangeByScore(key, 0, cutoffTimestamp);
+            if (removed != null && removed > 0) {
+                log.debug("[Redis] {} 에서 {} 건 만료 데이터 삭제", key, removed);
+            }
+
+            Long size = redisTemplate.opsForZSet().zCard(key);
+            if (size != null && size == 0) {
+                redisTemplate.delete(key);
+                redisTemplate.opsForSet().remove(LIQ_SYMBOLS_SET_KEY, symbol);
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "zset";
+    }
+}
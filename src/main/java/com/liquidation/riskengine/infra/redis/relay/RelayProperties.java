@@ -0,0 +1,17 @@
+package com.liquidation.riskengine.infra.redis.relay;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "relay")
+public class RelayProperties {
+
+    private boolean publish = false;
+    private boolean subscribe = false;
+    private String channelPrefix = "risk:relay:";
+}
@@ -0,0 +1,73 @@
+package com.liquidation.riskengine.infra.redis.relay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liquidation.riskengine.infra.sse.RiskStreamHub;
+import com.liquidation.riskengine.infra.websocket.RiskReportSender;
+import com.liquidation.riskengine.infra.websocket.broker.DestinationSubscriptionRegistry;
+import com.liquidation.riskengine.infra.websocket.broker.FanoutBrokerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiskRelaySubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final RiskReportRelay reportRelay;
+    private final RiskReportSender reportSender;
+    private final FanoutBrokerProperties brokerProperties;
+    private final DestinationSubscriptionRegistry subscriptionRegistry;
+    private final RiskStreamHub riskStreamHub;
+    private final MeterRegistry meterRegistry;
+
+    private Counter receivedCounter;
+    private Counter rejectedCounter;
+    private Counter skippedCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        receivedCounter = meterRegistry.counter("relay.received");
+        rejectedCounter = meterRegistry.counter("relay.rejected");
+        skippedCounter = meterRegistry.counter("relay.skipped");
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String destination = reportRelay.destinationOf(channel);
+        if (destination == null) {
+            rejectedCounter.increment();
+            return;
+        }
+        if (!hasLocalSubscribers(destination)) {
+            skippedCounter.increment();
+            return;
+        }
+
+        JsonNode report;
+        try {
+            report = objectMapper.readTree(message.getBody());
+        } catch (Exception e) {
+            rejectedCounter.increment();
+            log.warn("[Relay] 리포트 역직렬화 실패: channel={}, error={}", channel, e.getMessage());
+            return;
+        }
+        receivedCounter.increment();
+        reportSender.send(destination, report);
+    }
+
+    private boolean hasLocalSubscribers(String destination) {
+        if (!brokerProperties.isEnabled()) return true;
+        return subscriptionRegistry.hasSubscribers(destination) || riskStreamHub.hasSubscribers(destination);
+    }
+}
@@ -0,0 +1,83 @@
+package com.liquidation.riskengine.infra.redis.relay;
+
+import com.liquidation.riskengine.infra.websocket.StompPayloadEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiskReportRelay {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StompPayloadEncoder payloadEncoder;
+    private final RelayProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private Counter publishedCounter;
+    private Counter failedCounter;
+    private DistributionSummary batchSize;
+
+    @PostConstruct
+    void initMetrics() {
+        publishedCounter = meterRegistry.counter("relay.published");
+        failedCounter = meterRegistry.counter("relay.publish_failed");
+        batchSize = DistributionSummary.builder("relay.batch_size")
+                .description("Reports published to Redis per pipelined round trip")
+                .register(meterRegistry);
+    }
+
+    public boolean publish(Map<String, Object> reports) {
+        if (reports.isEmpty()) return true;
+
+        byte[][] channels = new byte[reports.size()][];
+        byte[][] payloads = new byte[reports.size()][];
+        int n = 0;
+        for (Map.Entry<String, Object> entry : reports.entrySet()) {
+            try {
+                payloads[n] = payloadEncoder.serialize(entry.getValue());
+                channels[n] = channel(entry.getKey());
+                n++;
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("[Relay] 리포트 직렬화 실패: destination={}, error={}", entry.getKey(), e.getMessage());
+            }
+        }
+
+        int count = n;
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < count; i++) {
+                    connection.publish(channels[i], payloads[i]);
+                }
+                return null;
+            });
+            publishedCounter.increment(count);
+            batchSize.record(count);
+            return true;
+        } catch (Exception e) {
+            failedCounter.increment(count);
+            log.warn("[Relay] Redis 발행 실패: reports={}, error={}", count, e.getMessage());
+            return false;
+        }
+    }
+
+    public String destinationOf(String channel) {
+        String prefix = properties.getChannelPrefix();
+        return channel.startsWith(prefix) ? channel.substring(prefix.length()) : null;
+    }
+
+    private byte[] channel(String destination) {
+        return (properties.getChannelPrefix() + destination).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package com.liquidation.riskengine.infra.sse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+final class ConflatingMailbox {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ready = lock.newCondition();
+    private final LinkedHashMap<String, String> slots = new LinkedHashMap<>();
+    private boolean closed;
+
+    boolean offer(String event, String data) {
+        lock.lock();
+        try {
+            if (closed) return false;
+            boolean conflated = slots.put(event, data) != null;
+            ready.signal();
+            return conflated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Map.Entry<String, String>> take(long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNs = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (slots.isEmpty() && !closed && remainingNs > 0) {
+                remainingNs = ready.awaitNanos(remainingNs);
+            }
+            if (closed) return null;
+
+            List<Map.Entry<String, String>> batch = new ArrayList<>(slots.size());
+            slots.forEach((event, data) -> batch.add(Map.entry(event, data)));
+            slots.clear();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            slots.clear();
+            ready.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.liquidation.riskengine.infra.sse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.liquidation.riskengine.infra.websocket.ReportStreamEncoder;
+import com.liquidation.riskengine.infra.websocket.StompPayloadEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiskStreamHub {
+
+    static final String RISK_EVENT = "risk";
+    static final String MC_EVENT = "mc";
+
+    private final StompPayloadEncoder payloadEncoder;
+    private final ReportStreamEncoder streamEncoder;
+    private final SseProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private Counter sentCounter;
+    private Counter conflatedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        sentCounter = meterRegistry.counter("sse.events.sent");
+        conflatedCounter = meterRegistry.counter("sse.events.conflated");
+        rejectedCounter = meterRegistry.counter("sse.connections.rejected");
+        Gauge.builder("sse.connections", connections, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public SseEmitter open(String userId, String symbol) {
+        if (!properties.isEnabled()) return null;
+        if (connections.incrementAndGet() > properties.getMaxConnections()) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            log.warn("[SSE] 최대 연결 수 초과로 거절: userId={}, symbol={}, max={}",
+                    userId, symbol, properties.getMaxConnections());
+            return null;
+        }
+
+        String riskDestination = "/topic/risk/" + userId + "/" + symbol;
+        String mcDestination = "/topic/mc/" + userId + "/" + symbol;
+        SseEmitter emitter = newEmitter();
+        ConflatingMailbox mailbox = new ConflatingMailbox();
+        Subscription risk = new Subscription(RISK_EVENT, mailbox);
+        Subscription mc = new Subscription(MC_EVENT, mailbox);
+
+        add(riskDestination, risk);
+        add(mcDestination, mc);
+        prime(riskDestination, risk);
+        prime(mcDestination, mc);
+
+        Runnable close = () -> {
+            if (remove(riskDestination, risk) | remove(mcDestination, mc)) {
+                connections.decrementAndGet();
+            }
+            mailbox.close();
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(e -> close.run());
+
+        Thread.ofVirtual()
+                .name("sse-" + userId + "-" + symbol)
+                .start(() -> pump(emitter, mailbox, close));
+        log.debug("[SSE] 스트림 연결: userId={}, symbol={}, connections={}", userId, symbol, connections.get());
+        return emitter;
+    }
+
+    public void publish(String destination, Object report) {
+        Set<Subscription> subscribers = subscriptions.get(destination);
+        if (subscribers == null || subscribers.isEmpty()) return;
+
+        String json;
+        try {
+            json = new String(payloadEncoder.serialize(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("[SSE] 리포트 직렬화 실패: destination={}, error={}", destination, e.getMessage());
+            return;
+        }
+        for (Subscription subscription : subscribers) {
+            if (subscription.mailbox().offer(subscription.event(), json)) {
+                conflatedCounter.increment();
+            }
+        }
+    }
+
+    public boolean hasSubscribers(String destination) {
+        Set<Subscription> subscribers = subscriptions.get(destination);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(properties.getTimeoutMs());
+    }
+
+    private void pump(SseEmitter emitter, ConflatingMailbox mailbox, Runnable close) {
+        try {
+            while (true) {
+                List<Map.Entry<String, String>> batch = mailbox.take(properties.getHeartbeatIntervalMs());
+                if (batch == null) break;
+
+                if (batch.isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                    continue;
+                }
+                for (Map.Entry<String, String> event : batch) {
+                    emitter.send(SseEmitter.event()
+                            .name(event.getKey())
+                            .data(event.getValue(), MediaType.APPLICATION_JSON));
+                    sentCounter.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } catch (Exception e) {
+            log.debug("[SSE] 스트림 전송 중단: error={}", e.getMessage());
+            emitter.completeWithError(e);
+        } finally {
+            close.run();
+        }
+    }
+
+    private void prime(String destination, Subscription subscription) {
+        ObjectNode keyframe = streamEncoder.latestKeyframe(destination);
+        JsonNode body = keyframe != null ? keyframe.get("body") : null;
+        if (body != null) {
+            subscription.mailbox().offer(subscription.event(), body.toString());
+        }
+    }
+
+    private void add(String destination, Subscription subscription) {
+        subscriptions.compute(destination, (k, subscribers) -> {
+            Set<Subscription> result = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscription);
+            return result;
+        });
+    }
+
+    private boolean remove(String destination, Subscription subscription) {
+        boolean[] removed = new boolean[1];
+        subscriptions.computeIfPresent(destination, (k, subscribers) -> {
+            removed[0] = subscribers.remove(subscription);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        return removed[0];
+    }
+
+    private record Subscription(String event, ConflatingMailbox mailbox) {
+    }
+}
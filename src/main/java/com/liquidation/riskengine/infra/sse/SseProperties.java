@@ -0,0 +1,18 @@
+package com.liquidation.riskengine.infra.sse;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+
+    private boolean enabled = true;
+    private int maxConnections = 10_000;
+    private long heartbeatIntervalMs = 15_000;
+    private long timeoutMs = 0;
+}
@@ -0,0 +1,18 @@
+package com.liquidation.riskengine.infra.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "broadcast.delta")
+public class BroadcastDeltaProperties {
+
+    private boolean enabled = true;
+    private int keyframeInterval = 50;
+    private long keyframeMaxAgeMs = 10_000;
+    private long idleEvictMs = 600_000;
+}
@@ -0,0 +1,198 @@
+package com.liquidation.riskengine.infra.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportStreamEncoder {
+
+    static final String KEYFRAME = "K";
+    static final String PATCH = "P";
+
+    private static final byte[] KEYFRAME_PREFIX = ("{\"type\":\"" + KEYFRAME + "\"").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PATCH_PREFIX = ("{\"type\":\"" + PATCH + "\"").getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final StompPayloadEncoder payloadEncoder;
+    private final BroadcastDeltaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, StreamState> streams = new ConcurrentHashMap<>();
+
+    private Counter keyframeCounter;
+    private Counter patchCounter;
+    private Counter keyframeBytes;
+    private Counter patchBytes;
+
+    @PostConstruct
+    void initMetrics() {
+        keyframeCounter = Counter.builder("broadcast.delta.frames").tag("type", "keyframe").register(meterRegistry);
+        patchCounter = Counter.builder("broadcast.delta.frames").tag("type", "patch").register(meterRegistry);
+        keyframeBytes = Counter.builder("broadcast.delta.bytes").tag("type", "keyframe").register(meterRegistry);
+        patchBytes = Counter.builder("broadcast.delta.bytes").tag("type", "patch").register(meterRegistry);
+        Gauge.builder("broadcast.delta.streams", streams, Map::size).register(meterRegistry);
+    }
+
+    public byte[] encode(String destination, Object report) throws IOException {
+        JsonNode body = objectMapper.valueToTree(report);
+        StreamState state = streams.computeIfAbsent(destination, k -> new StreamState());
+
+        synchronized (state) {
+            long now = System.currentTimeMillis();
+            long seq = ++state.seq;
+            state.lastSentMs = now;
+
+            if (properties.isEnabled() && state.body != null
+                    && state.sinceKeyframe < properties.getKeyframeInterval()
+                    && now - state.keyframeAtMs < properties.getKeyframeMaxAgeMs()) {
+                byte[] patch = payloadEncoder.serialize(patch(seq, state.body, body));
+                if (patch.length < state.keyframeLength) {
+                    state.body = body;
+                    state.sinceKeyframe++;
+                    patchCounter.increment();
+                    patchBytes.increment(patch.length);
+                    return patch;
+                }
+            }
+
+            byte[] keyframe = payloadEncoder.serialize(keyframe(seq, body));
+            state.body = body;
+            state.sinceKeyframe = 0;
+            state.keyframeAtMs = now;
+            state.keyframeLength = keyframe.length;
+            keyframeCounter.increment();
+            keyframeBytes.increment(keyframe.length);
+            return keyframe;
+        }
+    }
+
+    public ObjectNode latestKeyframe(String destination) {
+        StreamState state = streams.get(destination);
+        if (state == null) return null;
+        synchronized (state) {
+            return state.body != null ? keyframe(state.seq, state.body) : null;
+        }
+    }
+
+    public byte[] latestKeyframeBytes(String destination) throws IOException {
+        ObjectNode keyframe = latestKeyframe(destination);
+        return keyframe != null ? payloadEncoder.serialize(keyframe) : null;
+    }
+
+    public static boolean isKeyframe(Object payload) {
+        return startsWith(payload, KEYFRAME_PREFIX);
+    }
+
+    public static boolean isPatch(Object payload) {
+        return startsWith(payload, PATCH_PREFIX);
+    }
+
+    private static boolean startsWith(Object payload, byte[] prefix) {
+        return payload instanceof byte[] json && json.length >= prefix.length
+                && Arrays.equals(json, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - properties.getIdleEvictMs();
+        int before = streams.size();
+        streams.values().removeIf(state -> state.lastSentMs < cutoff);
+        int evicted = before - streams.size();
+        if (evicted > 0) {
+            log.debug("[Broadcast] 유휴 스트림 정리: evicted={}, remaining={}", evicted, streams.size());
+        }
+    }
+
+    ObjectNode keyframe(long seq, JsonNode body) {
+        ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put("type", KEYFRAME);
+        envelope.put("seq", seq);
+        envelope.set("body", body);
+        return envelope;
+    }
+
+    ObjectNode patch(long seq, JsonNode before, JsonNode after) {
+        ObjectNode envelope = objectMapper.createObjectNode();
+        envelope.put("type", PATCH);
+        envelope.put("seq", seq);
+        ArrayNode set = envelope.putArray("set");
+        ArrayNode del = envelope.putArray("del");
+        ObjectNode len = envelope.putObject("len");
+        diff("", before, after, set, del, len);
+        return envelope;
+    }
+
+    private void diff(String path, JsonNode before, JsonNode after, ArrayNode set, ArrayNode del, ObjectNode len) {
+        if (before.equals(after)) return;
+
+        if (before.isObject() && after.isObject()) {
+            Iterator<String> names = after.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                JsonNode previous = before.get(name);
+                JsonNode current = after.get(name);
+                if (previous == null) {
+                    set.addArray().add(child(path, name)).add(current);
+                } else {
+                    diff(child(path, name), previous, current, set, del, len);
+                }
+            }
+            Iterator<String> removed = before.fieldNames();
+            while (removed.hasNext()) {
+                String name = removed.next();
+                if (!after.has(name)) {
+                    del.add(child(path, name));
+                }
+            }
+            return;
+        }
+
+        if (before.isArray() && after.isArray()) {
+            int common = Math.min(before.size(), after.size());
+            for (int i = 0; i < common; i++) {
+                diff(child(path, String.valueOf(i)), before.get(i), after.get(i), set, del, len);
+            }
+            for (int i = common; i < after.size(); i++) {
+                set.addArray().add(child(path, String.valueOf(i))).add(after.get(i));
+            }
+            if (before.size() != after.size()) {
+                len.put(path, after.size());
+            }
+            return;
+        }
+
+        set.addArray().add(path).add(after);
+    }
+
+    private static String child(String path, String name) {
+        return path.isEmpty() ? name : path + "/" + name;
+    }
+
+    private static final class StreamState {
+        long seq;
+        JsonNode body;
+        int sinceKeyframe;
+        long keyframeAtMs;
+        int keyframeLength;
+        volatile long lastSentMs;
+    }
+}
@@ -0,0 +1,47 @@
+package com.liquidation.riskengine.infra.websocket;
+
+import com.liquidation.riskengine.infra.sse.RiskStreamHub;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RiskReportSender {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StompPayloadEncoder payloadEncoder;
+    private final ReportStreamEncoder streamEncoder;
+    private final RiskStreamHub riskStreamHub;
+    private final MeterRegistry meterRegistry;
+
+    private Counter sentCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        sentCounter = Counter.builder("broadcast.sent")
+                .description("Risk reports sent to STOMP destinations")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("broadcast.failed")
+                .register(meterRegistry);
+    }
+
+    public void send(String destination, Object report) {
+        try {
+            byte[] json = streamEncoder.encode(destination, report);
+            messagingTemplate.send(destination, payloadEncoder.toMessage(json));
+            sentCounter.increment();
+            log.debug("[Broadcast] → {}, bytes={}", destination, json.length);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("[Broadcast] 전송 실패: destination={}, error={}", destination, e.getMessage());
+        }
+        riskStreamHub.publish(destination, report);
+    }
+}
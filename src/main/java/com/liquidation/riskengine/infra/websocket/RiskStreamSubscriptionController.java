@@ -0,0 +1,24 @@
+package com.liquidation.riskengine.infra.websocket;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class RiskStreamSubscriptionController {
+
+    private final ReportStreamEncoder streamEncoder;
+
+    @SubscribeMapping("/risk/{userId}/{symbol}")
+    public ObjectNode riskKeyframe(@DestinationVariable String userId, @DestinationVariable String symbol) {
+        return streamEncoder.latestKeyframe("/topic/risk/" + userId + "/" + symbol.toUpperCase());
+    }
+
+    @SubscribeMapping("/mc/{userId}/{symbol}")
+    public ObjectNode mcKeyframe(@DestinationVariable String userId, @DestinationVariable String symbol) {
+        return streamEncoder.latestKeyframe("/topic/mc/" + userId + "/" + symbol.toUpperCase());
+    }
+}
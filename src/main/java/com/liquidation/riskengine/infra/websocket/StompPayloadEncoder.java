@@ -0,0 +1,43 @@
+package com.liquidation.riskengine.infra.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class StompPayloadEncoder {
+
+    private static final int INITIAL_BUFFER_BYTES = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private final ThreadLocal<ByteArrayOutputStream> buffers =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_BYTES));
+
+    public byte[] serialize(Object payload) throws IOException {
+        ByteArrayOutputStream buffer = buffers.get();
+        buffer.reset();
+        objectMapper.writeValue(buffer, payload);
+        return buffer.toByteArray();
+    }
+
+    public Message<byte[]> encode(Object payload) throws IOException {
+        return toMessage(serialize(payload));
+    }
+
+    public Message<byte[]> toMessage(byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+    }
+}
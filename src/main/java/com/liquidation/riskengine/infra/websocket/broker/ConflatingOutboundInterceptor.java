@@ -0,0 +1,206 @@
+package com.liquidation.riskengine.infra.websocket.broker;
+
+import com.liquidation.riskengine.infra.websocket.ReportStreamEncoder;
+import com.liquidation.riskengine.infra.websocket.heatmap.HeatmapFrameMerger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConflatingOutboundInterceptor implements ExecutorChannelInterceptor {
+
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+    private final FanoutBrokerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ReportStreamEncoder streamEncoder;
+    private final HeatmapFrameMerger heatmapFrameMerger;
+
+    private final Map<String, SessionQueue> queues = new ConcurrentHashMap<>();
+
+    private Counter sentCounter;
+    private Counter conflatedCounter;
+    private Counter slowClientCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        sentCounter = meterRegistry.counter("broker.outbound.sent");
+        conflatedCounter = meterRegistry.counter("broker.outbound.conflated");
+        slowClientCounter = meterRegistry.counter("broker.slow_clients");
+        Gauge.builder("broker.sessions", queues, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!properties.isEnabled()) return message;
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) return message;
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (sessionId == null || destination == null) return message;
+
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        String key = subscriptionId != null ? subscriptionId + '\u0000' + destination : destination;
+        SessionQueue queue = queues.computeIfAbsent(sessionId, k -> new SessionQueue());
+        long now = System.currentTimeMillis();
+
+        synchronized (queue) {
+            if (queue.dropped) return null;
+            if (queue.draining && now - queue.lastProgressMs > properties.getSlowClientTimeoutMs()) {
+                return drop(sessionId, queue, "send-stalled");
+            }
+            String slot = queue.tails.getOrDefault(key, key);
+            Message<?> pending = queue.pending.get(slot);
+            if (pending == null) {
+                slot = key;
+                queue.tails.remove(key);
+            } else {
+                Message<?> replacement = conflate(destination, pending, message);
+                if (replacement != null) {
+                    queue.pending.put(slot, replacement);
+                    conflatedCounter.increment();
+                    return null;
+                }
+                slot = key + '\u0000' + queue.unconflated++;
+                queue.tails.put(key, slot);
+            }
+            queue.pending.put(slot, message);
+            if (queue.pending.size() > properties.getMaxPendingPerSession()) {
+                return drop(sessionId, queue, "pending-overflow");
+            }
+            if (queue.draining) return null;
+
+            queue.draining = true;
+            queue.lastProgressMs = now;
+            return message;
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!properties.isEnabled()) return message;
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) return message;
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionQueue queue = sessionId != null ? queues.get(sessionId) : null;
+        if (queue == null) return message;
+
+        drain(sessionId, queue, handler);
+        return null;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionQueue queue = queues.remove(event.getSessionId());
+        if (queue != null) {
+            synchronized (queue) {
+                queue.dropped = true;
+                queue.pending.clear();
+                queue.tails.clear();
+            }
+        }
+    }
+
+    public int pendingMessages(String sessionId) {
+        SessionQueue queue = queues.get(sessionId);
+        if (queue == null) return 0;
+        synchronized (queue) {
+            return queue.pending.size();
+        }
+    }
+
+    private Message<?> conflate(String destination, Message<?> pending, Message<?> message) {
+        Object payload = message.getPayload();
+        if (ReportStreamEncoder.isKeyframe(payload)) return message;
+        if (ReportStreamEncoder.isPatch(payload)) return latestKeyframe(destination, message);
+        if (heatmapFrameMerger.handles(destination)) {
+            byte[] merged = heatmapFrameMerger.conflate(pending.getPayload(), payload);
+            if (merged == null) return null;
+            return merged == payload ? message : MessageBuilder.createMessage(merged, message.getHeaders());
+        }
+        return null;
+    }
+
+    private Message<?> latestKeyframe(String destination, Message<?> message) {
+        try {
+            byte[] keyframe = streamEncoder.latestKeyframeBytes(destination);
+            return keyframe != null ? MessageBuilder.createMessage(keyframe, message.getHeaders()) : null;
+        } catch (IOException e) {
+            log.debug("[Broker] 키프레임 직렬화 실패: destination={}, error={}", destination, e.getMessage());
+            return null;
+        }
+    }
+
+    private void drain(String sessionId, SessionQueue queue, MessageHandler handler) {
+        while (true) {
+            Message<?> next;
+            synchronized (queue) {
+                Iterator<Message<?>> it = queue.pending.values().iterator();
+                if (queue.dropped || !it.hasNext()) {
+                    queue.draining = false;
+                    return;
+                }
+                next = it.next();
+                it.remove();
+                queue.lastProgressMs = System.currentTimeMillis();
+            }
+
+            try {
+                handler.handleMessage(next);
+                sentCounter.increment();
+            } catch (Exception e) {
+                log.debug("[Broker] 세션 전송 실패: session={}, error={}", sessionId, e.getMessage());
+            }
+        }
+    }
+
+    private Message<byte[]> drop(String sessionId, SessionQueue queue, String reason) {
+        queue.dropped = true;
+        queue.pending.clear();
+        queue.tails.clear();
+        slowClientCounter.increment();
+        log.warn("[Broker] 느린 클라이언트 연결 종료: session={}, reason={}", sessionId, reason);
+        return slowConsumerError(sessionId);
+    }
+
+    private static Message<byte[]> slowConsumerError(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setMessage("slow consumer");
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(EMPTY_PAYLOAD, accessor.getMessageHeaders());
+    }
+
+    private static final class SessionQueue {
+        final LinkedHashMap<String, Message<?>> pending = new LinkedHashMap<>();
+        final Map<String, String> tails = new HashMap<>();
+        boolean draining;
+        boolean dropped;
+        long lastProgressMs;
+        long unconflated;
+    }
+}
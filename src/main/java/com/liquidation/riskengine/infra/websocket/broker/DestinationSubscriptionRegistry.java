@@ -0,0 +1,155 @@
+package com.liquidation.riskengine.infra.websocket.broker;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DestinationSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private static final MultiValueMap<String, String> NO_SUBSCRIBERS =
+            CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>());
+
+    private final MeterRegistry meterRegistry;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Map<String, Map<String, List<String>>> destinations = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    private final List<PatternSubscription> patterns = new CopyOnWriteArrayList<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    @PostConstruct
+    void initMetrics() {
+        Gauge.builder("broker.subscriptions", subscriptionCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("broker.destinations", destinations, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination,
+                                           Message<?> message) {
+        String previous = sessions.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) {
+            remove(sessionId, subscriptionId, previous);
+        } else {
+            subscriptionCount.incrementAndGet();
+        }
+
+        if (pathMatcher.isPattern(destination)) {
+            patterns.add(new PatternSubscription(sessionId, subscriptionId, destination));
+            log.debug("[Broker] 패턴 구독 등록: session={}, destination={}", sessionId, destination);
+            return;
+        }
+        destinations.compute(destination, (k, subscribers) -> {
+            Map<String, List<String>> result = subscribers != null ? subscribers : new ConcurrentHashMap<>();
+            result.merge(sessionId, List.of(subscriptionId), DestinationSubscriptionRegistry::append);
+            return result;
+        });
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) return;
+
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            remove(sessionId, subscriptionId, destination);
+            subscriptionCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        if (subscriptions == null) return;
+
+        subscriptions.forEach((subscriptionId, destination) -> remove(sessionId, subscriptionId, destination));
+        subscriptionCount.addAndGet(-subscriptions.size());
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        Map<String, List<String>> exact = destinations.get(destination);
+        if (patterns.isEmpty()) {
+            return exact != null ? CollectionUtils.toMultiValueMap(exact) : NO_SUBSCRIBERS;
+        }
+
+        MultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+        if (exact != null) {
+            exact.forEach(result::addAll);
+        }
+        for (PatternSubscription subscription : patterns) {
+            if (pathMatcher.match(subscription.pattern(), destination)) {
+                result.add(subscription.sessionId(), subscription.subscriptionId());
+            }
+        }
+        return result;
+    }
+
+    public boolean hasSubscribers(String destination) {
+        if (destinations.containsKey(destination)) return true;
+        for (PatternSubscription subscription : patterns) {
+            if (pathMatcher.match(subscription.pattern(), destination)) return true;
+        }
+        return false;
+    }
+
+    public int subscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    public int destinationCount() {
+        return destinations.size();
+    }
+
+    private void remove(String sessionId, String subscriptionId, String destination) {
+        if (pathMatcher.isPattern(destination)) {
+            patterns.removeIf(s -> s.sessionId().equals(sessionId) && s.subscriptionId().equals(subscriptionId));
+            return;
+        }
+        destinations.computeIfPresent(destination, (k, subscribers) -> {
+            subscribers.computeIfPresent(sessionId, (s, ids) -> without(ids, subscriptionId));
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static List<String> append(List<String> ids, List<String> added) {
+        List<String> result = new ArrayList<>(ids.size() + added.size());
+        result.addAll(ids);
+        result.addAll(added);
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<String> without(List<String> ids, String subscriptionId) {
+        if (ids.size() == 1) {
+            return ids.get(0).equals(subscriptionId) ? null : ids;
+        }
+        List<String> result = new ArrayList<>(ids);
+        result.remove(subscriptionId);
+        return result.isEmpty() ? null : Collections.unmodifiableList(result);
+    }
+
+    private record PatternSubscription(String sessionId, String subscriptionId, String pattern) {
+    }
+}
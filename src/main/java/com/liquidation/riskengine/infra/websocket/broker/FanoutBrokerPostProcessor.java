@@ -0,0 +1,26 @@
+package com.liquidation.riskengine.infra.websocket.broker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FanoutBrokerPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<FanoutBrokerProperties> properties;
+    private final ObjectProvider<DestinationSubscriptionRegistry> subscriptionRegistry;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof SimpleBrokerMessageHandler handler && properties.getObject().isEnabled()) {
+            handler.setSubscriptionRegistry(subscriptionRegistry.getObject());
+            log.info("[Broker] 목적지 인덱스 구독 레지스트리 적용: bean={}", beanName);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,17 @@
+package com.liquidation.riskengine.infra.websocket.broker;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "broker.fanout")
+public class FanoutBrokerProperties {
+
+    private boolean enabled = true;
+    private int maxPendingPerSession = 256;
+    private long slowClientTimeoutMs = 10_000;
+}
@@ -0,0 +1,86 @@
+package com.liquidation.riskengine.infra.websocket.heatmap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liquidation.riskengine.domain.model.HeatmapFrame;
+import com.liquidation.riskengine.domain.model.HeatmapFrame.FrameType;
+import com.liquidation.riskengine.infra.websocket.StompPayloadEncoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeatmapFrameMerger {
+
+    private final ObjectMapper objectMapper;
+    private final StompPayloadEncoder payloadEncoder;
+
+    public boolean handles(String destination) {
+        return destination.startsWith(HeatmapPublisher.TOPIC_PREFIX);
+    }
+
+    public byte[] conflate(Object pending, Object next) {
+        if (!(pending instanceof byte[] pendingJson) || !(next instanceof byte[] nextJson)) return null;
+        try {
+            HeatmapFrame latest = objectMapper.readValue(nextJson, HeatmapFrame.class);
+            if (latest.getType() == FrameType.SNAPSHOT) return nextJson;
+
+            HeatmapFrame base = objectMapper.readValue(pendingJson, HeatmapFrame.class);
+            if (base.getGeneration() != latest.getGeneration()) return null;
+            return payloadEncoder.serialize(merge(base, latest));
+        } catch (IOException e) {
+            log.debug("[Heatmap] 프레임 병합 실패: error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    static HeatmapFrame merge(HeatmapFrame base, HeatmapFrame delta) {
+        Map<Integer, double[]> buckets = new TreeMap<>();
+        put(buckets, base);
+        put(buckets, delta);
+
+        boolean snapshot = base.getType() == FrameType.SNAPSHOT;
+        if (snapshot) {
+            buckets.values().removeIf(v -> v[0] <= 0 && v[1] <= 0);
+        }
+        int[] indices = new int[buckets.size()];
+        double[] longs = new double[indices.length];
+        double[] shorts = new double[indices.length];
+        int k = 0;
+        for (Map.Entry<Integer, double[]> bucket : buckets.entrySet()) {
+            indices[k] = bucket.getKey();
+            longs[k] = bucket.getValue()[0];
+            shorts[k] = bucket.getValue()[1];
+            k++;
+        }
+
+        return HeatmapFrame.builder()
+                .symbol(delta.getSymbol())
+                .type(base.getType())
+                .generation(delta.getGeneration())
+                .version(delta.getVersion())
+                .revision(delta.getRevision())
+                .centerPrice(delta.getCenterPrice())
+                .bucketWidth(delta.getBucketWidth())
+                .bucketCount(delta.getBucketCount())
+                .scale(delta.getScale())
+                .indices(indices)
+                .longs(longs)
+                .shorts(shorts)
+                .timestamp(delta.getTimestamp())
+                .build();
+    }
+
+    private static void put(Map<Integer, double[]> buckets, HeatmapFrame frame) {
+        int[] indices = frame.getIndices();
+        if (indices == null) return;
+        for (int i = 0; i < indices.length; i++) {
+            buckets.put(indices[i], new double[]{frame.getLongs()[i], frame.getShorts()[i]});
+        }
+    }
+}
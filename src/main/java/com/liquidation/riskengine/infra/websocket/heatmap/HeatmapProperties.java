@@ -0,0 +1,16 @@
+package com.liquidation.riskengine.infra.websocket.heatmap;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "heatmap")
+public class HeatmapProperties {
+
+    private boolean enabled = true;
+    private long publishIntervalMs = 500;
+}
@@ -0,0 +1,45 @@
+package com.liquidation.riskengine.infra.websocket.heatmap;
+
+import com.liquidation.riskengine.domain.model.HeatmapFrame;
+import com.liquidation.riskengine.domain.service.liquidation.LiquidationClusterMap;
+import com.liquidation.riskengine.infra.websocket.StompPayloadEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeatmapPublisher {
+
+    public static final String TOPIC_PREFIX = "/topic/heatmap/";
+
+    private final LiquidationClusterMap liquidationClusterMap;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StompPayloadEncoder payloadEncoder;
+    private final HeatmapProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${heatmap.publish-interval-ms:500}")
+    public void publish() {
+        if (!properties.isEnabled()) return;
+
+        for (String symbol : liquidationClusterMap.symbols()) {
+            HeatmapFrame frame = liquidationClusterMap.drainHeatmapChanges(symbol);
+            if (frame == null) continue;
+
+            try {
+                messagingTemplate.send(TOPIC_PREFIX + symbol, payloadEncoder.encode(frame));
+                meterRegistry.counter("heatmap.frames", "type", frame.getType().name()).increment();
+                meterRegistry.counter("heatmap.buckets_sent").increment(frame.getIndices().length);
+                log.debug("[Heatmap] {} → {}{}, version={}, buckets={}",
+                        frame.getType(), TOPIC_PREFIX, symbol, frame.getVersion(), frame.getIndices().length);
+            } catch (Exception e) {
+                log.warn("[Heatmap] 히트맵 전송 실패: symbol={}, error={}", symbol, e.getMessage());
+            }
+        }
+    }
+}
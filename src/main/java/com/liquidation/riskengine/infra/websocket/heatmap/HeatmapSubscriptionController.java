@@ -0,0 +1,21 @@
+package com.liquidation.riskengine.infra.websocket.heatmap;
+
+import com.liquidation.riskengine.domain.model.HeatmapFrame;
+import com.liquidation.riskengine.domain.service.liquidation.LiquidationClusterMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class HeatmapSubscriptionController {
+
+    private final LiquidationClusterMap liquidationClusterMap;
+
+    @SubscribeMapping("/heatmap/{symbol}")
+    public HeatmapFrame snapshot(@DestinationVariable String symbol) {
+        HeatmapFrame frame = liquidationClusterMap.heatmapSnapshot(symbol);
+        return frame != null ? frame : HeatmapFrame.empty(symbol);
+    }
+}
@@ -0,0 +1,3 @@
+ALTER TABLE mc_prediction_record ADD COLUMN IF NOT EXISTS first_passage_epoch_ms BIGINT;
+
+ALTER TABLE cascade_prediction_record ADD COLUMN IF NOT EXISTS first_passage_epoch_ms BIGINT;
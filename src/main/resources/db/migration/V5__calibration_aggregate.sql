@@ -0,0 +1,36 @@
+CREATE TABLE IF NOT EXISTS calibration_aggregate (
+    kind            VARCHAR(255)     NOT NULL,
+    symbol          VARCHAR(255)     NOT NULL,
+    horizon_minutes INTEGER          NOT NULL,
+    bucket          INTEGER          NOT NULL,
+    sum_predicted   DOUBLE PRECISION NOT NULL,
+    hits            BIGINT           NOT NULL,
+    sample_count    BIGINT           NOT NULL,
+    PRIMARY KEY (kind, symbol, horizon_minutes, bucket)
+);
+
+INSERT INTO calibration_aggregate (kind, symbol, horizon_minutes, bucket, sum_predicted, hits, sample_count)
+SELECT 'MC',
+       UPPER(COALESCE(symbol, '')),
+       horizon_minutes,
+       LEAST(GREATEST(FLOOR(predicted_probability * 100)::INTEGER, 0), 99),
+       SUM(predicted_probability),
+       SUM(CASE WHEN actual_hit = true THEN 1 ELSE 0 END),
+       COUNT(*)
+  FROM mc_prediction_record
+ WHERE verified = true
+ GROUP BY 1, 2, 3, 4
+ON CONFLICT DO NOTHING;
+
+INSERT INTO calibration_aggregate (kind, symbol, horizon_minutes, bucket, sum_predicted, hits, sample_count)
+SELECT 'CASCADE',
+       UPPER(COALESCE(symbol, '')),
+       0,
+       LEAST(GREATEST(FLOOR(reach_probability * 100)::INTEGER, 0), 99),
+       SUM(reach_probability),
+       SUM(CASE WHEN actual_hit = true THEN 1 ELSE 0 END),
+       COUNT(*)
+  FROM cascade_prediction_record
+ WHERE verified = true
+ GROUP BY 1, 2, 3, 4
+ON CONFLICT DO NOTHING;
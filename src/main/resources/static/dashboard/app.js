@@ -3,6 +3,7 @@
 
   const BACKEND_BASE_URL = `${location.protocol}//${location.hostname}:8080`;
   const WS_ENDPOINT = "/ws";
+  const KEYFRAME_TIMEOUT_MS = 3000;
   const t = (key, vars) => DashboardI18n.get(key, vars);
 
   const el = {
@@ -269,25 +270,109 @@
     }
   }
 
+  function createStream(destination, render) {
+    return { destination, render, seq: 0, body: null, pendingKeyframe: false };
+  }
+
+  function requestKeyframe(stream) {
+    if (stream.pendingKeyframe || !stompClient || !stompClient.connected) return;
+    stream.pendingKeyframe = true;
+    const appDestination = stream.destination.replace(/^\/topic/, "/app");
+    let timer = null;
+    const subscription = stompClient.subscribe(appDestination, (message) => {
+      clearTimeout(timer);
+      subscription.unsubscribe();
+      stream.pendingKeyframe = false;
+      handleEnvelope(stream, message.body);
+    });
+    timer = setTimeout(() => {
+      subscription.unsubscribe();
+      stream.pendingKeyframe = false;
+    }, KEYFRAME_TIMEOUT_MS);
+  }
+
+  function splitPath(path) {
+    return path === "" ? [] : path.split("/");
+  }
+
+  function setPath(target, path, value) {
+    const keys = splitPath(path);
+    let node = target;
+    for (let i = 0; i < keys.length - 1; i += 1) {
+      if (node[keys[i]] === undefined || node[keys[i]] === null) {
+        node[keys[i]] = /^\d+$/.test(keys[i + 1]) ? [] : {};
+      }
+      node = node[keys[i]];
+    }
+    node[keys[keys.length - 1]] = value;
+  }
+
+  function getPath(target, path) {
+    return splitPath(path).reduce((node, key) => (node == null ? node : node[key]), target);
+  }
+
+  function applyPatch(body, patch) {
+    (patch.set || []).forEach(([path, value]) => setPath(body, path, value));
+    (patch.del || []).forEach((path) => {
+      const keys = splitPath(path);
+      const parent = getPath(body, keys.slice(0, -1).join("/"));
+      if (parent) delete parent[keys[keys.length - 1]];
+    });
+    Object.entries(patch.len || {}).forEach(([path, length]) => {
+      const array = getPath(body, path);
+      if (Array.isArray(array)) array.length = length;
+    });
+  }
+
+  function handleEnvelope(stream, raw) {
+    if (!raw) return;
+    const envelope = JSON.parse(raw);
+
+    if (envelope.type === "K") {
+      if (stream.body && envelope.seq < stream.seq) return;
+      stream.body = envelope.body;
+      stream.seq = envelope.seq;
+      stream.render(stream.body);
+      return;
+    }
+
+    if (!stream.body || envelope.seq > stream.seq + 1) {
+      stream.body = null;
+      requestKeyframe(stream);
+      return;
+    }
+    if (envelope.seq <= stream.seq) return;
+
+    applyPatch(stream.body, envelope);
+    stream.seq = envelope.seq;
+    stream.render(stream.body);
+  }
+
   function subscribeSymbol(userId, symbol) {
     if (!stompClient || !stompClient.connected) return;
     unsubscribeAll();
 
-    riskSubscription = stompClient.subscribe(`/topic/risk/${userId}/${symbol}`, (message) => {
+    const risk = createStream(`/topic/risk/${userId}/${symbol}`, updateCascadeReport);
+    const mc = createStream(`/topic/mc/${userId}/${symbol}`, updateMcReport);
+
+    riskSubscription = stompClient.subscribe(risk.destination, (message) => {
       try {
-        updateCascadeReport(JSON.parse(message.body));
+        handleEnvelope(risk, message.body);
       } catch (err) {
         console.error("[Dashboard] Risk message parse error", err);
       }
     });
 
-    mcSubscription = stompClient.subscribe(`/topic/mc/${userId}/${symbol}`, (message) => {
+    mcSubscription = stompClient.subscribe(mc.destination, (message) => {
       try {
-        updateMcReport(JSON.parse(message.body));
+        handleEnvelope(mc, message.body);
       } catch (err) {
         console.error("[Dashboard] MC message parse error", err);
       }
     });
+
+    requestKeyframe(risk);
+    requestKeyframe(mc);
   }
 
   async function registerPosition(payload) {
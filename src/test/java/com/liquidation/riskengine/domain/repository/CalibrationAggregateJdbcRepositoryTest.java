@@ -0,0 +1,82 @@
+package com.liquidation.riskengine.domain.repository;
+
+import com.liquidation.riskengine.domain.model.CalibrationAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalibrationAggregateJdbcRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private CalibrationAggregateJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:aggregate-" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE calibration_aggregate (
+                    kind            VARCHAR(255)     NOT NULL,
+                    symbol          VARCHAR(255)     NOT NULL,
+                    horizon_minutes INTEGER          NOT NULL,
+                    bucket          INTEGER          NOT NULL,
+                    sum_predicted   DOUBLE PRECISION NOT NULL,
+                    hits            BIGINT           NOT NULL,
+                    sample_count    BIGINT           NOT NULL,
+                    PRIMARY KEY (kind, symbol, horizon_minutes, bucket)
+                )
+                """);
+        repository = new CalibrationAggregateJdbcRepository(jdbcTemplate, new DatabaseDialect(jdbcTemplate),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @Test
+    void incrementsExistingCellsAndInsertsNewOnes() {
+        repository.applyDeltas(List.of(delta("BTCUSDT", 10, 0.5, 1, 5)));
+        repository.applyDeltas(List.of(delta("BTCUSDT", 10, 0.2, 0, 2), delta("ETHUSDT", 30, 0.9, 3, 3)));
+
+        assertThat(sampleCount("BTCUSDT", 10)).isEqualTo(7L);
+        assertThat(sampleCount("ETHUSDT", 30)).isEqualTo(3L);
+    }
+
+    @Test
+    void failedBatchRollsBackEarlierIncrements() {
+        repository.applyDeltas(List.of(delta("BTCUSDT", 10, 0.5, 1, 5)));
+
+        assertThatThrownBy(() -> repository.applyDeltas(List.of(
+                delta("BTCUSDT", 10, 0.5, 1, 5),
+                delta(null, 20, 0.5, 1, 5))))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(sampleCount("BTCUSDT", 10)).isEqualTo(5L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM calibration_aggregate", Long.class))
+                .isEqualTo(1L);
+    }
+
+    private Long sampleCount(String symbol, int bucket) {
+        return jdbcTemplate.queryForObject(
+                "SELECT sample_count FROM calibration_aggregate WHERE kind = 'MC' AND symbol = ? AND bucket = ?",
+                Long.class, symbol, bucket);
+    }
+
+    private static CalibrationAggregate delta(String symbol, int bucket, double sumPredicted, long hits, long count) {
+        return CalibrationAggregate.builder()
+                .kind("MC")
+                .symbol(symbol)
+                .horizonMinutes(60)
+                .bucket(bucket)
+                .sumPredicted(sumPredicted)
+                .hits(hits)
+                .sampleCount(count)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.liquidation.riskengine.domain.repository;
+
+import com.liquidation.riskengine.domain.model.PredictionExtremes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@EnabledIfEnvironmentVariable(named = "PG_TEST_URL", matches = ".+")
+class PredictionOutcomeJdbcRepositoryPostgresTest {
+
+    private static final long SEPTEMBER = startMs(YearMonth.of(2026, 9));
+    private static final long OCTOBER = startMs(YearMonth.of(2026, 10));
+    private static final long VERIFIED_AT = 1_800_000_000_000L;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private PredictionOutcomeJdbcRepository repository;
+    private String schema;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getenv("PG_TEST_URL"),
+                System.getenv().getOrDefault("PG_TEST_USER", "postgres"),
+                System.getenv().getOrDefault("PG_TEST_PASSWORD", ""), true);
+        dataSource.setAutoCommit(true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        schema = "outcome_test_" + System.nanoTime();
+        jdbcTemplate.execute("CREATE SCHEMA " + schema);
+        jdbcTemplate.execute("SET search_path TO " + schema);
+        createPartitionedTable("mc_prediction_record");
+        createPartitionedTable("cascade_prediction_record");
+        repository = new PredictionOutcomeJdbcRepository(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void verifyMcBulkUpdatesPendingRowsInEachMonthlyPartition() {
+        insert("mc_prediction_record", 1, SEPTEMBER + 1_000, "LONG", 60_000.0, false);
+        insert("mc_prediction_record", 2, OCTOBER + 1_000, "SHORT", 70_000.0, false);
+        insert("mc_prediction_record", 3, OCTOBER + 2_000, "LONG", 60_000.0, true);
+        insert("mc_prediction_record", 4, SEPTEMBER + 2_000, "LONG", 61_000.0, false);
+
+        boolean[] applied = repository.verifyMcBulk(List.of(
+                new PredictionExtremes(1, SEPTEMBER + 1_000, 59_000.0, 62_000.0, 61_500.0),
+                new PredictionExtremes(2, OCTOBER + 1_000, 64_000.0, 66_000.0, 65_000.0),
+                new PredictionExtremes(3, OCTOBER + 2_000, 55_000.0, 65_000.0, 60_000.0),
+                new PredictionExtremes(4, SEPTEMBER + 2_000, null, null, 60_500.0),
+                new PredictionExtremes(1, OCTOBER + 1_000, 59_000.0, 62_000.0, 61_500.0)), VERIFIED_AT);
+
+        assertThat(applied).containsExactly(true, true, false, true, false);
+
+        Map<String, Object> longHit = row("mc_prediction_record", 1);
+        assertThat(longHit.get("actual_hit")).isEqualTo(true);
+        assertThat((Double) longHit.get("price_min_during_horizon")).isCloseTo(59_000.0, within(1e-9));
+        assertThat((Double) longHit.get("price_max_during_horizon")).isCloseTo(62_000.0, within(1e-9));
+        assertThat((Double) longHit.get("price_at_deadline")).isCloseTo(61_500.0, within(1e-9));
+        assertThat(longHit.get("verified_epoch_ms")).isEqualTo(VERIFIED_AT);
+
+        Map<String, Object> shortMiss = row("mc_prediction_record", 2);
+        assertThat(shortMiss.get("verified")).isEqualTo(true);
+        assertThat(shortMiss.get("actual_hit")).isEqualTo(false);
+
+        Map<String, Object> alreadyVerified = row("mc_prediction_record", 3);
+        assertThat(alreadyVerified.get("verified_epoch_ms")).isEqualTo(1L);
+        assertThat(alreadyVerified.get("price_at_deadline")).isNull();
+
+        Map<String, Object> nullExtremes = row("mc_prediction_record", 4);
+        assertThat(nullExtremes.get("actual_hit")).isEqualTo(true);
+        assertThat(nullExtremes.get("price_min_during_horizon")).isNull();
+        assertThat(nullExtremes.get("price_max_during_horizon")).isNull();
+        assertThat((Double) nullExtremes.get("price_at_deadline")).isCloseTo(60_500.0, within(1e-9));
+    }
+
+    @Test
+    void verifyCascadeBulkUsesHighProbeForShorts() {
+        insert("cascade_prediction_record", 7, SEPTEMBER + 1_000, "SHORT", 63_000.0, false);
+        insert("cascade_prediction_record", 8, OCTOBER + 1_000, "SHORT", 63_000.0, false);
+
+        boolean[] applied = repository.verifyCascadeBulk(List.of(
+                new PredictionExtremes(7, SEPTEMBER + 1_000, 60_000.0, 63_500.0, 61_000.0),
+                new PredictionExtremes(8, OCTOBER + 1_000, null, null, 62_000.0)), VERIFIED_AT);
+
+        assertThat(applied).containsExactly(true, true);
+        assertThat(row("cascade_prediction_record", 7).get("actual_hit")).isEqualTo(true);
+        assertThat(row("cascade_prediction_record", 8).get("actual_hit")).isEqualTo(false);
+    }
+
+    private void createPartitionedTable(String table) {
+        jdbcTemplate.execute("""
+                CREATE TABLE %s (
+                    id                       BIGINT NOT NULL,
+                    symbol                   VARCHAR(255),
+                    liquidation_price        DOUBLE PRECISION NOT NULL,
+                    position_side            VARCHAR(255),
+                    prediction_epoch_ms      BIGINT NOT NULL,
+                    deadline_epoch_ms        BIGINT NOT NULL,
+                    verified                 BOOLEAN NOT NULL,
+                    actual_hit               BOOLEAN,
+                    price_at_deadline        DOUBLE PRECISION,
+                    price_min_during_horizon DOUBLE PRECISION,
+                    price_max_during_horizon DOUBLE PRECISION,
+                    verified_epoch_ms        BIGINT,
+                    first_passage_epoch_ms   BIGINT,
+                    PRIMARY KEY (id, prediction_epoch_ms)
+                ) PARTITION BY RANGE (prediction_epoch_ms)
+                """.formatted(table));
+        jdbcTemplate.execute("CREATE TABLE " + table + "_2026_09 PARTITION OF " + table
+                + " FOR VALUES FROM (" + SEPTEMBER + ") TO (" + OCTOBER + ")");
+        jdbcTemplate.execute("CREATE TABLE " + table + "_2026_10 PARTITION OF " + table
+                + " FOR VALUES FROM (" + OCTOBER + ") TO (" + startMs(YearMonth.of(2026, 11)) + ")");
+        jdbcTemplate.execute("CREATE TABLE " + table + "_default PARTITION OF " + table + " DEFAULT");
+    }
+
+    private void insert(String table, long id, long predictionEpochMs, String side, double liquidationPrice,
+                        boolean verified) {
+        jdbcTemplate.update("INSERT INTO " + table + """
+                         (id, symbol, liquidation_price, position_side, prediction_epoch_ms, deadline_epoch_ms,
+                          verified, verified_epoch_ms)
+                        VALUES (?, 'BTCUSDT', ?, ?, ?, ?, ?, ?)
+                        """, id, liquidationPrice, side, predictionEpochMs, predictionEpochMs + 3_600_000L,
+                verified, verified ? 1L : null);
+    }
+
+    private Map<String, Object> row(String table, long id) {
+        return jdbcTemplate.queryForMap("SELECT * FROM " + table + " WHERE id = ?", id);
+    }
+
+    private static long startMs(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
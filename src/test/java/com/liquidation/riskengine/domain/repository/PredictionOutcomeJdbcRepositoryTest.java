@@ -0,0 +1,130 @@
+package com.liquidation.riskengine.domain.repository;
+
+import com.liquidation.riskengine.domain.model.PendingPrediction;
+import com.liquidation.riskengine.domain.model.PredictionExtremes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PredictionOutcomeJdbcRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PredictionOutcomeJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outcome-" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE mc_prediction_record (
+                    id                       BIGINT NOT NULL,
+                    symbol                   VARCHAR(255),
+                    horizon_minutes          INTEGER NOT NULL,
+                    predicted_probability    DOUBLE PRECISION NOT NULL,
+                    liquidation_price        DOUBLE PRECISION NOT NULL,
+                    position_side            VARCHAR(255),
+                    prediction_epoch_ms      BIGINT NOT NULL,
+                    deadline_epoch_ms        BIGINT NOT NULL,
+                    verified                 BOOLEAN NOT NULL,
+                    actual_hit               BOOLEAN,
+                    price_at_deadline        DOUBLE PRECISION,
+                    price_min_during_horizon DOUBLE PRECISION,
+                    price_max_during_horizon DOUBLE PRECISION,
+                    verified_epoch_ms        BIGINT,
+                    first_passage_epoch_ms   BIGINT,
+                    PRIMARY KEY (id, prediction_epoch_ms)
+                )
+                """);
+        repository = new PredictionOutcomeJdbcRepository(jdbcTemplate, new DatabaseDialect(jdbcTemplate));
+    }
+
+    @Test
+    void pagesPendingRowsByDeadlineAndVerifiesInBulk() {
+        for (int i = 1; i <= 25; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO mc_prediction_record
+                        (id, symbol, horizon_minutes, predicted_probability, liquidation_price, position_side,
+                         prediction_epoch_ms, deadline_epoch_ms, verified)
+                    VALUES (?, 'BTCUSDT', 60, ?, ?, ?, ?, ?, FALSE)
+                    """, i, i / 100.0, 60_000.0, i % 2 == 0 ? "LONG" : "SHORT", 1_000L * i, 10_000L + (i % 5) * 1_000L);
+        }
+        jdbcTemplate.update("""
+                INSERT INTO mc_prediction_record
+                    (id, symbol, horizon_minutes, predicted_probability, liquidation_price, position_side,
+                     prediction_epoch_ms, deadline_epoch_ms, verified)
+                VALUES (99, 'BTCUSDT', 60, 0.5, 60000.0, 'LONG', 1000, 999999, FALSE)
+                """);
+
+        List<PendingPrediction> all = new ArrayList<>();
+        long afterDeadline = Long.MIN_VALUE;
+        long afterId = Long.MIN_VALUE;
+        while (true) {
+            List<PendingPrediction> page = repository.findPendingMc(0L, 20_000L, afterDeadline, afterId, 7);
+            if (page.isEmpty()) break;
+            all.addAll(page);
+            afterDeadline = page.get(page.size() - 1).deadlineEpochMs();
+            afterId = page.get(page.size() - 1).id();
+        }
+        assertThat(all).hasSize(25);
+        assertThat(all).extracting(PendingPrediction::id).doesNotHaveDuplicates().doesNotContain(99L);
+        assertThat(all).allSatisfy(p -> {
+            assertThat(p.horizonMinutes()).isEqualTo(60);
+            assertThat(p.predictedProbability()).isEqualTo(p.id() / 100.0);
+        });
+        assertThat(all).isSortedAccordingTo((a, b) -> a.deadlineEpochMs() != b.deadlineEpochMs()
+                ? Long.compare(a.deadlineEpochMs(), b.deadlineEpochMs())
+                : Long.compare(a.id(), b.id()));
+
+        List<PredictionExtremes> extremes = new ArrayList<>();
+        for (PendingPrediction p : all) {
+            if (p.id() == 1) {
+                extremes.add(new PredictionExtremes(p.id(), p.predictionEpochMs(), null, null, 61_000.0));
+            } else if (p.id() == 4) {
+                extremes.add(new PredictionExtremes(p.id(), p.predictionEpochMs(), 60_500.0, 60_800.0, 60_600.0));
+            } else {
+                extremes.add(new PredictionExtremes(p.id(), p.predictionEpochMs(), 59_500.0, 60_200.0, 60_100.0));
+            }
+        }
+        extremes.add(new PredictionExtremes(12345L, 1L, 1.0, 2.0, 1.5));
+
+        boolean[] applied = repository.verifyMcBulk(extremes, 50_000L);
+        assertThat(applied).hasSize(26);
+        for (int i = 0; i < 25; i++) {
+            assertThat(applied[i]).isTrue();
+        }
+        assertThat(applied[25]).isFalse();
+        assertThat(repository.verifyMcBulk(extremes, 50_000L)).containsOnly(false);
+
+        Map<String, Object> longRow = jdbcTemplate.queryForMap(
+                "SELECT * FROM mc_prediction_record WHERE id = 2");
+        assertThat(longRow.get("ACTUAL_HIT")).isEqualTo(true);
+        assertThat(longRow.get("PRICE_MIN_DURING_HORIZON")).isEqualTo(59_500.0);
+        assertThat(longRow.get("VERIFIED_EPOCH_MS")).isEqualTo(50_000L);
+
+        Map<String, Object> longMiss = jdbcTemplate.queryForMap(
+                "SELECT * FROM mc_prediction_record WHERE id = 4");
+        assertThat(longMiss.get("ACTUAL_HIT")).isEqualTo(false);
+        assertThat(longMiss.get("PRICE_MAX_DURING_HORIZON")).isEqualTo(60_800.0);
+
+        Map<String, Object> shortRow = jdbcTemplate.queryForMap(
+                "SELECT * FROM mc_prediction_record WHERE id = 3");
+        assertThat(shortRow.get("ACTUAL_HIT")).isEqualTo(true);
+
+        Map<String, Object> noHistory = jdbcTemplate.queryForMap(
+                "SELECT * FROM mc_prediction_record WHERE id = 1");
+        assertThat(noHistory.get("ACTUAL_HIT")).isEqualTo(true);
+        assertThat(noHistory.get("PRICE_MIN_DURING_HORIZON")).isNull();
+        assertThat(noHistory.get("PRICE_AT_DEADLINE")).isEqualTo(61_000.0);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT verified FROM mc_prediction_record WHERE id = 99", Boolean.class)).isFalse();
+    }
+}
@@ -0,0 +1,133 @@
+package com.liquidation.riskengine.domain.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnabledIfEnvironmentVariable(named = "PG_TEST_URL", matches = ".+")
+class PredictionPartitionRepositoryPostgresTest {
+
+    private static final String TABLE = "mc_prediction_record";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private PredictionPartitionRepository repository;
+    private String schema;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getenv("PG_TEST_URL"),
+                System.getenv().getOrDefault("PG_TEST_USER", "postgres"),
+                System.getenv().getOrDefault("PG_TEST_PASSWORD", ""), true);
+        dataSource.setAutoCommit(true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        schema = "partition_test_" + System.nanoTime();
+        jdbcTemplate.execute("CREATE SCHEMA " + schema);
+        jdbcTemplate.execute("SET search_path TO " + schema);
+        jdbcTemplate.execute("""
+                CREATE TABLE mc_prediction_record (
+                    id                  BIGINT       NOT NULL,
+                    symbol              VARCHAR(255),
+                    prediction_epoch_ms BIGINT       NOT NULL,
+                    PRIMARY KEY (id, prediction_epoch_ms)
+                ) PARTITION BY RANGE (prediction_epoch_ms)
+                """);
+        jdbcTemplate.execute("CREATE TABLE mc_prediction_record_default PARTITION OF mc_prediction_record DEFAULT");
+        repository = new PredictionPartitionRepository(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + "_archive CASCADE");
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void createsNextMonthPartitionAndMovesItsRowsOutOfDefault() {
+        YearMonth december = YearMonth.of(2026, 12);
+        long from = startMs(december);
+        long to = startMs(december.plusMonths(1));
+        insert(1, from);
+        insert(2, to - 1);
+        insert(3, to);
+
+        assertThat(repository.isPartitioned(TABLE)).isTrue();
+        assertThat(repository.createPartition(TABLE, "mc_prediction_record_2026_12", from, to)).isTrue();
+
+        assertThat(count("mc_prediction_record_2026_12")).isEqualTo(2L);
+        assertThat(count("mc_prediction_record_default")).isEqualTo(1L);
+        assertThat(count(TABLE)).isEqualTo(3L);
+        assertThat(repository.listPartitions(TABLE))
+                .contains("mc_prediction_record_2026_12", "mc_prediction_record_default");
+
+        YearMonth february = YearMonth.of(2027, 2);
+        assertThat(repository.createPartition(TABLE, "mc_prediction_record_2027_02",
+                startMs(february), startMs(february.plusMonths(1)))).isFalse();
+        assertThat(repository.listPartitions(TABLE)).contains("mc_prediction_record_2027_02");
+        assertThat(count("mc_prediction_record_default")).isEqualTo(1L);
+    }
+
+    @Test
+    void failedArchiveRollsBackTheDetach() {
+        YearMonth july = YearMonth.of(2026, 7);
+        String partition = "mc_prediction_record_2026_07";
+        String archive = schema + "_archive";
+        repository.createPartition(TABLE, partition, startMs(july), startMs(july.plusMonths(1)));
+        insert(1, startMs(july));
+        jdbcTemplate.execute("CREATE SCHEMA " + archive);
+        jdbcTemplate.execute("CREATE TABLE " + archive + "." + partition + " (id BIGINT)");
+
+        assertThatThrownBy(() -> repository.retirePartition(TABLE, partition, archive))
+                .isInstanceOf(DataAccessException.class);
+        assertThat(repository.listPartitions(TABLE)).contains(partition);
+        assertThat(repository.listDetachedTables(TABLE)).isEmpty();
+        assertThat(count(TABLE)).isEqualTo(1L);
+
+        jdbcTemplate.execute("DROP TABLE " + archive + "." + partition);
+        repository.retirePartition(TABLE, partition, archive);
+        assertThat(repository.listPartitions(TABLE)).doesNotContain(partition);
+        assertThat(count(archive + "." + partition)).isEqualTo(1L);
+        assertThat(count(TABLE)).isZero();
+    }
+
+    @Test
+    void listsAndFinishesPartitionsLeftDetached() {
+        YearMonth july = YearMonth.of(2026, 7);
+        String partition = "mc_prediction_record_2026_07";
+        repository.createPartition(TABLE, partition, startMs(july), startMs(july.plusMonths(1)));
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+
+        assertThat(repository.listDetachedTables(TABLE)).containsExactly(partition);
+
+        repository.retireDetachedTable(partition, null);
+        assertThat(repository.listDetachedTables(TABLE)).isEmpty();
+        assertThat(repository.listPartitions(TABLE)).doesNotContain(partition);
+    }
+
+    private void insert(long id, long predictionEpochMs) {
+        jdbcTemplate.update("INSERT INTO mc_prediction_record (id, symbol, prediction_epoch_ms) VALUES (?, 'BTCUSDT', ?)",
+                id, predictionEpochMs);
+    }
+
+    private Long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private static long startMs(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
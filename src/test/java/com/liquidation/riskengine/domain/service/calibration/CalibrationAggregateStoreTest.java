@@ -0,0 +1,116 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.model.CalibrationAggregate;
+import com.liquidation.riskengine.domain.repository.CalibrationAggregateJdbcRepository;
+import com.liquidation.riskengine.domain.repository.CalibrationAggregateRepository;
+import com.liquidation.riskengine.domain.repository.CalibrationBucketRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class CalibrationAggregateStoreTest {
+
+    private final List<CalibrationAggregate> persisted = new ArrayList<>();
+    private final List<CalibrationAggregate> stored = new ArrayList<>();
+    private final CalibrationAggregateRepository repository = mock(CalibrationAggregateRepository.class);
+    private boolean failNextApply;
+
+    private final CalibrationAggregateJdbcRepository jdbcRepository = new CalibrationAggregateJdbcRepository(null, null, null) {
+        @Override
+        public void applyDeltas(List<CalibrationAggregate> deltas) {
+            if (failNextApply) {
+                failNextApply = false;
+                throw new IllegalStateException("connection reset");
+            }
+            persisted.addAll(deltas);
+        }
+    };
+
+    @Test
+    void recordFlushAndBucketsAgreeOnUppercaseSymbols() {
+        CalibrationAggregateStore store = store();
+        store.record(PredictionKind.MC, "btcusdt", 60, 0.12, true);
+        store.record(PredictionKind.MC, "BTCUSDT", 60, 0.18, false);
+        store.record(PredictionKind.MC, "BTCUSDT", 60, 0.55, true);
+        store.record(PredictionKind.MC, "ETHUSDT", 60, 0.15, true);
+        store.record(PredictionKind.CASCADE, "BTCUSDT", 0, 0.15, false);
+
+        store.flush();
+
+        assertThat(persisted).hasSize(5);
+        assertThat(persisted).extracting(CalibrationAggregate::getSymbol).containsOnly("BTCUSDT", "ETHUSDT");
+        CalibrationAggregate cell = persisted.stream()
+                .filter(d -> d.getKind().equals("MC") && d.getSymbol().equals("BTCUSDT") && d.getBucket() == 12)
+                .findFirst().orElseThrow();
+        assertThat(cell.getSampleCount()).isEqualTo(1);
+        assertThat(cell.getHits()).isEqualTo(1);
+
+        List<CalibrationBucketRow> buckets = store.buckets(PredictionKind.MC, "btcusdt", 60, 10);
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets.get(0).getSampleCount()).isEqualTo(2);
+        assertThat(buckets.get(0).getMeanPredicted()).isCloseTo(0.15, within(1e-12));
+        assertThat(buckets.get(0).getActualHitRate()).isCloseTo(0.5, within(1e-12));
+        assertThat(buckets.get(1).getMeanPredicted()).isCloseTo(0.55, within(1e-12));
+
+        assertThat(store.buckets(PredictionKind.MC, null, 60, 10).get(0).getSampleCount()).isEqualTo(3);
+        assertThat(store.verifiedCount(PredictionKind.CASCADE)).isEqualTo(1);
+
+        store.flush();
+        assertThat(persisted).hasSize(5);
+    }
+
+    @Test
+    void failedFlushIsRetriedWithoutDoubleCounting() {
+        CalibrationAggregateStore store = store();
+        store.record(PredictionKind.MC, "BTCUSDT", 60, 0.31, true);
+        store.record(PredictionKind.MC, "BTCUSDT", 60, 0.315, false);
+
+        failNextApply = true;
+        store.flush();
+        assertThat(persisted).isEmpty();
+
+        store.record(PredictionKind.MC, "BTCUSDT", 60, 0.318, true);
+        store.flush();
+
+        assertThat(persisted).hasSize(1);
+        assertThat(persisted.get(0).getSampleCount()).isEqualTo(3);
+        assertThat(persisted.get(0).getHits()).isEqualTo(2);
+        assertThat(persisted.get(0).getSumPredicted()).isCloseTo(0.943, within(1e-12));
+        assertThat(store.verifiedCount(PredictionKind.MC)).isEqualTo(3);
+    }
+
+    @Test
+    void loadedRowsMergeWithNewRecords() {
+        stored.add(CalibrationAggregate.builder()
+                .kind("MC").symbol("BTCUSDT").horizonMinutes(60).bucket(42)
+                .sumPredicted(4.2).hits(3).sampleCount(10)
+                .build());
+        CalibrationAggregateStore store = store();
+        store.load();
+
+        store.record(PredictionKind.MC, "btcusdt", 60, 0.42, true);
+        store.flush();
+
+        List<CalibrationBucketRow> buckets = store.buckets(PredictionKind.MC, "BTCUSDT", 60, 100);
+        assertThat(buckets).hasSize(1);
+        assertThat(buckets.get(0).getSampleCount()).isEqualTo(11);
+        assertThat(buckets.get(0).getActualHitRate()).isCloseTo(4.0 / 11, within(1e-12));
+        assertThat(persisted).hasSize(1);
+        assertThat(persisted.get(0).getSampleCount()).isEqualTo(1);
+        verify(repository).findAll();
+        verifyNoMoreInteractions(repository);
+    }
+
+    private CalibrationAggregateStore store() {
+        when(repository.findAll()).thenAnswer(invocation -> new ArrayList<>(stored));
+        return new CalibrationAggregateStore(repository, jdbcRepository, new CalibrationAggregateProperties());
+    }
+}
@@ -0,0 +1,150 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.model.PredictionOutcome;
+import com.liquidation.riskengine.domain.repository.PredictionOutcomeJdbcRepository;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
+import com.liquidation.riskengine.domain.service.state.RiskStateManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PendingPredictionIndexTest {
+
+    private final PriceHistoryBuffer priceHistoryBuffer = new PriceHistoryBuffer();
+    private final CalibrationAggregateStore aggregateStore =
+            new CalibrationAggregateStore(null, null, new CalibrationAggregateProperties());
+    private final List<PredictionOutcome> written = new ArrayList<>();
+    private final Set<Long> applied = new HashSet<>();
+
+    private PendingPredictionIndex index;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        PredictionOutcomeJdbcRepository outcomeRepository = new PredictionOutcomeJdbcRepository(null, null) {
+            @Override
+            public boolean[] updateMcOutcomes(List<PredictionOutcome> outcomes) {
+                boolean[] result = new boolean[outcomes.size()];
+                for (int i = 0; i < outcomes.size(); i++) {
+                    written.add(outcomes.get(i));
+                    result[i] = applied.add(outcomes.get(i).id());
+                }
+                return result;
+            }
+
+            @Override
+            public boolean[] updateCascadeOutcomes(List<PredictionOutcome> outcomes) {
+                return updateMcOutcomes(outcomes);
+            }
+        };
+        index = new PendingPredictionIndex(new CalibrationIndexProperties(), priceHistoryBuffer,
+                new RiskStateManager(null), outcomeRepository, null, null, aggregateStore, new SimpleMeterRegistry());
+        index.init();
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    void longsResolveFromHighestLiquidationPriceDown() {
+        register(1, "LONG", 97.0, now + 600_000);
+        register(2, "LONG", 95.0, now + 600_000);
+        register(3, "LONG", 90.0, now + 600_000);
+
+        index.onPrice("btcusdt", 98.0, now + 1_000);
+        index.onPrice("BTCUSDT", 96.5, now + 2_000);
+        index.onPrice("BTCUSDT", 95.0, now + 3_000);
+        index.flush();
+
+        assertThat(ids()).containsExactly(1L, 2L);
+        assertThat(written).allMatch(PredictionOutcome::hit);
+        assertThat(written.get(0).firstPassageEpochMs()).isEqualTo(now + 2_000);
+        assertThat(written.get(1).firstPassageEpochMs()).isEqualTo(now + 3_000);
+        assertThat(index.pendingSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shortsResolveFromLowestLiquidationPriceUp() {
+        register(1, "SHORT", 103.0, now + 600_000);
+        register(2, "SHORT", 105.0, now + 600_000);
+        register(3, "SHORT", 110.0, now + 600_000);
+
+        index.onPrice("BTCUSDT", 102.0, now + 1_000);
+        index.onPrice("BTCUSDT", 104.0, now + 2_000);
+        index.onPrice("BTCUSDT", 110.0, now + 3_000);
+        index.flush();
+
+        assertThat(ids()).containsExactly(1L, 2L, 3L);
+        assertThat(written.get(0).firstPassageEpochMs()).isEqualTo(now + 2_000);
+        assertThat(written.get(2).firstPassageEpochMs()).isEqualTo(now + 3_000);
+        assertThat(index.pendingSize()).isZero();
+    }
+
+    @Test
+    void expiresAsMissExactlyAtDeadlineSlotBoundary() {
+        long deadline = (now / 1_000 + 5) * 1_000;
+        register(1, "LONG", 90.0, deadline);
+        register(2, "SHORT", 110.0, deadline + 1);
+
+        index.expireDeadlines(deadline - 1);
+        index.flush();
+        assertThat(written).isEmpty();
+
+        index.expireDeadlines(deadline);
+        index.flush();
+        assertThat(ids()).containsExactly(1L);
+        assertThat(written.get(0).hit()).isFalse();
+        assertThat(written.get(0).firstPassageEpochMs()).isNull();
+
+        index.onPrice("BTCUSDT", 80.0, deadline + 1);
+        index.flush();
+        assertThat(ids()).containsExactly(1L);
+
+        index.expireDeadlines(deadline + 1);
+        index.flush();
+        assertThat(ids()).containsExactly(1L, 2L);
+        assertThat(index.pendingSize()).isZero();
+    }
+
+    @Test
+    void reRegisteredPredictionIsOnlyAggregatedOnce() {
+        register(1, "LONG", 95.0, now + 600_000);
+        index.onPrice("BTCUSDT", 94.0, now + 1_000);
+        index.flush();
+
+        register(1, "LONG", 95.0, now + 600_000);
+        index.onPrice("BTCUSDT", 93.0, now + 2_000);
+        index.flush();
+
+        assertThat(ids()).containsExactly(1L, 1L);
+        assertThat(aggregateStore.verifiedCount(PredictionKind.MC)).isEqualTo(1);
+        assertThat(index.pendingSize()).isZero();
+    }
+
+    @Test
+    void registrationAfterCrossInHistoryResolvesImmediately() {
+        priceHistoryBuffer.record("BTCUSDT", 100.0, now - 2_000);
+        priceHistoryBuffer.record("BTCUSDT", 94.0, now - 1_000);
+
+        register(1, "LONG", 95.0, now + 600_000);
+        index.flush();
+
+        assertThat(ids()).containsExactly(1L);
+        assertThat(written.get(0).hit()).isTrue();
+        assertThat(written.get(0).priceMinDuringHorizon()).isEqualTo(94.0);
+        assertThat(index.pendingSize()).isZero();
+    }
+
+    private void register(long id, String side, double liquidationPrice, long deadline) {
+        index.register(PredictionKind.MC, id, now - 5_000, "BTCUSDT", side, liquidationPrice, deadline, 0.3, 60);
+    }
+
+    private List<Long> ids() {
+        return written.stream().map(PredictionOutcome::id).toList();
+    }
+}
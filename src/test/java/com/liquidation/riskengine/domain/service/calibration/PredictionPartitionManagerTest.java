@@ -0,0 +1,120 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.repository.PredictionPartitionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PredictionPartitionManagerTest {
+
+    private static final String TABLE = "mc_prediction_record";
+
+    private final PartitionProperties properties = new PartitionProperties();
+    private final List<String> existing = new ArrayList<>();
+    private final List<String> detached = new ArrayList<>();
+    private final List<String> calls = new ArrayList<>();
+
+    private final PredictionPartitionRepository repository = new PredictionPartitionRepository(null, null) {
+        @Override
+        public List<String> listPartitions(String table) {
+            return existing;
+        }
+
+        @Override
+        public boolean createPartition(String table, String partition, long fromMs, long toMs) {
+            calls.add("create " + partition + " " + Instant.ofEpochMilli(fromMs) + " " + Instant.ofEpochMilli(toMs));
+            return false;
+        }
+
+        @Override
+        public List<String> listDetachedTables(String table) {
+            return detached;
+        }
+
+        @Override
+        public void retirePartition(String table, String partition, String archiveSchema) {
+            calls.add("retire " + partition + " " + archiveSchema);
+        }
+
+        @Override
+        public void retireDetachedTable(String partition, String archiveSchema) {
+            calls.add("finish " + partition + " " + archiveSchema);
+        }
+    };
+
+    private final PredictionPartitionManager manager = new PredictionPartitionManager(properties, repository, null);
+
+    @Test
+    void createsMissingMonthsWithContiguousUtcBoundsAcrossYearEnd() {
+        properties.setMonthsAhead(2);
+        existing.add("mc_prediction_record_2026_11");
+        existing.add("mc_prediction_record_default");
+
+        manager.maintainTable(TABLE, YearMonth.of(2026, 11));
+
+        assertThat(calls).containsExactly(
+                "create mc_prediction_record_2026_12 2026-12-01T00:00:00Z 2027-01-01T00:00:00Z",
+                "create mc_prediction_record_2027_01 2027-01-01T00:00:00Z 2027-02-01T00:00:00Z");
+    }
+
+    @Test
+    void retiresOnlyExpiredMonthPartitions() {
+        properties.setMonthsAhead(0);
+        properties.setRetentionMonths(2);
+        existing.addAll(List.of("mc_prediction_record_2026_07", "mc_prediction_record_2026_08",
+                "mc_prediction_record_2026_09", "mc_prediction_record_2026_10", "mc_prediction_record_default"));
+
+        manager.maintainTable(TABLE, YearMonth.of(2026, 10));
+        assertThat(calls).containsExactly("retire mc_prediction_record_2026_07 null");
+
+        calls.clear();
+        properties.setRetentionAction("archive");
+        manager.maintainTable(TABLE, YearMonth.of(2026, 10));
+        assertThat(calls).containsExactly("retire mc_prediction_record_2026_07 archive");
+    }
+
+    @Test
+    void finishesExpiredTablesLeftDetachedByEarlierRuns() {
+        properties.setMonthsAhead(0);
+        properties.setRetentionMonths(2);
+        existing.addAll(List.of("mc_prediction_record_2026_09", "mc_prediction_record_2026_10"));
+        detached.addAll(List.of("mc_prediction_record_2026_06", "mc_prediction_record_2026_09",
+                "mc_prediction_record_backup"));
+
+        manager.maintainTable(TABLE, YearMonth.of(2026, 10));
+
+        assertThat(calls).containsExactly("finish mc_prediction_record_2026_06 null");
+    }
+
+    @Test
+    void invalidArchiveSchemaFailsAtStartup() {
+        properties.setRetentionAction("archive");
+        properties.setArchiveSchema("archive; DROP TABLE x");
+
+        assertThatThrownBy(manager::validateArchiveSchema).isInstanceOf(IllegalStateException.class);
+
+        properties.setArchiveSchema("prediction_archive");
+        manager.validateArchiveSchema();
+        properties.setRetentionAction("drop");
+        properties.setArchiveSchema("Not Valid");
+        manager.validateArchiveSchema();
+    }
+
+    @Test
+    void parsesMonthOnlyFromThisTablesPartitions() {
+        assertThat(PredictionPartitionManager.monthOf(TABLE, "mc_prediction_record_2027_01"))
+                .isEqualTo(YearMonth.of(2027, 1));
+        assertThat(PredictionPartitionManager.monthOf(TABLE, "mc_prediction_record_default")).isNull();
+        assertThat(PredictionPartitionManager.monthOf(TABLE, "cascade_prediction_record_2027_01")).isNull();
+        assertThat(PredictionPartitionManager.monthOf(TABLE, "mc_prediction_record_old_2027_01")).isNull();
+        assertThat(PredictionPartitionManager.partitionName(TABLE, YearMonth.of(2027, 1)))
+                .isEqualTo("mc_prediction_record_2027_01");
+        assertThat(PredictionPartitionManager.startMs(YearMonth.of(2027, 1))).isEqualTo(1_798_761_600_000L);
+    }
+}
@@ -0,0 +1,134 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import com.liquidation.riskengine.domain.model.CascadePredictionRecord;
+import com.liquidation.riskengine.domain.model.McPredictionRecord;
+import com.liquidation.riskengine.domain.repository.CascadePredictionRepository;
+import com.liquidation.riskengine.domain.repository.McPredictionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PredictionWriterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PredictionWriterProperties properties = new PredictionWriterProperties();
+    private final McPredictionRepository mcRepository = mock(McPredictionRepository.class);
+    private final CascadePredictionRepository cascadeRepository = mock(CascadePredictionRepository.class);
+
+    private PredictionWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setQueueCapacity(4);
+        properties.setBatchSize(1_000);
+        properties.setFlushIntervalMs(3_600_000);
+        when(mcRepository.saveAll(anyIterable())).then(returnsFirstArg());
+        when(cascadeRepository.saveAll(anyIterable())).then(returnsFirstArg());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) writer.stop();
+    }
+
+    @Test
+    void rejectsSubmissionsBeyondQueueCapacity() {
+        writer = startWriter();
+
+        assertThat(writer.submitMc(List.of(mc(), mc(), mc()))).isTrue();
+        assertThat(writer.submitMc(List.of(mc(), mc()))).isFalse();
+        assertThat(writer.submitCascade(cascade())).isTrue();
+        assertThat(writer.submitCascade(cascade())).isFalse();
+
+        assertThat(writer.queueDepth()).isEqualTo(4);
+        assertThat(counter("calibration.writer.overflow")).isEqualTo(3.0);
+        assertThat(counter("calibration.writer.enqueued")).isEqualTo(4.0);
+        verifyNoInteractions(mcRepository, cascadeRepository);
+    }
+
+    @Test
+    void drainsQueueOnShutdown() {
+        writer = startWriter();
+        writer.submitMc(List.of(mc(), mc()));
+        writer.submitCascade(cascade());
+
+        writer.stop();
+
+        verify(mcRepository).saveAll(argThat(batch -> sizeOf(batch) == 2));
+        verify(cascadeRepository).saveAll(argThat(batch -> sizeOf(batch) == 1));
+        assertThat(writer.queueDepth()).isZero();
+        assertThat(counter("calibration.writer.written")).isEqualTo(3.0);
+    }
+
+    @Test
+    void failedSaveIsDroppedAndLaterBatchesStillWrite() throws InterruptedException {
+        properties.setBatchSize(2);
+        when(mcRepository.saveAll(anyIterable()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .then(returnsFirstArg());
+        writer = startWriter();
+
+        writer.submitMc(List.of(mc(), mc()));
+        awaitCounter("calibration.writer.dropped", 2.0);
+
+        writer.submitMc(List.of(mc()));
+        writer.submitCascade(cascade());
+        writer.stop();
+
+        assertThat(counter("calibration.writer.dropped")).isEqualTo(2.0);
+        assertThat(counter("calibration.writer.written")).isEqualTo(2.0);
+        verify(mcRepository, times(2)).saveAll(anyIterable());
+        verify(mcRepository).saveAll(argThat(batch -> sizeOf(batch) == 1));
+        verify(cascadeRepository).saveAll(argThat(batch -> sizeOf(batch) == 1));
+        assertThat(writer.queueDepth()).isZero();
+    }
+
+    private PredictionWriter startWriter() {
+        CalibrationIndexProperties indexProperties = new CalibrationIndexProperties();
+        indexProperties.setEnabled(false);
+        PendingPredictionIndex index = new PendingPredictionIndex(indexProperties, null, null, null, null, null,
+                null, meterRegistry);
+        PredictionWriter w = new PredictionWriter(properties, mcRepository, cascadeRepository, index, meterRegistry);
+        w.start();
+        return w;
+    }
+
+    private double counter(String name) {
+        return meterRegistry.find(name).counter().count();
+    }
+
+    private void awaitCounter(String name, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (counter(name) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(counter(name)).isEqualTo(expected);
+    }
+
+    private static int sizeOf(Iterable<?> batch) {
+        int size = 0;
+        for (Object ignored : batch) size++;
+        return size;
+    }
+
+    private static McPredictionRecord mc() {
+        return McPredictionRecord.builder().symbol("BTCUSDT").horizonMinutes(60).build();
+    }
+
+    private static CascadePredictionRecord cascade() {
+        return CascadePredictionRecord.builder().symbol("BTCUSDT").build();
+    }
+}
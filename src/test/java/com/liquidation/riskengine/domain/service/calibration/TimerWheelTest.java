@@ -0,0 +1,51 @@
+package com.liquidation.riskengine.domain.service.calibration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    @Test
+    void expiresExactlyAtDeadlineOnSlotBoundary() {
+        TimerWheel<String> wheel = new TimerWheel<>(1_000, 8, 0);
+        wheel.schedule("boundary", 5_000);
+        wheel.schedule("late-in-slot", 5_999);
+
+        assertThat(wheel.advance(4_999)).isEmpty();
+        assertThat(wheel.advance(5_000)).containsExactly("boundary");
+        assertThat(wheel.advance(5_998)).isEmpty();
+        assertThat(wheel.advance(5_999)).containsExactly("late-in-slot");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlinesBeyondOneRotationWaitForTheirRound() {
+        TimerWheel<String> wheel = new TimerWheel<>(1_000, 8, 0);
+        wheel.schedule("next-round", 10_500);
+
+        assertThat(wheel.advance(2_000)).isEmpty();
+        assertThat(wheel.advance(2_500)).isEmpty();
+        assertThat(wheel.advance(10_499)).isEmpty();
+        assertThat(wheel.advance(10_500)).containsExactly("next-round");
+    }
+
+    @Test
+    void largeJumpScansEverySlotOnce() {
+        TimerWheel<Integer> wheel = new TimerWheel<>(1_000, 8, 0);
+        for (int i = 1; i <= 20; i++) {
+            wheel.schedule(i, i * 1_000L);
+        }
+
+        assertThat(wheel.advance(60_000)).hasSize(20);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineIsScheduledIntoCurrentSlot() {
+        TimerWheel<String> wheel = new TimerWheel<>(1_000, 8, 10_000);
+        wheel.schedule("overdue", 3_000);
+
+        assertThat(wheel.advance(10_000)).containsExactly("overdue");
+    }
+}
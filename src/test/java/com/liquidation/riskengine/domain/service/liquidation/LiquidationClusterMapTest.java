@@ -0,0 +1,188 @@
+package com.liquidation.riskengine.domain.service.liquidation;
+
+import com.liquidation.riskengine.domain.model.HeatmapFrame;
+import com.liquidation.riskengine.domain.model.HeatmapFrame.FrameType;
+import com.liquidation.riskengine.domain.service.liquidation.LiquidationClusterMap.ClusterRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LiquidationClusterMapTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+
+    @Test
+    void decayIsAppliedLazilyAndSurvivesRenormalization() {
+        LiquidationClusterMap map = new LiquidationClusterMap();
+        map.recordOiIncrease("btcusdt", 60_000.0, 100.0, T0);
+        assertThat(map.hasData("BTCUSDT")).isTrue();
+
+        double fresh = totalLong(map, T0);
+        assertThat(fresh).isGreaterThan(0.0);
+
+        long later = T0 + 10 * LiquidationClusterMap.DECAY_INTERVAL_MS;
+        assertThat(totalLong(map, later)).isCloseTo(fresh * Math.pow(0.995, 10), within(1e-9));
+
+        long afterRenormalize = T0 + LiquidationClusterMap.RENORMALIZE_INTERVAL_MS + 30_000;
+        map.recordOiIncrease("BTCUSDT", 60_000.0, 100.0, afterRenormalize);
+        double expected = fresh * Math.pow(0.995, (afterRenormalize - T0) / 60_000.0) + fresh;
+        assertThat(totalLong(map, afterRenormalize)).isCloseTo(expected, within(1e-6));
+    }
+
+    @Test
+    void liquidationsDrainTheirBucketAndRecenterKeepsMass() {
+        LiquidationClusterMap map = new LiquidationClusterMap();
+        map.recordOiIncrease("BTCUSDT", 60_000.0, 100.0, T0);
+
+        List<double[]> clusters = new ArrayList<>();
+        map.visit("BTCUSDT", true, 0, Double.MAX_VALUE, T0, (p, v) -> clusters.add(new double[]{p, v}));
+        double[] largest = clusters.stream().max((a, b) -> Double.compare(a[1], b[1])).orElseThrow();
+
+        map.recordLiquidation("BTCUSDT", true, largest[0], largest[1] * largest[0] / 2, T0);
+        assertThat(volumeAt(map, largest[0], T0)).isCloseTo(largest[1] / 2, within(1e-9));
+        map.recordLiquidation("BTCUSDT", true, largest[0], largest[1] * largest[0], T0);
+        assertThat(volumeAt(map, largest[0], T0)).isZero();
+
+        double before = totalLong(map, T0) + totalShort(map, T0);
+        map.recordOiIncrease("BTCUSDT", 66_600.0, 1e-12, T0);
+        assertThat(totalLong(map, T0) + totalShort(map, T0)).isCloseTo(before, within(1e-6));
+    }
+
+    @Test
+    void rangeSummaryAndTopClustersMatchFullScan() {
+        LiquidationClusterMap map = new LiquidationClusterMap();
+        SplittableRandom rng = new SplittableRandom(3);
+        long now = T0;
+        double mark = 60_000.0;
+        for (int i = 0; i < 3_000; i++) {
+            now += rng.nextInt(0, 2_000);
+            mark *= Math.exp(0.004 * rng.nextGaussian());
+            if (rng.nextInt(4) == 0) {
+                map.recordLiquidation("BTCUSDT", rng.nextBoolean(), mark * rng.nextDouble(0.7, 1.3),
+                        rng.nextDouble(1_000, 500_000), now);
+            } else {
+                map.recordOiIncrease("BTCUSDT", mark, rng.nextDouble(0.1, 50.0), now);
+            }
+        }
+
+        for (int q = 0; q < 300; q++) {
+            boolean longSide = rng.nextBoolean();
+            double a = mark * rng.nextDouble(0.6, 1.4);
+            double b = mark * rng.nextDouble(0.6, 1.4);
+            double low = Math.min(a, b);
+            double high = Math.max(a, b);
+
+            List<double[]> all = new ArrayList<>();
+            map.visit("BTCUSDT", longSide, low, high, now, (p, v) -> all.add(new double[]{p, v}));
+            double volume = all.stream().mapToDouble(c -> c[1]).sum();
+            double notional = all.stream().mapToDouble(c -> c[0] * c[1]).sum();
+
+            ClusterRange range = map.summarize("BTCUSDT", longSide, low, high, now);
+            assertThat(range.volume()).isCloseTo(volume, within(1e-6 * Math.max(1.0, volume)));
+            assertThat(range.notional()).isCloseTo(notional, within(1e-6 * Math.max(1.0, notional)));
+            assertThat(range.buckets()).isGreaterThanOrEqualTo(all.size());
+
+            List<double[]> top = new ArrayList<>();
+            map.topClusters("BTCUSDT", longSide, low, high, 5, now, (p, v) -> top.add(new double[]{p, v}));
+            List<Double> expected = all.stream().map(c -> c[1])
+                    .sorted(Comparator.reverseOrder()).limit(5).toList();
+            assertThat(top).extracting(c -> c[1]).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void heatmapDeltasReplayOntoSnapshotReproduceTheGrid() {
+        LiquidationClusterMap map = new LiquidationClusterMap();
+        map.recordOiIncrease("BTCUSDT", 60_000.0, 10.0, T0);
+
+        HeatmapFrame first = map.drainHeatmapChanges("BTCUSDT", T0);
+        assertThat(first.getType()).isEqualTo(FrameType.SNAPSHOT);
+        assertThat(map.drainHeatmapChanges("BTCUSDT", T0)).isNull();
+
+        double[] longs = new double[first.getBucketCount()];
+        double[] shorts = new double[first.getBucketCount()];
+        apply(first, longs, shorts);
+
+        long version = first.getVersion();
+        SplittableRandom rng = new SplittableRandom(5);
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 5; i++) {
+                if (rng.nextBoolean()) {
+                    map.recordOiIncrease("BTCUSDT", 60_000.0 * rng.nextDouble(0.97, 1.03), 1.0, T0);
+                } else {
+                    map.recordLiquidation("BTCUSDT", rng.nextBoolean(), 60_000.0 * rng.nextDouble(0.7, 1.3),
+                            50_000.0, T0);
+                }
+            }
+            HeatmapFrame delta = map.drainHeatmapChanges("BTCUSDT", T0);
+            if (delta == null) continue;
+            assertThat(delta.getType()).isEqualTo(FrameType.DELTA);
+            assertThat(delta.getVersion()).isEqualTo(version + 1);
+            assertThat(delta.getIndices().length).isLessThan(first.getBucketCount());
+            version = delta.getVersion();
+            apply(delta, longs, shorts);
+        }
+
+        HeatmapFrame snapshot = map.heatmapSnapshot("BTCUSDT");
+        assertThat(snapshot.getGeneration()).isEqualTo(first.getGeneration());
+        assertThat(snapshot.getVersion()).isEqualTo(version);
+        double[] expectedLongs = new double[snapshot.getBucketCount()];
+        double[] expectedShorts = new double[snapshot.getBucketCount()];
+        apply(snapshot, expectedLongs, expectedShorts);
+        assertThat(longs).containsExactly(expectedLongs);
+        assertThat(shorts).containsExactly(expectedShorts);
+    }
+
+    @Test
+    void snapshotEtagChangesWhenBucketsMutateBetweenDrains() {
+        LiquidationClusterMap map = new LiquidationClusterMap();
+        map.recordOiIncrease("BTCUSDT", 60_000.0, 10.0, T0);
+
+        String initial = map.heatmapSnapshot("BTCUSDT").etag();
+        assertThat(map.heatmapSnapshot("BTCUSDT").etag()).isEqualTo(initial);
+
+        map.recordOiIncrease("BTCUSDT", 60_000.0, 1.0, T0);
+        String afterOi = map.heatmapSnapshot("BTCUSDT").etag();
+        assertThat(afterOi).isNotEqualTo(initial);
+
+        List<Double> prices = new ArrayList<>();
+        map.visit("BTCUSDT", true, 0, Double.MAX_VALUE, T0, (price, volume) -> prices.add(price));
+        map.recordLiquidation("BTCUSDT", true, prices.get(0), 1.0, T0);
+        String afterLiquidation = map.heatmapSnapshot("BTCUSDT").etag();
+        assertThat(afterLiquidation).isNotEqualTo(afterOi);
+
+        map.recordLiquidation("BTCUSDT", true, 60_000.0 * 1.5, 1.0, T0);
+        assertThat(map.heatmapSnapshot("BTCUSDT").etag()).isEqualTo(afterLiquidation);
+    }
+
+    private static void apply(HeatmapFrame frame, double[] longs, double[] shorts) {
+        for (int i = 0; i < frame.getIndices().length; i++) {
+            longs[frame.getIndices()[i]] = frame.getLongs()[i];
+            shorts[frame.getIndices()[i]] = frame.getShorts()[i];
+        }
+    }
+
+    private static double totalLong(LiquidationClusterMap map, long nowMs) {
+        double[] sum = new double[1];
+        map.visit("BTCUSDT", true, 0, Double.MAX_VALUE, nowMs, (p, v) -> sum[0] += v);
+        return sum[0];
+    }
+
+    private static double totalShort(LiquidationClusterMap map, long nowMs) {
+        double[] sum = new double[1];
+        map.visit("BTCUSDT", false, 0, Double.MAX_VALUE, nowMs, (p, v) -> sum[0] += v);
+        return sum[0];
+    }
+
+    private static double volumeAt(LiquidationClusterMap map, double price, long nowMs) {
+        double[] sum = new double[1];
+        map.visit("BTCUSDT", true, price, price, nowMs, (p, v) -> sum[0] += v);
+        return sum[0];
+    }
+}
@@ -0,0 +1,112 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import com.liquidation.riskengine.domain.model.MonteCarloReport;
+import com.liquidation.riskengine.domain.model.MonteCarloReport.HorizonResult;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationCorrector;
+import com.liquidation.riskengine.domain.service.montecarlo.McResultCache.ModelInputs;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class McResultCacheTest {
+
+    private static final double S0 = 65_000.0;
+
+    private final double[] calibrationScale = {1.0};
+    private McResultCache cache;
+    private ModelInputs inputs;
+
+    @BeforeEach
+    void setUp() {
+        CalibrationCorrector corrector = new CalibrationCorrector(null) {
+            @Override
+            public double correctMc(double rawProb) {
+                return rawProb * calibrationScale[0];
+            }
+        };
+        cache = new McResultCache(new McCacheProperties(), new SimpleMeterRegistry(), corrector);
+        cache.initMetrics();
+        inputs = cache.quantize("btcusdt", "long", 0.6, 0.0, 5.0, null, 1, 1440, 10_000, "double");
+    }
+
+    @Test
+    void exactHitServesStoredRawProbabilitiesRescaledToCurrentPrice() {
+        cache.put(inputs, report(-0.0300, 0.20, 0.95));
+
+        double startPrice = S0 * 1.001;
+        MonteCarloReport hit = cache.lookup(inputs, startPrice, startPrice * Math.exp(-0.0300)).orElseThrow();
+
+        HorizonResult h = hit.getHorizons().get(0);
+        assertThat(h.getLiquidationProbability()).isCloseTo(0.20, within(1e-12));
+        assertThat(h.getCalibratedProbability()).isCloseTo(0.20, within(1e-12));
+        assertThat(h.getPriceMedian()).isCloseTo(startPrice * 0.95, within(1e-6));
+        assertThat(hit.getCurrentPrice()).isEqualTo(startPrice);
+        assertThat(hit.getCalcDurationMicros()).isZero();
+    }
+
+    @Test
+    void interpolatesBetweenNeighbouringBuckets() {
+        cache.put(inputs, report(-0.0300, 0.20, 0.95));
+        cache.put(inputs, report(-0.0306, 0.10, 0.97));
+
+        MonteCarloReport hit = cache.lookup(inputs, S0, S0 * Math.exp(-0.0303)).orElseThrow();
+
+        HorizonResult h = hit.getHorizons().get(0);
+        assertThat(h.getLiquidationProbability()).isCloseTo(0.15, within(1e-9));
+        assertThat(h.getPriceMedian()).isCloseTo(S0 * 0.96, within(1e-6));
+    }
+
+    @Test
+    void calibrationIsAppliedWhenServingNotWhenStoring() {
+        cache.put(inputs, report(-0.0300, 0.20, 0.95));
+
+        calibrationScale[0] = 0.5;
+        HorizonResult h = cache.lookup(inputs, S0, S0 * Math.exp(-0.0300)).orElseThrow().getHorizons().get(0);
+
+        assertThat(h.getLiquidationProbability()).isCloseTo(0.20, within(1e-12));
+        assertThat(h.getCalibratedProbability()).isCloseTo(0.10, within(1e-12));
+    }
+
+    @Test
+    void missesOnFarDistanceOrDifferentInputs() {
+        cache.put(inputs, report(-0.0300, 0.20, 0.95));
+
+        assertThat(cache.lookup(inputs, S0, S0 * Math.exp(-0.0320))).isEmpty();
+
+        ModelInputs otherSigma = cache.quantize("BTCUSDT", "LONG", 0.9, 0.0, 5.0, null, 1, 1440, 10_000, "double");
+        assertThat(cache.lookup(otherSigma, S0, S0 * Math.exp(-0.0300))).isEmpty();
+
+        ModelInputs otherSide = cache.quantize("BTCUSDT", "SHORT", 0.6, 0.0, 5.0, null, 1, 1440, 10_000, "double");
+        Optional<MonteCarloReport> miss = cache.lookup(otherSide, S0, S0 * Math.exp(-0.0300));
+        assertThat(miss).isEmpty();
+    }
+
+    private static MonteCarloReport report(double distance, double probability, double medianRatio) {
+        HorizonResult horizon = HorizonResult.builder()
+                .minutes(1440)
+                .liquidationProbability(probability)
+                .calibratedProbability(probability)
+                .pricePercentile5(S0 * (medianRatio - 0.04))
+                .pricePercentile25(S0 * (medianRatio - 0.01))
+                .priceMedian(S0 * medianRatio)
+                .pricePercentile75(S0 * (medianRatio + 0.01))
+                .pricePercentile95(S0 * (medianRatio + 0.04))
+                .build();
+        return MonteCarloReport.builder()
+                .symbol("BTCUSDT")
+                .currentPrice(S0)
+                .liquidationPrice(S0 * Math.exp(distance))
+                .positionSide("LONG")
+                .sigma(0.6)
+                .pathCount(10_000)
+                .horizons(List.of(horizon))
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import com.liquidation.riskengine.domain.model.MonteCarloReport;
+import com.liquidation.riskengine.domain.model.MonteCarloReport.HorizonResult;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationCorrector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PathStorageAccuracyTest {
+
+    private static final int[] HORIZONS = {10, 60, 240, 1440};
+
+    private final PathKernelProvider kernelProvider = new PathKernelProvider(new MonteCarloProperties());
+    private final PricePathGenerator generator = new PricePathGenerator(kernelProvider);
+    private final LiquidationDetector detector = new LiquidationDetector(new CalibrationCorrector(null), kernelProvider);
+
+    @Test
+    void floatLogStorageMatchesDoubleStorage() {
+        for (String side : new String[]{"LONG", "SHORT"}) {
+            double startPrice = 65_000.0;
+            double liqPrice = "LONG".equals(side) ? 61_000.0 : 69_000.0;
+            SimulationRequest request = SimulationRequest.builder()
+                    .startPrice(startPrice)
+                    .sigma(0.6)
+                    .mu(0.05)
+                    .pathCount(4_000)
+                    .timeStepMinutes(1)
+                    .horizonMinutes(1440)
+                    .useFatTail(true)
+                    .degreesOfFreedom(5.0)
+                    .seed(42L)
+                    .build();
+
+            MonteCarloReport exact = detector.detect("BTCUSDT", generator.generate(request),
+                    liqPrice, side, 0.6, 1, HORIZONS);
+            MonteCarloReport compact = detector.detectLog("BTCUSDT", generator.generateLogReturns(request),
+                    startPrice, liqPrice, side, 0.6, 1, HORIZONS);
+
+            for (int h = 0; h < HORIZONS.length; h++) {
+                HorizonResult e = exact.getHorizons().get(h);
+                HorizonResult c = compact.getHorizons().get(h);
+                assertThat(c.getLiquidationProbability()).isCloseTo(e.getLiquidationProbability(), within(0.002));
+                assertThat(c.getPricePercentile5()).isCloseTo(e.getPricePercentile5(), within(startPrice * 1e-5));
+                assertThat(c.getPriceMedian()).isCloseTo(e.getPriceMedian(), within(startPrice * 1e-5));
+                assertThat(c.getPricePercentile95()).isCloseTo(e.getPricePercentile95(), within(startPrice * 1e-5));
+            }
+        }
+    }
+}
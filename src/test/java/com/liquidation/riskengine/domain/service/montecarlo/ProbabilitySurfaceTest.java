@@ -0,0 +1,130 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import com.liquidation.riskengine.domain.model.MonteCarloReport;
+import com.liquidation.riskengine.domain.model.UserPosition;
+import com.liquidation.riskengine.domain.service.calibration.CalibrationCorrector;
+import com.liquidation.riskengine.domain.service.montecarlo.PricePathGenerator.PathExtremes;
+import com.liquidation.riskengine.domain.service.state.RiskStateManager;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ProbabilitySurfaceTest {
+
+    private static final double S0 = 65_000.0;
+    private static final double SIGMA = 0.8;
+    private static final int[] HORIZONS = {10, 60, 240, 1440};
+    private static final double[] DISTANCES = {0.01, 0.0235, 0.05, 0.10};
+
+    private final PathKernelProvider kernelProvider = new PathKernelProvider(new MonteCarloProperties());
+    private final PricePathGenerator generator = new PricePathGenerator(kernelProvider);
+    private final LiquidationDetector detector = new LiquidationDetector(new CalibrationCorrector(null), kernelProvider);
+
+    @Test
+    void surfaceLookupMatchesPerPositionDetectorOnSameSeed() {
+        SimulationRequest request = SimulationRequest.builder()
+                .startPrice(S0)
+                .sigma(SIGMA)
+                .pathCount(4_000)
+                .horizonMinutes(1440)
+                .seed(42L)
+                .build();
+
+        PathExtremes extremes = generator.generateExtremes(request, HORIZONS);
+        ProbabilitySurface surface = ProbabilitySurface.build("BTCUSDT", S0, SIGMA, 0.0,
+                extremes, HORIZONS, 0.001, 501);
+        double[][] paths = generator.generate(request);
+
+        for (String side : new String[]{"LONG", "SHORT"}) {
+            for (double distance : DISTANCES) {
+                double liqPrice = "LONG".equals(side) ? S0 * Math.exp(-distance) : S0 * Math.exp(distance);
+
+                MonteCarloReport fromSurface = detector.detectFromSurface(surface, S0, liqPrice, side, HORIZONS);
+                MonteCarloReport perPosition = detector.detect("BTCUSDT", paths, liqPrice, side, SIGMA, 1, HORIZONS);
+
+                for (int h = 0; h < HORIZONS.length; h++) {
+                    MonteCarloReport.HorizonResult expected = perPosition.getHorizons().get(h);
+                    MonteCarloReport.HorizonResult actual = fromSurface.getHorizons().get(h);
+                    assertThat(actual.getLiquidationProbability())
+                            .as("side=%s distance=%s horizon=%d", side, distance, HORIZONS[h])
+                            .isCloseTo(expected.getLiquidationProbability(), within(0.01));
+                    assertThat(actual.getPriceMedian())
+                            .isCloseTo(expected.getPriceMedian(), within(expected.getPriceMedian() * 1e-3));
+                }
+            }
+        }
+    }
+
+    @Test
+    void getSurfaceIsEmptyOutsideSurfaceModeAndNeverBuildsOnCaller() {
+        MonteCarloProperties properties = new MonteCarloProperties();
+        MonteCarloSimulationService service = new MonteCarloSimulationService(
+                null, null, generator, detector, properties, null, null, null, new McSurfaceProperties());
+
+        assertThat(service.getSurface("BTCUSDT")).isEmpty();
+
+        properties.setMode("surface");
+        assertThat(service.getSurface("BTCUSDT")).isEmpty();
+    }
+
+    @Test
+    void scheduledRefreshOnlyTriggersAndSkipsSymbolsStillInFlight() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger refreshes = new AtomicInteger();
+        AtomicReference<String> refreshThread = new AtomicReference<>();
+        RiskStateManager state = new RiskStateManager(null) {
+            @Override
+            public Collection<UserPosition> getAllPositions() {
+                return List.of(UserPosition.builder().symbol("btcusdt").build());
+            }
+
+            @Override
+            public BigDecimal getLatestMarkPrice(String symbol) {
+                refreshes.incrementAndGet();
+                refreshThread.set(Thread.currentThread().getName());
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }
+        };
+        MonteCarloProperties properties = new MonteCarloProperties();
+        properties.setMode("surface");
+        MonteCarloSimulationService service = new MonteCarloSimulationService(
+                state, null, generator, detector, properties, null, null, null, new McSurfaceProperties());
+
+        try {
+            service.refreshSurfaces();
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(refreshThread.get()).startsWith("mc-surface-refresh-");
+
+            service.refreshSurfaces();
+            service.refreshSurfaces();
+            assertThat(refreshes.get()).isEqualTo(1);
+
+            release.countDown();
+            long deadline = System.currentTimeMillis() + 1_000;
+            while (refreshes.get() < 2 && System.currentTimeMillis() < deadline) {
+                service.refreshSurfaces();
+                Thread.sleep(5);
+            }
+            assertThat(refreshes.get()).isGreaterThanOrEqualTo(2);
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class VectorPathKernelTest {
+
+    private static final int[] STEP_COUNTS = {1, 2, 3, 5, 7, 8, 9, 15, 16, 17, 31, 33, 60, 61, 1440};
+
+    private final PathKernel scalar = new ScalarPathKernel();
+    private PathKernel vector;
+
+    @BeforeEach
+    void setUp() {
+        assumeThat(PathKernelProvider.isVectorModuleLoaded()).isTrue();
+        vector = PathKernelProvider.resolve("vector");
+        assertThat(vector.name()).startsWith("vector");
+    }
+
+    @Test
+    void pathsMatchScalarKernelIncludingTailLanes() {
+        SplittableRandom rng = new SplittableRandom(11);
+        for (int steps : STEP_COUNTS) {
+            Schedule schedule = schedule(steps, rng);
+            double[] scalarPath = new double[steps + 1];
+            double[] scalarMirror = new double[steps + 1];
+            double[] vectorPath = new double[steps + 1];
+            double[] vectorMirror = new double[steps + 1];
+
+            scalar.stepAntitheticPair(65_000.0, schedule.drift, schedule.diff, schedule.shocks,
+                    scalarPath, scalarMirror, steps);
+            vector.stepAntitheticPair(65_000.0, schedule.drift, schedule.diff, schedule.shocks,
+                    vectorPath, vectorMirror, steps);
+
+            for (int t = 0; t <= steps; t++) {
+                assertThat(vectorPath[t]).as("steps=%d t=%d", steps, t)
+                        .isCloseTo(scalarPath[t], within(scalarPath[t] * 1e-9));
+                assertThat(vectorMirror[t]).as("steps=%d t=%d mirror", steps, t)
+                        .isCloseTo(scalarMirror[t], within(scalarMirror[t] * 1e-9));
+            }
+        }
+    }
+
+    @Test
+    void firstPassageMatchesScalarKernelAtEveryOffset() {
+        SplittableRandom rng = new SplittableRandom(13);
+        for (int steps : STEP_COUNTS) {
+            Schedule schedule = schedule(steps, rng);
+            double[] path = new double[steps + 1];
+            double[] mirror = new double[steps + 1];
+            scalar.stepAntitheticPair(65_000.0, schedule.drift, schedule.diff, schedule.shocks, path, mirror, steps);
+
+            for (int t = 1; t <= steps; t++) {
+                for (boolean isLong : new boolean[]{true, false}) {
+                    double barrier = path[t];
+                    assertThat(vector.firstPassage(path, steps, barrier, isLong))
+                            .as("steps=%d t=%d long=%s", steps, t, isLong)
+                            .isEqualTo(scalar.firstPassage(path, steps, barrier, isLong));
+                }
+            }
+            assertThat(vector.firstPassage(path, steps, 1.0, true)).isEqualTo(Integer.MAX_VALUE);
+            assertThat(vector.firstPassage(path, steps, 1e9, false)).isEqualTo(Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void logFirstPassageMatchesScalarKernelAtEveryOffset() {
+        SplittableRandom rng = new SplittableRandom(17);
+        for (int steps : STEP_COUNTS) {
+            Schedule schedule = schedule(steps, rng);
+            float[] logPath = new float[steps + 1];
+            float[] mirror = new float[steps + 1];
+            vector.stepAntitheticPairLog(schedule.drift, schedule.diff, schedule.shocks, logPath, mirror, steps);
+
+            float[] expected = new float[steps + 1];
+            float[] expectedMirror = new float[steps + 1];
+            scalar.stepAntitheticPairLog(schedule.drift, schedule.diff, schedule.shocks, expected, expectedMirror, steps);
+            assertThat(logPath).containsExactly(expected);
+            assertThat(mirror).containsExactly(expectedMirror);
+
+            for (int t = 1; t <= steps; t++) {
+                for (boolean isLong : new boolean[]{true, false}) {
+                    float barrier = logPath[t];
+                    assertThat(vector.firstPassageLog(logPath, steps, barrier, isLong))
+                            .as("steps=%d t=%d long=%s", steps, t, isLong)
+                            .isEqualTo(scalar.firstPassageLog(logPath, steps, barrier, isLong));
+                }
+            }
+        }
+    }
+
+    private static Schedule schedule(int steps, SplittableRandom rng) {
+        double dt = 1.0 / PricePathGenerator.MINUTES_PER_YEAR;
+        double sigma = 0.8;
+        Schedule schedule = new Schedule(new double[steps], new double[steps], new double[steps]);
+        for (int t = 0; t < steps; t++) {
+            schedule.drift[t] = -0.5 * sigma * sigma * dt;
+            schedule.diff[t] = sigma * Math.sqrt(dt);
+            schedule.shocks[t] = rng.nextGaussian();
+        }
+        return schedule;
+    }
+
+    private record Schedule(double[] drift, double[] diff, double[] shocks) {}
+}
@@ -0,0 +1,95 @@
+package com.liquidation.riskengine.domain.service.state;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+import com.liquidation.riskengine.domain.service.state.LiquidationWindow.LiquidationStats;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LiquidationWindowTest {
+
+    @Test
+    void windowAggregatesMatchBruteForceOverRetainedEvents() {
+        LiquidationWindowProperties props = new LiquidationWindowProperties();
+        props.setHorizonSeconds(600);
+        props.setMaxEventsPerSymbol(100_000);
+        LiquidationWindow window = new LiquidationWindow(props);
+        SplittableRandom rng = new SplittableRandom(7);
+
+        List<LiquidationEvent> recorded = new ArrayList<>();
+        long ts = System.currentTimeMillis() - 400_000L;
+        long maxTs = ts;
+        for (int i = 0; i < 5_000; i++) {
+            ts += rng.nextInt(0, 120);
+            long eventTs = rng.nextInt(10) == 0 ? ts - rng.nextInt(0, 5_000) : ts;
+            LiquidationEvent event = event(rng.nextBoolean() ? "BUY" : "SELL", rng.nextDouble(100.0, 50_000.0), eventTs);
+            assertThat(window.record(event)).isTrue();
+            recorded.add(event);
+            maxTs = Math.max(maxTs, eventTs);
+        }
+
+        long horizonStart = (Math.floorDiv(maxTs, 1000L) - 1023) * 1000L;
+        for (int q = 0; q < 200; q++) {
+            Duration duration = Duration.ofSeconds(rng.nextInt(1, 500));
+            long beforeMs = System.currentTimeMillis();
+            LiquidationStats stats = window.stats("btcusdt", duration);
+            long afterMs = System.currentTimeMillis();
+            long fromMs = Math.floorDiv(beforeMs - duration.toMillis(), 1000L) * 1000L;
+            if (fromMs != Math.floorDiv(afterMs - duration.toMillis(), 1000L) * 1000L) continue;
+            if (fromMs < horizonStart) continue;
+
+            long buys = 0;
+            long sells = 0;
+            double notional = 0.0;
+            for (LiquidationEvent e : recorded) {
+                if (e.getTimestamp() < fromMs) continue;
+                if (e.isBuy()) buys++;
+                else sells++;
+                notional += e.getNotionalValue().doubleValue();
+            }
+            assertThat(stats.buyCount()).isEqualTo(buys);
+            assertThat(stats.sellCount()).isEqualTo(sells);
+            assertThat(stats.notional()).isCloseTo(notional, within(1e-3));
+        }
+    }
+
+    @Test
+    void reportsIncompleteBeyondStartupAndKeepsBoundedRawEvents() {
+        LiquidationWindowProperties props = new LiquidationWindowProperties();
+        props.setMaxEventsPerSymbol(8);
+        LiquidationWindow window = new LiquidationWindow(props);
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 20; i++) {
+            window.record(event("SELL", 1_000.0, now + i));
+        }
+
+        assertThat(window.stats("BTCUSDT", Duration.ofMinutes(30)).complete()).isFalse();
+        assertThat(window.stats("BTCUSDT", Duration.ZERO).complete()).isTrue();
+        assertThat(window.stats("ETHUSDT", Duration.ZERO)).isEqualTo(LiquidationStats.EMPTY);
+
+        List<LiquidationEvent> events = window.events("BTCUSDT", Duration.ofMinutes(1));
+        assertThat(events).hasSize(8);
+        assertThat(events).extracting(LiquidationEvent::getTimestamp).isSorted();
+        assertThat(events.get(7).getTimestamp()).isEqualTo(now + 19);
+        assertThat(window.coversEvents("BTCUSDT", Duration.ofMinutes(1))).isFalse();
+    }
+
+    private static LiquidationEvent event(String side, double notional, long timestamp) {
+        return LiquidationEvent.builder()
+                .symbol("BTCUSDT")
+                .side(side)
+                .price(BigDecimal.valueOf(65_000))
+                .quantity(BigDecimal.valueOf(notional / 65_000))
+                .notionalValue(BigDecimal.valueOf(notional))
+                .timestamp(timestamp)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.liquidation.riskengine.domain.service.state;
+
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.MinMax;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.PriceWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceHistoryBufferRangeIndexTest {
+
+    @Test
+    void rangeMinMaxMatchesBruteForceAcrossRingEviction() {
+        PriceHistoryBuffer buffer = new PriceHistoryBuffer();
+        SplittableRandom rng = new SplittableRandom(11);
+
+        int tickCount = 300_000;
+        long now = System.currentTimeMillis();
+        long firstTs = now - tickCount * 1000L;
+        double price = 65_000.0;
+        for (int i = 0; i < tickCount; i++) {
+            price *= Math.exp(0.0004 * rng.nextGaussian());
+            buffer.record("BTCUSDT", price, firstTs + i * 1000L);
+        }
+
+        PriceWindow all = buffer.getWindow("BTCUSDT", Duration.ofDays(30));
+        assertThat(all.size()).isEqualTo(buffer.size("BTCUSDT"));
+
+        for (int q = 0; q < 2_000; q++) {
+            int a = rng.nextInt(all.size());
+            int b = a + rng.nextInt(Math.min(all.size() - a, 90_000));
+            long fromMs = all.timestamp(a) - rng.nextInt(2) * 500L;
+            long toMs = all.timestamp(b) + rng.nextInt(2) * 500L;
+
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (int i = 0; i < all.size(); i++) {
+                long ts = all.timestamp(i);
+                if (ts < fromMs || ts > toMs) continue;
+                min = Math.min(min, all.price(i));
+                max = Math.max(max, all.price(i));
+            }
+
+            MinMax result = buffer.getMinMaxInRange("BTCUSDT", fromMs, toMs);
+            assertThat(result).isNotNull();
+            assertThat(result.min()).isEqualTo(min);
+            assertThat(result.max()).isEqualTo(max);
+        }
+
+        assertThat(buffer.getMinMaxInRange("BTCUSDT", now + 1, now + 10_000)).isNull();
+    }
+}
@@ -0,0 +1,143 @@
+package com.liquidation.riskengine.domain.service.state;
+
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.BarReturns;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.RealizedVariance;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.RollupTier;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PriceHistoryBufferRollupTest {
+
+    @Test
+    void ticksOnBarBoundaryOpenNewBar() {
+        RollupTier tier = new RollupTier(60_000L, 16);
+        tier.add(60_000L, 100.0, 0.0, 0, false);
+        tier.add(119_999L, 101.0, sq(101.0, 100.0), 59_999, true);
+        tier.add(120_000L, 102.0, sq(102.0, 101.0), 1, true);
+        tier.add(179_999L, 99.0, sq(99.0, 102.0), 59_999, true);
+        tier.add(180_000L, 103.0, sq(103.0, 99.0), 1, true);
+
+        RealizedVariance lastTwo = tier.realizedVariance(120_000L);
+        assertThat(lastTwo.returnCount()).isEqualTo(3);
+        assertThat(lastTwo.sumSquaredLogReturns())
+                .isCloseTo(sq(102.0, 101.0) + sq(99.0, 102.0) + sq(103.0, 99.0), within(1e-15));
+        assertThat(lastTwo.spanMs()).isEqualTo(60_001L);
+        assertThat(lastTwo.resolutionMs()).isEqualTo(60_000L);
+
+        assertThat(tier.realizedVariance(120_001L).returnCount()).isEqualTo(1);
+        assertThat(tier.realizedVariance(60_000L).returnCount()).isEqualTo(4);
+
+        double[] closes = tier.closeLogReturns(0L);
+        assertThat(closes.length).isEqualTo(2);
+        assertThat(closes[0]).isCloseTo(Math.log(99.0 / 101.0), within(1e-15));
+        assertThat(closes[1]).isCloseTo(Math.log(103.0 / 99.0), within(1e-15));
+        assertThat(tier.closeLogReturns(120_000L).length).isEqualTo(1);
+    }
+
+    @Test
+    void overwrittenBarsDropOutOfTier() {
+        RollupTier tier = new RollupTier(10_000L, 4);
+        double prev = 100.0;
+        tier.add(0L, prev, 0.0, 0, false);
+        for (int i = 1; i < 10; i++) {
+            double price = 100.0 + i;
+            tier.add(i * 10_000L, price, sq(price, prev), 10_000, true);
+            prev = price;
+        }
+
+        assertThat(tier.realizedVariance(0L).returnCount()).isEqualTo(4);
+        assertThat(tier.closeLogReturns(0L).length).isEqualTo(3);
+    }
+
+    @Test
+    void realizedVarianceAndBarReturnsMatchBruteForce() {
+        PriceHistoryBuffer buffer = new PriceHistoryBuffer();
+        SplittableRandom rng = new SplittableRandom(5);
+
+        int tickCount = 100_000;
+        long[] ts = new long[tickCount];
+        double[] prices = new double[tickCount];
+        long offset = 0;
+        for (int i = tickCount - 1; i >= 0; i--) {
+            ts[i] = -offset;
+            offset += 400 + rng.nextInt(1_000);
+        }
+        long last = System.currentTimeMillis() - 1_000;
+        double price = 65_000.0;
+        for (int i = 0; i < tickCount; i++) {
+            price *= Math.exp(0.0003 * rng.nextGaussian());
+            ts[i] += last;
+            prices[i] = price;
+            buffer.record("BTCUSDT", price, ts[i]);
+        }
+
+        for (Duration window : new Duration[]{Duration.ofMinutes(30), Duration.ofHours(2),
+                Duration.ofHours(6), Duration.ofHours(24)}) {
+            long windowMs = window.toMillis();
+            RealizedVariance rv;
+            BarReturns bars;
+            long before;
+            long after;
+            do {
+                before = System.currentTimeMillis();
+                rv = buffer.realizedVariance("BTCUSDT", window);
+                bars = buffer.barReturns("BTCUSDT", window);
+                after = System.currentTimeMillis();
+            } while (bucketStart(before - windowMs, rv.resolutionMs()) != bucketStart(after - windowMs, rv.resolutionMs()));
+
+            long width = rv.resolutionMs();
+            assertThat(width).isPositive();
+            assertThat(bars.resolutionMs()).isEqualTo(width);
+            assertThat(windowMs / width).isGreaterThanOrEqualTo(PriceHistoryBuffer.MIN_ROLLUP_BUCKETS);
+
+            long cutoff = before - windowMs;
+            double sumSq = 0.0;
+            int count = 0;
+            long span = 0;
+            for (int i = 1; i < tickCount; i++) {
+                if (bucketStart(ts[i], width) < cutoff) continue;
+                double r = Math.log(prices[i] / prices[i - 1]);
+                sumSq += r * r;
+                span += ts[i] - ts[i - 1];
+                count++;
+            }
+            assertThat(rv.returnCount()).as("window=%s", window).isEqualTo(count);
+            assertThat(rv.spanMs()).isEqualTo(span);
+            assertThat(rv.sumSquaredLogReturns()).isCloseTo(sumSq, within(sumSq * 1e-9));
+
+            int expectedBars = 0;
+            double prevClose = 0.0;
+            long prevBar = Long.MIN_VALUE;
+            double[] expected = new double[tickCount];
+            for (int i = 0; i < tickCount; i++) {
+                long bar = bucketStart(ts[i], width);
+                if (bar < cutoff) continue;
+                boolean lastInBar = i == tickCount - 1 || bucketStart(ts[i + 1], width) != bar;
+                if (!lastInBar) continue;
+                if (prevBar != Long.MIN_VALUE) {
+                    expected[expectedBars++] = Math.log(prices[i] / prevClose);
+                }
+                prevClose = prices[i];
+                prevBar = bar;
+            }
+            assertThat(bars.logReturns().length).as("window=%s", window).isEqualTo(expectedBars);
+            for (int i = 0; i < expectedBars; i++) {
+                assertThat(bars.logReturns()[i]).isCloseTo(expected[i], within(1e-15));
+            }
+        }
+    }
+
+    private static long bucketStart(long timestampMs, long widthMs) {
+        return timestampMs - Math.floorMod(timestampMs, widthMs);
+    }
+
+    private static double sq(double price, double prev) {
+        double r = Math.log(price / prev);
+        return r * r;
+    }
+}
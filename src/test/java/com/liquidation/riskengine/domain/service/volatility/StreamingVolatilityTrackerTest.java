@@ -0,0 +1,170 @@
+package com.liquidation.riskengine.domain.service.volatility;
+
+import com.liquidation.riskengine.domain.service.volatility.StreamingVolatilityTracker.SymbolState;
+import com.liquidation.riskengine.domain.service.volatility.StreamingVolatilityTracker.WindowStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.liquidation.riskengine.domain.service.volatility.StreamingVolatilityTracker.INITIAL_CAPACITY;
+import static com.liquidation.riskengine.domain.service.volatility.StreamingVolatilityTracker.MAX_CAPACITY;
+import static com.liquidation.riskengine.domain.service.volatility.StreamingVolatilityTracker.RESYNC_INTERVAL;
+import static com.liquidation.riskengine.domain.service.volatility.StreamingVolatilityTracker.WINDOW_MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class StreamingVolatilityTrackerTest {
+
+    private static final double ALPHA = 0.05;
+    private static final double BETA = 0.90;
+
+    @Test
+    void windowStatsMatchBruteForceAcrossResyncs() {
+        SymbolState state = new SymbolState(BETA);
+        Reference reference = new Reference();
+        SplittableRandom rng = new SplittableRandom(7);
+
+        long ts = 1_700_000_000_000L;
+        double price = 65_000.0;
+        int updates = RESYNC_INTERVAL * 3 + 517;
+        for (int i = 0; i <= updates; i++) {
+            ts += 200 + rng.nextInt(2_800);
+            price *= Math.exp(0.0005 * rng.nextGaussian());
+            state.add(price, ts, ALPHA);
+            reference.add(price, ts);
+
+            if (i % 1_009 == 0 || i == RESYNC_INTERVAL || i == RESYNC_INTERVAL + 1 || i == updates) {
+                for (int w = 0; w < WINDOW_MILLIS.length; w++) {
+                    assertMatches(state.snapshot(w, ts), reference, ts - WINDOW_MILLIS[w]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void ringFollowsLongestWindowAndShrinksWhenTicksThinOut() {
+        SymbolState state = new SymbolState(BETA);
+        Reference reference = new Reference();
+
+        long ts = 1_700_000_000_000L;
+        double price = 65_000.0;
+        for (int i = 0; i < 20_000; i++) {
+            ts += 1_000;
+            price *= i % 2 == 0 ? 1.0002 : 0.9999;
+            state.add(price, ts, ALPHA);
+            reference.add(price, ts);
+        }
+        assertThat(state.capacity()).isEqualTo(32_768);
+
+        for (int i = 0; i < RESYNC_INTERVAL; i++) {
+            ts += 60_000;
+            price *= i % 2 == 0 ? 1.001 : 0.9995;
+            state.add(price, ts, ALPHA);
+            reference.add(price, ts);
+        }
+        assertThat(state.capacity()).isLessThanOrEqualTo(4_096).isGreaterThanOrEqualTo(INITIAL_CAPACITY);
+        for (int w = 0; w < WINDOW_MILLIS.length; w++) {
+            assertMatches(state.snapshot(w, ts), reference, ts - WINDOW_MILLIS[w]);
+        }
+    }
+
+    @Test
+    void ringIsCappedAndLongestWindowKeepsMostRecentReturns() {
+        SymbolState state = new SymbolState(BETA);
+        Reference reference = new Reference();
+        SplittableRandom rng = new SplittableRandom(3);
+
+        long ts = 1_700_000_000_000L;
+        double price = 65_000.0;
+        for (int i = 0; i < MAX_CAPACITY + 40_000; i++) {
+            ts += 100;
+            price *= Math.exp(0.0002 * rng.nextGaussian());
+            state.add(price, ts, ALPHA);
+            reference.add(price, ts);
+        }
+
+        assertThat(state.capacity()).isEqualTo(MAX_CAPACITY);
+        WindowStats longest = state.snapshot(WINDOW_MILLIS.length - 1, ts);
+        assertThat(longest.returnCount()).isEqualTo(MAX_CAPACITY);
+
+        int from = reference.returns.size() - MAX_CAPACITY;
+        assertMatches(longest, reference.tail(from), Long.MIN_VALUE);
+        for (int w = 0; w < WINDOW_MILLIS.length - 1; w++) {
+            assertMatches(state.snapshot(w, ts), reference, ts - WINDOW_MILLIS[w]);
+        }
+    }
+
+    private static void assertMatches(WindowStats stats, Reference reference, long cutoffMs) {
+        double s1 = 0, s2 = 0, s3 = 0, s4 = 0, abs = 0;
+        long span = 0;
+        int n = 0;
+        for (int i = 0; i < reference.returns.size(); i++) {
+            if (reference.startTs.get(i) < cutoffMs) continue;
+            double r = reference.returns.get(i);
+            s1 += r;
+            s2 += r * r;
+            s3 += r * r * r;
+            s4 += r * r * r * r;
+            abs += Math.abs(r);
+            span += reference.intervalMs.get(i);
+            n++;
+        }
+
+        assertThat(stats.returnCount()).isEqualTo(n);
+        assertThat(stats.sum()).isCloseTo(s1, within(abs * 1e-9 + 1e-15));
+        assertThat(stats.sumSq()).isCloseTo(s2, within(s2 * 1e-9 + 1e-18));
+        assertThat(stats.sumCube()).isCloseTo(s3, within(s4 * 1e-3 + 1e-21));
+        assertThat(stats.sumQuad()).isCloseTo(s4, within(s4 * 1e-9 + 1e-24));
+        if (n > 0) {
+            assertThat(stats.avgIntervalSec()).isCloseTo(Math.max(span / 1000.0 / n, 0.001), within(1e-9));
+        }
+        assertThat(stats.ewmaVariance()).isCloseTo(reference.ewma, within(reference.ewma * 1e-9));
+        assertThat(stats.garchOmegaWeight()).isCloseTo(reference.omegaWeight, within(1e-9));
+        assertThat(stats.garchShockTerm()).isCloseTo(reference.shockTerm, within(reference.shockTerm * 1e-9));
+    }
+
+    private static final class Reference {
+
+        private final List<Long> startTs = new ArrayList<>();
+        private final List<Long> intervalMs = new ArrayList<>();
+        private final List<Double> returns = new ArrayList<>();
+        private double lastPrice;
+        private long lastTs;
+        private double ewma;
+        private double omegaWeight;
+        private double shockTerm;
+
+        void add(double price, long ts) {
+            if (lastPrice > 0) {
+                double r = Math.log(price / lastPrice);
+                if (returns.isEmpty()) {
+                    ewma = r * r;
+                    shockTerm = r * r;
+                } else {
+                    double prev = returns.get(returns.size() - 1);
+                    ewma = VolatilityEstimator.EWMA_LAMBDA * ewma + (1.0 - VolatilityEstimator.EWMA_LAMBDA) * r * r;
+                    omegaWeight = 1.0 + BETA * omegaWeight;
+                    shockTerm = ALPHA * prev * prev + BETA * shockTerm;
+                }
+                startTs.add(lastTs);
+                intervalMs.add(ts - lastTs);
+                returns.add(r);
+            }
+            lastPrice = price;
+            lastTs = ts;
+        }
+
+        Reference tail(int from) {
+            Reference view = new Reference();
+            view.startTs.addAll(startTs.subList(from, startTs.size()));
+            view.intervalMs.addAll(intervalMs.subList(from, intervalMs.size()));
+            view.returns.addAll(returns.subList(from, returns.size()));
+            view.ewma = ewma;
+            view.omegaWeight = omegaWeight;
+            view.shockTerm = shockTerm;
+            return view;
+        }
+    }
+}
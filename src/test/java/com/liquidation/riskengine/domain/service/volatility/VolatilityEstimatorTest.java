@@ -0,0 +1,87 @@
+package com.liquidation.riskengine.domain.service.volatility;
+
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer;
+import com.liquidation.riskengine.domain.service.state.PriceHistoryBuffer.BarReturns;
+import com.liquidation.riskengine.domain.service.volatility.GarchEstimator.GarchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class VolatilityEstimatorTest {
+
+    private static final Duration WINDOW_24H = Duration.ofHours(24);
+
+    private final PriceHistoryBuffer buffer = new PriceHistoryBuffer();
+    private final VolatilityProperties properties = new VolatilityProperties();
+    private final GarchEstimator garchEstimator = new GarchEstimator(properties);
+    private final VolatilityEstimator estimator = new VolatilityEstimator(buffer, properties, garchEstimator,
+            new StreamingVolatilityTracker(properties));
+
+    private double[] prices;
+    private long spanMs;
+
+    @BeforeEach
+    void setUp() {
+        properties.setStreaming(false);
+        SplittableRandom rng = new SplittableRandom(21);
+        int tickCount = 80_000;
+        long[] ts = new long[tickCount];
+        long offset = 0;
+        for (int i = tickCount - 1; i >= 0; i--) {
+            ts[i] = -offset;
+            offset += 500 + rng.nextInt(1_000);
+        }
+        long last = System.currentTimeMillis() - 1_000;
+        prices = new double[tickCount];
+        double price = 65_000.0;
+        for (int i = 0; i < tickCount; i++) {
+            double vol = i > tickCount - 300 ? 0.002 : 0.0003;
+            price *= Math.exp(vol * rng.nextGaussian());
+            prices[i] = price;
+            buffer.record("BTCUSDT", price, ts[i] + last);
+        }
+        spanMs = ts[tickCount - 1] - ts[0];
+    }
+
+    @Test
+    void ewmaOnLongWindowMatchesFullTickRecursion() {
+        properties.setModel("ewma");
+
+        double variance = 0.0;
+        for (int i = 1; i < prices.length; i++) {
+            double r = Math.log(prices[i] / prices[i - 1]);
+            variance = i == 1 ? r * r : VolatilityEstimator.EWMA_LAMBDA * variance
+                    + (1.0 - VolatilityEstimator.EWMA_LAMBDA) * r * r;
+        }
+        double avgIntervalSec = spanMs / 1000.0 / (prices.length - 1);
+        double expected = Math.sqrt(variance * VolatilityEstimator.SECONDS_PER_YEAR / avgIntervalSec);
+
+        assertThat(buffer.size("BTCUSDT")).isEqualTo(prices.length);
+        assertThat(estimator.estimateForWindow("BTCUSDT", WINDOW_24H)).isCloseTo(expected, within(expected * 1e-9));
+    }
+
+    @Test
+    void garchAutoFitOnLongWindowFitsRollupBarsInsteadOfRealizedVariance() {
+        properties.setModel("garch");
+        properties.setGarchAutoFit(true);
+
+        BarReturns bars = buffer.barReturns("BTCUSDT", WINDOW_24H);
+        assertThat(bars.resolutionMs()).isEqualTo(300_000L);
+        GarchResult fitted = garchEstimator.estimate(bars.logReturns(),
+                bars.periodsPerYear(VolatilityEstimator.SECONDS_PER_YEAR));
+        double realized = buffer.realizedVariance("BTCUSDT", WINDOW_24H)
+                .annualizedSigma(VolatilityEstimator.SECONDS_PER_YEAR);
+
+        double sigma = estimator.estimateForWindow("BTCUSDT", WINDOW_24H);
+        assertThat(sigma).isCloseTo(fitted.getAnnualizedSigma(), within(1e-12));
+        assertThat(sigma).isNotEqualTo(realized);
+
+        properties.setGarchAutoFit(false);
+        assertThat(estimator.estimateForWindow("BTCUSDT", WINDOW_24H)).isCloseTo(realized, within(realized * 1e-9));
+    }
+}
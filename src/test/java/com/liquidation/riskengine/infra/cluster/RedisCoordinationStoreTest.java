@@ -0,0 +1,136 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import com.liquidation.riskengine.domain.model.UserPosition;
+import com.liquidation.riskengine.infra.binance.config.BinanceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisCoordinationStoreTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisCoordinationStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        store = new RedisCoordinationStore(stringRedisTemplate, redisTemplate);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void leaseIsExclusiveAndOnlyTheHolderCanRenewOrRelease() {
+        assertThat(store.tryAcquire("BTCUSDT", "a", 10_000)).isTrue();
+        assertThat(store.tryAcquire("BTCUSDT", "b", 10_000)).isFalse();
+        assertThat(store.tryAcquire("BTCUSDT", "a", 10_000)).isTrue();
+        assertThat(store.renew("BTCUSDT", "b", 10_000)).isFalse();
+        assertThat(store.owner("BTCUSDT")).isEqualTo("a");
+
+        store.release("BTCUSDT", "b");
+        assertThat(store.owner("BTCUSDT")).isEqualTo("a");
+        store.release("BTCUSDT", "a");
+        assertThat(store.tryAcquire("BTCUSDT", "b", 10_000)).isTrue();
+    }
+
+    @Test
+    void positionsRoundTripPerSymbol() {
+        store.savePosition(UserPosition.builder()
+                .userId("Alice").symbol("btcusdt").liquidationPrice(new BigDecimal("58000.5"))
+                .positionSide("LONG").leverage(10).build());
+        store.savePosition(UserPosition.builder()
+                .userId("bob").symbol("BTCUSDT").liquidationPrice(new BigDecimal("72000"))
+                .positionSide("SHORT").leverage(5).build());
+
+        assertThat(store.positions("BTCUSDT")).extracting(UserPosition::getLiquidationPrice)
+                .containsExactlyInAnyOrder(new BigDecimal("58000.5"), new BigDecimal("72000"));
+
+        store.removePosition("alice", "BTCUSDT");
+        assertThat(store.positions("BTCUSDT")).extracting(UserPosition::getUserId).containsExactly("bob");
+    }
+
+    @Test
+    void nodesSharingRedisPartitionSymbolsAndHandOverOnShutdown() {
+        BinanceProperties binanceProperties = new BinanceProperties();
+        binanceProperties.setSymbols(List.of("btcusdt", "ethusdt", "solusdt", "xrpusdt", "bnbusdt", "dogeusdt"));
+        Map<String, SymbolOwnership> nodes = new HashMap<>();
+        for (String nodeId : List.of("a", "b", "c")) {
+            ClusterProperties properties = new ClusterProperties();
+            properties.setEnabled(true);
+            properties.setNodeId(nodeId);
+            properties.setAdvertisedUrl("http://" + nodeId + ":8080");
+            SymbolOwnership ownership = new SymbolOwnership(properties, store, binanceProperties,
+                    new SimpleMeterRegistry());
+            ownership.init();
+            nodes.put(nodeId, ownership);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            nodes.values().forEach(SymbolOwnership::rebalance);
+        }
+        Map<String, String> owners = owners(nodes);
+        assertThat(owners).hasSize(6);
+        owners.forEach((symbol, nodeId) -> assertThat(store.owner(symbol)).isEqualTo(nodeId));
+        assertThat(store.liveNodes()).containsOnlyKeys("a", "b", "c").containsEntry("b", "http://b:8080");
+        assertThat(nodes.get("a").ownerAddress(owners.keySet().iterator().next())).startsWith("http://");
+
+        nodes.remove("c").shutdown();
+        for (int round = 0; round < 3; round++) {
+            nodes.values().forEach(SymbolOwnership::rebalance);
+        }
+        assertThat(owners(nodes)).hasSize(6);
+        assertThat(store.liveNodes()).containsOnlyKeys("a", "b");
+    }
+
+    private static Map<String, String> owners(Map<String, SymbolOwnership> nodes) {
+        Map<String, String> owners = new HashMap<>();
+        nodes.forEach((nodeId, node) -> node.ownedSymbols().forEach(symbol ->
+                assertThat(owners.put(symbol, nodeId)).isNull()));
+        return owners;
+    }
+}
@@ -0,0 +1,241 @@
+package com.liquidation.riskengine.infra.cluster;
+
+import com.liquidation.riskengine.infra.binance.config.BinanceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class SymbolOwnershipTest {
+
+    private static final long TTL_MS = 3_000;
+    private static final long TICK_MS = 1_000;
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final InMemoryCoordinationStore store = new InMemoryCoordinationStore(clock::get);
+    private final BinanceProperties binanceProperties = new BinanceProperties();
+
+    SymbolOwnershipTest() {
+        List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            symbols.add("s" + i + "usdt");
+        }
+        binanceProperties.setSymbols(symbols);
+    }
+
+    @Test
+    void everySymbolConvergesToExactlyOneOwnerAndNeverHasTwo() {
+        Map<String, SymbolOwnership> nodes = new LinkedHashMap<>();
+        nodes.put("a", node("a"));
+        nodes.put("b", node("b"));
+        nodes.put("c", node("c"));
+
+        runRounds(nodes, 4);
+
+        Map<String, String> owners = owners(nodes);
+        assertThat(owners).hasSize(24);
+        for (Map.Entry<String, String> entry : owners.entrySet()) {
+            assertThat(entry.getValue())
+                    .isEqualTo(SymbolOwnership.ownerOf(entry.getKey(), nodes.keySet()))
+                    .isEqualTo(store.owner(entry.getKey()));
+        }
+        assertThat(nodes.values()).allSatisfy(node -> assertThat(node.ownedSymbols()).isNotEmpty());
+    }
+
+    @Test
+    void crashedNodeSymbolsMoveToSurvivorsAfterLeaseExpiry() {
+        Map<String, SymbolOwnership> nodes = new LinkedHashMap<>();
+        nodes.put("a", node("a"));
+        nodes.put("b", node("b"));
+        nodes.put("c", node("c"));
+        runRounds(nodes, 4);
+        List<String> orphaned = List.copyOf(nodes.get("c").ownedSymbols());
+        assertThat(orphaned).isNotEmpty();
+
+        nodes.remove("c");
+        runRounds(nodes, 1);
+        assertThat(owners(nodes)).doesNotContainKeys(orphaned.toArray(String[]::new));
+
+        runRounds(nodes, (int) (TTL_MS / TICK_MS) + 2);
+        Map<String, String> owners = owners(nodes);
+        assertThat(owners).hasSize(24);
+        assertThat(owners.values()).containsOnly("a", "b");
+    }
+
+    @Test
+    void joiningNodeTakesOnlyTheSymbolsItNowOwns() {
+        Map<String, SymbolOwnership> nodes = new LinkedHashMap<>();
+        nodes.put("a", node("a"));
+        nodes.put("b", node("b"));
+        runRounds(nodes, 4);
+        Map<String, String> before = owners(nodes);
+
+        nodes.put("c", node("c"));
+        runRounds(nodes, 4);
+        Map<String, String> after = owners(nodes);
+
+        assertThat(after).hasSize(24);
+        after.forEach((symbol, owner) -> {
+            if (!owner.equals(before.get(symbol))) {
+                assertThat(owner).isEqualTo("c");
+            }
+        });
+        assertThat(after.values()).contains("c");
+    }
+
+    @Test
+    void gracefulShutdownHandsSymbolsOverWithoutWaitingForExpiry() {
+        Map<String, SymbolOwnership> nodes = new LinkedHashMap<>();
+        nodes.put("a", node("a"));
+        nodes.put("b", node("b"));
+        runRounds(nodes, 4);
+
+        nodes.remove("b").shutdown();
+        runRounds(nodes, 2);
+
+        assertThat(owners(nodes).values()).hasSize(24).containsOnly("a");
+        assertThat(store.liveNodes()).containsOnlyKeys("a");
+    }
+
+    @Test
+    void partitionedNodeStopsBeforeItsLeaseCanBeTakenOver() {
+        CoordinationStore storeOfA = mock(CoordinationStore.class, delegatesTo(store));
+        Map<String, SymbolOwnership> nodes = new LinkedHashMap<>();
+        nodes.put("a", node("a", storeOfA));
+        nodes.put("b", node("b"));
+        runRounds(nodes, 4);
+        SymbolOwnership a = nodes.get("a");
+        List<String> stranded = List.copyOf(a.ownedSymbols());
+        assertThat(stranded).isNotEmpty();
+
+        doThrow(new IllegalStateException("store unreachable"))
+                .when(storeOfA).heartbeat(anyString(), anyString(), anyLong());
+        clearInvocations(storeOfA);
+        long lastRenewMs = clock.get() - TICK_MS;
+        int rounds = (int) (TTL_MS / TICK_MS) + 3;
+        for (int r = 0; r < rounds; r++) {
+            long now = clock.get();
+            for (SymbolOwnership node : nodes.values()) {
+                node.rebalance(now);
+            }
+            for (String symbol : stranded) {
+                boolean localLeaseValid = now - lastRenewMs < TTL_MS - TICK_MS;
+                assertThat(a.isOwner(symbol, now)).isEqualTo(localLeaseValid);
+                assertThat(a.isOwner(symbol, now) && nodes.get("b").isOwner(symbol, now))
+                        .as("symbol %s owned by both nodes at +%dms", symbol, now - lastRenewMs).isFalse();
+                if (!localLeaseValid && now - lastRenewMs < TTL_MS) {
+                    assertThat(store.owner(symbol)).isEqualTo("a");
+                    assertThat(a.ownedSymbols()).doesNotContain(symbol);
+                }
+            }
+            clock.addAndGet(TICK_MS);
+        }
+
+        assertThat(a.ownedSymbols()).isEmpty();
+        assertThat(nodes.get("b").ownedSymbols()).hasSize(24);
+        verify(storeOfA, times(rounds)).heartbeat(eq("a"), anyString(), eq(TTL_MS));
+        verifyNoMoreInteractions(storeOfA);
+    }
+
+    @Test
+    void leaseStaysRenewedWhileTheSharedSchedulerIsBlocked() throws Exception {
+        InMemoryCoordinationStore liveStore = new InMemoryCoordinationStore();
+        SymbolOwnership ownership = node("a", liveStore, 600, 100);
+        ThreadPoolTaskScheduler sharedScheduler = new ThreadPoolTaskScheduler();
+        sharedScheduler.setPoolSize(1);
+        sharedScheduler.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ownership.start();
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (ownership.ownedSymbols().size() < 24 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(ownership.ownedSymbols()).hasSize(24);
+
+            sharedScheduler.execute(() -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            long blockedUntil = System.currentTimeMillis() + 3 * 600;
+            while (System.currentTimeMillis() < blockedUntil) {
+                for (String symbol : ownership.symbols()) {
+                    assertThat(ownership.isOwner(symbol)).as("local lease of %s", symbol).isTrue();
+                    assertThat(liveStore.owner(symbol)).isEqualTo("a");
+                }
+                Thread.sleep(50);
+            }
+        } finally {
+            release.countDown();
+            ownership.shutdown();
+            sharedScheduler.shutdown();
+        }
+        assertThat(liveStore.liveNodes()).isEmpty();
+    }
+
+    private SymbolOwnership node(String nodeId) {
+        return node(nodeId, store);
+    }
+
+    private SymbolOwnership node(String nodeId, CoordinationStore nodeStore) {
+        return node(nodeId, nodeStore, TTL_MS, TICK_MS);
+    }
+
+    private SymbolOwnership node(String nodeId, CoordinationStore nodeStore, long ttlMs, long renewIntervalMs) {
+        ClusterProperties properties = new ClusterProperties();
+        properties.setEnabled(true);
+        properties.setNodeId(nodeId);
+        properties.setAdvertisedUrl("http://" + nodeId + ":8080");
+        properties.setLeaseTtlMs(ttlMs);
+        properties.setRenewIntervalMs(renewIntervalMs);
+        SymbolOwnership ownership = new SymbolOwnership(properties, nodeStore, binanceProperties,
+                new SimpleMeterRegistry());
+        ownership.init();
+        return ownership;
+    }
+
+    private void runRounds(Map<String, SymbolOwnership> nodes, int rounds) {
+        for (int r = 0; r < rounds; r++) {
+            for (SymbolOwnership node : nodes.values()) {
+                node.rebalance(clock.get());
+                owners(nodes);
+            }
+            clock.addAndGet(TICK_MS);
+        }
+    }
+
+    private static Map<String, String> owners(Map<String, SymbolOwnership> nodes) {
+        Map<String, String> owners = new HashMap<>();
+        nodes.forEach((nodeId, node) -> {
+            for (String symbol : node.ownedSymbols()) {
+                String previous = owners.put(symbol, nodeId);
+                assertThat(previous).as("symbol %s owned by %s and %s", symbol, previous, nodeId).isNull();
+            }
+        });
+        return owners;
+    }
+}
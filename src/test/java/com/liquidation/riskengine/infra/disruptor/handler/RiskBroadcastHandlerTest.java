@@ -0,0 +1,117 @@
+package com.liquidation.riskengine.infra.disruptor.handler;
+
+import com.liquidation.riskengine.domain.model.CascadeRiskReport;
+import com.liquidation.riskengine.domain.model.MonteCarloReport;
+import com.liquidation.riskengine.infra.disruptor.event.RiskResultEvent;
+import com.liquidation.riskengine.infra.redis.relay.RelayProperties;
+import com.liquidation.riskengine.infra.redis.relay.RiskReportRelay;
+import com.liquidation.riskengine.infra.websocket.RiskReportSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiskBroadcastHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RelayProperties relayProperties = new RelayProperties();
+    private final List<String> sentDestinations = new ArrayList<>();
+    private final List<Object> sentReports = new ArrayList<>();
+    private final List<Map<String, Object>> published = new ArrayList<>();
+    private boolean relayAvailable = true;
+
+    private final RiskReportSender sender = new RiskReportSender(null, null, null, null, null) {
+        @Override
+        public void send(String destination, Object report) {
+            sentDestinations.add(destination);
+            sentReports.add(report);
+        }
+    };
+
+    private final RiskReportRelay relay = new RiskReportRelay(null, null, null, null) {
+        @Override
+        public boolean publish(Map<String, Object> reports) {
+            published.add(new LinkedHashMap<>(reports));
+            return relayAvailable;
+        }
+    };
+
+    private RiskBroadcastHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new RiskBroadcastHandler(sender, relay, relayProperties, meterRegistry);
+        handler.initMetrics();
+    }
+
+    @Test
+    void reportsForOneDestinationInABatchAreSentOnceWithTheLatest() {
+        RiskResultEvent first = event("alice", "btcusdt", 65_000);
+        RiskResultEvent second = event("alice", "btcusdt", 64_900);
+        RiskResultEvent latest = event("alice", "btcusdt", 64_800);
+
+        handler.onEvent(first, 1, false);
+        handler.onEvent(second, 2, false);
+        assertThat(sentDestinations).isEmpty();
+
+        handler.onEvent(latest, 3, true);
+
+        assertThat(sentDestinations).containsExactly("/topic/risk/alice/BTCUSDT");
+        assertThat(sentReports.get(0)).isSameAs(latest.getReport());
+        assertThat(meterRegistry.counter("broadcast.coalesced").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void destinationsAreFlushedInFirstStagedOrder() {
+        RiskResultEvent withMc = event("alice", "btcusdt", 65_000);
+        withMc.setMcReport(MonteCarloReport.builder().symbol("btcusdt").build());
+
+        handler.onEvent(withMc, 1, false);
+        handler.onEvent(event("bob", "ethusdt", 3_000), 2, false);
+        handler.onEvent(event("alice", "btcusdt", 64_000), 3, false);
+        handler.onEvent(event("carol", "solusdt", 150), 4, true);
+
+        assertThat(sentDestinations).containsExactly(
+                "/topic/risk/alice/BTCUSDT",
+                "/topic/mc/alice/BTCUSDT",
+                "/topic/risk/bob/ETHUSDT",
+                "/topic/risk/carol/SOLUSDT");
+    }
+
+    @Test
+    void relayFailureFallsBackToLocalSendForTheWholeBatch() {
+        relayProperties.setPublish(true);
+        relayAvailable = false;
+
+        handler.onEvent(event("alice", "btcusdt", 65_000), 1, false);
+        handler.onEvent(event("bob", "ethusdt", 3_000), 2, true);
+
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0)).containsOnlyKeys("/topic/risk/alice/BTCUSDT", "/topic/risk/bob/ETHUSDT");
+        assertThat(sentDestinations).containsExactly("/topic/risk/alice/BTCUSDT", "/topic/risk/bob/ETHUSDT");
+
+        relayAvailable = true;
+        handler.onEvent(event("carol", "solusdt", 150), 3, true);
+
+        assertThat(published).hasSize(2);
+        assertThat(published.get(1)).containsOnlyKeys("/topic/risk/carol/SOLUSDT");
+        assertThat(sentDestinations).hasSize(2);
+    }
+
+    private static RiskResultEvent event(String userId, String symbol, double price) {
+        RiskResultEvent event = new RiskResultEvent();
+        event.setUserId(userId);
+        event.setReport(CascadeRiskReport.builder()
+                .symbol(symbol)
+                .currentPrice(BigDecimal.valueOf(price))
+                .build());
+        return event;
+    }
+}
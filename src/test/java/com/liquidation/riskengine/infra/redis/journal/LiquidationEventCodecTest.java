@@ -0,0 +1,52 @@
+package com.liquidation.riskengine.infra.redis.journal;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiquidationEventCodecTest {
+
+    @Test
+    void roundTripsTypicalAndEdgeCaseEvents() {
+        LiquidationEvent typical = LiquidationEvent.builder()
+                .symbol("BTCUSDT")
+                .side("SELL")
+                .price(new BigDecimal("64123.40"))
+                .averagePrice(new BigDecimal("64120.15"))
+                .quantity(new BigDecimal("0.015"))
+                .notionalValue(new BigDecimal("961.80225"))
+                .orderStatus("FILLED")
+                .timestamp(1_760_000_000_123L)
+                .build();
+
+        LiquidationEvent unusual = LiquidationEvent.builder()
+                .symbol("1000PEPEUSDT")
+                .side("UNKNOWN")
+                .price(new BigDecimal("0.000012345678901234567890123"))
+                .averagePrice(null)
+                .quantity(new BigDecimal("123456789012345678901234567890"))
+                .notionalValue(BigDecimal.ZERO)
+                .orderStatus("PENDING_NEW")
+                .timestamp(0L)
+                .build();
+
+        for (LiquidationEvent event : new LiquidationEvent[]{typical, unusual}) {
+            byte[] encoded = LiquidationEventCodec.encode(event);
+            LiquidationEvent decoded = LiquidationEventCodec.decode(encoded);
+
+            assertThat(decoded.getSymbol()).isEqualTo(event.getSymbol());
+            assertThat(decoded.getSide()).isEqualTo(event.getSide());
+            assertThat(decoded.getPrice()).isEqualTo(event.getPrice());
+            assertThat(decoded.getAveragePrice()).isEqualTo(event.getAveragePrice());
+            assertThat(decoded.getQuantity()).isEqualTo(event.getQuantity());
+            assertThat(decoded.getNotionalValue()).isEqualTo(event.getNotionalValue());
+            assertThat(decoded.getOrderStatus()).isEqualTo(event.getOrderStatus());
+            assertThat(decoded.getTimestamp()).isEqualTo(event.getTimestamp());
+        }
+
+        assertThat(LiquidationEventCodec.encode(typical).length).isLessThan(64);
+    }
+}
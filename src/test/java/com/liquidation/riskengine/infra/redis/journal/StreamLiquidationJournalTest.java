@@ -0,0 +1,153 @@
+package com.liquidation.riskengine.infra.redis.journal;
+
+import com.liquidation.riskengine.domain.model.LiquidationEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamLiquidationJournalTest {
+
+    private static final byte[] KEY = "liq:stream:BTCUSDT".getBytes(StandardCharsets.UTF_8);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final JournalProperties properties = new JournalProperties();
+    private final StreamLiquidationJournal journal = new StreamLiquidationJournal(redisTemplate, properties);
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    void appendSetsRetentionTtlOnceAndRefreshesItOnLaterBatches() {
+        properties.setRetentionHours(2);
+        long now = System.currentTimeMillis();
+
+        journal.append(List.of(event("btcusdt", now), event("BTCUSDT", now + 1), event("ETHUSDT", now)));
+
+        assertThat(journal.count("BTCUSDT")).isEqualTo(2);
+        assertThat(journal.count("ethusdt")).isEqualTo(1);
+        Long ttl = pttl();
+        assertThat(ttl).isGreaterThan(properties.retentionMs() - 60_000).isLessThanOrEqualTo(properties.retentionMs());
+
+        properties.setRetentionHours(4);
+        journal.append(List.of(event("BTCUSDT", now + 2)));
+        assertThat(pttl()).isGreaterThan(properties.retentionMs() - 60_000);
+    }
+
+    @Test
+    void maxLenTrimKeepsAtLeastConfiguredLength() {
+        properties.setTrimStrategy("maxlen");
+        properties.setMaxLen(100);
+        long now = System.currentTimeMillis();
+
+        for (int batch = 0; batch < 10; batch++) {
+            List<LiquidationEvent> events = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                events.add(event("BTCUSDT", now + batch * 100 + i));
+            }
+            journal.append(events);
+        }
+
+        assertThat(journal.count("BTCUSDT")).isGreaterThanOrEqualTo(100).isLessThan(1_000);
+        assertThat(journal.range("BTCUSDT", now + 999, now + 999)).hasSize(1);
+    }
+
+    @Test
+    void minIdTrimDropsEntriesOlderThanRetention() {
+        properties.setRetentionHours(1);
+        long old = System.currentTimeMillis() - 2 * 3_600_000L;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            for (int i = 0; i < 300; i++) {
+                connection.execute("XADD", KEY, (old + i + "-0").getBytes(StandardCharsets.UTF_8),
+                        "e".getBytes(StandardCharsets.UTF_8), LiquidationEventCodec.encode(event("BTCUSDT", old + i)));
+            }
+        }
+        assertThat(journal.count("BTCUSDT")).isEqualTo(300);
+
+        long now = System.currentTimeMillis();
+        journal.append(List.of(event("BTCUSDT", now)));
+
+        assertThat(journal.count("BTCUSDT")).isLessThan(301);
+        assertThat(journal.range("BTCUSDT", old, old + 299).size()).isLessThan(300);
+        assertThat(journal.range("BTCUSDT", now, now)).hasSize(1);
+    }
+
+    @Test
+    void rangeIsWidenedBySkewButFilteredByEventTime() {
+        long now = System.currentTimeMillis();
+        long eventTime = now - 3_000;
+        journal.append(List.of(event("BTCUSDT", eventTime), event("BTCUSDT", eventTime + 500)));
+
+        properties.setRangeSkewMs(0);
+        assertThat(journal.range("BTCUSDT", eventTime, eventTime + 500)).isEmpty();
+
+        properties.setRangeSkewMs(5_000);
+        List<LiquidationEvent> events = journal.range("BTCUSDT", eventTime, eventTime + 500);
+        assertThat(events).extracting(LiquidationEvent::getTimestamp).containsExactly(eventTime, eventTime + 500);
+        assertThat(journal.range("BTCUSDT", eventTime + 1, eventTime + 499)).isEmpty();
+        assertThat(journal.range("BTCUSDT", eventTime - 2_000, eventTime)).hasSize(1);
+    }
+
+    private Long pttl() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            return connection.keyCommands().pTtl(KEY);
+        }
+    }
+
+    private static LiquidationEvent event(String symbol, long timestamp) {
+        return LiquidationEvent.builder()
+                .symbol(symbol)
+                .side("SELL")
+                .price(new BigDecimal("64000"))
+                .averagePrice(new BigDecimal("64000"))
+                .quantity(new BigDecimal("0.5"))
+                .notionalValue(new BigDecimal("32000"))
+                .orderStatus("FILLED")
+                .timestamp(timestamp)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.liquidation.riskengine.infra.redis.relay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liquidation.riskengine.infra.sse.RiskStreamHub;
+import com.liquidation.riskengine.infra.websocket.RiskReportSender;
+import com.liquidation.riskengine.infra.websocket.StompPayloadEncoder;
+import com.liquidation.riskengine.infra.websocket.broker.DestinationSubscriptionRegistry;
+import com.liquidation.riskengine.infra.websocket.broker.FanoutBrokerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiskReportRelayTest {
+
+    private static final String PROBE = "/topic/probe";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RelayProperties properties = new RelayProperties();
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @AfterEach
+    void stopContainers() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+    }
+
+    @Test
+    void everyFanoutNodeReceivesEveryPipelinedReport() throws Exception {
+        Map<String, JsonNode> nodeA = subscribe();
+        Map<String, JsonNode> nodeB = subscribe();
+        RiskReportRelay publisher = relay();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!(nodeA.containsKey(PROBE) && nodeB.containsKey(PROBE)) && System.currentTimeMillis() < deadline) {
+            publisher.publish(Map.of(PROBE, Map.of()));
+            Thread.sleep(100);
+        }
+
+        Map<String, Object> batch = new LinkedHashMap<>();
+        batch.put("/topic/risk/u1/BTCUSDT", Map.of("symbol", "BTCUSDT", "distancePercent", 3.5));
+        batch.put("/topic/mc/u2/ETHUSDT", Map.of("symbol", "ETHUSDT", "paths", List.of(1, 2, 3)));
+        assertThat(publisher.publish(batch)).isTrue();
+
+        deadline = System.currentTimeMillis() + 10_000;
+        while ((nodeA.size() < 3 || nodeB.size() < 3) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        for (Map<String, JsonNode> node : List.of(nodeA, nodeB)) {
+            node.remove(PROBE);
+            assertThat(node).containsOnlyKeys(batch.keySet());
+            batch.forEach((destination, report) ->
+                    assertThat(node.get(destination)).isEqualTo(objectMapper.valueToTree(report)));
+        }
+    }
+
+    @Test
+    void reportsWithoutLocalSubscribersAreSkipped() {
+        DestinationSubscriptionRegistry registry = new DestinationSubscriptionRegistry(new SimpleMeterRegistry());
+        registry.registerSubscription(stompSubscribe("/topic/risk/u1/BTCUSDT"));
+        Map<String, JsonNode> received = new ConcurrentHashMap<>();
+        RiskRelaySubscriber subscriber = subscriber(received, registry, Set.of("/topic/mc/u2/ETHUSDT"));
+
+        for (String destination : List.of("/topic/risk/u1/BTCUSDT", "/topic/risk/u9/BTCUSDT", "/topic/mc/u2/ETHUSDT")) {
+            subscriber.onMessage(new DefaultMessage(
+                    (properties.getChannelPrefix() + destination).getBytes(StandardCharsets.UTF_8),
+                    "{\"symbol\":\"BTCUSDT\"}".getBytes(StandardCharsets.UTF_8)), null);
+        }
+
+        assertThat(received).containsOnlyKeys("/topic/risk/u1/BTCUSDT", "/topic/mc/u2/ETHUSDT");
+    }
+
+    @Test
+    void destinationIsRecoveredOnlyFromRelayChannels() {
+        RiskReportRelay relay = relay();
+        assertThat(relay.destinationOf("risk:relay:/topic/risk/u1/BTCUSDT")).isEqualTo("/topic/risk/u1/BTCUSDT");
+        assertThat(relay.destinationOf("other:/topic/risk/u1/BTCUSDT")).isNull();
+    }
+
+    private RiskReportRelay relay() {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        RiskReportRelay relay = new RiskReportRelay(template, new StompPayloadEncoder(objectMapper), properties,
+                new SimpleMeterRegistry());
+        relay.initMetrics();
+        return relay;
+    }
+
+    private Map<String, JsonNode> subscribe() {
+        DestinationSubscriptionRegistry registry = new DestinationSubscriptionRegistry(new SimpleMeterRegistry());
+        registry.registerSubscription(stompSubscribe("/topic/**"));
+        Map<String, JsonNode> received = new ConcurrentHashMap<>();
+        RiskRelaySubscriber subscriber = subscriber(received, registry, Set.of());
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new PatternTopic(properties.getChannelPrefix() + "*"));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return received;
+    }
+
+    private RiskRelaySubscriber subscriber(Map<String, JsonNode> received, DestinationSubscriptionRegistry registry,
+                                           Set<String> sseDestinations) {
+        RiskReportSender sender = new RiskReportSender(null, null, null, null, null) {
+            @Override
+            public void send(String destination, Object report) {
+                received.put(destination, (JsonNode) report);
+            }
+        };
+        RiskStreamHub hub = new RiskStreamHub(null, null, null, null) {
+            @Override
+            public boolean hasSubscribers(String destination) {
+                return sseDestinations.contains(destination);
+            }
+        };
+        RiskRelaySubscriber subscriber = new RiskRelaySubscriber(objectMapper, relay(), sender,
+                new FanoutBrokerProperties(), registry, hub, new SimpleMeterRegistry());
+        subscriber.initMetrics();
+        return subscriber;
+    }
+
+    private static Message<byte[]> stompSubscribe(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId("local");
+        accessor.setSubscriptionId(destination);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
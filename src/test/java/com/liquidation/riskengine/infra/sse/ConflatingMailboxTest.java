@@ -0,0 +1,52 @@
+package com.liquidation.riskengine.infra.sse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConflatingMailboxTest {
+
+    @Test
+    void keepsOnlyLatestPayloadPerEventInArrivalOrder() throws InterruptedException {
+        ConflatingMailbox mailbox = new ConflatingMailbox();
+        assertThat(mailbox.offer("risk", "r1")).isFalse();
+        assertThat(mailbox.offer("mc", "m1")).isFalse();
+        assertThat(mailbox.offer("risk", "r2")).isTrue();
+
+        assertThat(mailbox.take(1_000)).containsExactly(Map.entry("risk", "r2"), Map.entry("mc", "m1"));
+        assertThat(mailbox.take(10)).isEmpty();
+    }
+
+    @Test
+    void virtualThreadConsumerWakesOnOfferAndExitsOnClose() throws InterruptedException {
+        ConflatingMailbox mailbox = new ConflatingMailbox();
+        AtomicReference<List<Map.Entry<String, String>>> first = new AtomicReference<>();
+        AtomicReference<List<Map.Entry<String, String>>> last = new AtomicReference<>(List.of());
+
+        Thread consumer = Thread.ofVirtual().start(() -> {
+            try {
+                first.set(mailbox.take(60_000));
+                last.set(mailbox.take(60_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        mailbox.offer("risk", "r1");
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (first.get() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        mailbox.close();
+        consumer.join(5_000);
+
+        assertThat(consumer.isAlive()).isFalse();
+        assertThat(first.get()).containsExactly(Map.entry("risk", "r1"));
+        assertThat(last.get()).isNull();
+        assertThat(mailbox.offer("risk", "r2")).isFalse();
+    }
+}
@@ -0,0 +1,198 @@
+package com.liquidation.riskengine.infra.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.liquidation.riskengine.infra.websocket.ReportStreamEncoder;
+import com.liquidation.riskengine.infra.websocket.StompPayloadEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiskStreamHubTest {
+
+    private static final String RISK = "/topic/risk/alice/BTCUSDT";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseProperties properties = new SseProperties();
+    private final Map<String, ObjectNode> keyframes = new ConcurrentHashMap<>();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private CountDownLatch sendGate = new CountDownLatch(0);
+
+    private final ReportStreamEncoder streamEncoder = new ReportStreamEncoder(objectMapper, null, null, null) {
+        @Override
+        public ObjectNode latestKeyframe(String destination) {
+            return keyframes.get(destination);
+        }
+    };
+
+    private final RiskStreamHub hub = new RiskStreamHub(
+            new StompPayloadEncoder(objectMapper), streamEncoder, properties, meterRegistry) {
+        @Override
+        SseEmitter newEmitter() {
+            RecordingEmitter emitter = new RecordingEmitter(sendGate);
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+
+    {
+        hub.initMetrics();
+    }
+
+    @AfterEach
+    void closeEmitters() {
+        sendGate.countDown();
+        emitters.forEach(emitter -> emitter.completion.run());
+    }
+
+    @Test
+    void newStreamIsPrimedWithLatestKeyframeBody() throws InterruptedException {
+        ObjectNode keyframe = objectMapper.createObjectNode().put("type", "K").put("seq", 7);
+        keyframe.set("body", objectMapper.valueToTree(Map.of("price", 65_000)));
+        keyframes.put(RISK, keyframe);
+
+        hub.open("alice", "BTCUSDT");
+        RecordingEmitter emitter = emitters.get(0);
+
+        await(() -> emitter.events.size() == 1);
+        assertThat(emitter.events.get(0))
+                .startsWith("event:risk\n")
+                .contains("{\"price\":65000}")
+                .doesNotContain("\"type\"");
+    }
+
+    @Test
+    void connectionsBeyondMaxAreRejected() {
+        properties.setMaxConnections(2);
+
+        assertThat(hub.open("alice", "BTCUSDT")).isNotNull();
+        assertThat(hub.open("bob", "BTCUSDT")).isNotNull();
+        assertThat(hub.open("carol", "BTCUSDT")).isNull();
+
+        assertThat(hub.connectionCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("sse.connections.rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void connectionCountDropsOnCompletionTimeoutAndError() {
+        hub.open("alice", "BTCUSDT");
+        hub.open("bob", "BTCUSDT");
+        hub.open("carol", "BTCUSDT");
+        assertThat(hub.connectionCount()).isEqualTo(3);
+
+        emitters.get(0).completion.run();
+        assertThat(hub.connectionCount()).isEqualTo(2);
+        emitters.get(1).timeout.run();
+        assertThat(hub.connectionCount()).isEqualTo(1);
+        emitters.get(2).error.accept(new IOException("connection reset"));
+        assertThat(hub.connectionCount()).isZero();
+
+        emitters.get(0).completion.run();
+        assertThat(hub.connectionCount()).isZero();
+        assertThat(hub.hasSubscribers(RISK)).isFalse();
+    }
+
+    @Test
+    void burstToSlowStreamIsConflatedToLatest() throws InterruptedException {
+        sendGate = new CountDownLatch(1);
+        hub.open("alice", "BTCUSDT");
+        RecordingEmitter emitter = emitters.get(0);
+
+        hub.publish(RISK, Map.of("price", 1));
+        assertThat(emitter.entered.await(1, TimeUnit.SECONDS)).isTrue();
+        for (int price = 2; price <= 50; price++) {
+            hub.publish(RISK, Map.of("price", price));
+        }
+        sendGate.countDown();
+
+        await(() -> emitter.events.size() == 2);
+        assertThat(emitter.events.get(0)).contains("{\"price\":1}");
+        assertThat(emitter.events.get(1)).contains("{\"price\":50}");
+        assertThat(meterRegistry.counter("sse.events.conflated").count()).isEqualTo(48.0);
+    }
+
+    @Test
+    void pumpThreadExitsWhenStreamCloses() throws InterruptedException {
+        hub.open("alice", "BTCUSDT");
+        RecordingEmitter emitter = emitters.get(0);
+        hub.publish(RISK, Map.of("price", 1));
+        await(() -> emitter.events.size() == 1);
+        Thread pump = emitter.sender;
+
+        emitter.completion.run();
+        pump.join(1_000);
+
+        assertThat(pump.isAlive()).isFalse();
+        assertThat(pump.isVirtual()).isTrue();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch gate;
+        private volatile Thread sender;
+        private Runnable completion;
+        private Runnable timeout;
+        private Consumer<Throwable> error;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sender = Thread.currentThread();
+            entered.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                text.append(part.getData());
+            }
+            events.add(text.toString());
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completion = callback;
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            timeout = callback;
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+            error = callback;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.liquidation.riskengine.infra.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportStreamEncoderTest {
+
+    private static final String DESTINATION = "/topic/risk/user/BTCUSDT";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ReportStreamEncoder encoder;
+    private BroadcastDeltaProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BroadcastDeltaProperties();
+        properties.setKeyframeMaxAgeMs(Long.MAX_VALUE);
+        encoder = new ReportStreamEncoder(objectMapper, new StompPayloadEncoder(objectMapper), properties,
+                new SimpleMeterRegistry());
+        encoder.initMetrics();
+    }
+
+    @Test
+    void patchesReplayedOntoKeyframeReproduceEveryReport() throws Exception {
+        SplittableRandom rng = new SplittableRandom(17);
+        JsonNode client = null;
+        long lastSeq = 0;
+        int patches = 0;
+
+        for (int i = 0; i < 200; i++) {
+            Map<String, Object> report = report(rng, i);
+            byte[] frame = encoder.encode(DESTINATION, report);
+            JsonNode envelope = objectMapper.readTree(frame);
+
+            assertThat(envelope.get("seq").asLong()).isEqualTo(lastSeq + 1);
+            lastSeq = envelope.get("seq").asLong();
+            assertThat(ReportStreamEncoder.isPatch(frame))
+                    .isEqualTo(ReportStreamEncoder.PATCH.equals(envelope.get("type").asText()));
+            if (ReportStreamEncoder.KEYFRAME.equals(envelope.get("type").asText())) {
+                client = envelope.get("body").deepCopy();
+            } else {
+                patches++;
+                apply((ObjectNode) client, envelope);
+            }
+            assertThat(client).isEqualTo(objectMapper.valueToTree(report));
+        }
+
+        assertThat(patches).isGreaterThan(150);
+        assertThat(encoder.latestKeyframe(DESTINATION).get("seq").asLong()).isEqualTo(lastSeq);
+    }
+
+    @Test
+    void disabledDeltaSendsOnlyKeyframes() throws Exception {
+        properties.setEnabled(false);
+        SplittableRandom rng = new SplittableRandom(1);
+        for (int i = 0; i < 5; i++) {
+            JsonNode envelope = objectMapper.readTree(encoder.encode(DESTINATION, report(rng, i)));
+            assertThat(envelope.get("type").asText()).isEqualTo(ReportStreamEncoder.KEYFRAME);
+        }
+    }
+
+    private static Map<String, Object> report(SplittableRandom rng, int i) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("symbol", "BTCUSDT");
+        report.put("currentPrice", 65_000 + rng.nextDouble(-50, 50));
+        report.put("distancePercent", rng.nextDouble(1, 10));
+        report.put("riskLevel", i % 20 < 15 ? "LOW" : "HIGH");
+        if (i % 7 != 0) {
+            report.put("calibratedReachProbability", rng.nextDouble());
+        }
+        List<Map<String, Object>> clusters = new ArrayList<>();
+        int n = 3 + rng.nextInt(3);
+        for (int c = 0; c < n; c++) {
+            Map<String, Object> cluster = new LinkedHashMap<>();
+            cluster.put("price", 60_000 + c * 100);
+            cluster.put("estimatedVolume", c == 0 ? rng.nextDouble() : 1.5);
+            clusters.add(cluster);
+        }
+        report.put("clustersInPath", clusters);
+        report.put("timestamp", 1_700_000_000_000L + i * 200L);
+        return report;
+    }
+
+    private static void apply(ObjectNode body, JsonNode patch) {
+        for (JsonNode op : patch.get("set")) {
+            set(body, op.get(0).asText(), op.get(1));
+        }
+        for (JsonNode path : patch.get("del")) {
+            String[] keys = path.asText().split("/");
+            ((ObjectNode) parent(body, keys)).remove(keys[keys.length - 1]);
+        }
+        Iterator<String> paths = patch.get("len").fieldNames();
+        while (paths.hasNext()) {
+            String path = paths.next();
+            ArrayNode array = (ArrayNode) body.at("/" + path);
+            int length = patch.get("len").get(path).asInt();
+            while (array.size() > length) {
+                array.remove(array.size() - 1);
+            }
+        }
+    }
+
+    private static void set(ObjectNode body, String path, JsonNode value) {
+        String[] keys = path.split("/");
+        JsonNode parent = parent(body, keys);
+        String last = keys[keys.length - 1];
+        if (parent instanceof ArrayNode array) {
+            int index = Integer.parseInt(last);
+            if (index < array.size()) {
+                array.set(index, value);
+            } else {
+                array.add(value);
+            }
+        } else {
+            ((ObjectNode) parent).set(last, value);
+        }
+    }
+
+    private static JsonNode parent(JsonNode body, String[] keys) {
+        JsonNode node = body;
+        for (int i = 0; i < keys.length - 1; i++) {
+            node = node.isArray() ? node.get(Integer.parseInt(keys[i])) : node.get(keys[i]);
+        }
+        return node;
+    }
+}
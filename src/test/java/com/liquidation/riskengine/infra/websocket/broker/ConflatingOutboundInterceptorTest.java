@@ -0,0 +1,210 @@
+package com.liquidation.riskengine.infra.websocket.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liquidation.riskengine.domain.model.HeatmapFrame;
+import com.liquidation.riskengine.domain.model.HeatmapFrame.FrameType;
+import com.liquidation.riskengine.infra.websocket.ReportStreamEncoder;
+import com.liquidation.riskengine.infra.websocket.StompPayloadEncoder;
+import com.liquidation.riskengine.infra.websocket.heatmap.HeatmapFrameMerger;
+import com.liquidation.riskengine.infra.websocket.heatmap.HeatmapPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConflatingOutboundInterceptorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> keyframes = new HashMap<>();
+    private FanoutBrokerProperties properties;
+    private ConflatingOutboundInterceptor interceptor;
+    private final List<Message<?>> delivered = new ArrayList<>();
+    private final MessageHandler handler = delivered::add;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FanoutBrokerProperties();
+        properties.setMaxPendingPerSession(3);
+        ReportStreamEncoder streamEncoder = new ReportStreamEncoder(null, null, null, null) {
+            @Override
+            public byte[] latestKeyframeBytes(String destination) {
+                String keyframe = keyframes.get(destination);
+                return keyframe != null ? keyframe.getBytes() : null;
+            }
+        };
+        interceptor = new ConflatingOutboundInterceptor(properties, new SimpleMeterRegistry(), streamEncoder,
+                new HeatmapFrameMerger(objectMapper, new StompPayloadEncoder(objectMapper)));
+        interceptor.initMetrics();
+    }
+
+    @Test
+    void keepsOnlyLatestKeyframePerDestinationWhileSessionIsBusy() {
+        Message<?> trigger = interceptor.preSend(message("s1", "/topic/a", keyframe(1)), null);
+        assertThat(trigger).isNotNull();
+
+        assertThat(interceptor.preSend(message("s1", "/topic/a", keyframe(2)), null)).isNull();
+        assertThat(interceptor.preSend(message("s1", "/topic/b", keyframe(1)), null)).isNull();
+        assertThat(interceptor.preSend(message("s1", "/topic/a", keyframe(3)), null)).isNull();
+        assertThat(interceptor.pendingMessages("s1")).isEqualTo(2);
+
+        assertThat(interceptor.beforeHandle(trigger, null, handler)).isNull();
+        assertThat(delivered).extracting(m -> new String((byte[]) m.getPayload()))
+                .containsExactly(keyframe(3), keyframe(1));
+        assertThat(interceptor.pendingMessages("s1")).isZero();
+
+        assertThat(interceptor.preSend(message("s1", "/topic/a", keyframe(4)), null)).isNotNull();
+    }
+
+    @Test
+    void framesThatDoNotStandAloneAreNeverConflated() {
+        Message<?> trigger = interceptor.preSend(message("s1", "/topic/a", "a1"), null);
+        interceptor.preSend(message("s1", "/topic/a", "a2"), null);
+        interceptor.preSend(message("s1", "/topic/a", "a3"), null);
+
+        interceptor.beforeHandle(trigger, null, handler);
+        assertThat(delivered).extracting(m -> new String((byte[]) m.getPayload())).containsExactly("a1", "a2", "a3");
+    }
+
+    @Test
+    void heatmapDeltasForSlowSessionAreMergedSoNoBucketIsLost() throws Exception {
+        String destination = HeatmapPublisher.TOPIC_PREFIX + "BTCUSDT";
+        Message<?> trigger = interceptor.preSend(message("s1", destination,
+                heatmap(FrameType.DELTA, 1, new int[]{10, 11}, new double[]{1.0, 2.0})), null);
+        assertThat(interceptor.preSend(message("s1", destination,
+                heatmap(FrameType.DELTA, 2, new int[]{11, 500}, new double[]{3.0, 4.0})), null)).isNull();
+        assertThat(interceptor.preSend(message("s1", destination,
+                heatmap(FrameType.DELTA, 3, new int[]{700}, new double[]{0.0})), null)).isNull();
+        assertThat(interceptor.pendingMessages("s1")).isEqualTo(1);
+
+        interceptor.beforeHandle(trigger, null, handler);
+        assertThat(delivered).hasSize(1);
+        HeatmapFrame merged = objectMapper.readValue((byte[]) delivered.get(0).getPayload(), HeatmapFrame.class);
+        assertThat(merged.getType()).isEqualTo(FrameType.DELTA);
+        assertThat(merged.getVersion()).isEqualTo(3);
+        assertThat(merged.getIndices()).containsExactly(10, 11, 500, 700);
+        assertThat(merged.getLongs()).containsExactly(1.0, 3.0, 4.0, 0.0);
+    }
+
+    @Test
+    void heatmapDeltaIsFoldedIntoPendingSnapshotAndSnapshotReplacesDeltas() throws Exception {
+        String destination = HeatmapPublisher.TOPIC_PREFIX + "BTCUSDT";
+        Message<?> trigger = interceptor.preSend(message("s1", destination,
+                heatmap(FrameType.SNAPSHOT, 1, new int[]{10, 11}, new double[]{1.0, 2.0})), null);
+        interceptor.preSend(message("s1", destination,
+                heatmap(FrameType.DELTA, 2, new int[]{11, 12}, new double[]{0.0, 5.0})), null);
+
+        interceptor.beforeHandle(trigger, null, handler);
+        HeatmapFrame merged = objectMapper.readValue((byte[]) delivered.get(0).getPayload(), HeatmapFrame.class);
+        assertThat(merged.getType()).isEqualTo(FrameType.SNAPSHOT);
+        assertThat(merged.getIndices()).containsExactly(10, 12);
+        assertThat(merged.getLongs()).containsExactly(1.0, 5.0);
+
+        delivered.clear();
+        trigger = interceptor.preSend(message("s1", destination,
+                heatmap(FrameType.DELTA, 3, new int[]{10}, new double[]{2.0})), null);
+        String snapshot = heatmap(FrameType.SNAPSHOT, 4, new int[]{20}, new double[]{7.0});
+        interceptor.preSend(message("s1", destination, snapshot), null);
+        interceptor.beforeHandle(trigger, null, handler);
+        assertThat(delivered).extracting(m -> new String((byte[]) m.getPayload())).containsExactly(snapshot);
+    }
+
+    @Test
+    void dropsSessionWhoseDistinctPendingDestinationsOverflow() {
+        interceptor.preSend(message("s1", "/topic/0", "x"), null);
+        for (int i = 1; i < 3; i++) {
+            assertThat(interceptor.preSend(message("s1", "/topic/" + i, "x"), null)).isNull();
+        }
+
+        Message<?> error = interceptor.preSend(message("s1", "/topic/3", "x"), null);
+        assertThat(StompHeaderAccessor.wrap(error).getCommand()).isEqualTo(StompCommand.ERROR);
+        assertThat(interceptor.pendingMessages("s1")).isZero();
+        assertThat(interceptor.preSend(message("s1", "/topic/0", "x"), null)).isNull();
+
+        assertThat(interceptor.preSend(message("s2", "/topic/0", "x"), null)).isNotNull();
+    }
+
+    @Test
+    void conflatedPatchIsReplacedByLatestKeyframeSoSequenceHasNoGap() {
+        String destination = "/topic/risk/user/BTCUSDT";
+        Message<?> trigger = interceptor.preSend(message("s1", destination, "{\"type\":\"K\",\"seq\":1}"), null);
+        assertThat(trigger).isNotNull();
+
+        for (int seq = 2; seq <= 5; seq++) {
+            keyframes.put(destination, "{\"type\":\"K\",\"seq\":" + seq + "}");
+            assertThat(interceptor.preSend(message("s1", destination, "{\"type\":\"P\",\"seq\":" + seq + "}"), null))
+                    .isNull();
+        }
+        assertThat(interceptor.pendingMessages("s1")).isEqualTo(1);
+
+        interceptor.beforeHandle(trigger, null, handler);
+        assertThat(delivered).extracting(m -> new String((byte[]) m.getPayload()))
+                .containsExactly("{\"type\":\"K\",\"seq\":5}");
+        assertThat(SimpMessageHeaderAccessor.getDestination(delivered.get(0).getHeaders())).isEqualTo(destination);
+
+        Message<?> next = message("s1", destination, "{\"type\":\"P\",\"seq\":6}");
+        assertThat(interceptor.preSend(next, null)).isSameAs(next);
+    }
+
+    @Test
+    void patchWithoutKeyframeIsQueuedBehindPendingFrameInsteadOfReplacingIt() {
+        Message<?> trigger = interceptor.preSend(message("s1", "/topic/x", "{\"type\":\"K\",\"seq\":1}"), null);
+        interceptor.preSend(message("s1", "/topic/x", "{\"type\":\"K\",\"seq\":2}"), null);
+        interceptor.preSend(message("s1", "/topic/x", "{\"type\":\"P\",\"seq\":3}"), null);
+        interceptor.preSend(message("s1", "/topic/x", "{\"type\":\"P\",\"seq\":4}"), null);
+        assertThat(interceptor.pendingMessages("s1")).isEqualTo(3);
+
+        interceptor.beforeHandle(trigger, null, handler);
+        assertThat(delivered).extracting(m -> new String((byte[]) m.getPayload())).containsExactly(
+                "{\"type\":\"K\",\"seq\":2}", "{\"type\":\"P\",\"seq\":3}", "{\"type\":\"P\",\"seq\":4}");
+    }
+
+    @Test
+    void passesThroughWhenDisabled() {
+        properties.setEnabled(false);
+        Message<?> first = message("s1", "/topic/a", "a1");
+        assertThat(interceptor.preSend(first, null)).isSameAs(first);
+        assertThat(interceptor.preSend(message("s1", "/topic/a", "a2"), null)).isNotNull();
+    }
+
+    private static String keyframe(long seq) {
+        return "{\"type\":\"K\",\"seq\":" + seq + "}";
+    }
+
+    private String heatmap(FrameType type, long version, int[] indices, double[] values) throws Exception {
+        return objectMapper.writeValueAsString(HeatmapFrame.builder()
+                .symbol("BTCUSDT")
+                .type(type)
+                .version(version)
+                .bucketCount(1_024)
+                .scale(1.0)
+                .indices(indices)
+                .longs(values)
+                .shorts(values)
+                .build());
+    }
+
+    private static Message<byte[]> message(String sessionId, String destination, String payload) {
+        return message(sessionId, destination, payload.getBytes());
+    }
+
+    private static Message<byte[]> message(String sessionId, String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-" + destination);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
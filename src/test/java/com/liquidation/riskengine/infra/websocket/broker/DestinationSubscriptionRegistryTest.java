@@ -0,0 +1,81 @@
+package com.liquidation.riskengine.infra.websocket.broker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DestinationSubscriptionRegistryTest {
+
+    @Test
+    void routesFiftyThousandSubscriptionsByExactDestination() {
+        DestinationSubscriptionRegistry registry = new DestinationSubscriptionRegistry(new SimpleMeterRegistry());
+        int sessions = 10_000;
+        for (int s = 0; s < sessions; s++) {
+            registry.registerSubscription(subscribe("s" + s, "sub-heatmap", "/topic/heatmap/BTCUSDT"));
+            for (int i = 0; i < 4; i++) {
+                registry.registerSubscription(subscribe("s" + s, "sub-" + i, "/topic/risk/u" + s + "/SYM" + i));
+            }
+        }
+
+        assertThat(registry.subscriptionCount()).isEqualTo(50_000);
+        assertThat(registry.findSubscriptions(message("/topic/heatmap/BTCUSDT"))).hasSize(sessions);
+        MultiValueMap<String, String> risk = registry.findSubscriptions(message("/topic/risk/u42/SYM3"));
+        assertThat(risk).hasSize(1);
+        assertThat(risk.get("s42")).containsExactly("sub-3");
+        assertThat(registry.findSubscriptions(message("/topic/risk/u42/OTHER"))).isEmpty();
+
+        registry.unregisterSubscription(unsubscribe("s42", "sub-3"));
+        assertThat(registry.findSubscriptions(message("/topic/risk/u42/SYM3"))).isEmpty();
+
+        registry.unregisterAllSubscriptions("s7");
+        assertThat(registry.findSubscriptions(message("/topic/heatmap/BTCUSDT"))).hasSize(sessions - 1)
+                .doesNotContainKey("s7");
+        assertThat(registry.subscriptionCount()).isEqualTo(50_000 - 1 - 5);
+        assertThat(registry.destinationCount()).isEqualTo(1 + sessions * 4 - 1 - 4);
+    }
+
+    @Test
+    void patternSubscriptionsAreMatchedAlongsideExactOnes() {
+        DestinationSubscriptionRegistry registry = new DestinationSubscriptionRegistry(new SimpleMeterRegistry());
+        registry.registerSubscription(subscribe("a", "1", "/topic/heatmap/BTCUSDT"));
+        registry.registerSubscription(subscribe("b", "1", "/topic/heatmap/*"));
+
+        assertThat(registry.findSubscriptions(message("/topic/heatmap/BTCUSDT"))).containsOnlyKeys("a", "b");
+        assertThat(registry.findSubscriptions(message("/topic/heatmap/ETHUSDT"))).containsOnlyKeys("b");
+        assertThat(registry.hasSubscribers("/topic/heatmap/ETHUSDT")).isTrue();
+        assertThat(registry.hasSubscribers("/topic/risk/u1/ETHUSDT")).isFalse();
+
+        registry.unregisterAllSubscriptions("b");
+        assertThat(registry.findSubscriptions(message("/topic/heatmap/ETHUSDT"))).isEmpty();
+        assertThat(registry.hasSubscribers("/topic/heatmap/ETHUSDT")).isFalse();
+        assertThat(registry.hasSubscribers("/topic/heatmap/BTCUSDT")).isTrue();
+        assertThat(registry.subscriptionCount()).isEqualTo(1);
+    }
+
+    private static Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,116 @@
+package com.liquidation.riskengine.domain.service.montecarlo;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorPathKernel implements PathKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final int FLOAT_LANES = FLOAT_SPECIES.length();
+
+    private final ScalarPathKernel scalar = new ScalarPathKernel();
+
+    static int laneCount() {
+        return LANES;
+    }
+
+    @Override
+    public void stepAntitheticPair(double s0, double[] driftPerStep, double[] diffPerStep, double[] shocks,
+                                   double[] path, double[] mirrorPath, int totalSteps) {
+        int t = 0;
+        int bound = SPECIES.loopBound(totalSteps);
+        for (; t < bound; t += LANES) {
+            DoubleVector dr = DoubleVector.fromArray(SPECIES, driftPerStep, t);
+            DoubleVector dz = DoubleVector.fromArray(SPECIES, diffPerStep, t)
+                    .mul(DoubleVector.fromArray(SPECIES, shocks, t));
+            dr.add(dz).intoArray(path, t + 1);
+            dr.sub(dz).intoArray(mirrorPath, t + 1);
+        }
+        for (; t < totalSteps; t++) {
+            double dz = diffPerStep[t] * shocks[t];
+            path[t + 1] = driftPerStep[t] + dz;
+            mirrorPath[t + 1] = driftPerStep[t] - dz;
+        }
+
+        double logUp = 0.0;
+        double logDown = 0.0;
+        for (int i = 1; i <= totalSteps; i++) {
+            logUp += path[i];
+            logDown += mirrorPath[i];
+            path[i] = logUp;
+            mirrorPath[i] = logDown;
+        }
+
+        int i = 1;
+        int end = totalSteps + 1;
+        for (; i + LANES <= end; i += LANES) {
+            DoubleVector.fromArray(SPECIES, path, i)
+                    .lanewise(VectorOperators.EXP).mul(s0).intoArray(path, i);
+            DoubleVector.fromArray(SPECIES, mirrorPath, i)
+                    .lanewise(VectorOperators.EXP).mul(s0).intoArray(mirrorPath, i);
+        }
+        for (; i < end; i++) {
+            path[i] = s0 * Math.exp(path[i]);
+            mirrorPath[i] = s0 * Math.exp(mirrorPath[i]);
+        }
+
+        path[0] = s0;
+        mirrorPath[0] = s0;
+    }
+
+    @Override
+    public int firstPassage(double[] path, int totalSteps, double barrier, boolean isLong) {
+        VectorOperators.Comparison op = isLong ? VectorOperators.LE : VectorOperators.GE;
+        int t = 1;
+        int end = totalSteps + 1;
+        for (; t + LANES <= end; t += LANES) {
+            VectorMask<Double> hit = DoubleVector.fromArray(SPECIES, path, t).compare(op, barrier);
+            if (hit.anyTrue()) {
+                return t + hit.firstTrue();
+            }
+        }
+        for (; t < end; t++) {
+            boolean liquidated = isLong ? path[t] <= barrier : path[t] >= barrier;
+            if (liquidated) {
+                return t;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void stepAntitheticPairLog(double[] driftPerStep, double[] diffPerStep, double[] shocks,
+                                      float[] logPath, float[] mirrorLogPath, int totalSteps) {
+        scalar.stepAntitheticPairLog(driftPerStep, diffPerStep, shocks, logPath, mirrorLogPath, totalSteps);
+    }
+
+    @Override
+    public int firstPassageLog(float[] logPath, int totalSteps, float logBarrier, boolean isLong) {
+        VectorOperators.Comparison op = isLong ? VectorOperators.LE : VectorOperators.GE;
+        int t = 1;
+        int end = totalSteps + 1;
+        for (; t + FLOAT_LANES <= end; t += FLOAT_LANES) {
+            VectorMask<Float> hit = FloatVector.fromArray(FLOAT_SPECIES, logPath, t).compare(op, logBarrier);
+            if (hit.anyTrue()) {
+                return t + hit.firstTrue();
+            }
+        }
+        for (; t < end; t++) {
+            boolean liquidated = isLong ? logPath[t] <= logBarrier : logPath[t] >= logBarrier;
+            if (liquidated) {
+                return t;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + LANES + "x64";
+    }
+}